@@ -0,0 +1,144 @@
+package crossfunctionalfitness.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import crossfunctionalfitness.core.AdherenceReport;
+import crossfunctionalfitness.core.CompletionIndex;
+import crossfunctionalfitness.core.MemberBitmap;
+import crossfunctionalfitness.core.WorkoutColumns;
+
+/**
+ * CompletionIndexBenchmark measures gym-wide adherence questions over the
+ * 30-day plans of 100,000 members: who completed the first week, and the
+ * adherence of each day and the worst day. Each is answered with the bitmaps
+ * of a CompletionIndex and, for comparison, by reading every record of the
+ * same workouts in WorkoutColumns.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompletionIndexBenchmark {
+
+    // Number of members
+    private static final int MEMBERS = 100000;
+
+    // Days of each member's plan
+    private static final int DAYS = 30;
+
+    // The first week
+    private static final int WEEK = 7;
+
+    private WorkoutColumns columns;     // The workouts, DAYS rows per member in day order
+    private CompletionIndex index;      // The completed days of the same workouts
+
+    /**
+     * Creates the plans. Each member completes a day with their own
+     * likelihood, so some members complete almost every day and some few.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        columns = new WorkoutColumns(MEMBERS * DAYS);
+        for (int member = 0; member < MEMBERS; member++) {
+            double likelihood = 0.5 + random.nextDouble() / 2;
+            for (int day = 1; day <= DAYS; day++) {
+                boolean completed = random.nextDouble() < likelihood;
+                columns.add(member, day, completed, completed ? 10 + random.nextInt(50) : 0);
+            }
+        }
+        index = CompletionIndex.build(columns);
+    }
+
+
+    /**
+     * Finds the members who completed every day of the first week with the
+     * bitmaps.
+     *
+     * @return The members, so they are not removed.
+     */
+    @Benchmark
+    public MemberBitmap weekStreakIndex() {
+        return index.completedEveryDay(1, WEEK, null);
+    }
+
+
+    /**
+     * Finds the members who completed every day of the first week by reading
+     * the records.
+     *
+     * @return The members, so they are not removed.
+     */
+    @Benchmark
+    public MemberBitmap weekStreakScan() {
+        MemberBitmap members = new MemberBitmap();
+        int streakMember = -1; // The member of the current run of completed first-week days
+        int streakDays = 0;    // Completed first-week days of that member
+        for (int row = 0; row < columns.size(); row++) {
+            int day = columns.getDay(row);
+            if (day > WEEK || !columns.isCompleted(row)) {
+                continue;
+            }
+            int member = columns.getMember(row);
+            streakDays = member == streakMember ? streakDays + 1 : 1;
+            streakMember = member;
+            if (streakDays == WEEK) {
+                members.add(member);
+            }
+        }
+        return members;
+    }
+
+
+    /**
+     * Reports the adherence of every day of the plan and the worst day with
+     * the bitmaps.
+     *
+     * @return The report, so it is not removed.
+     */
+    @Benchmark
+    public AdherenceReport adherenceIndex() {
+        return AdherenceReport.compute(index, null, 1, DAYS);
+    }
+
+
+    /**
+     * Counts the completions of every day of the plan and finds the worst day
+     * by reading the records.
+     *
+     * @return The worst day, so the counts are not removed.
+     */
+    @Benchmark
+    public int adherenceScan() {
+        int[] completed = new int[DAYS + 1];
+        for (int row = 0; row < columns.size(); row++) {
+            if (columns.isCompleted(row)) {
+                completed[columns.getDay(row)]++;
+            }
+        }
+        int worstDay = 1;
+        for (int day = 2; day <= DAYS; day++) {
+            if (completed[day] < completed[worstDay]) {
+                worstDay = day;
+            }
+        }
+        return worstDay;
+    }
+}
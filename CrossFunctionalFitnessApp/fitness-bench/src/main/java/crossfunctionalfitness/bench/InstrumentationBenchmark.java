@@ -0,0 +1,57 @@
+package crossfunctionalfitness.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import crossfunctionalfitness.instrumentation.Instrumentation;
+import crossfunctionalfitness.instrumentation.OperationTimer;
+
+/**
+ * InstrumentationBenchmark measures the cost a timer adds to every timed
+ * operation, from one thread and from four threads recording into the same
+ * histogram, as the API server's request threads do. Run it again with
+ * -jvmArgsAppend -Dfitness.instrumentation=off to check that a disabled timer
+ * costs nothing.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InstrumentationBenchmark {
+
+    // The measured timer
+    private static final OperationTimer TIMER = Instrumentation.timer("InstrumentationBenchmark.timed");
+
+    /**
+     * Times an empty operation from one thread.
+     */
+    @Benchmark
+    public void timed() {
+        TIMER.stop(TIMER.start());
+    }
+
+
+    /**
+     * Times an empty operation from four threads at once.
+     */
+    @Benchmark
+    @Threads(4)
+    public void timedContended() {
+        TIMER.stop(TIMER.start());
+    }
+}
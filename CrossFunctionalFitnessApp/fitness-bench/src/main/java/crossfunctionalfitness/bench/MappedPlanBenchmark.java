@@ -0,0 +1,141 @@
+package crossfunctionalfitness.bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import crossfunctionalfitness.core.WorkoutData;
+import crossfunctionalfitness.storage.MappedPlan;
+import crossfunctionalfitness.storage.WorkoutRange;
+import crossfunctionalfitness.storage.WorkoutStore;
+
+/**
+ * MappedPlanBenchmark measures range queries over ten years of one member's
+ * plan: a 1,000 day range read through the file channel, the same range
+ * copied from the memory-mapped file, the completed days counted in place
+ * (also by four threads sharing the mapping), and a single day.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappedPlanBenchmark {
+
+    // Days of the history
+    private static final int DAYS = 3650;
+
+    // The queried range
+    private static final int FROM_DAY = 1001;
+    private static final int TO_DAY = 2000;
+
+    private File file;          // The plan file
+    private MappedPlan plan;    // The mapped plan, shared by the threads
+
+    /**
+     * Saves a history with about three quarters of the days completed, and
+     * maps it.
+     *
+     * @throws IOException if the file cannot be written or mapped.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        Random random = new Random(42);
+        file = File.createTempFile("plan", ".dat");
+        file.delete(); // saveAll creates the file with its header
+        List<WorkoutData> workouts = new ArrayList<>();
+        for (int day = 1; day <= DAYS; day++) {
+            workouts.add(new WorkoutData("Day " + day, random.nextInt(4) != 0, String.valueOf(20 + random.nextInt(50))));
+        }
+        WorkoutStore.saveAll(file, workouts);
+        plan = WorkoutStore.mapPlan(file);
+    }
+
+
+    /**
+     * Deletes the plan file.
+     */
+    @TearDown
+    public void tearDown() {
+        file.delete();
+    }
+
+
+    /**
+     * Reads the range through the file channel.
+     *
+     * @return The range, so it is not removed.
+     * @throws IOException if the file cannot be read.
+     */
+    @Benchmark
+    public WorkoutRange loadRange() throws IOException {
+        return WorkoutStore.loadRange(file, FROM_DAY, TO_DAY);
+    }
+
+
+    /**
+     * Copies the range from the mapping.
+     *
+     * @return The range, so it is not removed.
+     */
+    @Benchmark
+    public WorkoutRange mappedRange() {
+        return plan.loadRange(FROM_DAY, TO_DAY);
+    }
+
+
+    /**
+     * Counts the completed days of the range in the mapping.
+     *
+     * @return The count, so it is not removed.
+     */
+    @Benchmark
+    public int mappedCount() {
+        return plan.countCompleted(FROM_DAY, TO_DAY);
+    }
+
+
+    /**
+     * Counts the completed days of the range on four threads sharing the
+     * mapping.
+     *
+     * @return The count, so it is not removed.
+     */
+    @Benchmark
+    @Threads(4)
+    public int mappedCountShared() {
+        return plan.countCompleted(FROM_DAY, TO_DAY);
+    }
+
+
+    /**
+     * Reads the minutes of one day from the mapping.
+     *
+     * @return The minutes, so they are not removed.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public int mappedDay() {
+        return plan.getMinutes(DAYS / 2);
+    }
+}
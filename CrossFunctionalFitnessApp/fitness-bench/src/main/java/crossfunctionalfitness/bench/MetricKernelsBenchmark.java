@@ -0,0 +1,96 @@
+package crossfunctionalfitness.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import crossfunctionalfitness.core.MetricKernels;
+import crossfunctionalfitness.core.ScalarMetricKernels;
+import crossfunctionalfitness.core.VectorMetricKernels;
+import crossfunctionalfitness.core.WorkoutColumns;
+
+/**
+ * MetricKernelsBenchmark compares the scalar and vector metric kernels over
+ * the workouts of many members, about a quarter of them not completed and a
+ * few with unreadable times, as in the saved data of a busy gym.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class MetricKernelsBenchmark {
+
+    // Number of workouts in the columns
+    @Param({"30", "3000", "300000"})
+    public int rows;
+
+    // The kernels measured: "scalar" or "vector"
+    @Param({"scalar", "vector"})
+    public String kernels;
+
+    private WorkoutColumns columns;     // The workouts
+    private MetricKernels selected;     // The measured kernels
+
+    /**
+     * Fills the columns with random workouts, the same for every run.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        columns = new WorkoutColumns(rows);
+        for (int row = 0; row < rows; row++) {
+            int minutes = random.nextInt(100) == 0 ? WorkoutColumns.MISSING_MINUTES : 10 + random.nextInt(50);
+            columns.add(row / 30, row % 30 + 1, random.nextInt(4) != 0, minutes);
+        }
+        selected = kernels.equals("vector") ? new VectorMetricKernels() : new ScalarMetricKernels();
+    }
+
+
+    /**
+     * Sums the minutes of the completed workouts.
+     *
+     * @return The sum, so the computation is not removed.
+     */
+    @Benchmark
+    public long sumCompletedMinutes() {
+        return selected.sumMinutes(columns, 0, rows, true);
+    }
+
+
+    /**
+     * Counts the completed workouts.
+     *
+     * @return The count, so the computation is not removed.
+     */
+    @Benchmark
+    public int countCompleted() {
+        return selected.countCompleted(columns, 0, rows);
+    }
+
+
+    /**
+     * Finds the longest workout.
+     *
+     * @return The longest minutes, so the computation is not removed.
+     */
+    @Benchmark
+    public int maxMinutes() {
+        return selected.maxMinutes(columns, 0, rows);
+    }
+}
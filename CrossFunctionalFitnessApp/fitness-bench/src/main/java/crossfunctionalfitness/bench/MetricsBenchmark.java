@@ -0,0 +1,81 @@
+package crossfunctionalfitness.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import crossfunctionalfitness.core.FitnessMetrics;
+import crossfunctionalfitness.core.FitnessMetricsCalculator;
+import crossfunctionalfitness.core.WorkoutData;
+
+/**
+ * MetricsBenchmark measures the fitness summary of one member's program: the
+ * four metrics computed from the list of workouts by FitnessMetricsCalculator,
+ * as the summary window does, and by FitnessMetrics through the columns, as
+ * the API server does.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsBenchmark {
+
+    private List<WorkoutData> workouts; // The workouts of the program
+
+    /**
+     * Creates the workouts of a program, three quarters of them completed.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        workouts = new ArrayList<>();
+        for (int day = 1; day <= FitnessMetricsCalculator.TOTAL_PLANNED_WORKOUTS; day++) {
+            boolean completed = random.nextInt(4) != 0;
+            workouts.add(new WorkoutData("Day " + day, completed, String.valueOf(completed ? 10 + random.nextInt(50) : 0)));
+        }
+    }
+
+
+    /**
+     * Computes the metrics from the list.
+     *
+     * @param blackhole Consumes the metrics, so they are not removed.
+     */
+    @Benchmark
+    public void calculator(Blackhole blackhole) {
+        blackhole.consume(FitnessMetricsCalculator.calculateAverageTime(workouts));
+        blackhole.consume(FitnessMetricsCalculator.calculateTotalTime(workouts));
+        blackhole.consume(FitnessMetricsCalculator.calculateConsistencyScore(workouts,
+                FitnessMetricsCalculator.TOTAL_PLANNED_WORKOUTS));
+        blackhole.consume(FitnessMetricsCalculator.calculatePersonalBests(workouts));
+    }
+
+
+    /**
+     * Computes the metrics through the columns.
+     *
+     * @return The metrics, so they are not removed.
+     */
+    @Benchmark
+    public FitnessMetrics columnar() {
+        return FitnessMetrics.compute(workouts);
+    }
+}
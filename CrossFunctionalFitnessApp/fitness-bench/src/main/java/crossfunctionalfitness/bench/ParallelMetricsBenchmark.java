@@ -0,0 +1,98 @@
+package crossfunctionalfitness.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import crossfunctionalfitness.core.FitnessMetricsCalculator;
+import crossfunctionalfitness.core.MetricResults;
+import crossfunctionalfitness.core.WorkoutData;
+
+/**
+ * ParallelMetricsBenchmark measures the throughput of the parallel form of
+ * FitnessMetricsCalculator over a gym-wide list of 1,000,000 workouts, on
+ * pools of 1, 2, 4, 8 and 16 threads: the four metrics in one pass, and the
+ * personal best on its own.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelMetricsBenchmark {
+
+    // Number of workouts of the list
+    private static final int WORKOUTS = 1000000;
+
+    // Threads of the pool that accumulates the chunks
+    @Param({"1", "2", "4", "8", "16"})
+    public int threads;
+
+    private List<WorkoutData> workouts; // The workouts of every member, a program after another
+    private ForkJoinPool pool;          // The measured pool
+
+    /**
+     * Creates the workouts, three quarters of them completed.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        workouts = new ArrayList<>(WORKOUTS);
+        for (int i = 0; i < WORKOUTS; i++) {
+            int day = i % FitnessMetricsCalculator.TOTAL_PLANNED_WORKOUTS + 1;
+            boolean completed = random.nextInt(4) != 0;
+            workouts.add(new WorkoutData("Day " + day, completed, String.valueOf(completed ? 10 + random.nextInt(50) : 0)));
+        }
+        pool = new ForkJoinPool(threads);
+    }
+
+
+    /**
+     * Shuts the pool down.
+     */
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+
+    /**
+     * Computes the four metrics in one pass.
+     *
+     * @return The metrics, so they are not removed.
+     */
+    @Benchmark
+    public MetricResults calculateAll() {
+        return FitnessMetricsCalculator.calculateAll(workouts, pool);
+    }
+
+
+    /**
+     * Finds the personal best.
+     *
+     * @return The personal best, so it is not removed.
+     */
+    @Benchmark
+    public String personalBest() {
+        return FitnessMetricsCalculator.calculatePersonalBests(workouts, pool);
+    }
+}
@@ -0,0 +1,93 @@
+package crossfunctionalfitness.bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import crossfunctionalfitness.core.WorkoutData;
+import crossfunctionalfitness.storage.WorkoutRange;
+import crossfunctionalfitness.storage.WorkoutStore;
+
+/**
+ * PlanStorageBenchmark measures saving and loading a member's whole 30 day
+ * plan in bulk, on a plan file in a temporary directory.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlanStorageBenchmark {
+
+    // Number of days in the plan
+    private static final int DAYS = 30;
+
+    private File file;                  // The plan file
+    private List<WorkoutData> workouts; // The saved plan
+
+    /**
+     * Saves a plan with every day completed.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        file = File.createTempFile("plan", ".dat");
+        file.delete(); // saveAll creates the file with its header
+        workouts = new ArrayList<>();
+        for (int day = 1; day <= DAYS; day++) {
+            workouts.add(new WorkoutData("Day " + day, true, String.valueOf(20 + day)));
+        }
+        WorkoutStore.saveAll(file, workouts);
+    }
+
+
+    /**
+     * Deletes the plan file.
+     */
+    @TearDown
+    public void tearDown() {
+        file.delete();
+    }
+
+
+    /**
+     * Saves the whole plan, including the sync to disk.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    @Benchmark
+    public void saveAll() throws IOException {
+        WorkoutStore.saveAll(file, workouts);
+    }
+
+
+    /**
+     * Loads the whole plan.
+     *
+     * @return The plan, so it is not removed.
+     * @throws IOException if the file cannot be read.
+     */
+    @Benchmark
+    public WorkoutRange loadRange() throws IOException {
+        return WorkoutStore.loadRange(file, 1, DAYS);
+    }
+}
@@ -0,0 +1,149 @@
+package crossfunctionalfitness.bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import crossfunctionalfitness.core.ProfileQuery;
+import crossfunctionalfitness.core.ProfileValidator;
+import crossfunctionalfitness.core.UserProfile;
+import crossfunctionalfitness.storage.ProfileIndex;
+import crossfunctionalfitness.storage.ProfileStore;
+import crossfunctionalfitness.storage.ProfileTable;
+
+/**
+ * ProfileSearchBenchmark measures member searches over 100,000 members with
+ * the member index and, for comparison, by reading every record of the
+ * member file, and the time to build the index at startup.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProfileSearchBenchmark {
+
+    // Number of members
+    private static final int MEMBERS = 100000;
+
+    // First names; many members share one, as at a real gym
+    private static final String[] FIRST_NAMES = {"Ann", "Bob", "Cara", "Dan", "Eve", "Finn", "Gus", "Hana", "Ivan", "Jo"};
+
+    private File file;              // The members as a profile file
+    private ProfileTable table;     // The records of the file
+    private ProfileIndex index;     // The index of the members
+    private ProfileQuery lastName;  // Members by last name prefix
+    private ProfileQuery filtered;  // Members by last name prefix, age band and level
+
+    /**
+     * Writes random members to a file and builds their index.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        Random random = new Random(42);
+        List<UserProfile> members = new ArrayList<>(MEMBERS);
+        for (int i = 0; i < MEMBERS; i++) {
+            members.add(new UserProfile(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + (char) ('a' + random.nextInt(26)),
+                    "L" + Integer.toString(random.nextInt(1000000), 36), String.valueOf(18 + random.nextInt(60)),
+                    String.valueOf(100 + random.nextInt(150)),
+                    ProfileValidator.FITNESS_LEVELS.get(random.nextInt(ProfileValidator.FITNESS_LEVELS.size()))));
+        }
+        file = File.createTempFile("members", ".dat");
+        ProfileStore.saveAll(file, members);
+        table = ProfileStore.loadAll(file);
+        index = ProfileIndex.build(table);
+
+        lastName = new ProfileQuery();
+        lastName.setLastNamePrefix("l1");
+        filtered = new ProfileQuery();
+        filtered.setLastNamePrefix("l1a");
+        filtered.setAgeBand(30, 39);
+        filtered.setFitnessLevels(List.of("Novice"));
+    }
+
+
+    /**
+     * Deletes the file.
+     */
+    @TearDown
+    public void tearDown() {
+        file.delete();
+    }
+
+
+    /**
+     * Finds the first members with a last name prefix in the index.
+     *
+     * @return The members found.
+     */
+    @Benchmark
+    public List<UserProfile> indexLastName() {
+        return index.search(lastName);
+    }
+
+
+    /**
+     * Finds the members with a last name prefix, age band and level in the
+     * index; only a few members match.
+     *
+     * @return The members found.
+     */
+    @Benchmark
+    public List<UserProfile> indexFiltered() {
+        return index.search(filtered);
+    }
+
+
+    /**
+     * Finds the same members as indexFiltered by reading every record, which
+     * is what a search costs without the index (the results are not sorted).
+     *
+     * @return The members found.
+     */
+    @Benchmark
+    public List<UserProfile> scanFiltered() {
+        List<UserProfile> results = new ArrayList<>();
+        for (int i = 0; i < table.size() && results.size() < filtered.getLimit(); i++) {
+            int age = table.getAge(i);
+            String level = table.getFitnessLevel(i);
+            if (age >= filtered.getMinAge() && age <= filtered.getMaxAge() && filtered.getFitnessLevels().contains(level)
+                    && ProfileQuery.nameKey(table.getLastName(i)).startsWith(filtered.getLastNamePrefix())) {
+                results.add(table.get(i));
+            }
+        }
+        return results;
+    }
+
+
+    /**
+     * Builds the index from the records, as at startup.
+     *
+     * @return The index.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public ProfileIndex build() {
+        return ProfileIndex.build(table);
+    }
+}
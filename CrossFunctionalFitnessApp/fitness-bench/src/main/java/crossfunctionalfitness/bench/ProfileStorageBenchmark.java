@@ -0,0 +1,131 @@
+package crossfunctionalfitness.bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import crossfunctionalfitness.core.ProfileValidator;
+import crossfunctionalfitness.core.UserProfile;
+import crossfunctionalfitness.storage.ProfileStore;
+import crossfunctionalfitness.storage.ProfileTable;
+
+/**
+ * ProfileStorageBenchmark measures a report over many profiles (the average
+ * age at each fitness level), loaded from a binary profile file and, for
+ * comparison, parsed from the same profiles as text.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProfileStorageBenchmark {
+
+    // Number of profiles
+    private static final int PROFILES = 100000;
+
+    private File binaryFile;    // The profiles as a profile file
+    private File textFile;      // The profiles as comma separated text
+
+    /**
+     * Writes the same random profiles to both files.
+     *
+     * @throws IOException if a file cannot be written.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        Random random = new Random(42);
+        List<UserProfile> profiles = new ArrayList<>(PROFILES);
+        for (int i = 0; i < PROFILES; i++) {
+            profiles.add(new UserProfile("First" + i, "Last" + i, String.valueOf(18 + random.nextInt(60)),
+                    String.valueOf(100 + random.nextInt(150)),
+                    ProfileValidator.FITNESS_LEVELS.get(random.nextInt(ProfileValidator.FITNESS_LEVELS.size()))));
+        }
+
+        binaryFile = File.createTempFile("profiles", ".dat");
+        ProfileStore.saveAll(binaryFile, profiles);
+
+        textFile = File.createTempFile("profiles", ".txt");
+        try (PrintWriter writer = new PrintWriter(textFile)) {
+            for (UserProfile profile : profiles) {
+                writer.println(profile.getFirstName() + "," + profile.getLastName() + "," + profile.getAge() + ","
+                        + profile.getWeight() + "," + profile.getFitnessLevel());
+            }
+        }
+    }
+
+
+    /**
+     * Deletes the files.
+     */
+    @TearDown
+    public void tearDown() {
+        binaryFile.delete();
+        textFile.delete();
+    }
+
+
+    /**
+     * Loads the profile file and reports the average age at each level from
+     * the records.
+     *
+     * @return The average ages, so the report is not removed.
+     * @throws IOException if the file cannot be read.
+     */
+    @Benchmark
+    public double[] binaryReport() throws IOException {
+        ProfileTable table = ProfileStore.loadAll(binaryFile);
+        double[] ages = new double[ProfileValidator.FITNESS_LEVELS.size()];
+        int[] counts = new int[ages.length];
+        for (int i = 0; i < table.size(); i++) {
+            ages[table.getLevelIndex(i)] += table.getAge(i);
+            counts[table.getLevelIndex(i)]++;
+        }
+        for (int level = 0; level < ages.length; level++) {
+            ages[level] /= Math.max(1, counts[level]);
+        }
+        return ages;
+    }
+
+
+    /**
+     * Parses the text file and reports the average age at each level.
+     *
+     * @return The average ages, so the report is not removed.
+     * @throws IOException if the file cannot be read.
+     */
+    @Benchmark
+    public double[] textReport() throws IOException {
+        double[] ages = new double[ProfileValidator.FITNESS_LEVELS.size()];
+        int[] counts = new int[ages.length];
+        for (UserProfile profile : ProfileStore.readImport(textFile)) {
+            int level = ProfileValidator.FITNESS_LEVELS.indexOf(profile.getFitnessLevel());
+            ages[level] += Integer.parseInt(profile.getAge());
+            counts[level]++;
+        }
+        for (int level = 0; level < ages.length; level++) {
+            ages[level] /= Math.max(1, counts[level]);
+        }
+        return ages;
+    }
+}
@@ -0,0 +1,78 @@
+package crossfunctionalfitness.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import crossfunctionalfitness.core.ProfileErrors;
+import crossfunctionalfitness.core.ProfileValidator;
+import crossfunctionalfitness.core.UserProfile;
+
+/**
+ * ProfileValidationBenchmark measures checking a batch of imported profiles
+ * with ProfileValidator, where a given share of the profiles is invalid.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProfileValidationBenchmark {
+
+    // Number of profiles in the batch
+    private static final int PROFILES = 100000;
+
+    // Percentage of invalid profiles in the batch
+    @Param({"0", "10"})
+    public int invalidPercent;
+
+    private List<UserProfile> profiles; // The batch
+
+    /**
+     * Creates the batch of random profiles.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        profiles = new ArrayList<>(PROFILES);
+        for (int i = 0; i < PROFILES; i++) {
+            String level = ProfileValidator.FITNESS_LEVELS.get(random.nextInt(ProfileValidator.FITNESS_LEVELS.size()));
+            if (random.nextInt(100) < invalidPercent) {
+                // An empty last name, an age out of range and a weight that is not a number
+                profiles.add(new UserProfile("First" + i, "", "150", "heavy", level));
+            } else {
+                profiles.add(new UserProfile("First" + i, "Last" + i, String.valueOf(18 + random.nextInt(60)),
+                        String.valueOf(100 + random.nextInt(150)) + ".5", level));
+            }
+        }
+    }
+
+
+    /**
+     * Checks the whole batch.
+     *
+     * @return The errors of the invalid profiles, so the checks are not removed.
+     */
+    @Benchmark
+    public Map<Integer, ProfileErrors> validateAll() {
+        return ProfileValidator.validateAll(profiles);
+    }
+}
@@ -0,0 +1,102 @@
+package crossfunctionalfitness.bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import crossfunctionalfitness.storage.ExerciseLog;
+
+/**
+ * StorageBenchmark measures reading the exercise log of a member's history
+ * from its file and querying it, on a log written to a temporary file.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StorageBenchmark {
+
+    // Exercises logged, in turn
+    private static final String[] EXERCISES = {"Burpees", "Air Squats", "Push-ups", "Run", "Sit-ups"};
+
+    // Calendar date of the first entry (days since 1970-01-01)
+    private static final int FIRST_EPOCH_DAY = 20000;
+
+    // Number of entries in the log
+    @Param({"1000", "100000"})
+    public int entries;
+
+    private File file;      // The log file
+    private ExerciseLog log; // The loaded log
+
+    /**
+     * Writes a log of random results, one per exercise per day.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        file = File.createTempFile("exerciseLog", ".dat");
+        Random random = new Random(42);
+        ExerciseLog writer = new ExerciseLog(file);
+        for (int i = 0; i < entries; i++) {
+            int dayIndex = i / EXERCISES.length;
+            writer.log(FIRST_EPOCH_DAY + dayIndex, dayIndex % 30 + 1, EXERCISES[i % EXERCISES.length],
+                    10 + random.nextInt(90), random.nextInt(10), 0, 0);
+        }
+        writer.close();
+        log = ExerciseLog.load(file);
+    }
+
+
+    /**
+     * Deletes the log file.
+     */
+    @TearDown
+    public void tearDown() {
+        file.delete();
+    }
+
+
+    /**
+     * Reads the whole log from its file.
+     *
+     * @return The log, so it is not removed.
+     * @throws IOException if the file cannot be read.
+     */
+    @Benchmark
+    public ExerciseLog load() throws IOException {
+        return ExerciseLog.load(file);
+    }
+
+
+    /**
+     * Totals the burpees of the last thirty days of the log.
+     *
+     * @return The total, so the query is not removed.
+     */
+    @Benchmark
+    public long totalRepsLastMonth() {
+        int lastEpochDay = FIRST_EPOCH_DAY + (entries - 1) / EXERCISES.length;
+        return log.getTotalReps("Burpees", lastEpochDay - 29, lastEpochDay);
+    }
+}
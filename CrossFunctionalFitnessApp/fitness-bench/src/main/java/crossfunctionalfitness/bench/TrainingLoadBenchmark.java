@@ -0,0 +1,110 @@
+package crossfunctionalfitness.bench;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import crossfunctionalfitness.core.TrainingLoad;
+import crossfunctionalfitness.core.WorkoutColumns;
+
+/**
+ * TrainingLoadBenchmark measures recomputing the training load of 20,000
+ * members over a year of workouts each, on pools of 1, 2 and 4 threads, and
+ * updating one member's load when the next day is saved.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TrainingLoadBenchmark {
+
+    // Number of members
+    private static final int MEMBERS = 20000;
+
+    // Days of each member's history
+    private static final int DAYS = 365;
+
+    // Threads of the pool that computes the members
+    @Param({"1", "2", "4"})
+    public int threads;
+
+    private WorkoutColumns columns;     // The workouts, DAYS rows per member in day order
+    private double[] weightsKg;         // The weight of each member
+    private ForkJoinPool pool;          // The measured pool
+    private TrainingLoad load;          // One member's load, for the update
+    private int nextDay;                // The latest day saved for that member
+
+    /**
+     * Creates the histories, about a quarter of the days not completed.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        columns = new WorkoutColumns(MEMBERS * DAYS);
+        weightsKg = new double[MEMBERS];
+        for (int member = 0; member < MEMBERS; member++) {
+            weightsKg[member] = 50 + random.nextInt(60);
+            for (int day = 1; day <= DAYS; day++) {
+                columns.add(member, day, random.nextInt(4) != 0, 20 + random.nextInt(50));
+            }
+        }
+        pool = new ForkJoinPool(threads);
+        load = new TrainingLoad();
+    }
+
+
+    /**
+     * Shuts the pool down.
+     */
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+
+    /**
+     * Computes the training load of every member.
+     *
+     * @return The loads, so they are not removed.
+     */
+    @Benchmark
+    public TrainingLoad[] computeAll() {
+        return TrainingLoad.computeAll(columns, weightsKg, pool);
+    }
+
+
+    /**
+     * Sets the next day of one member, which works out one day of the
+     * averages.
+     *
+     * @return The acute load, so the update is not removed.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public double saveNextDay() {
+        if (nextDay == DAYS) {
+            load = new TrainingLoad(); // Starts a new history after a year, so every save is of the next day
+            nextDay = 0;
+        }
+        load.set(++nextDay, 300);
+        return load.getAcuteLoad();
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * JMH benchmarks of the metric kernels, the metrics, the timers and the
+ * storage, packaged as benchmarks.jar.
+ */
+package crossfunctionalfitness.bench;
@@ -0,0 +1,172 @@
+package crossfunctionalfitness.core;
+
+import crossfunctionalfitness.instrumentation.Instrumentation;
+import crossfunctionalfitness.instrumentation.OperationTimer;
+
+/**
+ * AdherenceReport holds the adherence of a cohort of members to a range of
+ * days of their plans, as computed from a CompletionIndex: how many members
+ * completed each day, how many completed every day, the cohort's consistency
+ * score and the day with the worst adherence. Instances are immutable.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class AdherenceReport {
+
+    // Timer of the report computation
+    private static final OperationTimer COMPUTE_TIMER = Instrumentation.timer("AdherenceReport.compute");
+
+    private final int fromDay;              // The first day of the range
+    private final int members;              // Members of the cohort in the index
+    private final int[] completedByDay;     // Members who completed each day, by day - fromDay
+    private final int completedEveryDay;    // Members who completed every day of the range
+    private final double consistencyScore;  // Completed days as a percentage of the cohort's days
+    private final int worstDay;             // The day fewest members completed, or 0 if there are no members
+
+    /**
+     * Constructor to initialize an AdherenceReport.
+     *
+     * @param fromDay           The first day of the range.
+     * @param members           The number of members of the cohort in the index.
+     * @param completedByDay    The members who completed each day, from fromDay.
+     * @param completedEveryDay The members who completed every day of the range.
+     * @param consistencyScore  The completed days as a percentage of the cohort's days.
+     * @param worstDay          The day fewest members completed, or 0 if there are no members.
+     */
+    public AdherenceReport(int fromDay, int members, int[] completedByDay, int completedEveryDay,
+            double consistencyScore, int worstDay) {
+        this.fromDay = fromDay;
+        this.members = members;
+        this.completedByDay = completedByDay.clone();
+        this.completedEveryDay = completedEveryDay;
+        this.consistencyScore = consistencyScore;
+        this.worstDay = worstDay;
+    }
+
+
+    /**
+     * Computes the adherence of a cohort to a range of days. The index is
+     * locked for the computation, so a save in between cannot mix old and new
+     * days.
+     *
+     * @param index   The completion index.
+     * @param cohort  The members to report on, or null for every member.
+     * @param fromDay The first day (inclusive).
+     * @param toDay   The last day (inclusive).
+     * @return The computed report.
+     * @throws IllegalArgumentException if the range is not valid.
+     */
+    public static AdherenceReport compute(CompletionIndex index, MemberBitmap cohort, int fromDay, int toDay) {
+        long start = COMPUTE_TIMER.start();
+        try {
+            synchronized (index) {
+                MemberBitmap allMembers = index.getMembers();
+                MemberBitmap reported = cohort == null ? allMembers : MemberBitmap.and(allMembers, cohort);
+                int members = reported.cardinality();
+                // Also checks the range
+                int completedEveryDay = index.completedEveryDay(fromDay, toDay, reported).cardinality();
+
+                int[] completedByDay = new int[toDay - fromDay + 1];
+                long completedDays = 0; // Completed days of all members
+                int worstDay = fromDay; // The first day with the fewest completions
+                for (int i = 0; i < completedByDay.length; i++) {
+                    completedByDay[i] = index.countCompleted(fromDay + i, reported);
+                    completedDays += completedByDay[i];
+                    if (completedByDay[i] < completedByDay[worstDay - fromDay]) {
+                        worstDay = fromDay + i;
+                    }
+                }
+                double consistencyScore = members == 0 ? 0.0
+                        : (completedDays / ((double) members * completedByDay.length)) * 100;
+                return new AdherenceReport(fromDay, members, completedByDay, completedEveryDay, consistencyScore,
+                        members == 0 ? 0 : worstDay);
+            }
+        } finally {
+            COMPUTE_TIMER.stop(start);
+        }
+    }
+
+
+    /**
+     * Returns the first day of the range.
+     *
+     * @return The day number.
+     */
+    public int getFromDay() {
+        return fromDay;
+    }
+
+
+    /**
+     * Returns the last day of the range.
+     *
+     * @return The day number.
+     */
+    public int getToDay() {
+        return fromDay + completedByDay.length - 1;
+    }
+
+
+    /**
+     * Returns the number of members of the cohort in the index.
+     *
+     * @return The number of members.
+     */
+    public int getMembers() {
+        return members;
+    }
+
+
+    /**
+     * Returns the number of members who completed a day.
+     *
+     * @param day The day number, from getFromDay() to getToDay().
+     * @return The number of members.
+     */
+    public int getCompleted(int day) {
+        return completedByDay[day - fromDay];
+    }
+
+
+    /**
+     * Returns the members who completed a day as a percentage of the cohort.
+     *
+     * @param day The day number, from getFromDay() to getToDay().
+     * @return The adherence as a percentage, or 0.0 if there are no members.
+     */
+    public double getAdherence(int day) {
+        return members == 0 ? 0.0 : (getCompleted(day) / (double) members) * 100;
+    }
+
+
+    /**
+     * Returns the number of members who completed every day of the range.
+     *
+     * @return The number of members.
+     */
+    public int getCompletedEveryDay() {
+        return completedEveryDay;
+    }
+
+
+    /**
+     * Returns the completed days as a percentage of the days of every member
+     * of the cohort.
+     *
+     * @return The consistency score as a percentage.
+     */
+    public double getConsistencyScore() {
+        return consistencyScore;
+    }
+
+
+    /**
+     * Returns the day of the range that the fewest members completed.
+     *
+     * @return The day number, or 0 if there are no members.
+     */
+    public int getWorstDay() {
+        return worstDay;
+    }
+}
@@ -0,0 +1,186 @@
+package crossfunctionalfitness.core;
+
+/**
+ * Represents the comparison of a member's benchmark result with their earlier
+ * cycles of the same benchmark and with the other members at the same fitness
+ * level. Improvement deltas are in seconds, and positive values mean the member
+ * got faster.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class BenchmarkComparison {
+
+    private final BenchmarkResult result;           // The result being compared
+    private final BenchmarkResult previous;         // The result of the previous cycle, or null
+    private final BenchmarkResult first;            // The result of the first cycle
+    private final int deltaFromPrevious;            // Seconds faster than the previous cycle
+    private final int deltaFromFirst;               // Seconds faster than the first cycle
+    private final int[] stationDeltaFromPrevious;   // Seconds faster than the previous cycle, per station
+    private final int cohortRank;                   // Rank among members at the same level (1 = fastest)
+    private final int cohortSize;                   // Number of members at the same level
+
+    /**
+     * Constructor to initialize a BenchmarkComparison object.
+     *
+     * @param result                   The result being compared.
+     * @param previous                 The result of the previous cycle, or null.
+     * @param first                    The result of the first cycle.
+     * @param deltaFromPrevious        Seconds faster than the previous cycle.
+     * @param deltaFromFirst           Seconds faster than the first cycle.
+     * @param stationDeltaFromPrevious Seconds faster than the previous cycle, per station.
+     * @param cohortRank               Rank among members at the same level (1 = fastest).
+     * @param cohortSize               Number of members at the same level.
+     */
+    public BenchmarkComparison(BenchmarkResult result, BenchmarkResult previous, BenchmarkResult first,
+            int deltaFromPrevious, int deltaFromFirst, int[] stationDeltaFromPrevious, int cohortRank,
+            int cohortSize) {
+        this.result = result;
+        this.previous = previous;
+        this.first = first;
+        this.deltaFromPrevious = deltaFromPrevious;
+        this.deltaFromFirst = deltaFromFirst;
+        this.stationDeltaFromPrevious = stationDeltaFromPrevious;
+        this.cohortRank = cohortRank;
+        this.cohortSize = cohortSize;
+    }
+
+
+    /**
+     * Returns the result being compared.
+     *
+     * @return The result being compared.
+     */
+    public BenchmarkResult getResult() {
+        return result;
+    }
+
+
+    /**
+     * Returns the result of the previous cycle.
+     *
+     * @return The previous result, or null if this is the first cycle.
+     */
+    public BenchmarkResult getPrevious() {
+        return previous;
+    }
+
+
+    /**
+     * Returns the result of the first cycle.
+     *
+     * @return The first result.
+     */
+    public BenchmarkResult getFirst() {
+        return first;
+    }
+
+
+    /**
+     * Returns how much faster the result is than the previous cycle.
+     *
+     * @return The improvement in seconds (negative if slower), 0 for the first cycle.
+     */
+    public int getDeltaFromPrevious() {
+        return deltaFromPrevious;
+    }
+
+
+    /**
+     * Returns how much faster the result is than the first cycle.
+     *
+     * @return The improvement in seconds (negative if slower).
+     */
+    public int getDeltaFromFirst() {
+        return deltaFromFirst;
+    }
+
+
+    /**
+     * Returns how much faster one station is than in the previous cycle.
+     *
+     * @param station The station index, in program order (0-based).
+     * @return The improvement in seconds, or 0 if either cycle has no time for the station.
+     */
+    public int getStationDeltaFromPrevious(int station) {
+        return station < stationDeltaFromPrevious.length ? stationDeltaFromPrevious[station] : 0;
+    }
+
+
+    /**
+     * Returns the rank of the member among members at the same fitness level,
+     * based on each member's latest result.
+     *
+     * @return The rank (1 = fastest).
+     */
+    public int getCohortRank() {
+        return cohortRank;
+    }
+
+
+    /**
+     * Returns the number of members at the same fitness level with a result.
+     *
+     * @return The size of the cohort.
+     */
+    public int getCohortSize() {
+        return cohortSize;
+    }
+
+
+    /**
+     * Returns a one-line description of the comparison, suitable for display.
+     *
+     * @return A description of the comparison.
+     */
+    public String describe() {
+        StringBuilder text = new StringBuilder();
+        text.append("Day ").append(result.getDay()).append(" cycle ").append(result.getCycle()).append(": ")
+                .append(formatSeconds(result.getTotalSeconds()));
+
+        // Improvement over the previous and first cycles
+        if (previous != null) {
+            text.append(", ").append(formatDelta(deltaFromPrevious)).append(" vs last cycle");
+            if (first != previous) {
+                text.append(", ").append(formatDelta(deltaFromFirst)).append(" vs cycle ").append(first.getCycle());
+            }
+        }
+
+        // Rank among members at the same level
+        text.append(", rank ").append(cohortRank).append(" of ").append(cohortSize).append(' ')
+                .append(result.getFitnessLevel());
+        return text.toString();
+    }
+
+
+    /**
+     * Formats a number of seconds as minutes and seconds (e.g., "42:05").
+     *
+     * @param seconds The number of seconds.
+     * @return The formatted time.
+     */
+    public static String formatSeconds(int seconds) {
+        return String.format("%d:%02d", seconds / 60, seconds % 60);
+    }
+
+
+    /**
+     * Formats an improvement delta (e.g., "1:20 faster" or "0:15 slower").
+     *
+     * @param delta The improvement in seconds.
+     * @return The formatted delta.
+     */
+    private static String formatDelta(int delta) {
+        return formatSeconds(Math.abs(delta)) + (delta >= 0 ? " faster" : " slower");
+    }
+
+
+    /**
+     * Returns a string representation of the comparison.
+     *
+     * @return A description of the comparison.
+     */
+    public String toString() {
+        return describe();
+    }
+}
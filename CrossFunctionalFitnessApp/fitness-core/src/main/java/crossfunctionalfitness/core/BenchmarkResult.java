@@ -0,0 +1,137 @@
+package crossfunctionalfitness.core;
+
+import java.util.Arrays;
+
+/**
+ * Represents one recorded benchmark test (e.g., the Day 30 Benchmark Test) for
+ * a member in a program cycle. The result holds the total time taken and,
+ * optionally, the time of each station of the test in program order
+ * (1 mile run, 100 pushups, 200 air squats...). Lower times are better.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class BenchmarkResult {
+
+    private final String member;            // The member who took the test
+    private final String fitnessLevel;      // The fitness level of the member at the time of the test
+    private final int cycle;                // The program cycle (1 for the first 30 days, 2 for the next...)
+    private final int day;                  // The program day of the benchmark (7, 14, 21 or 30)
+    private final int epochDay;             // The calendar date of the test (days since 1970-01-01)
+    private final int totalSeconds;         // The total time taken
+    private final int[] stationSeconds;     // The time taken for each station, may be empty
+
+    /**
+     * Constructor to initialize a BenchmarkResult object.
+     *
+     * @param member         The member who took the test.
+     * @param fitnessLevel   The fitness level of the member.
+     * @param cycle          The program cycle (1-based).
+     * @param day            The program day of the benchmark.
+     * @param epochDay       The calendar date of the test.
+     * @param totalSeconds   The total time taken.
+     * @param stationSeconds The time taken for each station, may be empty.
+     */
+    public BenchmarkResult(String member, String fitnessLevel, int cycle, int day, int epochDay, int totalSeconds,
+            int[] stationSeconds) {
+        this.member = member;
+        this.fitnessLevel = fitnessLevel;
+        this.cycle = cycle;
+        this.day = day;
+        this.epochDay = epochDay;
+        this.totalSeconds = totalSeconds;
+        this.stationSeconds = stationSeconds.clone();
+    }
+
+
+    /**
+     * Returns the member who took the test.
+     *
+     * @return The member name.
+     */
+    public String getMember() {
+        return member;
+    }
+
+
+    /**
+     * Returns the fitness level of the member at the time of the test.
+     *
+     * @return The fitness level.
+     */
+    public String getFitnessLevel() {
+        return fitnessLevel;
+    }
+
+
+    /**
+     * Returns the program cycle of the test.
+     *
+     * @return The program cycle (1-based).
+     */
+    public int getCycle() {
+        return cycle;
+    }
+
+
+    /**
+     * Returns the program day of the benchmark.
+     *
+     * @return The program day.
+     */
+    public int getDay() {
+        return day;
+    }
+
+
+    /**
+     * Returns the calendar date of the test.
+     *
+     * @return The date as days since 1970-01-01.
+     */
+    public int getEpochDay() {
+        return epochDay;
+    }
+
+
+    /**
+     * Returns the total time taken.
+     *
+     * @return The total time in seconds.
+     */
+    public int getTotalSeconds() {
+        return totalSeconds;
+    }
+
+
+    /**
+     * Returns the number of stations with a recorded time.
+     *
+     * @return The number of station times.
+     */
+    public int getStationCount() {
+        return stationSeconds.length;
+    }
+
+
+    /**
+     * Returns the time taken for one station.
+     *
+     * @param station The station index, in program order (0-based).
+     * @return The time in seconds.
+     */
+    public int getStationSeconds(int station) {
+        return stationSeconds[station];
+    }
+
+
+    /**
+     * Returns a string representation of the benchmark result.
+     *
+     * @return A string representation of the benchmark result.
+     */
+    public String toString() {
+        return member + " (" + fitnessLevel + ") cycle " + cycle + " Day " + day + ": " + totalSeconds + "s "
+                + Arrays.toString(stationSeconds);
+    }
+}
@@ -0,0 +1,166 @@
+package crossfunctionalfitness.core;
+
+/**
+ * CalorieEstimator estimates the energy a member spends on a workout from
+ * their weight, the type of the day's workout and the minutes it took. Each
+ * block type has a metabolic equivalent (MET: energy as a multiple of resting,
+ * from the Compendium of Physical Activities); a day's MET is the average over
+ * its blocks, weighted by their estimated duration, so a long AMRAP counts
+ * more than the warm up before it. The energy is then
+ *
+ *     kcal = MET x weight in kg x minutes / 60
+ *
+ * The METs of the program days are worked out once, on first use. Days after
+ * the end of the program repeat it, as the cycles of a member's plan do.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public final class CalorieEstimator {
+
+    // Kilograms in one pound
+    public static final double KG_PER_LB = 0.45359237;
+
+    // MET of a day whose blocks take no estimated time (e.g., only notes)
+    public static final double DEFAULT_MET = 6.0;
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private CalorieEstimator() {
+    }
+
+
+    /**
+     * Returns the metabolic equivalent of a type of block.
+     *
+     * @param type The block type.
+     * @return The MET, or 0.0 for blocks that take no time.
+     */
+    public static double getMet(WorkoutBlock.Type type) {
+        switch (type) {
+            case WARM_UP:
+                return 3.5;  // Light calisthenics
+            case STRETCHING:
+                return 2.3;
+            case REST:
+            case MOBILITY:
+                return 2.5;  // Yoga; time logged on a rest day ("Rest or yoga") is yoga
+            case SKILL:
+                return 4.0;  // Moderate technique work
+            case EMOM:
+            case AMRAP:
+            case FOR_TIME:
+            case BENCHMARK:
+                return 8.0;  // Vigorous circuit training
+            case WORKOUT:
+            case ROUNDS:
+            case BUY_IN:
+            case CASH_OUT:
+                return 6.0;  // Moderate circuit training
+            default:
+                return 0.0;  // Notes
+        }
+    }
+
+
+    /**
+     * Returns the metabolic equivalent of a day's workout: the METs of its
+     * blocks weighted by their estimated duration.
+     *
+     * @param day The day number, from 1; days after the program repeat it.
+     * @return The MET of the day.
+     * @throws IllegalArgumentException if the day is not positive.
+     */
+    public static double getMet(int day) {
+        if (day < 1) {
+            throw new IllegalArgumentException("Day must be at least 1: " + day);
+        }
+        return DayMets.METS[(day - 1) % DayMets.METS.length];
+    }
+
+
+    /**
+     * Estimates the energy spent on a workout.
+     *
+     * @param weightKg The member's weight in kilograms.
+     * @param day      The day number, from 1.
+     * @param minutes  The minutes the workout took.
+     * @return The energy in kilocalories.
+     * @throws IllegalArgumentException if the day is not positive.
+     */
+    public static double estimateCalories(double weightKg, int day, int minutes) {
+        return getMet(day) * weightKg * minutes / 60;
+    }
+
+
+    /**
+     * Estimates the energy spent on a saved workout. A workout that was not
+     * completed, or whose time cannot be read, counts as no energy.
+     *
+     * @param weightKg The member's weight in kilograms.
+     * @param day      The day number, from 1.
+     * @param workout  The workout of the day.
+     * @return The energy in kilocalories.
+     * @throws IllegalArgumentException if the day is not positive.
+     */
+    public static double estimateCalories(double weightKg, int day, WorkoutData workout) {
+        int minutes = WorkoutColumns.parseMinutes(workout.getTimeTaken());
+        if (!workout.isCompleted() || minutes == WorkoutColumns.MISSING_MINUTES) {
+            return 0.0;
+        }
+        return estimateCalories(weightKg, day, minutes);
+    }
+
+
+    /**
+     * Converts the weight of a profile to kilograms.
+     *
+     * @param weight The weight in lbs, as saved in the profile (e.g., "165.5").
+     * @return The weight in kilograms.
+     * @throws IllegalArgumentException if the weight is not a positive number.
+     */
+    public static double parseWeightKg(String weight) {
+        double pounds;
+        try {
+            pounds = Double.parseDouble(weight.trim());
+        } catch (NumberFormatException | NullPointerException e) {
+            throw new IllegalArgumentException("Weight must be a valid number: " + weight);
+        }
+        if (!(pounds > 0) || Double.isInfinite(pounds)) {
+            throw new IllegalArgumentException("Weight must be a positive number: " + weight);
+        }
+        return pounds * KG_PER_LB;
+    }
+
+
+    /**
+     * Holds the METs of the program days. The class is initialized, and the
+     * workouts parsed, the first time a day's MET is asked for; after that the
+     * METs are read without a lock.
+     */
+    private static final class DayMets {
+
+        // METs of the program days, by day - 1
+        static final double[] METS = compute();
+
+        /**
+         * Works out the MET of every day of the program.
+         *
+         * @return The METs, by day - 1.
+         */
+        private static double[] compute() {
+            double[] mets = new double[WorkoutProgram.getDayCount()];
+            for (int day = 1; day <= mets.length; day++) {
+                double metSeconds = 0; // MET x seconds of every block
+                int seconds = 0;       // Seconds of every block
+                for (WorkoutBlock block : WorkoutProgram.getWorkout(day).getBlocks()) {
+                    metSeconds += getMet(block.getType()) * block.getEstimatedSeconds();
+                    seconds += block.getEstimatedSeconds();
+                }
+                mets[day - 1] = seconds == 0 ? DEFAULT_MET : metSeconds / seconds;
+            }
+            return mets;
+        }
+    }
+}
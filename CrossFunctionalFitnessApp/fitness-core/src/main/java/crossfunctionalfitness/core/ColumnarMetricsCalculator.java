@@ -0,0 +1,173 @@
+package crossfunctionalfitness.core;
+
+/**
+ * ColumnarMetricsCalculator provides the same fitness metrics as
+ * FitnessMetricsCalculator (average time, total time, consistency score and
+ * personal best), computed directly over the primitive columns of a
+ * WorkoutColumns store instead of a List of WorkoutData objects. Every method
+ * works on a range of rows, so it can run over one member's history or over
+ * the whole gym without creating any objects.
+ *
+ * Records whose time taken WorkoutColumns.parseMinutes cannot read, being no
+ * whole number or negative, are stored as MISSING_MINUTES and skipped by the
+ * time-based metrics, by the same rule as the list-based calculator. The
+ * inner loops run on MetricKernels.get(), which uses the Vector API when it is
+ * available and plain loops otherwise; both give identical results.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class ColumnarMetricsCalculator {
+
+    // Kernels used for the inner loops
+    private static final MetricKernels KERNELS = MetricKernels.get();
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private ColumnarMetricsCalculator() {
+    }
+
+
+    /**
+     * Calculates the average time taken per completed workout over all records.
+     *
+     * @param columns The workout columns.
+     * @return The average time in minutes, or 0.0 if no workout was completed.
+     */
+    public static double calculateAverageTime(WorkoutColumns columns) {
+        return calculateAverageTime(columns, 0, columns.size());
+    }
+
+
+    /**
+     * Calculates the average time taken per completed workout over a range of rows.
+     *
+     * @param columns The workout columns.
+     * @param from    The first row (inclusive).
+     * @param to      The last row (exclusive).
+     * @return The average time in minutes, or 0.0 if no workout was completed.
+     */
+    public static double calculateAverageTime(WorkoutColumns columns, int from, int to) {
+        long totalTime = KERNELS.sumMinutes(columns, from, to, true); // Total time of the completed workouts
+        int completedWorkouts = KERNELS.countMinutes(columns, from, to, true); // Completed workouts with a valid time
+
+        if (completedWorkouts == 0) {
+            return 0.0; // Avoid division by zero if no workouts were completed
+        }
+        return totalTime / (double) completedWorkouts;
+    }
+
+
+    /**
+     * Calculates the total time spent on workouts over all records.
+     *
+     * @param columns The workout columns.
+     * @return The total time in minutes.
+     */
+    public static long calculateTotalTime(WorkoutColumns columns) {
+        return calculateTotalTime(columns, 0, columns.size());
+    }
+
+
+    /**
+     * Calculates the total time spent on workouts over a range of rows.
+     * The total is a long since gym-wide totals do not fit in an int. It
+     * needs no overflow check: fewer than 2^31 rows of int minutes sum to less
+     * than 2^62.
+     *
+     * @param columns The workout columns.
+     * @param from    The first row (inclusive).
+     * @param to      The last row (exclusive).
+     * @return The total time in minutes.
+     */
+    public static long calculateTotalTime(WorkoutColumns columns, int from, int to) {
+        return KERNELS.sumMinutes(columns, from, to, false);
+    }
+
+
+    /**
+     * Counts the completed workouts over a range of rows.
+     *
+     * @param columns The workout columns.
+     * @param from    The first row (inclusive).
+     * @param to      The last row (exclusive).
+     * @return The number of completed workouts.
+     */
+    public static int countCompleted(WorkoutColumns columns, int from, int to) {
+        return KERNELS.countCompleted(columns, from, to);
+    }
+
+
+    /**
+     * Calculates the consistency score as a percentage over a range of rows.
+     * For gym-wide scores, totalPlannedWorkouts is the planned workouts of all
+     * members in the range.
+     *
+     * @param columns              The workout columns.
+     * @param from                 The first row (inclusive).
+     * @param to                   The last row (exclusive).
+     * @param totalPlannedWorkouts Total number of planned workouts.
+     * @return The consistency score as a percentage, or 0.0 if the range is empty.
+     */
+    public static double calculateConsistencyScore(WorkoutColumns columns, int from, int to,
+            long totalPlannedWorkouts) {
+        if (from >= to) {
+            return 0.0;
+        }
+
+        // Check if totalPlannedWorkouts is zero
+        if (totalPlannedWorkouts == 0) {
+            throw new IllegalArgumentException("Total planned workouts must not be zero");
+        }
+
+        return (countCompleted(columns, from, to) / (double) totalPlannedWorkouts) * 100;
+    }
+
+
+    /**
+     * Finds the personal best (longest) workout over a range of rows. As in
+     * FitnessMetricsCalculator.isBetterPersonalBest, the row with the lowest
+     * day number wins a tie; rows that also share the day describe the same
+     * personal best, and the first of them is returned.
+     *
+     * @param columns The workout columns.
+     * @param from    The first row (inclusive).
+     * @param to      The last row (exclusive).
+     * @return The row of the personal best, or -1 if no row has a valid time.
+     */
+    public static int findPersonalBest(WorkoutColumns columns, int from, int to) {
+        int bestMinutes = KERNELS.maxMinutes(columns, from, to); // Time of the longest workout
+        if (bestMinutes == WorkoutColumns.MISSING_MINUTES) {
+            return -1; // No row has a valid time
+        }
+
+        // Find the row with the longest time and the lowest day
+        int bestRow = -1;
+        for (int row = from; row < to; row++) {
+            if (columns.getMinutes(row) == bestMinutes
+                    && (bestRow < 0 || columns.getDay(row) < columns.getDay(bestRow))) {
+                bestRow = row;
+            }
+        }
+        return bestRow;
+    }
+
+
+    /**
+     * Describes the personal best workout of a range of rows in the format used
+     * by FitnessMetricsCalculator (e.g., "75 minutes on Day 12").
+     *
+     * @param columns The workout columns.
+     * @param from    The first row (inclusive).
+     * @param to      The last row (exclusive).
+     * @return A string representing the personal best workout.
+     */
+    public static String calculatePersonalBests(WorkoutColumns columns, int from, int to) {
+        int row = findPersonalBest(columns, from, to);
+        if (row < 0) {
+            return "No data available";
+        }
+        return String.format("%d minutes on Day %d", columns.getMinutes(row), columns.getDay(row));
+    }
+}
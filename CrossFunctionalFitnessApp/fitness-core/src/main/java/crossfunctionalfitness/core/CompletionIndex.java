@@ -0,0 +1,292 @@
+package crossfunctionalfitness.core;
+
+import java.util.Arrays;
+
+/**
+ * CompletionIndex records which members completed the workout of each day
+ * of their plans: one MemberBitmap per day of the ids of the members who
+ * completed it, and the MemberBitmap of every member in the index. Questions
+ * about many members are answered with operations on the bitmaps instead of
+ * reading each member's workouts:
+ *
+ * - the members who completed every day of a range (the intersection of the
+ *   days), e.g., everyone on a seven-day streak;
+ * - the members who completed any day of a range (the union of the days);
+ * - how many members of a cohort completed a day (the count of the
+ *   intersection with the cohort), and the day with the worst adherence;
+ * - a member's consistency score and longest streak over a range.
+ *
+ * A cohort is a MemberBitmap of member ids, e.g., the members at one fitness
+ * level; null stands for every member. All methods are synchronized, so a
+ * save can update the index while other threads read it.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class CompletionIndex {
+
+    // Days the index holds before it grows
+    private static final int INITIAL_DAYS = 32;
+
+    private final MemberBitmap members = new MemberBitmap(); // Every member in the index
+    private MemberBitmap[] completed = new MemberBitmap[INITIAL_DAYS]; // Members who completed each day, by day - 1
+
+    /**
+     * Constructor to initialize an empty CompletionIndex.
+     */
+    public CompletionIndex() {
+    }
+
+
+    /**
+     * Builds the index of workout records. A record without a day number is
+     * skipped, and a later record of a member's day replaces an earlier one.
+     *
+     * @param columns The workout records, with member ids from 0.
+     * @return The index.
+     */
+    public static CompletionIndex build(WorkoutColumns columns) {
+        CompletionIndex index = new CompletionIndex();
+        for (int row = 0; row < columns.size(); row++) {
+            if (columns.getDay(row) >= 1) {
+                index.set(columns.getMember(row), columns.getDay(row), columns.isCompleted(row));
+            }
+        }
+        return index;
+    }
+
+
+    /**
+     * Adds a member to the index, with no day completed.
+     *
+     * @param member The member id.
+     * @throws IllegalArgumentException if the id is negative.
+     */
+    public synchronized void addMember(int member) {
+        members.add(member);
+    }
+
+
+    /**
+     * Records whether a member completed the workout of a day, adding the
+     * member to the index.
+     *
+     * @param member      The member id.
+     * @param day         The day number, from 1.
+     * @param isCompleted Whether the workout was completed.
+     * @throws IllegalArgumentException if the id is negative or the day is not positive.
+     */
+    public synchronized void set(int member, int day, boolean isCompleted) {
+        if (day < 1) {
+            throw new IllegalArgumentException("Day must be at least 1: " + day);
+        }
+        members.add(member);
+        if (isCompleted) {
+            if (day > completed.length) {
+                completed = Arrays.copyOf(completed, Math.max(day, completed.length * 2));
+            }
+            if (completed[day - 1] == null) {
+                completed[day - 1] = new MemberBitmap();
+            }
+            completed[day - 1].add(member);
+        } else if (day <= completed.length && completed[day - 1] != null) {
+            completed[day - 1].remove(member);
+        }
+    }
+
+
+    /**
+     * Returns the number of members in the index.
+     *
+     * @return The number of members.
+     */
+    public synchronized int getMemberCount() {
+        return members.cardinality();
+    }
+
+
+    /**
+     * Returns whether a member is in the index.
+     *
+     * @param member The member id.
+     * @return true if the member is in the index.
+     */
+    public synchronized boolean hasMember(int member) {
+        return members.contains(member);
+    }
+
+
+    /**
+     * Returns the members in the index.
+     *
+     * @return A new bitmap of the member ids.
+     */
+    public synchronized MemberBitmap getMembers() {
+        return members.copy();
+    }
+
+
+    /**
+     * Returns whether a member completed the workout of a day.
+     *
+     * @param member The member id.
+     * @param day    The day number.
+     * @return true if the workout was completed.
+     */
+    public synchronized boolean isCompleted(int member, int day) {
+        return day >= 1 && day <= completed.length && completed[day - 1] != null
+                && completed[day - 1].contains(member);
+    }
+
+
+    /**
+     * Finds the members of a cohort who completed every day of a range.
+     *
+     * @param fromDay The first day (inclusive).
+     * @param toDay   The last day (inclusive).
+     * @param cohort  The members to consider, or null for every member.
+     * @return A new bitmap of the member ids.
+     * @throws IllegalArgumentException if the range is not valid.
+     */
+    public synchronized MemberBitmap completedEveryDay(int fromDay, int toDay, MemberBitmap cohort) {
+        checkRange(fromDay, toDay);
+        MemberBitmap result = cohort == null ? members : MemberBitmap.and(members, cohort);
+        for (int day = fromDay; day <= toDay; day++) {
+            result = MemberBitmap.and(result, getCompleted(day));
+            if (result.isEmpty()) {
+                break; // No one is left to complete the later days
+            }
+        }
+        return result;
+    }
+
+
+    /**
+     * Finds the members of a cohort who completed any day of a range.
+     *
+     * @param fromDay The first day (inclusive).
+     * @param toDay   The last day (inclusive).
+     * @param cohort  The members to consider, or null for every member.
+     * @return A new bitmap of the member ids.
+     * @throws IllegalArgumentException if the range is not valid.
+     */
+    public synchronized MemberBitmap completedAnyDay(int fromDay, int toDay, MemberBitmap cohort) {
+        checkRange(fromDay, toDay);
+        MemberBitmap result = new MemberBitmap();
+        for (int day = fromDay; day <= toDay; day++) {
+            result = MemberBitmap.or(result, getCompleted(day));
+        }
+        return cohort == null ? result : MemberBitmap.and(result, cohort);
+    }
+
+
+    /**
+     * Counts the members of a cohort who completed the workout of a day.
+     *
+     * @param day    The day number.
+     * @param cohort The members to count, or null for every member.
+     * @return The number of members.
+     */
+    public synchronized int countCompleted(int day, MemberBitmap cohort) {
+        MemberBitmap dayMembers = getCompleted(day);
+        return cohort == null ? dayMembers.cardinality() : MemberBitmap.andCardinality(dayMembers, cohort);
+    }
+
+
+    /**
+     * Finds the day of a range that the fewest members of a cohort completed,
+     * the first of them if several days tie.
+     *
+     * @param fromDay The first day (inclusive).
+     * @param toDay   The last day (inclusive).
+     * @param cohort  The members to consider, or null for every member.
+     * @return The day number.
+     * @throws IllegalArgumentException if the range is not valid.
+     */
+    public synchronized int findWorstDay(int fromDay, int toDay, MemberBitmap cohort) {
+        checkRange(fromDay, toDay);
+        int worstDay = fromDay;
+        int worstCount = Integer.MAX_VALUE;
+        for (int day = fromDay; day <= toDay; day++) {
+            int count = countCompleted(day, cohort);
+            if (count < worstCount) {
+                worstDay = day;
+                worstCount = count;
+            }
+        }
+        return worstDay;
+    }
+
+
+    /**
+     * Calculates the consistency score of a member over a range of days, as
+     * FitnessMetricsCalculator does for the days of the program: the completed
+     * days as a percentage of the days in the range.
+     *
+     * @param member  The member id.
+     * @param fromDay The first day (inclusive).
+     * @param toDay   The last day (inclusive).
+     * @return The consistency score as a percentage.
+     * @throws IllegalArgumentException if the range is not valid.
+     */
+    public synchronized double calculateConsistencyScore(int member, int fromDay, int toDay) {
+        checkRange(fromDay, toDay);
+        int completedDays = 0;
+        for (int day = fromDay; day <= toDay; day++) {
+            if (isCompleted(member, day)) {
+                completedDays++;
+            }
+        }
+        return (completedDays / (double) (toDay - fromDay + 1)) * 100;
+    }
+
+
+    /**
+     * Finds the longest run of consecutive completed days of a member within
+     * a range.
+     *
+     * @param member  The member id.
+     * @param fromDay The first day (inclusive).
+     * @param toDay   The last day (inclusive).
+     * @return The number of days in the longest run, or 0 if no day was completed.
+     * @throws IllegalArgumentException if the range is not valid.
+     */
+    public synchronized int findLongestStreak(int member, int fromDay, int toDay) {
+        checkRange(fromDay, toDay);
+        int longest = 0;
+        int current = 0;
+        for (int day = fromDay; day <= toDay; day++) {
+            current = isCompleted(member, day) ? current + 1 : 0;
+            longest = Math.max(longest, current);
+        }
+        return longest;
+    }
+
+
+    /**
+     * Returns the members who completed a day.
+     *
+     * @param day The day number.
+     * @return The bitmap of the day, empty if no one completed it; not to be changed.
+     */
+    private MemberBitmap getCompleted(int day) {
+        if (day < 1 || day > completed.length || completed[day - 1] == null) {
+            return new MemberBitmap();
+        }
+        return completed[day - 1];
+    }
+
+
+    /**
+     * Checks a range of days.
+     *
+     * @param fromDay The first day (inclusive).
+     * @param toDay   The last day (inclusive).
+     * @throws IllegalArgumentException if the range is empty or starts before day 1.
+     */
+    private static void checkRange(int fromDay, int toDay) {
+        if (fromDay < 1 || toDay < fromDay) {
+            throw new IllegalArgumentException("Invalid day range: " + fromDay + " to " + toDay);
+        }
+    }
+}
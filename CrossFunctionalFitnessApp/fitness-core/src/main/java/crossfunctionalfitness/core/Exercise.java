@@ -0,0 +1,151 @@
+package crossfunctionalfitness.core;
+
+/**
+ * Represents a single prescribed exercise within a workout block, such as
+ * "40 air squats", "400m Run" or "60 min jogging". An exercise is prescribed
+ * either by repetitions, by distance in meters or by time in seconds. The
+ * original text is kept so the workout can be rendered back for display.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class Exercise {
+
+    private final String name;          // The display name of the exercise (e.g., "air squats")
+    private final String key;           // Normalized name used for aggregation (e.g., "airsquat")
+    private final int reps;             // Prescribed repetitions, 0 if not rep based
+    private final int distanceMeters;   // Prescribed distance in meters, 0 if not distance based
+    private final int durationSeconds;  // Prescribed duration in seconds, 0 if not time based
+    private final boolean alternative;  // Whether this exercise is an alternative to the previous one
+    private final String text;          // The original text of the exercise
+
+    /**
+     * Constructor to initialize an Exercise object.
+     *
+     * @param name            The display name of the exercise.
+     * @param reps            The prescribed repetitions.
+     * @param distanceMeters  The prescribed distance in meters.
+     * @param durationSeconds The prescribed duration in seconds.
+     * @param alternative     Whether this exercise is an alternative to the previous one.
+     * @param text            The original text of the exercise.
+     */
+    public Exercise(String name, int reps, int distanceMeters, int durationSeconds, boolean alternative,
+            String text) {
+        this.name = name;
+        this.key = normalize(name);
+        this.reps = reps;
+        this.distanceMeters = distanceMeters;
+        this.durationSeconds = durationSeconds;
+        this.alternative = alternative;
+        this.text = text;
+    }
+
+
+    /**
+     * Returns the display name of the exercise.
+     *
+     * @return The display name of the exercise.
+     */
+    public String getName() {
+        return name;
+    }
+
+
+    /**
+     * Returns the normalized name of the exercise. Case, punctuation and a
+     * trailing plural "s" are removed, so "Push-ups", "Pushups" and "Push Up"
+     * all share the key "pushup".
+     *
+     * @return The normalized name of the exercise.
+     */
+    public String getKey() {
+        return key;
+    }
+
+
+    /**
+     * Returns the prescribed repetitions.
+     *
+     * @return The prescribed repetitions, or 0 if the exercise is not rep based.
+     */
+    public int getReps() {
+        return reps;
+    }
+
+
+    /**
+     * Returns the prescribed distance.
+     *
+     * @return The prescribed distance in meters, or 0 if the exercise is not distance based.
+     */
+    public int getDistanceMeters() {
+        return distanceMeters;
+    }
+
+
+    /**
+     * Returns the prescribed duration.
+     *
+     * @return The prescribed duration in seconds, or 0 if the exercise is not time based.
+     */
+    public int getDurationSeconds() {
+        return durationSeconds;
+    }
+
+
+    /**
+     * Returns whether this exercise is an alternative to the previous one
+     * (e.g., "100 Double-Under or 300 Single-Under").
+     *
+     * @return Whether this exercise is an alternative.
+     */
+    public boolean isAlternative() {
+        return alternative;
+    }
+
+
+    /**
+     * Returns the original text of the exercise.
+     *
+     * @return The original text of the exercise.
+     */
+    public String getText() {
+        return text;
+    }
+
+
+    /**
+     * Returns a string representation of the exercise.
+     *
+     * @return The original text of the exercise.
+     */
+    public String toString() {
+        return text;
+    }
+
+
+    /**
+     * Normalizes an exercise name for aggregation. Only letters are kept, they
+     * are lower-cased and a trailing plural "s" is dropped.
+     *
+     * @param name The exercise name to normalize.
+     * @return The normalized name.
+     */
+    public static String normalize(String name) {
+        StringBuilder key = new StringBuilder(name.length());
+
+        // Keep only the letters of the name, in lower case
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isLetter(c)) {
+                key.append(Character.toLowerCase(c));
+            }
+        }
+
+        // Drop a trailing plural "s" so singular and plural names match
+        if (key.length() > 1 && key.charAt(key.length() - 1) == 's') {
+            key.setLength(key.length() - 1);
+        }
+        return key.toString();
+    }
+}
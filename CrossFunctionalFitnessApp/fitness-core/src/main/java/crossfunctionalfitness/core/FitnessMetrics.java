@@ -0,0 +1,109 @@
+package crossfunctionalfitness.core;
+
+import java.util.List;
+
+import crossfunctionalfitness.instrumentation.Instrumentation;
+import crossfunctionalfitness.instrumentation.OperationTimer;
+
+/**
+ * FitnessMetrics holds the four metrics shown in the Fitness Summary (average
+ * time, total time, consistency score and personal best) as computed for one
+ * set of workouts. Instances are immutable, so one computed result can be
+ * shared by every request that reads it until the workouts change.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class FitnessMetrics {
+
+    // Timer of the metric computation
+    private static final OperationTimer COMPUTE_TIMER = Instrumentation.timer("FitnessMetrics.compute");
+
+    private final double averageTime;      // Average minutes per completed workout
+    private final long totalTime;          // Total minutes of all workouts
+    private final double consistencyScore; // Completed workouts as a percentage of the program
+    private final String personalBest;     // The longest workout (e.g., "75 minutes on Day 12")
+
+    /**
+     * Constructor to initialize a FitnessMetrics object.
+     *
+     * @param averageTime      Average minutes per completed workout.
+     * @param totalTime        Total minutes of all workouts.
+     * @param consistencyScore Completed workouts as a percentage of the program.
+     * @param personalBest     The longest workout.
+     */
+    public FitnessMetrics(double averageTime, long totalTime, double consistencyScore, String personalBest) {
+        this.averageTime = averageTime;
+        this.totalTime = totalTime;
+        this.consistencyScore = consistencyScore;
+        this.personalBest = personalBest;
+    }
+
+
+    /**
+     * Computes the metrics of a list of workouts. The columnar calculator is
+     * used because it skips unreadable times silently, where
+     * FitnessMetricsCalculator prints and counts them for the user interface
+     * to report.
+     *
+     * @param workouts The workouts of one member.
+     * @return The computed metrics.
+     */
+    public static FitnessMetrics compute(List<WorkoutData> workouts) {
+        long start = COMPUTE_TIMER.start();
+        try {
+            WorkoutColumns columns = new WorkoutColumns(Math.max(1, workouts.size()));
+            columns.addAll(0, workouts);
+            int rows = columns.size();
+
+            return new FitnessMetrics(
+                    ColumnarMetricsCalculator.calculateAverageTime(columns, 0, rows),
+                    ColumnarMetricsCalculator.calculateTotalTime(columns, 0, rows),
+                    ColumnarMetricsCalculator.calculateConsistencyScore(columns, 0, rows,
+                            FitnessMetricsCalculator.TOTAL_PLANNED_WORKOUTS),
+                    ColumnarMetricsCalculator.calculatePersonalBests(columns, 0, rows));
+        } finally {
+            COMPUTE_TIMER.stop(start);
+        }
+    }
+
+
+    /**
+     * Returns the average minutes per completed workout.
+     *
+     * @return The average time in minutes.
+     */
+    public double getAverageTime() {
+        return averageTime;
+    }
+
+
+    /**
+     * Returns the total minutes of all workouts.
+     *
+     * @return The total time in minutes.
+     */
+    public long getTotalTime() {
+        return totalTime;
+    }
+
+
+    /**
+     * Returns the completed workouts as a percentage of the program.
+     *
+     * @return The consistency score as a percentage.
+     */
+    public double getConsistencyScore() {
+        return consistencyScore;
+    }
+
+
+    /**
+     * Returns the longest workout.
+     *
+     * @return The personal best (e.g., "75 minutes on Day 12").
+     */
+    public String getPersonalBest() {
+        return personalBest;
+    }
+}
@@ -0,0 +1,379 @@
+package crossfunctionalfitness.core;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+
+import crossfunctionalfitness.instrumentation.Instrumentation;
+import crossfunctionalfitness.instrumentation.OperationTimer;
+
+/**
+ * FitnessMetricsCalculator is a utility class that provides static methods to
+ * calculate various fitness metrics. It includes methods for calculating average 
+ * workout time, total time spent exercising, consistency score,
+ * and identifying personal bests in workouts. The calculations are based on a
+ * list of WorkoutData objects. Times that WorkoutColumns.parseMinutes cannot
+ * read, being no whole number or negative, are skipped and counted. Times are
+ * summed in longs with overflow checks, and the personal best follows the
+ * tie-break rule of isBetterPersonalBest, which does not depend on the order
+ * of the workouts. Each method is a pass over the workouts; the Fitness
+ * Summary computes the same metrics as StandardMetrics, in one pass with any
+ * other metric of the MetricRegistry.
+ *
+ * Each method also has a parallel form, given a ForkJoinPool, for gym-wide and
+ * multi-year lists: the workouts are split into chunks of
+ * MetricRegistry.CHUNK_SIZE, each chunk is accumulated by its StandardMetrics
+ * metric on the pool and the partial results are combined in list order. The
+ * results do not depend on the number of threads and equal those of the
+ * sequential form.
+ * 
+ * @author Nag Rajendran 
+ * @version Dec 11 2023
+ */
+public class FitnessMetricsCalculator {
+    // Total number of workouts planned in the program
+    public static final int TOTAL_PLANNED_WORKOUTS = 30;
+
+    // Timers of the calculations
+    private static final OperationTimer AVERAGE_TIMER =
+            Instrumentation.timer("FitnessMetricsCalculator.calculateAverageTime");
+    private static final OperationTimer TOTAL_TIMER =
+            Instrumentation.timer("FitnessMetricsCalculator.calculateTotalTime");
+    private static final OperationTimer CONSISTENCY_TIMER =
+            Instrumentation.timer("FitnessMetricsCalculator.calculateConsistencyScore");
+    private static final OperationTimer PERSONAL_BEST_TIMER =
+            Instrumentation.timer("FitnessMetricsCalculator.calculatePersonalBests");
+    private static final OperationTimer ALL_TIMER =
+            Instrumentation.timer("FitnessMetricsCalculator.calculateAll");
+
+    // Number of workout times that could not be parsed
+    private static final LongAdder PARSE_ERRORS = Instrumentation.counter("FitnessMetricsCalculator.parseErrors");
+
+    /**
+     * Returns the number of workout times that could not be parsed so far.
+     * Callers compare it before and after a calculation to find out whether
+     * any time was skipped.
+     *
+     * @return The count.
+     */
+    public static long getParseErrors() {
+        return PARSE_ERRORS.sum();
+    }
+
+
+    /**
+     * Calculates the average time taken per workout.
+     * It sums the time taken for each workout and divides 
+     * it by the total number of workouts.
+     * If the list of workouts is null or empty, it returns 0.0.
+     *
+     * @param workouts List of WorkoutData objects.
+     * @return The average time taken for workouts as a double.
+     */
+    public static double calculateAverageTime(List<WorkoutData> workouts) {
+        long start = AVERAGE_TIMER.start();
+        try {
+            // Check if the list is null or empty
+            if (workouts == null || workouts.isEmpty()) {
+                return 0.0;
+            }
+
+            long totalTime = 0; // Total time taken for all workouts
+            int completedWorkouts = 0; // Number of workouts completed
+
+            // Sum the time taken for each workout
+            for (WorkoutData workout : workouts) {
+                if (workout.isCompleted()) { // Check if the workout was completed
+                    int minutes = WorkoutColumns.parseMinutes(workout.getTimeTaken());
+                    if (minutes == WorkoutColumns.MISSING_MINUTES) {
+                        PARSE_ERRORS.increment(); // Count the unreadable time
+                    } else {
+                        // Add the time taken for each workout
+                        totalTime = Math.addExact(totalTime, minutes);
+                        completedWorkouts++; // Increment the number of completed workouts
+                    }
+                }
+            }
+        
+            if (completedWorkouts == 0) {
+                return 0.0; // Avoid division by zero if no workouts were completed
+            }
+
+            return totalTime / (double) completedWorkouts; // Return the average time for completed workouts
+        } finally {
+            AVERAGE_TIMER.stop(start);
+        }
+    }
+    
+
+    /**
+     * Calculates the total time spent on workouts.
+     * It adds up the time taken for each workout in the list. If the list is null
+     * or empty, it returns 0. The total is a long, as gym-wide totals do not fit
+     * in an int.
+     *
+     * @param workouts List of WorkoutData objects.
+     * @return The total time spent on workouts in minutes.
+     * @throws ArithmeticException if the total overflows a long.
+     */
+    public static long calculateTotalTime(List<WorkoutData> workouts) {
+        long start = TOTAL_TIMER.start();
+        try {
+            // Check if the list is null or empty
+            if (workouts == null || workouts.isEmpty()) {
+                return 0;
+            }
+
+            long totalTime = 0; // Total time taken for all workouts
+
+            for (WorkoutData workout : workouts) {
+                int minutes = WorkoutColumns.parseMinutes(workout.getTimeTaken());
+                if (minutes == WorkoutColumns.MISSING_MINUTES) {
+                    PARSE_ERRORS.increment(); // Count the unreadable time
+                } else {
+                    // Add the time taken for each workout
+                    totalTime = Math.addExact(totalTime, minutes);
+                }
+            }
+
+            return totalTime;
+        } finally {
+            TOTAL_TIMER.stop(start);
+        }
+    }
+    
+
+    /**
+     * Calculates the consistency score as a percentage.
+     * The score is calculated as the ratio of completed workouts to total planned
+     * workouts multiplied by 100.
+     * If the list is null or empty, or if totalPlannedWorkouts is zero, the method
+     * returns 0.0.
+     *
+     * @param workouts             List of WorkoutData objects.
+     * @param totalPlannedWorkouts Total number of planned workouts.
+     * @return The consistency score as a percentage.
+     */
+    public static double calculateConsistencyScore(List<WorkoutData> workouts, int totalPlannedWorkouts) {
+        long start = CONSISTENCY_TIMER.start();
+        try {
+            // Check if the list is null or empty
+            if (workouts == null || workouts.isEmpty()) {
+                return 0.0;
+            }
+
+            // Check if totalPlannedWorkouts is zero
+            if (totalPlannedWorkouts == 0) {
+                throw new IllegalArgumentException("Total planned workouts must not be zero");
+            }
+
+            int completedWorkouts = 0; // Number of completed workouts
+
+            // Count the number of completed workouts        
+            for (WorkoutData workout : workouts) {
+                if (workout.isCompleted()) {
+                    completedWorkouts++;
+                }
+            }
+
+            return (completedWorkouts / (double) totalPlannedWorkouts) * 100; // Return the consistency score
+        } finally {
+            CONSISTENCY_TIMER.stop(start);
+        }
+    }
+
+
+    /**
+     * Identifies the personal best workout based on the longest time taken.
+     * It compares the time taken for each workout and returns the one with the
+     * maximum time, breaking ties by isBetterPersonalBest. If the list is null
+     * or empty, or no time can be read, it returns a message indicating no data
+     * is available.
+     *
+     * @param workouts List of WorkoutData objects.
+     * @return A string representing the personal best workout.
+     */
+    public static String calculatePersonalBests(List<WorkoutData> workouts) {
+        long start = PERSONAL_BEST_TIMER.start();
+        try {
+            // Check if the list is null or empty
+            if (workouts == null || workouts.isEmpty()) {
+                return "No data available";
+            }
+
+            WorkoutData personalBest = null; // The personal best so far
+            int bestMinutes = 0; // Time taken of the personal best
+
+            for (WorkoutData workout : workouts) {
+                int minutes = WorkoutColumns.parseMinutes(workout.getTimeTaken());
+                if (minutes == WorkoutColumns.MISSING_MINUTES) {
+                    PARSE_ERRORS.increment(); // Count the unreadable time
+                } else if (isBetterPersonalBest(workout, minutes, personalBest, bestMinutes)) {
+                    // Compare the time taken for each workout and update the personal best
+                    personalBest = workout; // Update the personal best
+                    bestMinutes = minutes;
+                }
+            }
+            if (personalBest == null) {
+                return "No data available"; // No time could be read
+            }
+            return String.format("%s minutes on %s", personalBest.getTimeTaken(), personalBest.getDay());
+        } finally {
+            PERSONAL_BEST_TIMER.stop(start);
+        }
+    }
+
+
+    /**
+     * Tells whether a workout beats the personal best so far. The longer time
+     * wins; on equal times the lower day number wins, then the smaller day
+     * label and then the smaller time text. Workouts that tie on all of these
+     * describe the same personal best, so the result does not depend on the
+     * order in which the workouts are compared, and the sequential, parallel
+     * and columnar calculations agree.
+     *
+     * @param workout     The workout.
+     * @param minutes     The parsed time taken of the workout.
+     * @param best        The personal best so far, or null if there is none.
+     * @param bestMinutes The parsed time taken of the personal best.
+     * @return True if the workout should replace the personal best.
+     */
+    public static boolean isBetterPersonalBest(WorkoutData workout, int minutes, WorkoutData best, int bestMinutes) {
+        if (best == null || minutes != bestMinutes) {
+            return best == null || minutes > bestMinutes;
+        }
+        int dayOrder = Integer.compare(WorkoutColumns.parseDay(workout.getDay()), WorkoutColumns.parseDay(best.getDay()));
+        if (dayOrder == 0) {
+            dayOrder = workout.getDay().compareTo(best.getDay());
+        }
+        if (dayOrder == 0) {
+            dayOrder = workout.getTimeTaken().compareTo(best.getTimeTaken());
+        }
+        return dayOrder < 0;
+    }
+
+
+    /**
+     * Calculates the average time taken per completed workout on a pool.
+     * Unreadable times are skipped and counted, without a stack trace.
+     *
+     * @param workouts List of WorkoutData objects, or null.
+     * @param pool     The pool that accumulates the chunks, or null to calculate on the calling thread.
+     * @return The average time taken for workouts as a double, 0.0 if no workout was completed.
+     */
+    public static double calculateAverageTime(List<WorkoutData> workouts, ForkJoinPool pool) {
+        long start = AVERAGE_TIMER.start();
+        try {
+            return (Double) evaluate(StandardMetrics.AVERAGE_TIME, workouts, pool, true);
+        } finally {
+            AVERAGE_TIMER.stop(start);
+        }
+    }
+
+
+    /**
+     * Calculates the total time spent on workouts on a pool. Unreadable times
+     * are skipped and counted, without a stack trace.
+     *
+     * @param workouts List of WorkoutData objects, or null.
+     * @param pool     The pool that accumulates the chunks, or null to calculate on the calling thread.
+     * @return The total time spent on workouts in minutes.
+     * @throws ArithmeticException if the total overflows a long.
+     */
+    public static long calculateTotalTime(List<WorkoutData> workouts, ForkJoinPool pool) {
+        long start = TOTAL_TIMER.start();
+        try {
+            return (Long) evaluate(StandardMetrics.TOTAL_TIME, workouts, pool, true);
+        } finally {
+            TOTAL_TIMER.stop(start);
+        }
+    }
+
+
+    /**
+     * Calculates the consistency score as a percentage on a pool.
+     *
+     * @param workouts             List of WorkoutData objects, or null.
+     * @param totalPlannedWorkouts Total number of planned workouts.
+     * @param pool                 The pool that counts the chunks, or null to calculate on the calling thread.
+     * @return The consistency score as a percentage, 0.0 if the list is null or empty.
+     * @throws IllegalArgumentException if the list is not empty and totalPlannedWorkouts is zero.
+     */
+    public static double calculateConsistencyScore(List<WorkoutData> workouts, int totalPlannedWorkouts,
+            ForkJoinPool pool) {
+        long start = CONSISTENCY_TIMER.start();
+        try {
+            if (workouts == null || workouts.isEmpty()) {
+                return 0.0;
+            }
+            return (Double) evaluate(StandardMetrics.consistencyScore(totalPlannedWorkouts), workouts, pool, false);
+        } finally {
+            CONSISTENCY_TIMER.stop(start);
+        }
+    }
+
+
+    /**
+     * Identifies the personal best workout on a pool: the longest readable
+     * time, with ties broken by isBetterPersonalBest. Unreadable times are
+     * skipped and counted, without a stack trace.
+     *
+     * @param workouts List of WorkoutData objects, or null.
+     * @param pool     The pool that compares the chunks, or null to calculate on the calling thread.
+     * @return A string representing the personal best workout, or "No data available".
+     */
+    public static String calculatePersonalBests(List<WorkoutData> workouts, ForkJoinPool pool) {
+        long start = PERSONAL_BEST_TIMER.start();
+        try {
+            return (String) evaluate(StandardMetrics.PERSONAL_BEST, workouts, pool, true);
+        } finally {
+            PERSONAL_BEST_TIMER.stop(start);
+        }
+    }
+
+
+    /**
+     * Calculates the four metrics of the Fitness Summary together on a pool,
+     * in one pass that parses each time once. Unreadable times are counted
+     * once each.
+     *
+     * @param workouts List of WorkoutData objects, or null.
+     * @param pool     The pool that accumulates the chunks, or null to calculate on the calling thread.
+     * @return The results of the StandardMetrics, in their order.
+     */
+    public static MetricResults calculateAll(List<WorkoutData> workouts, ForkJoinPool pool) {
+        long start = ALL_TIMER.start();
+        try {
+            MetricRegistry registry = new MetricRegistry();
+            for (Metric<?, ?> metric : StandardMetrics.getMetrics()) {
+                registry.register(metric);
+            }
+            MetricResults results = registry.evaluate(workouts == null ? List.of() : workouts, pool);
+            PARSE_ERRORS.add(results.getUnreadableTimes());
+            return results;
+        } finally {
+            ALL_TIMER.stop(start);
+        }
+    }
+
+
+    /**
+     * Evaluates one metric over the workouts in chunks on a pool.
+     *
+     * @param metric           The metric.
+     * @param workouts         The workouts, or null for none.
+     * @param pool             The pool, or null to evaluate on the calling thread.
+     * @param countParseErrors Whether the unreadable times are added to the parse errors.
+     * @return The result of the metric.
+     */
+    private static Object evaluate(Metric<?, ?> metric, List<WorkoutData> workouts, ForkJoinPool pool,
+            boolean countParseErrors) {
+        MetricRegistry registry = new MetricRegistry();
+        registry.register(metric);
+        MetricResults results = registry.evaluate(workouts == null ? List.of() : workouts, pool);
+        if (countParseErrors) {
+            PARSE_ERRORS.add(results.getUnreadableTimes());
+        }
+        return results.getValue(0);
+    }
+}
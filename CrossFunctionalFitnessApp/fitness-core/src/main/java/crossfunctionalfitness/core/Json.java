@@ -0,0 +1,386 @@
+package crossfunctionalfitness.core;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Json provides the small amount of JSON the API server and the command line
+ * need: the representations of profiles, workouts and metrics, quoting strings
+ * for responses and reading flat request objects such as
+ * {"completed": true, "timeTaken": "45"}. Nested objects and arrays are not
+ * accepted in requests, which keeps the parser a single pass over the text.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class Json {
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private Json() {
+    }
+
+
+    /**
+     * Returns the JSON representation of a user profile.
+     *
+     * @param profile The profile.
+     * @return The JSON object.
+     */
+    public static String toJson(UserProfile profile) {
+        return "{\"firstName\":" + Json.quote(profile.getFirstName())
+                + ",\"lastName\":" + Json.quote(profile.getLastName())
+                + ",\"age\":" + Json.quote(profile.getAge())
+                + ",\"weight\":" + Json.quote(profile.getWeight())
+                + ",\"fitnessLevel\":" + Json.quote(profile.getFitnessLevel()) + "}";
+    }
+
+
+    /**
+     * Returns the JSON representation of a workout.
+     *
+     * @param day     The day number of the workout.
+     * @param workout The workout.
+     * @return The JSON object.
+     */
+    public static String toJson(int day, WorkoutData workout) {
+        return "{\"day\":" + day
+                + ",\"completed\":" + workout.isCompleted()
+                + ",\"timeTaken\":" + Json.quote(workout.getTimeTaken()) + "}";
+    }
+
+
+    /**
+     * Returns the JSON representation of the fitness metrics.
+     *
+     * @param metrics The metrics.
+     * @return The JSON object.
+     */
+    public static String toJson(FitnessMetrics metrics) {
+        return "{\"averageTime\":" + String.format(Locale.ROOT, "%.2f", metrics.getAverageTime())
+                + ",\"totalTime\":" + metrics.getTotalTime()
+                + ",\"consistencyScore\":" + String.format(Locale.ROOT, "%.2f", metrics.getConsistencyScore())
+                + ",\"personalBest\":" + Json.quote(metrics.getPersonalBest()) + "}";
+    }
+
+
+    /**
+     * Returns the JSON representation of an adherence report, with the
+     * completions and adherence of each day.
+     *
+     * @param report The report.
+     * @return The JSON object.
+     */
+    public static String toJson(AdherenceReport report) {
+        StringBuilder json = new StringBuilder();
+        json.append("{\"fromDay\":").append(report.getFromDay())
+                .append(",\"toDay\":").append(report.getToDay())
+                .append(",\"members\":").append(report.getMembers())
+                .append(",\"completedEveryDay\":").append(report.getCompletedEveryDay())
+                .append(",\"consistencyScore\":").append(String.format(Locale.ROOT, "%.2f", report.getConsistencyScore()))
+                .append(",\"worstDay\":").append(report.getWorstDay() == 0 ? "null" : report.getWorstDay())
+                .append(",\"days\":[");
+        for (int day = report.getFromDay(); day <= report.getToDay(); day++) {
+            json.append(day == report.getFromDay() ? "" : ",")
+                    .append("{\"day\":").append(day)
+                    .append(",\"completed\":").append(report.getCompleted(day))
+                    .append(",\"adherence\":").append(String.format(Locale.ROOT, "%.2f", report.getAdherence(day)))
+                    .append('}');
+        }
+        return json.append("]}").toString();
+    }
+
+
+    /**
+     * Returns the JSON representation of a member's training load, with the
+     * energy and the averages of each day.
+     *
+     * @param load The training load.
+     * @return The JSON object.
+     */
+    public static String toJson(TrainingLoad load) {
+        StringBuilder json = new StringBuilder();
+        json.append("{\"lastDay\":").append(load.getLastDay())
+                .append(",\"totalCalories\":").append(String.format(Locale.ROOT, "%.1f", load.getTotalLoad()))
+                .append(",\"acuteLoad\":").append(String.format(Locale.ROOT, "%.1f", load.getAcuteLoad()))
+                .append(",\"chronicLoad\":").append(String.format(Locale.ROOT, "%.1f", load.getChronicLoad()))
+                .append(",\"acuteChronicRatio\":").append(String.format(Locale.ROOT, "%.2f", load.getAcuteChronicRatio()))
+                .append(",\"days\":[");
+        for (int day = 1; day <= load.getLastDay(); day++) {
+            json.append(day == 1 ? "" : ",")
+                    .append("{\"day\":").append(day)
+                    .append(",\"calories\":").append(String.format(Locale.ROOT, "%.1f", load.getLoad(day)))
+                    .append(",\"acuteLoad\":").append(String.format(Locale.ROOT, "%.1f", load.getAcuteLoad(day)))
+                    .append(",\"chronicLoad\":").append(String.format(Locale.ROOT, "%.1f", load.getChronicLoad(day)))
+                    .append('}');
+        }
+        return json.append("]}").toString();
+    }
+
+
+    /**
+     * Returns the JSON representation of a member's streaks, with the runs of
+     * completed days and the gaps of missed days between them.
+     *
+     * @param streaks The streaks.
+     * @return The JSON object.
+     */
+    public static String toJson(StreakTracker streaks) {
+        StringBuilder json = new StringBuilder();
+        json.append("{\"currentStreak\":").append(streaks.getCurrentStreak())
+                .append(",\"longestStreak\":").append(streaks.getLongestStreak())
+                .append(",\"completedDays\":").append(streaks.getCompletedDays())
+                .append(",\"missedDays\":").append(streaks.getMissedDays())
+                .append(",\"lastDay\":").append(streaks.getLastDay())
+                .append(",\"runs\":[");
+        for (int run = 0; run < streaks.getRunCount(); run++) {
+            json.append(run == 0 ? "" : ",")
+                    .append("{\"from\":").append(streaks.getRunStart(run))
+                    .append(",\"to\":").append(streaks.getRunEnd(run)).append('}');
+        }
+        json.append("],\"gaps\":[");
+        int from = 1;          // The first day after the previous run
+        boolean first = true;  // Whether no gap has been written yet
+        for (int run = 0; run <= streaks.getRunCount(); run++) {
+            boolean isLast = run == streaks.getRunCount(); // The gap after the last run
+            int to = isLast ? streaks.getLastDay() : streaks.getRunStart(run) - 1;
+            if (from <= to) {
+                json.append(first ? "" : ",")
+                        .append("{\"from\":").append(from).append(",\"to\":").append(to).append('}');
+                first = false;
+            }
+            if (!isLast) {
+                from = streaks.getRunEnd(run) + 1;
+            }
+        }
+        return json.append("]}").toString();
+    }
+
+
+    /**
+     * Returns a string as a quoted JSON string, escaping quotes, backslashes
+     * and control characters.
+     *
+     * @param value The string to quote, or null.
+     * @return The JSON string, or null if the value is null.
+     */
+    public static String quote(String value) {
+        if (value == null) {
+            return "null";
+        }
+
+        StringBuilder sb = new StringBuilder(value.length() + 2);
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c)); // Other control characters
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+
+    /**
+     * Parses a flat JSON object whose values are strings, numbers, booleans or
+     * null. Every value is returned as text (e.g., "45", "true"); null values
+     * are returned as null.
+     *
+     * @param text The JSON text.
+     * @return The members of the object, in the order they appear.
+     * @throws IllegalArgumentException if the text is not a flat JSON object.
+     */
+    public static Map<String, String> parseObject(String text) {
+        Map<String, String> members = new LinkedHashMap<>();
+        int[] pos = {skipWhitespace(text, 0)};
+
+        expect(text, pos, '{');
+        if (peek(text, pos) == '}') {
+            pos[0]++;
+        } else {
+            while (true) {
+                // Read the name and the value of one member
+                String name = readString(text, pos);
+                expect(text, pos, ':');
+                members.put(name, readValue(text, pos));
+
+                char c = peek(text, pos);
+                pos[0]++;
+                if (c == '}') {
+                    break;
+                }
+                if (c != ',') {
+                    throw new IllegalArgumentException("Expected ',' or '}' at position " + (pos[0] - 1));
+                }
+            }
+        }
+
+        if (skipWhitespace(text, pos[0]) != text.length()) {
+            throw new IllegalArgumentException("Unexpected text after the JSON object");
+        }
+        return members;
+    }
+
+
+    /**
+     * Reads a member value: a string, a number, true, false or null.
+     *
+     * @param text The JSON text.
+     * @param pos  The current position, advanced past the value.
+     * @return The value as text, or null for a JSON null.
+     */
+    private static String readValue(String text, int[] pos) {
+        char c = peek(text, pos);
+        if (c == '"') {
+            return readString(text, pos);
+        }
+        if (c == '{' || c == '[') {
+            throw new IllegalArgumentException("Nested values are not supported at position " + pos[0]);
+        }
+
+        // Read a bare literal up to the next separator
+        int start = pos[0];
+        while (pos[0] < text.length() && ",}".indexOf(text.charAt(pos[0])) < 0
+                && !Character.isWhitespace(text.charAt(pos[0]))) {
+            pos[0]++;
+        }
+        String literal = text.substring(start, pos[0]);
+        if (literal.equals("null")) {
+            return null;
+        }
+        if (literal.equals("true") || literal.equals("false") || literal.matches("-?\\d+(\\.\\d+)?([eE][+-]?\\d+)?")) {
+            return literal;
+        }
+        throw new IllegalArgumentException("Invalid value at position " + start);
+    }
+
+
+    /**
+     * Reads a quoted string, decoding escape sequences.
+     *
+     * @param text The JSON text.
+     * @param pos  The current position, advanced past the closing quote.
+     * @return The decoded string.
+     */
+    private static String readString(String text, int[] pos) {
+        expect(text, pos, '"');
+        StringBuilder sb = new StringBuilder();
+        while (true) {
+            if (pos[0] >= text.length()) {
+                throw new IllegalArgumentException("Unterminated string");
+            }
+            char c = text.charAt(pos[0]++);
+            if (c == '"') {
+                return sb.toString();
+            }
+            if (c != '\\') {
+                sb.append(c);
+                continue;
+            }
+
+            // Decode an escape sequence
+            if (pos[0] >= text.length()) {
+                throw new IllegalArgumentException("Unterminated string");
+            }
+            char escape = text.charAt(pos[0]++);
+            switch (escape) {
+                case 'n':
+                    sb.append('\n');
+                    break;
+                case 'r':
+                    sb.append('\r');
+                    break;
+                case 't':
+                    sb.append('\t');
+                    break;
+                case 'b':
+                    sb.append('\b');
+                    break;
+                case 'f':
+                    sb.append('\f');
+                    break;
+                case 'u':
+                    if (pos[0] + 4 > text.length()) {
+                        throw new IllegalArgumentException("Invalid unicode escape");
+                    }
+                    try {
+                        sb.append((char) Integer.parseInt(text.substring(pos[0], pos[0] + 4), 16));
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("Invalid unicode escape");
+                    }
+                    pos[0] += 4;
+                    break;
+                default:
+                    sb.append(escape); // Quote, backslash and slash stand for themselves
+            }
+        }
+    }
+
+
+    /**
+     * Skips whitespace and checks that the next character is the expected one.
+     *
+     * @param text     The JSON text.
+     * @param pos      The current position, advanced past the character.
+     * @param expected The expected character.
+     */
+    private static void expect(String text, int[] pos, char expected) {
+        if (peek(text, pos) != expected) {
+            throw new IllegalArgumentException("Expected '" + expected + "' at position " + pos[0]);
+        }
+        pos[0]++;
+    }
+
+
+    /**
+     * Skips whitespace and returns the next character without consuming it.
+     *
+     * @param text The JSON text.
+     * @param pos  The current position, advanced past any whitespace.
+     * @return The next character.
+     */
+    private static char peek(String text, int[] pos) {
+        pos[0] = skipWhitespace(text, pos[0]);
+        if (pos[0] >= text.length()) {
+            throw new IllegalArgumentException("Unexpected end of JSON");
+        }
+        return text.charAt(pos[0]);
+    }
+
+
+    /**
+     * Returns the position of the first non-whitespace character.
+     *
+     * @param text The JSON text.
+     * @param pos  The position to start from.
+     * @return The position of the first non-whitespace character, or the text length.
+     */
+    private static int skipWhitespace(String text, int pos) {
+        while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+            pos++;
+        }
+        return pos;
+    }
+}
@@ -0,0 +1,661 @@
+package crossfunctionalfitness.core;
+
+import java.util.Arrays;
+
+/**
+ * MemberBitmap is a compressed set of member ids (whole numbers from 0), in
+ * the manner of a Roaring bitmap. The ids are split into chunks of 65,536 by
+ * their high 16 bits, and each chunk that holds an id is stored in the
+ * smaller of two forms:
+ *
+ * - a sorted array of the low 16 bits of its ids, two bytes per id, while it
+ *   holds at most 4,096 ids;
+ * - a bitmap of 65,536 bits (8 KB) when it holds more.
+ *
+ * A set of 100,000 members therefore takes at most about 16 KB, and sets are
+ * intersected, joined and counted a chunk at a time: 64 ids per step between
+ * bitmaps, and by a merge of sorted arrays otherwise.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class MemberBitmap {
+
+    // Most ids of an array chunk; a chunk with more is a bitmap
+    private static final int MAX_ARRAY_SIZE = 4096;
+
+    // Words of a bitmap chunk (65,536 bits)
+    private static final int BITMAP_WORDS = 1024;
+
+    // Chunks the set holds before it grows
+    private static final int INITIAL_CHUNKS = 4;
+
+    private int chunkCount;                                 // Number of chunks in use
+    private char[] keys = new char[INITIAL_CHUNKS];         // High 16 bits of the ids of each chunk, ascending
+    private int[] cardinalities = new int[INITIAL_CHUNKS];  // Number of ids in each chunk
+    private char[][] arrays = new char[INITIAL_CHUNKS][];   // Sorted low 16 bits of each array chunk, or null
+    private long[][] bitmaps = new long[INITIAL_CHUNKS][];  // Bits of each bitmap chunk, or null
+
+    /**
+     * Constructor to initialize an empty MemberBitmap.
+     */
+    public MemberBitmap() {
+    }
+
+
+    /**
+     * Adds a member id.
+     *
+     * @param id The member id.
+     * @throws IllegalArgumentException if the id is negative.
+     */
+    public void add(int id) {
+        checkId(id);
+        int chunk = findChunk((char) (id >>> 16));
+        if (chunk < 0) {
+            chunk = insertChunk(-chunk - 1, (char) (id >>> 16));
+        }
+        char low = (char) id;
+
+        if (bitmaps[chunk] != null) {
+            long[] bits = bitmaps[chunk];
+            if ((bits[low >>> 6] & (1L << low)) == 0) {
+                bits[low >>> 6] |= 1L << low;
+                cardinalities[chunk]++;
+            }
+            return;
+        }
+
+        char[] array = arrays[chunk];
+        int count = cardinalities[chunk];
+        int position = Arrays.binarySearch(array, 0, count, low);
+        if (position >= 0) {
+            return; // Already in the set
+        }
+        if (count == MAX_ARRAY_SIZE) {
+            toBitmapChunk(chunk); // The array is full; the chunk becomes a bitmap
+            add(id);
+            return;
+        }
+        position = -position - 1;
+        if (count == array.length) {
+            array = Arrays.copyOf(array, Math.min(MAX_ARRAY_SIZE, count * 2));
+            arrays[chunk] = array;
+        }
+        System.arraycopy(array, position, array, position + 1, count - position);
+        array[position] = low;
+        cardinalities[chunk]++;
+    }
+
+
+    /**
+     * Removes a member id, if it is in the set.
+     *
+     * @param id The member id.
+     */
+    public void remove(int id) {
+        if (id < 0) {
+            return;
+        }
+        int chunk = findChunk((char) (id >>> 16));
+        if (chunk < 0) {
+            return;
+        }
+        char low = (char) id;
+
+        if (bitmaps[chunk] != null) {
+            long[] bits = bitmaps[chunk];
+            if ((bits[low >>> 6] & (1L << low)) == 0) {
+                return;
+            }
+            bits[low >>> 6] &= ~(1L << low);
+            if (--cardinalities[chunk] <= MAX_ARRAY_SIZE) {
+                toArrayChunk(chunk); // Small enough to be an array again
+            }
+            return;
+        }
+
+        char[] array = arrays[chunk];
+        int count = cardinalities[chunk];
+        int position = Arrays.binarySearch(array, 0, count, low);
+        if (position < 0) {
+            return;
+        }
+        System.arraycopy(array, position + 1, array, position, count - position - 1);
+        if (--cardinalities[chunk] == 0) {
+            removeChunk(chunk);
+        }
+    }
+
+
+    /**
+     * Returns whether a member id is in the set.
+     *
+     * @param id The member id.
+     * @return true if the id is in the set.
+     */
+    public boolean contains(int id) {
+        if (id < 0) {
+            return false;
+        }
+        int chunk = findChunk((char) (id >>> 16));
+        if (chunk < 0) {
+            return false;
+        }
+        char low = (char) id;
+        if (bitmaps[chunk] != null) {
+            return (bitmaps[chunk][low >>> 6] & (1L << low)) != 0;
+        }
+        return Arrays.binarySearch(arrays[chunk], 0, cardinalities[chunk], low) >= 0;
+    }
+
+
+    /**
+     * Returns the number of member ids in the set.
+     *
+     * @return The number of ids.
+     */
+    public int cardinality() {
+        int cardinality = 0;
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            cardinality += cardinalities[chunk];
+        }
+        return cardinality;
+    }
+
+
+    /**
+     * Returns whether the set is empty.
+     *
+     * @return true if the set holds no ids.
+     */
+    public boolean isEmpty() {
+        return chunkCount == 0;
+    }
+
+
+    /**
+     * Returns the member ids in the set.
+     *
+     * @return A new array of the ids, ascending.
+     */
+    public int[] toArray() {
+        int[] ids = new int[cardinality()];
+        int next = 0;
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            int high = keys[chunk] << 16;
+            if (bitmaps[chunk] != null) {
+                long[] bits = bitmaps[chunk];
+                for (int word = 0; word < BITMAP_WORDS; word++) {
+                    long remaining = bits[word];
+                    while (remaining != 0) {
+                        ids[next++] = high | (word << 6) | Long.numberOfTrailingZeros(remaining);
+                        remaining &= remaining - 1; // Clear the lowest set bit
+                    }
+                }
+            } else {
+                for (int i = 0; i < cardinalities[chunk]; i++) {
+                    ids[next++] = high | arrays[chunk][i];
+                }
+            }
+        }
+        return ids;
+    }
+
+
+    /**
+     * Returns the bytes taken by the ids of the set: two per id of an array
+     * chunk and 8 KB per bitmap chunk.
+     *
+     * @return The size in bytes.
+     */
+    public long getSizeInBytes() {
+        long bytes = 0;
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            bytes += bitmaps[chunk] != null ? BITMAP_WORDS * Long.BYTES : cardinalities[chunk] * Character.BYTES;
+        }
+        return bytes;
+    }
+
+
+    /**
+     * Returns a copy of the set, which can be changed without changing this
+     * one.
+     *
+     * @return The new set.
+     */
+    public MemberBitmap copy() {
+        MemberBitmap copy = new MemberBitmap();
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            copy.appendCopy(this, chunk);
+        }
+        return copy;
+    }
+
+
+    /**
+     * Returns the member ids in both of two sets.
+     *
+     * @param a A set.
+     * @param b Another set.
+     * @return A new set of the ids in both.
+     */
+    public static MemberBitmap and(MemberBitmap a, MemberBitmap b) {
+        MemberBitmap result = new MemberBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < a.chunkCount && j < b.chunkCount) {
+            if (a.keys[i] < b.keys[j]) {
+                i++;
+            } else if (a.keys[i] > b.keys[j]) {
+                j++;
+            } else {
+                result.appendAnd(a, i++, b, j++);
+            }
+        }
+        return result;
+    }
+
+
+    /**
+     * Returns the member ids in either of two sets.
+     *
+     * @param a A set.
+     * @param b Another set.
+     * @return A new set of the ids in either.
+     */
+    public static MemberBitmap or(MemberBitmap a, MemberBitmap b) {
+        MemberBitmap result = new MemberBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < a.chunkCount || j < b.chunkCount) {
+            if (j == b.chunkCount || (i < a.chunkCount && a.keys[i] < b.keys[j])) {
+                result.appendCopy(a, i++);
+            } else if (i == a.chunkCount || a.keys[i] > b.keys[j]) {
+                result.appendCopy(b, j++);
+            } else {
+                result.appendOr(a, i++, b, j++);
+            }
+        }
+        return result;
+    }
+
+
+    /**
+     * Counts the member ids in both of two sets, without creating the set of
+     * them.
+     *
+     * @param a A set.
+     * @param b Another set.
+     * @return The number of ids in both.
+     */
+    public static int andCardinality(MemberBitmap a, MemberBitmap b) {
+        int cardinality = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.chunkCount && j < b.chunkCount) {
+            if (a.keys[i] < b.keys[j]) {
+                i++;
+            } else if (a.keys[i] > b.keys[j]) {
+                j++;
+            } else {
+                long[] bitsA = a.bitmaps[i];
+                long[] bitsB = b.bitmaps[j];
+                if (bitsA != null && bitsB != null) {
+                    for (int word = 0; word < BITMAP_WORDS; word++) {
+                        cardinality += Long.bitCount(bitsA[word] & bitsB[word]);
+                    }
+                } else if (bitsA != null) {
+                    cardinality += countIn(b.arrays[j], b.cardinalities[j], bitsA);
+                } else if (bitsB != null) {
+                    cardinality += countIn(a.arrays[i], a.cardinalities[i], bitsB);
+                } else {
+                    cardinality += intersect(a.arrays[i], a.cardinalities[i], b.arrays[j], b.cardinalities[j], null);
+                }
+                i++;
+                j++;
+            }
+        }
+        return cardinality;
+    }
+
+
+    /**
+     * Appends the intersection of a chunk of each of two sets with the same
+     * key, if it is not empty.
+     *
+     * @param a      A set.
+     * @param chunkA The chunk of a.
+     * @param b      Another set.
+     * @param chunkB The chunk of b.
+     */
+    private void appendAnd(MemberBitmap a, int chunkA, MemberBitmap b, int chunkB) {
+        long[] bitsA = a.bitmaps[chunkA];
+        long[] bitsB = b.bitmaps[chunkB];
+        if (bitsA != null && bitsB != null) {
+            long[] bits = new long[BITMAP_WORDS];
+            int count = 0;
+            for (int word = 0; word < BITMAP_WORDS; word++) {
+                bits[word] = bitsA[word] & bitsB[word];
+                count += Long.bitCount(bits[word]);
+            }
+            if (count > MAX_ARRAY_SIZE) {
+                appendChunk(a.keys[chunkA], null, bits, count);
+            } else if (count > 0) {
+                appendChunk(a.keys[chunkA], toLowBits(bits, count), null, count);
+            }
+            return;
+        }
+
+        // At least one side is an array, so the intersection fits in an array
+        char[] array;
+        int count;
+        if (bitsA != null || bitsB != null) {
+            char[] lows = bitsA != null ? b.arrays[chunkB] : a.arrays[chunkA];
+            int lowCount = bitsA != null ? b.cardinalities[chunkB] : a.cardinalities[chunkA];
+            long[] bits = bitsA != null ? bitsA : bitsB;
+            array = new char[lowCount];
+            count = 0;
+            for (int i = 0; i < lowCount; i++) {
+                if ((bits[lows[i] >>> 6] & (1L << lows[i])) != 0) {
+                    array[count++] = lows[i];
+                }
+            }
+        } else {
+            array = new char[Math.min(a.cardinalities[chunkA], b.cardinalities[chunkB])];
+            count = intersect(a.arrays[chunkA], a.cardinalities[chunkA], b.arrays[chunkB], b.cardinalities[chunkB],
+                    array);
+        }
+        if (count > 0) {
+            appendChunk(a.keys[chunkA], array, null, count);
+        }
+    }
+
+
+    /**
+     * Appends the union of a chunk of each of two sets with the same key.
+     *
+     * @param a      A set.
+     * @param chunkA The chunk of a.
+     * @param b      Another set.
+     * @param chunkB The chunk of b.
+     */
+    private void appendOr(MemberBitmap a, int chunkA, MemberBitmap b, int chunkB) {
+        long[] bitsA = a.bitmaps[chunkA];
+        long[] bitsB = b.bitmaps[chunkB];
+        if (bitsA == null && bitsB == null) {
+            // Merge the two sorted arrays
+            char[] lowsA = a.arrays[chunkA];
+            char[] lowsB = b.arrays[chunkB];
+            int countA = a.cardinalities[chunkA];
+            int countB = b.cardinalities[chunkB];
+            char[] array = new char[countA + countB];
+            int i = 0;
+            int j = 0;
+            int count = 0;
+            while (i < countA && j < countB) {
+                if (lowsA[i] < lowsB[j]) {
+                    array[count++] = lowsA[i++];
+                } else if (lowsA[i] > lowsB[j]) {
+                    array[count++] = lowsB[j++];
+                } else {
+                    array[count++] = lowsA[i++];
+                    j++;
+                }
+            }
+            while (i < countA) {
+                array[count++] = lowsA[i++];
+            }
+            while (j < countB) {
+                array[count++] = lowsB[j++];
+            }
+            if (count <= MAX_ARRAY_SIZE) {
+                appendChunk(a.keys[chunkA], array, null, count);
+            } else {
+                appendChunk(a.keys[chunkA], null, toBits(array, count), count);
+            }
+            return;
+        }
+
+        // At least one side is a bitmap, so the union is one
+        long[] bits = bitsA != null ? bitsA.clone() : bitsB.clone();
+        if (bitsA != null && bitsB != null) {
+            for (int word = 0; word < BITMAP_WORDS; word++) {
+                bits[word] |= bitsB[word];
+            }
+        } else {
+            char[] lows = bitsA != null ? b.arrays[chunkB] : a.arrays[chunkA];
+            int lowCount = bitsA != null ? b.cardinalities[chunkB] : a.cardinalities[chunkA];
+            for (int i = 0; i < lowCount; i++) {
+                bits[lows[i] >>> 6] |= 1L << lows[i];
+            }
+        }
+        int count = 0;
+        for (int word = 0; word < BITMAP_WORDS; word++) {
+            count += Long.bitCount(bits[word]);
+        }
+        appendChunk(a.keys[chunkA], null, bits, count);
+    }
+
+
+    /**
+     * Appends a copy of a chunk of another set.
+     *
+     * @param source The set.
+     * @param chunk  The chunk.
+     */
+    private void appendCopy(MemberBitmap source, int chunk) {
+        appendChunk(source.keys[chunk],
+                source.arrays[chunk] == null ? null
+                        : Arrays.copyOf(source.arrays[chunk], source.cardinalities[chunk]),
+                source.bitmaps[chunk] == null ? null : source.bitmaps[chunk].clone(), source.cardinalities[chunk]);
+    }
+
+
+    /**
+     * Appends a chunk whose key is greater than the key of every chunk.
+     *
+     * @param key         The high 16 bits of the ids.
+     * @param array       The sorted low 16 bits of an array chunk, or null.
+     * @param bits        The bits of a bitmap chunk, or null.
+     * @param cardinality The number of ids.
+     */
+    private void appendChunk(char key, char[] array, long[] bits, int cardinality) {
+        if (chunkCount == keys.length) {
+            growChunks();
+        }
+        keys[chunkCount] = key;
+        arrays[chunkCount] = array;
+        bitmaps[chunkCount] = bits;
+        cardinalities[chunkCount] = cardinality;
+        chunkCount++;
+    }
+
+
+    /**
+     * Finds the chunk of a key.
+     *
+     * @param key The high 16 bits of an id.
+     * @return The chunk, or (-(insertion point) - 1) if there is none.
+     */
+    private int findChunk(char key) {
+        return Arrays.binarySearch(keys, 0, chunkCount, key);
+    }
+
+
+    /**
+     * Inserts an empty array chunk.
+     *
+     * @param position The position of the chunk, keeping the keys in order.
+     * @param key      The high 16 bits of its ids.
+     * @return The position.
+     */
+    private int insertChunk(int position, char key) {
+        if (chunkCount == keys.length) {
+            growChunks();
+        }
+        int moved = chunkCount - position;
+        System.arraycopy(keys, position, keys, position + 1, moved);
+        System.arraycopy(cardinalities, position, cardinalities, position + 1, moved);
+        System.arraycopy(arrays, position, arrays, position + 1, moved);
+        System.arraycopy(bitmaps, position, bitmaps, position + 1, moved);
+        keys[position] = key;
+        cardinalities[position] = 0;
+        arrays[position] = new char[INITIAL_CHUNKS];
+        bitmaps[position] = null;
+        chunkCount++;
+        return position;
+    }
+
+
+    /**
+     * Removes an empty chunk.
+     *
+     * @param position The position of the chunk.
+     */
+    private void removeChunk(int position) {
+        int moved = chunkCount - position - 1;
+        System.arraycopy(keys, position + 1, keys, position, moved);
+        System.arraycopy(cardinalities, position + 1, cardinalities, position, moved);
+        System.arraycopy(arrays, position + 1, arrays, position, moved);
+        System.arraycopy(bitmaps, position + 1, bitmaps, position, moved);
+        chunkCount--;
+        arrays[chunkCount] = null;
+        bitmaps[chunkCount] = null;
+    }
+
+
+    /**
+     * Doubles the number of chunks the set can hold.
+     */
+    private void growChunks() {
+        int capacity = keys.length * 2;
+        keys = Arrays.copyOf(keys, capacity);
+        cardinalities = Arrays.copyOf(cardinalities, capacity);
+        arrays = Arrays.copyOf(arrays, capacity);
+        bitmaps = Arrays.copyOf(bitmaps, capacity);
+    }
+
+
+    /**
+     * Turns an array chunk into a bitmap chunk.
+     *
+     * @param chunk The chunk.
+     */
+    private void toBitmapChunk(int chunk) {
+        bitmaps[chunk] = toBits(arrays[chunk], cardinalities[chunk]);
+        arrays[chunk] = null;
+    }
+
+
+    /**
+     * Turns a bitmap chunk into an array chunk.
+     *
+     * @param chunk The chunk.
+     */
+    private void toArrayChunk(int chunk) {
+        arrays[chunk] = toLowBits(bitmaps[chunk], cardinalities[chunk]);
+        bitmaps[chunk] = null;
+    }
+
+
+    /**
+     * Returns the bits of a sorted array of low 16 bits.
+     *
+     * @param lows  The low bits.
+     * @param count The number of low bits in use.
+     * @return A new bitmap of 65,536 bits.
+     */
+    private static long[] toBits(char[] lows, int count) {
+        long[] bits = new long[BITMAP_WORDS];
+        for (int i = 0; i < count; i++) {
+            bits[lows[i] >>> 6] |= 1L << lows[i];
+        }
+        return bits;
+    }
+
+
+    /**
+     * Returns the set bits of a bitmap as a sorted array of low 16 bits.
+     *
+     * @param bits  The bitmap.
+     * @param count The number of set bits.
+     * @return A new array of the low bits.
+     */
+    private static char[] toLowBits(long[] bits, int count) {
+        char[] lows = new char[count];
+        int next = 0;
+        for (int word = 0; word < BITMAP_WORDS; word++) {
+            long remaining = bits[word];
+            while (remaining != 0) {
+                lows[next++] = (char) ((word << 6) | Long.numberOfTrailingZeros(remaining));
+                remaining &= remaining - 1; // Clear the lowest set bit
+            }
+        }
+        return lows;
+    }
+
+
+    /**
+     * Counts the low bits of an array that are set in a bitmap.
+     *
+     * @param lows  The sorted low bits.
+     * @param count The number of low bits in use.
+     * @param bits  The bitmap.
+     * @return The number of low bits set in the bitmap.
+     */
+    private static int countIn(char[] lows, int count, long[] bits) {
+        int found = 0;
+        for (int i = 0; i < count; i++) {
+            if ((bits[lows[i] >>> 6] & (1L << lows[i])) != 0) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+
+    /**
+     * Intersects two sorted arrays of low bits by merging them.
+     *
+     * @param lowsA  The low bits of one chunk.
+     * @param countA The number of low bits in use in lowsA.
+     * @param lowsB  The low bits of another chunk.
+     * @param countB The number of low bits in use in lowsB.
+     * @param result Receives the low bits in both, or null to only count them.
+     * @return The number of low bits in both.
+     */
+    private static int intersect(char[] lowsA, int countA, char[] lowsB, int countB, char[] result) {
+        int i = 0;
+        int j = 0;
+        int count = 0;
+        while (i < countA && j < countB) {
+            if (lowsA[i] < lowsB[j]) {
+                i++;
+            } else if (lowsA[i] > lowsB[j]) {
+                j++;
+            } else {
+                if (result != null) {
+                    result[count] = lowsA[i];
+                }
+                count++;
+                i++;
+                j++;
+            }
+        }
+        return count;
+    }
+
+
+    /**
+     * Checks that a member id can be in a set.
+     *
+     * @param id The member id.
+     * @throws IllegalArgumentException if the id is negative.
+     */
+    private static void checkId(int id) {
+        if (id < 0) {
+            throw new IllegalArgumentException("Member id must not be negative: " + id);
+        }
+    }
+}
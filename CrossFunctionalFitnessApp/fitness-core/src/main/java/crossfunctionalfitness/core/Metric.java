@@ -0,0 +1,90 @@
+package crossfunctionalfitness.core;
+
+/**
+ * A fitness metric computed from a member's workouts, in the manner of a
+ * java.util.stream.Collector: the workouts are split into chunks, each chunk
+ * is accumulated into its own accumulator, the accumulators are combined in
+ * chunk order and the result is finished from the last one. MetricRegistry
+ * evaluates every registered metric in the same pass over the workouts, so
+ * adding a metric does not add a pass.
+ *
+ * combine must be associative, and must give the same result however the
+ * workouts are split into chunks, so that a parallel evaluation agrees with a
+ * sequential one.
+ *
+ * @param <A> The type of the accumulator.
+ * @param <R> The type of the result.
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public interface Metric<A, R> {
+
+    /**
+     * Returns the name of the metric, which identifies it in the results.
+     *
+     * @return The name (e.g., "averageTime").
+     */
+    String getName();
+
+
+    /**
+     * Returns the label of the metric shown in the Fitness Summary.
+     *
+     * @return The label (e.g., "Average Time Per Workout (minutes)").
+     */
+    String getLabel();
+
+
+    /**
+     * Returns what the metric represents, for tooltips and help.
+     *
+     * @return The description.
+     */
+    String getDescription();
+
+
+    /**
+     * Creates an accumulator with no workouts.
+     *
+     * @return The new accumulator.
+     */
+    A createAccumulator();
+
+
+    /**
+     * Adds a workout to an accumulator.
+     *
+     * @param accumulator The accumulator.
+     * @param workout     The workout.
+     * @param minutes     The time taken, already parsed, or WorkoutColumns.MISSING_MINUTES if it cannot be read.
+     */
+    void accumulate(A accumulator, WorkoutData workout, int minutes);
+
+
+    /**
+     * Combines the accumulators of two consecutive chunks of workouts.
+     *
+     * @param earlier The accumulator of the earlier workouts; it may be changed and returned.
+     * @param later   The accumulator of the later workouts.
+     * @return The accumulator of both.
+     */
+    A combine(A earlier, A later);
+
+
+    /**
+     * Computes the result of the accumulated workouts.
+     *
+     * @param accumulator The accumulator of every workout.
+     * @return The result.
+     */
+    R finish(A accumulator);
+
+
+    /**
+     * Formats a result for display.
+     *
+     * @param result The result.
+     * @return The text shown in the Fitness Summary.
+     */
+    String format(R result);
+}
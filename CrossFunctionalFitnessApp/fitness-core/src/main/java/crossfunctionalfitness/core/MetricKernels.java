@@ -0,0 +1,112 @@
+package crossfunctionalfitness.core;
+
+/**
+ * MetricKernels are the inner loops behind ColumnarMetricsCalculator: masked
+ * sum, count and max over the minutes and completed columns of a
+ * WorkoutColumns store. Two implementations exist: ScalarMetricKernels, a
+ * plain loop that works everywhere, and VectorMetricKernels, which uses the
+ * Vector API (jdk.incubator.vector) to process many rows per instruction.
+ * Both compute exact integer results, so they always agree bit for bit.
+ *
+ * The vector kernels are used when the jdk.incubator.vector module is present
+ * (java --add-modules jdk.incubator.vector ...); otherwise, or when the system
+ * property "fitness.kernels" is set to "scalar", the scalar kernels are used.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public interface MetricKernels {
+
+    /**
+     * Sums the minutes of the rows in a range, skipping MISSING_MINUTES.
+     *
+     * @param columns       The workout columns.
+     * @param from          The first row (inclusive).
+     * @param to            The last row (exclusive).
+     * @param completedOnly Whether only completed workouts are summed.
+     * @return The sum of the minutes.
+     */
+    long sumMinutes(WorkoutColumns columns, int from, int to, boolean completedOnly);
+
+
+    /**
+     * Counts the rows in a range with valid minutes (not MISSING_MINUTES).
+     *
+     * @param columns       The workout columns.
+     * @param from          The first row (inclusive).
+     * @param to            The last row (exclusive).
+     * @param completedOnly Whether only completed workouts are counted.
+     * @return The number of rows.
+     */
+    int countMinutes(WorkoutColumns columns, int from, int to, boolean completedOnly);
+
+
+    /**
+     * Counts the completed workouts in a range.
+     *
+     * @param columns The workout columns.
+     * @param from    The first row (inclusive).
+     * @param to      The last row (exclusive).
+     * @return The number of completed workouts.
+     */
+    int countCompleted(WorkoutColumns columns, int from, int to);
+
+
+    /**
+     * Finds the largest valid minutes in a range.
+     *
+     * @param columns The workout columns.
+     * @param from    The first row (inclusive).
+     * @param to      The last row (exclusive).
+     * @return The largest minutes, or WorkoutColumns.MISSING_MINUTES if no row has valid minutes.
+     */
+    int maxMinutes(WorkoutColumns columns, int from, int to);
+
+
+    /**
+     * Returns the kernels to use on this JVM: the vector kernels when the
+     * Vector API is available, otherwise the scalar kernels.
+     *
+     * @return The selected kernels.
+     */
+    static MetricKernels get() {
+        return Holder.KERNELS;
+    }
+
+
+    /**
+     * Holds the kernels selected once, when first requested.
+     */
+    final class Holder {
+
+        // The kernels selected for this JVM
+        static final MetricKernels KERNELS = select();
+
+        /**
+         * Private constructor to prevent instantiation of this holder class.
+         */
+        private Holder() {
+        }
+
+
+        /**
+         * Selects the vector kernels if the Vector API module is present and
+         * not disabled, falling back to the scalar kernels otherwise.
+         *
+         * @return The selected kernels.
+         */
+        private static MetricKernels select() {
+            if (!"scalar".equals(System.getProperty("fitness.kernels"))
+                    && ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+                try {
+                    // Only reached when the module is present; the class is resolved on first use, without
+                    // reflection, so ahead-of-time compilers see the dependency
+                    return new VectorMetricKernels();
+                } catch (LinkageError e) {
+                    // Fall back to the scalar kernels below
+                }
+            }
+            return new ScalarMetricKernels();
+        }
+    }
+}
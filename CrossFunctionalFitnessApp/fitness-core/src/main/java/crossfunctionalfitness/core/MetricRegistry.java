@@ -0,0 +1,302 @@
+package crossfunctionalfitness.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import crossfunctionalfitness.instrumentation.Instrumentation;
+import crossfunctionalfitness.instrumentation.OperationTimer;
+
+/**
+ * MetricRegistry holds the metrics shown in the Fitness Summary and evaluates
+ * them together: one pass over the workouts parses each time once and adds the
+ * workout to the accumulator of every registered metric. With a pool, the
+ * workouts are split into chunks of CHUNK_SIZE that are accumulated in
+ * parallel and combined in order, so the results are the same as in one pass,
+ * however many threads the pool has. A list with random access (such as an
+ * ArrayList) is read in place; any other list is copied first.
+ *
+ * The default registry holds the metrics of StandardMetrics; a new metric is
+ * added with register and then shown in every Fitness Summary opened after.
+ * Registration is thread-safe, and an evaluation uses the metrics registered
+ * when it starts.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class MetricRegistry {
+
+    // Workouts accumulated by one task of a parallel evaluation
+    public static final int CHUNK_SIZE = 4096;
+
+    // Timer of the evaluations
+    private static final OperationTimer EVALUATE_TIMER = Instrumentation.timer("MetricRegistry.evaluate");
+
+    // The registry of the Fitness Summary
+    private static final MetricRegistry DEFAULT = createDefault();
+
+    private final List<Metric<?, ?>> metrics = new CopyOnWriteArrayList<>(); // Registered metrics, in order
+
+    /**
+     * Constructor to initialize a MetricRegistry with no metrics.
+     */
+    public MetricRegistry() {
+    }
+
+
+    /**
+     * Returns the registry of the Fitness Summary, which starts with the
+     * metrics of StandardMetrics.
+     *
+     * @return The default registry.
+     */
+    public static MetricRegistry getDefault() {
+        return DEFAULT;
+    }
+
+
+    /**
+     * Adds a metric after the registered ones.
+     *
+     * @param metric The metric.
+     * @throws IllegalArgumentException if a metric with the same name is registered.
+     */
+    public synchronized void register(Metric<?, ?> metric) {
+        for (Metric<?, ?> registered : metrics) {
+            if (registered.getName().equals(metric.getName())) {
+                throw new IllegalArgumentException("A metric named " + metric.getName() + " is already registered");
+            }
+        }
+        metrics.add(metric);
+    }
+
+
+    /**
+     * Returns the registered metrics.
+     *
+     * @return An unmodifiable copy of the metrics, in registration order.
+     */
+    public List<Metric<?, ?>> getMetrics() {
+        return Collections.unmodifiableList(new ArrayList<>(metrics));
+    }
+
+
+    /**
+     * Evaluates every registered metric in one pass over the workouts, on the
+     * calling thread.
+     *
+     * @param workouts The workouts of one member.
+     * @return The results.
+     */
+    public MetricResults evaluate(List<WorkoutData> workouts) {
+        return evaluate(workouts, null);
+    }
+
+
+    /**
+     * Evaluates every registered metric over the workouts, accumulating chunks
+     * of CHUNK_SIZE workouts in parallel on a pool.
+     *
+     * @param workouts The workouts, of one member or of many.
+     * @param pool     The pool that accumulates the chunks, or null to evaluate on the calling thread.
+     * @return The results.
+     */
+    public MetricResults evaluate(List<WorkoutData> workouts, ForkJoinPool pool) {
+        long start = EVALUATE_TIMER.start();
+        try {
+            Metric<?, ?>[] evaluated = metrics.toArray(new Metric<?, ?>[0]);
+            List<WorkoutData> list = workouts instanceof RandomAccess ? workouts : new ArrayList<>(workouts);
+            Partial total = pool == null ? accumulate(evaluated, list, 0, list.size())
+                    : pool.invoke(new ChunkTask(evaluated, list, 0, list.size()));
+
+            String[] names = new String[evaluated.length];
+            String[] labels = new String[evaluated.length];
+            Object[] values = new Object[evaluated.length];
+            String[] texts = new String[evaluated.length];
+            for (int i = 0; i < evaluated.length; i++) {
+                names[i] = evaluated[i].getName();
+                labels[i] = evaluated[i].getLabel();
+                values[i] = finish(evaluated[i], total.accumulators[i]);
+                texts[i] = format(evaluated[i], values[i]);
+            }
+            return new MetricResults(names, labels, values, texts, total.unreadableTimes);
+        } finally {
+            EVALUATE_TIMER.stop(start);
+        }
+    }
+
+
+    /**
+     * Creates the default registry.
+     *
+     * @return The registry, with the metrics of StandardMetrics.
+     */
+    private static MetricRegistry createDefault() {
+        MetricRegistry registry = new MetricRegistry();
+        for (Metric<?, ?> metric : StandardMetrics.getMetrics()) {
+            registry.register(metric);
+        }
+        return registry;
+    }
+
+
+    /**
+     * Accumulates a range of workouts into new accumulators of the metrics,
+     * parsing each time once.
+     *
+     * @param evaluated The metrics.
+     * @param workouts  The workouts, with random access.
+     * @param from      The first workout (inclusive).
+     * @param to        The last workout (exclusive).
+     * @return The accumulators of the range.
+     */
+    private static Partial accumulate(Metric<?, ?>[] evaluated, List<WorkoutData> workouts, int from, int to) {
+        Partial partial = new Partial(evaluated.length);
+        for (int i = 0; i < evaluated.length; i++) {
+            partial.accumulators[i] = evaluated[i].createAccumulator();
+        }
+        for (int w = from; w < to; w++) {
+            WorkoutData workout = workouts.get(w);
+            int minutes = WorkoutColumns.parseMinutes(workout.getTimeTaken());
+            if (minutes == WorkoutColumns.MISSING_MINUTES) {
+                partial.unreadableTimes++;
+            }
+            for (int i = 0; i < evaluated.length; i++) {
+                accumulate(evaluated[i], partial.accumulators[i], workout, minutes);
+            }
+        }
+        return partial;
+    }
+
+
+    /**
+     * Adds a workout to an accumulator of a metric.
+     *
+     * @param metric      The metric.
+     * @param accumulator The accumulator, created by the metric.
+     * @param workout     The workout.
+     * @param minutes     The parsed time taken.
+     * @param <A>         The type of the accumulator.
+     */
+    @SuppressWarnings("unchecked")
+    private static <A> void accumulate(Metric<A, ?> metric, Object accumulator, WorkoutData workout, int minutes) {
+        metric.accumulate((A) accumulator, workout, minutes);
+    }
+
+
+    /**
+     * Combines two accumulators of a metric.
+     *
+     * @param metric  The metric.
+     * @param earlier The accumulator of the earlier workouts.
+     * @param later   The accumulator of the later workouts.
+     * @param <A>     The type of the accumulator.
+     * @return The accumulator of both.
+     */
+    @SuppressWarnings("unchecked")
+    private static <A> Object combine(Metric<A, ?> metric, Object earlier, Object later) {
+        return metric.combine((A) earlier, (A) later);
+    }
+
+
+    /**
+     * Computes the result of a metric.
+     *
+     * @param metric      The metric.
+     * @param accumulator The accumulator of every workout.
+     * @param <A>         The type of the accumulator.
+     * @return The result.
+     */
+    @SuppressWarnings("unchecked")
+    private static <A> Object finish(Metric<A, ?> metric, Object accumulator) {
+        return metric.finish((A) accumulator);
+    }
+
+
+    /**
+     * Formats the result of a metric.
+     *
+     * @param metric The metric.
+     * @param value  The result, computed by the metric.
+     * @param <R>    The type of the result.
+     * @return The text.
+     */
+    @SuppressWarnings("unchecked")
+    private static <R> String format(Metric<?, R> metric, Object value) {
+        return metric.format((R) value);
+    }
+
+
+    /**
+     * The accumulators of the metrics over a range of workouts.
+     */
+    private static final class Partial {
+
+        final Object[] accumulators; // Accumulator of each metric
+        long unreadableTimes;        // Workouts of the range whose time could not be read
+
+        /**
+         * Constructor to initialize a Partial with room for the accumulators.
+         *
+         * @param metrics The number of metrics.
+         */
+        Partial(int metrics) {
+            this.accumulators = new Object[metrics];
+        }
+    }
+
+
+    /**
+     * Accumulates a range of workouts, splitting it in two while it is larger
+     * than CHUNK_SIZE and combining the halves in order.
+     */
+    private static final class ChunkTask extends RecursiveTask<Partial> {
+
+        private final Metric<?, ?>[] evaluated; // The metrics
+        private final List<WorkoutData> workouts; // The workouts, with random access
+        private final int from;                 // The first workout (inclusive)
+        private final int to;                   // The last workout (exclusive)
+
+        /**
+         * Constructor to initialize a ChunkTask.
+         *
+         * @param evaluated The metrics.
+         * @param workouts  The workouts, with random access.
+         * @param from      The first workout (inclusive).
+         * @param to        The last workout (exclusive).
+         */
+        ChunkTask(Metric<?, ?>[] evaluated, List<WorkoutData> workouts, int from, int to) {
+            this.evaluated = evaluated;
+            this.workouts = workouts;
+            this.from = from;
+            this.to = to;
+        }
+
+
+        /**
+         * Accumulates the range, or the two halves of it in parallel.
+         *
+         * @return The accumulators of the range.
+         */
+        @Override
+        protected Partial compute() {
+            if (to - from <= CHUNK_SIZE) {
+                return accumulate(evaluated, workouts, from, to);
+            }
+            int middle = (from + to) >>> 1;
+            ChunkTask later = new ChunkTask(evaluated, workouts, middle, to);
+            later.fork();
+            Partial earlier = new ChunkTask(evaluated, workouts, from, middle).compute();
+            Partial laterPartial = later.join();
+            for (int i = 0; i < evaluated.length; i++) {
+                earlier.accumulators[i] = combine(evaluated[i], earlier.accumulators[i], laterPartial.accumulators[i]);
+            }
+            earlier.unreadableTimes += laterPartial.unreadableTimes;
+            return earlier;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package crossfunctionalfitness.core;
+
+/**
+ * MetricResults holds the results of one evaluation of the metrics of a
+ * MetricRegistry, in registration order: each metric's name, label, result
+ * and formatted text. It also counts the workouts whose time could not be
+ * read, which the time-based metrics skip. Instances are immutable.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class MetricResults {
+
+    private final String[] names;       // Name of each metric
+    private final String[] labels;      // Label of each metric
+    private final Object[] values;      // Result of each metric
+    private final String[] texts;       // Formatted result of each metric
+    private final long unreadableTimes; // Workouts whose time could not be read
+
+    /**
+     * Constructor to initialize a MetricResults object.
+     *
+     * @param names           The name of each metric.
+     * @param labels          The label of each metric.
+     * @param values          The result of each metric.
+     * @param texts           The formatted result of each metric.
+     * @param unreadableTimes The number of workouts whose time could not be read.
+     */
+    public MetricResults(String[] names, String[] labels, Object[] values, String[] texts, long unreadableTimes) {
+        this.names = names.clone();
+        this.labels = labels.clone();
+        this.values = values.clone();
+        this.texts = texts.clone();
+        this.unreadableTimes = unreadableTimes;
+    }
+
+
+    /**
+     * Returns the number of metrics.
+     *
+     * @return The number of metrics.
+     */
+    public int size() {
+        return names.length;
+    }
+
+
+    /**
+     * Returns the name of a metric.
+     *
+     * @param index The metric, from 0 in registration order.
+     * @return The name.
+     */
+    public String getName(int index) {
+        return names[index];
+    }
+
+
+    /**
+     * Returns the label of a metric.
+     *
+     * @param index The metric, from 0 in registration order.
+     * @return The label.
+     */
+    public String getLabel(int index) {
+        return labels[index];
+    }
+
+
+    /**
+     * Returns the result of a metric.
+     *
+     * @param index The metric, from 0 in registration order.
+     * @return The result.
+     */
+    public Object getValue(int index) {
+        return values[index];
+    }
+
+
+    /**
+     * Returns the formatted result of a metric.
+     *
+     * @param index The metric, from 0 in registration order.
+     * @return The text.
+     */
+    public String getText(int index) {
+        return texts[index];
+    }
+
+
+    /**
+     * Returns the result of a metric by name.
+     *
+     * @param name The name of the metric.
+     * @return The result, or null if no metric has the name.
+     */
+    public Object getValue(String name) {
+        int index = indexOf(name);
+        return index < 0 ? null : values[index];
+    }
+
+
+    /**
+     * Returns the formatted result of a metric by name.
+     *
+     * @param name The name of the metric.
+     * @return The text, or null if no metric has the name.
+     */
+    public String getText(String name) {
+        int index = indexOf(name);
+        return index < 0 ? null : texts[index];
+    }
+
+
+    /**
+     * Returns the number of workouts whose time could not be read.
+     *
+     * @return The count.
+     */
+    public long getUnreadableTimes() {
+        return unreadableTimes;
+    }
+
+
+    /**
+     * Finds a metric by name.
+     *
+     * @param name The name of the metric.
+     * @return The index, or -1 if no metric has the name.
+     */
+    private int indexOf(String name) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
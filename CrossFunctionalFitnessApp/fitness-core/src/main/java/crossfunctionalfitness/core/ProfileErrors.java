@@ -0,0 +1,77 @@
+package crossfunctionalfitness.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents the result of validating the fields of a user profile with
+ * ProfileValidator: one error message for each invalid field, in the order of
+ * the form (first name, last name, age, weight, fitness level).
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class ProfileErrors {
+
+    // The result of a profile without errors, shared so a valid profile allocates nothing
+    public static final ProfileErrors NONE = new ProfileErrors(new String[ProfileValidator.FIELD_COUNT]);
+
+    private final String[] messages;    // Error message of each field, null if the field is valid
+
+    /**
+     * Constructor to initialize a ProfileErrors object.
+     *
+     * @param messages The error message of each field, null if the field is valid.
+     */
+    ProfileErrors(String[] messages) {
+        this.messages = messages;
+    }
+
+
+    /**
+     * Returns whether every field is valid.
+     *
+     * @return true if there are no errors.
+     */
+    public boolean isValid() {
+        return this == NONE;
+    }
+
+
+    /**
+     * Returns the error message of a field.
+     *
+     * @param field The field, e.g., ProfileValidator.AGE.
+     * @return The message, or null if the field is valid.
+     */
+    public String getMessage(int field) {
+        return messages[field];
+    }
+
+
+    /**
+     * Returns the error messages of the invalid fields, in the order of the form.
+     *
+     * @return The messages; empty if every field is valid.
+     */
+    public List<String> getMessages() {
+        List<String> list = new ArrayList<>();
+        for (String message : messages) {
+            if (message != null) {
+                list.add(message);
+            }
+        }
+        return list;
+    }
+
+
+    /**
+     * Returns the error messages separated by "; ".
+     *
+     * @return The messages, or an empty string if every field is valid.
+     */
+    @Override
+    public String toString() {
+        return String.join("; ", getMessages());
+    }
+}
@@ -0,0 +1,298 @@
+package crossfunctionalfitness.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Represents a search for members: prefixes of the first and last name
+ * (ignoring case), an age band, a weight range and a set of fitness levels.
+ * A new query matches every member; each setter narrows it. The query can
+ * also be read from request parameters, so the API server and the command
+ * line accept the same searches:
+ *
+ *     first, last          name prefixes
+ *     minAge, maxAge       age band in years (inclusive)
+ *     minWeight, maxWeight weight range in lbs (inclusive)
+ *     level                fitness levels, separated by commas
+ *     limit                largest number of results
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class ProfileQuery {
+
+    // Number of results returned unless a limit is set
+    public static final int DEFAULT_LIMIT = 50;
+
+    private String firstNamePrefix = "";                // Prefix of the first name, lower case
+    private String lastNamePrefix = "";                 // Prefix of the last name, lower case
+    private int minAge = 0;                             // Youngest age
+    private int maxAge = Integer.MAX_VALUE;             // Oldest age
+    private float minWeight = 0;                        // Lightest weight
+    private float maxWeight = Float.MAX_VALUE;          // Heaviest weight
+    private List<String> fitnessLevels = List.of();     // Levels to match, or empty for every level
+    private int limit = DEFAULT_LIMIT;                  // Largest number of results
+
+    /**
+     * Builds a query from request parameters (see the class comment);
+     * parameters that are missing or empty do not narrow the query.
+     *
+     * @param parameters The parameters by name.
+     * @return The query.
+     * @throws IllegalArgumentException if a parameter is not valid.
+     */
+    public static ProfileQuery parse(Map<String, String> parameters) {
+        ProfileQuery query = new ProfileQuery();
+        query.setFirstNamePrefix(parameters.getOrDefault("first", ""));
+        query.setLastNamePrefix(parameters.getOrDefault("last", ""));
+        query.setAgeBand(parseInt(parameters, "minAge", 0), parseInt(parameters, "maxAge", Integer.MAX_VALUE));
+        query.setWeightRange(parseFloat(parameters, "minWeight", 0),
+                parseFloat(parameters, "maxWeight", Float.MAX_VALUE));
+        query.setFitnessLevels(parseLevels(parameters.getOrDefault("level", "")));
+        query.setLimit(parseInt(parameters, "limit", DEFAULT_LIMIT));
+        return query;
+    }
+
+
+    /**
+     * Reads a list of fitness levels separated by commas, e.g.,
+     * "Novice,Expert".
+     *
+     * @param text The levels, or an empty string for none.
+     * @return The levels, trimmed.
+     * @throws IllegalArgumentException if a level is not one of ProfileValidator.FITNESS_LEVELS.
+     */
+    public static List<String> parseLevels(String text) {
+        List<String> levels = new ArrayList<>();
+        if (!text.trim().isEmpty()) {
+            for (String level : text.split(",")) {
+                if (!ProfileValidator.FITNESS_LEVELS.contains(level.trim())) {
+                    throw new IllegalArgumentException("level must be one of " + ProfileValidator.FITNESS_LEVELS);
+                }
+                levels.add(level.trim());
+            }
+        }
+        return levels;
+    }
+
+
+    /**
+     * Reads a whole number parameter.
+     *
+     * @param parameters   The parameters by name.
+     * @param name         The parameter name.
+     * @param defaultValue The value if the parameter is missing or empty.
+     * @return The value.
+     * @throws IllegalArgumentException if the parameter is not a whole number.
+     */
+    private static int parseInt(Map<String, String> parameters, String name, int defaultValue) {
+        String text = parameters.getOrDefault(name, "").trim();
+        if (text.isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(text);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " must be a whole number: " + text);
+        }
+    }
+
+
+    /**
+     * Reads a number parameter.
+     *
+     * @param parameters   The parameters by name.
+     * @param name         The parameter name.
+     * @param defaultValue The value if the parameter is missing or empty.
+     * @return The value.
+     * @throws IllegalArgumentException if the parameter is not a number.
+     */
+    private static float parseFloat(Map<String, String> parameters, String name, float defaultValue) {
+        String text = parameters.getOrDefault(name, "").trim();
+        if (text.isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Float.parseFloat(text);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " must be a number: " + text);
+        }
+    }
+
+
+    /**
+     * Sets the prefix of the first name to match, ignoring case.
+     *
+     * @param prefix The prefix, or an empty string for every first name.
+     */
+    public void setFirstNamePrefix(String prefix) {
+        this.firstNamePrefix = nameKey(prefix);
+    }
+
+
+    /**
+     * Returns the prefix of the first name to match.
+     *
+     * @return The prefix in lower case, or an empty string.
+     */
+    public String getFirstNamePrefix() {
+        return firstNamePrefix;
+    }
+
+
+    /**
+     * Sets the prefix of the last name to match, ignoring case.
+     *
+     * @param prefix The prefix, or an empty string for every last name.
+     */
+    public void setLastNamePrefix(String prefix) {
+        this.lastNamePrefix = nameKey(prefix);
+    }
+
+
+    /**
+     * Returns the prefix of the last name to match.
+     *
+     * @return The prefix in lower case, or an empty string.
+     */
+    public String getLastNamePrefix() {
+        return lastNamePrefix;
+    }
+
+
+    /**
+     * Sets the age band to match.
+     *
+     * @param minAge The youngest age (inclusive).
+     * @param maxAge The oldest age (inclusive).
+     * @throws IllegalArgumentException if the band is empty.
+     */
+    public void setAgeBand(int minAge, int maxAge) {
+        if (minAge > maxAge) {
+            throw new IllegalArgumentException("minAge must not be greater than maxAge");
+        }
+        this.minAge = minAge;
+        this.maxAge = maxAge;
+    }
+
+
+    /**
+     * Returns the youngest age to match.
+     *
+     * @return The age in years.
+     */
+    public int getMinAge() {
+        return minAge;
+    }
+
+
+    /**
+     * Returns the oldest age to match.
+     *
+     * @return The age in years.
+     */
+    public int getMaxAge() {
+        return maxAge;
+    }
+
+
+    /**
+     * Sets the weight range to match.
+     *
+     * @param minWeight The lightest weight in lbs (inclusive).
+     * @param maxWeight The heaviest weight in lbs (inclusive).
+     * @throws IllegalArgumentException if the range is empty.
+     */
+    public void setWeightRange(float minWeight, float maxWeight) {
+        if (!(minWeight <= maxWeight)) {
+            throw new IllegalArgumentException("minWeight must not be greater than maxWeight");
+        }
+        this.minWeight = minWeight;
+        this.maxWeight = maxWeight;
+    }
+
+
+    /**
+     * Returns the lightest weight to match.
+     *
+     * @return The weight in lbs.
+     */
+    public float getMinWeight() {
+        return minWeight;
+    }
+
+
+    /**
+     * Returns the heaviest weight to match.
+     *
+     * @return The weight in lbs.
+     */
+    public float getMaxWeight() {
+        return maxWeight;
+    }
+
+
+    /**
+     * Sets the fitness levels to match.
+     *
+     * @param levels The levels, e.g., "Novice"; empty for every level.
+     * @throws IllegalArgumentException if a level is not one of ProfileValidator.FITNESS_LEVELS.
+     */
+    public void setFitnessLevels(List<String> levels) {
+        for (String level : levels) {
+            if (!ProfileValidator.FITNESS_LEVELS.contains(level)) {
+                throw new IllegalArgumentException("level must be one of " + ProfileValidator.FITNESS_LEVELS);
+            }
+        }
+        this.fitnessLevels = Collections.unmodifiableList(new ArrayList<>(levels));
+    }
+
+
+    /**
+     * Returns the fitness levels to match.
+     *
+     * @return The levels, or an empty list for every level.
+     */
+    public List<String> getFitnessLevels() {
+        return fitnessLevels;
+    }
+
+
+    /**
+     * Sets the largest number of results.
+     *
+     * @param limit The limit.
+     * @throws IllegalArgumentException if the limit is not positive.
+     */
+    public void setLimit(int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be at least 1");
+        }
+        this.limit = limit;
+    }
+
+
+    /**
+     * Returns the largest number of results.
+     *
+     * @return The limit.
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+
+    /**
+     * Returns the form of a name that searches compare: trimmed and in lower
+     * case.
+     *
+     * @param name The name.
+     * @return The search key of the name.
+     */
+    public static String nameKey(String name) {
+        return name == null ? "" : name.trim().toLowerCase(Locale.ROOT);
+    }
+}
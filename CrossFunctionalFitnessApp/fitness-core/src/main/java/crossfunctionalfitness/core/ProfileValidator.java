@@ -0,0 +1,256 @@
+package crossfunctionalfitness.core;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ProfileValidator checks the fields of a user profile with the rules of the
+ * New User form, without any user interface, so that the form, the API server
+ * and the import of profiles accept and reject the same profiles with the same
+ * messages.
+ *
+ * A whole profile is checked in one pass and every invalid field gets its own
+ * message, so the user can fix them all at once. A single field can be checked
+ * on its own as the user types. Checking a valid profile creates no error
+ * objects and throws no exceptions, so imported profiles are checked in bulk
+ * quickly.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public final class ProfileValidator {
+
+    // Fields of a profile, in the order of the form
+    public static final int FIRST_NAME = 0;
+    public static final int LAST_NAME = 1;
+    public static final int AGE = 2;
+    public static final int WEIGHT = 3;
+    public static final int FITNESS_LEVEL = 4;
+    public static final int FIELD_COUNT = 5;
+
+    // Names of the fields in JSON requests, by field
+    public static final List<String> FIELD_NAMES = List.of("firstName", "lastName", "age", "weight",
+            "fitnessLevel");
+
+    // Valid fitness levels, as offered by the New User form
+    public static final List<String> FITNESS_LEVELS = List.of("Beginner", "Novice", "Intermediate", "Advanced",
+            "Expert");
+
+    // Youngest and oldest age accepted
+    private static final int MIN_AGE = 1;
+    private static final int MAX_AGE = 100;
+
+    // Longest run of digits read as an age before it cannot be an int
+    private static final int MAX_AGE_DIGITS = 10;
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private ProfileValidator() {
+    }
+
+
+    /**
+     * Checks one field. Leading and trailing spaces are ignored.
+     *
+     * @param field The field, e.g., AGE.
+     * @param value The text of the field, or null if it is missing (for the
+     *              fitness level, if no level is selected).
+     * @return The error message, or null if the field is valid.
+     * @throws IllegalArgumentException if the field is not one of the fields.
+     */
+    public static String checkField(int field, String value) {
+        String text = value == null ? "" : value.trim();
+        switch (field) {
+            case FIRST_NAME:
+                return text.isEmpty() ? "First name must not be empty" : null;
+            case LAST_NAME:
+                return text.isEmpty() ? "Last name must not be empty" : null;
+            case AGE:
+                return checkAge(text);
+            case WEIGHT:
+                return checkWeight(text);
+            case FITNESS_LEVEL:
+                if (text.isEmpty()) {
+                    return "Please select a fitness level";
+                }
+                return FITNESS_LEVELS.contains(text) ? null : "Fitness level must be one of " + FITNESS_LEVELS;
+            default:
+                throw new IllegalArgumentException("Unknown profile field: " + field);
+        }
+    }
+
+
+    /**
+     * Checks an age: a whole number between 1 and 100.
+     *
+     * @param text The trimmed text.
+     * @return The error message, or null if the age is valid.
+     */
+    private static String checkAge(String text) {
+        // Read the digits by hand, as Integer.parseInt would, but without
+        // throwing an exception for text that is not a number
+        int start = text.startsWith("+") || text.startsWith("-") ? 1 : 0;
+        if (text.length() == start || text.length() - start > MAX_AGE_DIGITS) {
+            return "Age must be a valid integer";
+        }
+        long age = 0;
+        for (int i = start; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return "Age must be a valid integer";
+            }
+            age = age * 10 + (c - '0');
+        }
+        if (text.charAt(0) == '-') {
+            age = -age;
+        }
+        if (age < Integer.MIN_VALUE || age > Integer.MAX_VALUE) {
+            return "Age must be a valid integer";
+        }
+        if (age < MIN_AGE || age > MAX_AGE) {
+            return "Age must be a valid integer between 1 and 100";
+        }
+        return null;
+    }
+
+
+    /**
+     * Checks a weight: a positive decimal number of lbs.
+     *
+     * @param text The trimmed text.
+     * @return The error message, or null if the weight is valid.
+     */
+    private static String checkWeight(String text) {
+        // Reject text with characters no decimal number has before parsing it,
+        // as parsing would throw an exception
+        if (text.isEmpty()) {
+            return "Weight must be a valid number";
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if ("0123456789.+-eEdDfF".indexOf(text.charAt(i)) < 0) {
+                return "Weight must be a valid number";
+            }
+        }
+        double weight;
+        try {
+            weight = Double.parseDouble(text);
+        } catch (NumberFormatException e) {
+            return "Weight must be a valid number";
+        }
+        if (Double.isNaN(weight) || Double.isInfinite(weight)) {
+            return "Weight must be a valid number";
+        }
+        return weight <= 0 ? "Weight must be a positive number" : null;
+    }
+
+
+    /**
+     * Checks every field of a profile in one pass.
+     *
+     * @param firstName    The first name.
+     * @param lastName     The last name.
+     * @param age          The age.
+     * @param weight       The weight in lbs.
+     * @param fitnessLevel The fitness level, or null if none is selected.
+     * @return The errors; ProfileErrors.NONE if the profile is valid.
+     */
+    public static ProfileErrors validate(String firstName, String lastName, String age, String weight,
+            String fitnessLevel) {
+        String[] messages = null; // Only created when a field is invalid
+        messages = record(messages, FIRST_NAME, checkField(FIRST_NAME, firstName));
+        messages = record(messages, LAST_NAME, checkField(LAST_NAME, lastName));
+        messages = record(messages, AGE, checkField(AGE, age));
+        messages = record(messages, WEIGHT, checkField(WEIGHT, weight));
+        messages = record(messages, FITNESS_LEVEL, checkField(FITNESS_LEVEL, fitnessLevel));
+        return messages == null ? ProfileErrors.NONE : new ProfileErrors(messages);
+    }
+
+
+    /**
+     * Records the error message of a field, creating the messages on the
+     * first error.
+     *
+     * @param messages The messages so far, or null if there were no errors.
+     * @param field    The field.
+     * @param message  The error message, or null if the field is valid.
+     * @return The messages, or null if there are still no errors.
+     */
+    private static String[] record(String[] messages, int field, String message) {
+        if (message == null) {
+            return messages;
+        }
+        if (messages == null) {
+            messages = new String[FIELD_COUNT];
+        }
+        messages[field] = message;
+        return messages;
+    }
+
+
+    /**
+     * Checks every field of a profile in one pass.
+     *
+     * @param profile The profile.
+     * @return The errors; ProfileErrors.NONE if the profile is valid.
+     */
+    public static ProfileErrors validate(UserProfile profile) {
+        return validate(profile.getFirstName(), profile.getLastName(), profile.getAge(), profile.getWeight(),
+                profile.getFitnessLevel());
+    }
+
+
+    /**
+     * Checks every field of a profile given by field name, e.g., the fields
+     * of a JSON request (see FIELD_NAMES). A missing field is empty.
+     *
+     * @param fields The fields by name.
+     * @return The errors; ProfileErrors.NONE if the profile is valid.
+     */
+    public static ProfileErrors validate(Map<String, String> fields) {
+        return validate(fields.get(FIELD_NAMES.get(FIRST_NAME)), fields.get(FIELD_NAMES.get(LAST_NAME)),
+                fields.get(FIELD_NAMES.get(AGE)), fields.get(FIELD_NAMES.get(WEIGHT)),
+                fields.get(FIELD_NAMES.get(FITNESS_LEVEL)));
+    }
+
+
+    /**
+     * Builds a user profile from fields given by name, with every field
+     * trimmed.
+     *
+     * @param fields The fields by name (see FIELD_NAMES).
+     * @return The profile.
+     * @throws IllegalArgumentException if any field is missing or invalid; the
+     *                                  message lists every error.
+     */
+    public static UserProfile toProfile(Map<String, String> fields) {
+        ProfileErrors errors = validate(fields);
+        if (!errors.isValid()) {
+            throw new IllegalArgumentException(errors.toString());
+        }
+        return new UserProfile(fields.get(FIELD_NAMES.get(FIRST_NAME)).trim(),
+                fields.get(FIELD_NAMES.get(LAST_NAME)).trim(), fields.get(FIELD_NAMES.get(AGE)).trim(),
+                fields.get(FIELD_NAMES.get(WEIGHT)).trim(), fields.get(FIELD_NAMES.get(FITNESS_LEVEL)).trim());
+    }
+
+
+    /**
+     * Checks a batch of profiles, e.g., imported profiles, and returns the
+     * errors of the invalid ones.
+     *
+     * @param profiles The profiles.
+     * @return The errors of each invalid profile by its index in the list, in
+     *         list order; empty if every profile is valid.
+     */
+    public static Map<Integer, ProfileErrors> validateAll(List<UserProfile> profiles) {
+        Map<Integer, ProfileErrors> invalid = new LinkedHashMap<>();
+        for (int i = 0; i < profiles.size(); i++) {
+            ProfileErrors errors = validate(profiles.get(i));
+            if (!errors.isValid()) {
+                invalid.put(i, errors);
+            }
+        }
+        return invalid;
+    }
+}
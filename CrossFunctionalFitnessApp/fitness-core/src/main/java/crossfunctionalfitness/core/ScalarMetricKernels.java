@@ -0,0 +1,90 @@
+package crossfunctionalfitness.core;
+
+/**
+ * ScalarMetricKernels implements the metric kernels with plain loops, one row
+ * at a time. They are the reference results for VectorMetricKernels and the
+ * fallback when the Vector API is not available.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class ScalarMetricKernels implements MetricKernels {
+
+    /**
+     * Sums the minutes of the rows in a range, skipping MISSING_MINUTES.
+     *
+     * @param columns       The workout columns.
+     * @param from          The first row (inclusive).
+     * @param to            The last row (exclusive).
+     * @param completedOnly Whether only completed workouts are summed.
+     * @return The sum of the minutes.
+     */
+    public long sumMinutes(WorkoutColumns columns, int from, int to, boolean completedOnly) {
+        long sum = 0;
+        for (int row = from; row < to; row++) {
+            int minutes = columns.getMinutes(row);
+            if (minutes != WorkoutColumns.MISSING_MINUTES && (!completedOnly || columns.isCompleted(row))) {
+                sum += minutes;
+            }
+        }
+        return sum;
+    }
+
+
+    /**
+     * Counts the rows in a range with valid minutes (not MISSING_MINUTES).
+     *
+     * @param columns       The workout columns.
+     * @param from          The first row (inclusive).
+     * @param to            The last row (exclusive).
+     * @param completedOnly Whether only completed workouts are counted.
+     * @return The number of rows.
+     */
+    public int countMinutes(WorkoutColumns columns, int from, int to, boolean completedOnly) {
+        int count = 0;
+        for (int row = from; row < to; row++) {
+            if (columns.getMinutes(row) != WorkoutColumns.MISSING_MINUTES
+                    && (!completedOnly || columns.isCompleted(row))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+
+    /**
+     * Counts the completed workouts in a range.
+     *
+     * @param columns The workout columns.
+     * @param from    The first row (inclusive).
+     * @param to      The last row (exclusive).
+     * @return The number of completed workouts.
+     */
+    public int countCompleted(WorkoutColumns columns, int from, int to) {
+        int count = 0;
+        for (int row = from; row < to; row++) {
+            if (columns.isCompleted(row)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+
+    /**
+     * Finds the largest valid minutes in a range.
+     *
+     * @param columns The workout columns.
+     * @param from    The first row (inclusive).
+     * @param to      The last row (exclusive).
+     * @return The largest minutes, or WorkoutColumns.MISSING_MINUTES if no row has valid minutes.
+     */
+    public int maxMinutes(WorkoutColumns columns, int from, int to) {
+        // MISSING_MINUTES is below every valid time, so it only remains if no row has one
+        int max = WorkoutColumns.MISSING_MINUTES;
+        for (int row = from; row < to; row++) {
+            max = Math.max(max, columns.getMinutes(row));
+        }
+        return max;
+    }
+}
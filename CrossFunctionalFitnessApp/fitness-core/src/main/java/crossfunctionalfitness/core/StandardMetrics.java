@@ -0,0 +1,463 @@
+package crossfunctionalfitness.core;
+
+import java.util.List;
+
+/**
+ * StandardMetrics holds the four metrics of the Fitness Summary as Metrics:
+ * average time, total time, consistency score and personal best. They give
+ * the same results as the methods of FitnessMetricsCalculator, however the
+ * workouts are split into chunks, and are the starting metrics of the default
+ * MetricRegistry.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public final class StandardMetrics {
+
+    /**
+     * The average minutes per completed workout whose time can be read, or 0.0
+     * if there is none. The accumulator holds the sum and the count.
+     */
+    public static final Metric<long[], Double> AVERAGE_TIME = new Metric<long[], Double>() {
+
+        /**
+         * Returns the name of the metric.
+         *
+         * @return "averageTime".
+         */
+        public String getName() {
+            return "averageTime";
+        }
+
+
+        /**
+         * Returns the label of the metric.
+         *
+         * @return The label.
+         */
+        public String getLabel() {
+            return "Average Time Per Workout (minutes)";
+        }
+
+
+        /**
+         * Returns what the metric represents.
+         *
+         * @return The description.
+         */
+        public String getDescription() {
+            return "Average duration of each completed workout.";
+        }
+
+
+        /**
+         * Creates an accumulator with no workouts.
+         *
+         * @return The sum and count of the completed minutes, both 0.
+         */
+        public long[] createAccumulator() {
+            return new long[2];
+        }
+
+
+        /**
+         * Adds the minutes of a completed workout.
+         *
+         * @param accumulator The sum and count.
+         * @param workout     The workout.
+         * @param minutes     The parsed time taken.
+         */
+        public void accumulate(long[] accumulator, WorkoutData workout, int minutes) {
+            if (workout.isCompleted() && minutes != WorkoutColumns.MISSING_MINUTES) {
+                accumulator[0] = Math.addExact(accumulator[0], minutes);
+                accumulator[1]++;
+            }
+        }
+
+
+        /**
+         * Adds the sums and counts.
+         *
+         * @param earlier The sum and count of the earlier workouts.
+         * @param later   The sum and count of the later workouts.
+         * @return The earlier accumulator, with both added.
+         */
+        public long[] combine(long[] earlier, long[] later) {
+            earlier[0] = Math.addExact(earlier[0], later[0]);
+            earlier[1] += later[1];
+            return earlier;
+        }
+
+
+        /**
+         * Divides the sum by the count.
+         *
+         * @param accumulator The sum and count.
+         * @return The average in minutes.
+         */
+        public Double finish(long[] accumulator) {
+            return accumulator[1] == 0 ? 0.0 : accumulator[0] / (double) accumulator[1];
+        }
+
+
+        /**
+         * Formats the average with two decimals.
+         *
+         * @param result The average.
+         * @return The text.
+         */
+        public String format(Double result) {
+            return String.format("%.2f", result);
+        }
+    };
+
+    /**
+     * The minutes of every workout whose time can be read, completed or not.
+     */
+    public static final Metric<long[], Long> TOTAL_TIME = new Metric<long[], Long>() {
+
+        /**
+         * Returns the name of the metric.
+         *
+         * @return "totalTime".
+         */
+        public String getName() {
+            return "totalTime";
+        }
+
+
+        /**
+         * Returns the label of the metric.
+         *
+         * @return The label.
+         */
+        public String getLabel() {
+            return "Total Time Spent Exercising (minutes)";
+        }
+
+
+        /**
+         * Returns what the metric represents.
+         *
+         * @return The description.
+         */
+        public String getDescription() {
+            return "Total time spent on all workouts.";
+        }
+
+
+        /**
+         * Creates an accumulator with no workouts.
+         *
+         * @return The sum of the minutes, 0.
+         */
+        public long[] createAccumulator() {
+            return new long[1];
+        }
+
+
+        /**
+         * Adds the minutes of a workout.
+         *
+         * @param accumulator The sum.
+         * @param workout     The workout.
+         * @param minutes     The parsed time taken.
+         */
+        public void accumulate(long[] accumulator, WorkoutData workout, int minutes) {
+            if (minutes != WorkoutColumns.MISSING_MINUTES) {
+                accumulator[0] = Math.addExact(accumulator[0], minutes);
+            }
+        }
+
+
+        /**
+         * Adds the sums.
+         *
+         * @param earlier The sum of the earlier workouts.
+         * @param later   The sum of the later workouts.
+         * @return The earlier accumulator, with both added.
+         * @throws ArithmeticException if the sum overflows a long.
+         */
+        public long[] combine(long[] earlier, long[] later) {
+            earlier[0] = Math.addExact(earlier[0], later[0]);
+            return earlier;
+        }
+
+
+        /**
+         * Returns the sum.
+         *
+         * @param accumulator The sum.
+         * @return The total in minutes.
+         */
+        public Long finish(long[] accumulator) {
+            return accumulator[0];
+        }
+
+
+        /**
+         * Formats the total as a whole number.
+         *
+         * @param result The total.
+         * @return The text.
+         */
+        public String format(Long result) {
+            return String.valueOf(result);
+        }
+    };
+
+    /**
+     * The completed workouts as a percentage of the planned workouts of the
+     * program (FitnessMetricsCalculator.TOTAL_PLANNED_WORKOUTS).
+     */
+    public static final Metric<long[], Double> CONSISTENCY_SCORE =
+            consistencyScore(FitnessMetricsCalculator.TOTAL_PLANNED_WORKOUTS);
+
+    /**
+     * The workout with the longest time that can be read, with ties broken by
+     * FitnessMetricsCalculator.isBetterPersonalBest, as "45 minutes on Day 12";
+     * "No data available" if no time can be read.
+     */
+    public static final Metric<Best, String> PERSONAL_BEST = new Metric<Best, String>() {
+
+        /**
+         * Returns the name of the metric.
+         *
+         * @return "personalBest".
+         */
+        public String getName() {
+            return "personalBest";
+        }
+
+
+        /**
+         * Returns the label of the metric.
+         *
+         * @return The label.
+         */
+        public String getLabel() {
+            return "Longest Workout (minutes)";
+        }
+
+
+        /**
+         * Returns what the metric represents.
+         *
+         * @return The description.
+         */
+        public String getDescription() {
+            return "Longest time spent on a single workout.";
+        }
+
+
+        /**
+         * Creates an accumulator with no workouts.
+         *
+         * @return The empty accumulator.
+         */
+        public Best createAccumulator() {
+            return new Best();
+        }
+
+
+        /**
+         * Keeps the workout if its time can be read and it beats the longest so far.
+         *
+         * @param accumulator The longest workout so far.
+         * @param workout     The workout.
+         * @param minutes     The parsed time taken.
+         */
+        public void accumulate(Best accumulator, WorkoutData workout, int minutes) {
+            if (minutes != WorkoutColumns.MISSING_MINUTES
+                    && FitnessMetricsCalculator.isBetterPersonalBest(workout, minutes, accumulator.best,
+                            accumulator.minutes)) {
+                accumulator.best = workout;
+                accumulator.minutes = minutes;
+            }
+        }
+
+
+        /**
+         * Keeps the better of the two workouts by the tie-break rule, which
+         * gives the same result in either order.
+         *
+         * @param earlier The longest of the earlier workouts.
+         * @param later   The longest of the later workouts.
+         * @return The earlier accumulator, with the longest of both.
+         */
+        public Best combine(Best earlier, Best later) {
+            if (later.best != null && FitnessMetricsCalculator.isBetterPersonalBest(later.best, later.minutes,
+                    earlier.best, earlier.minutes)) {
+                earlier.best = later.best;
+                earlier.minutes = later.minutes;
+            }
+            return earlier;
+        }
+
+
+        /**
+         * Describes the longest workout.
+         *
+         * @param accumulator The longest workout.
+         * @return The personal best (e.g., "75 minutes on Day 12").
+         */
+        public String finish(Best accumulator) {
+            if (accumulator.best == null) {
+                return "No data available";
+            }
+            return String.format("%s minutes on %s", accumulator.best.getTimeTaken(), accumulator.best.getDay());
+        }
+
+
+        /**
+         * Returns the description as it is.
+         *
+         * @param result The personal best.
+         * @return The text.
+         */
+        public String format(String result) {
+            return result;
+        }
+    };
+
+    // The metrics, in the order of the Fitness Summary
+    private static final List<Metric<?, ?>> METRICS = List.of(AVERAGE_TIME, TOTAL_TIME, CONSISTENCY_SCORE,
+            PERSONAL_BEST);
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private StandardMetrics() {
+    }
+
+
+    /**
+     * Returns the standard metrics.
+     *
+     * @return An unmodifiable list of the metrics, in the order of the Fitness Summary.
+     */
+    public static List<Metric<?, ?>> getMetrics() {
+        return METRICS;
+    }
+
+
+    /**
+     * Creates a consistency score over another number of planned workouts.
+     *
+     * @param totalPlannedWorkouts The number of planned workouts.
+     * @return The completed workouts as a percentage of totalPlannedWorkouts.
+     * @throws IllegalArgumentException if totalPlannedWorkouts is zero.
+     */
+    public static Metric<long[], Double> consistencyScore(final int totalPlannedWorkouts) {
+        if (totalPlannedWorkouts == 0) {
+            throw new IllegalArgumentException("Total planned workouts must not be zero");
+        }
+        return new Metric<long[], Double>() {
+
+            /**
+             * Returns the name of the metric.
+             *
+             * @return "consistencyScore".
+             */
+            public String getName() {
+                return "consistencyScore";
+            }
+
+
+            /**
+             * Returns the label of the metric.
+             *
+             * @return The label.
+             */
+            public String getLabel() {
+                return "Consistency Score (%)";
+            }
+
+
+            /**
+             * Returns what the metric represents.
+             *
+             * @return The description.
+             */
+            public String getDescription() {
+                return "Percentage of planned workouts that were completed.";
+            }
+
+
+            /**
+             * Creates an accumulator with no workouts.
+             *
+             * @return The count of completed workouts, 0.
+             */
+            public long[] createAccumulator() {
+                return new long[1];
+            }
+
+
+            /**
+             * Counts a completed workout.
+             *
+             * @param accumulator The count.
+             * @param workout     The workout.
+             * @param minutes     The parsed time taken (not used).
+             */
+            public void accumulate(long[] accumulator, WorkoutData workout, int minutes) {
+                if (workout.isCompleted()) {
+                    accumulator[0]++;
+                }
+            }
+
+
+            /**
+             * Adds the counts.
+             *
+             * @param earlier The count of the earlier workouts.
+             * @param later   The count of the later workouts.
+             * @return The earlier accumulator, with both added.
+             */
+            public long[] combine(long[] earlier, long[] later) {
+                earlier[0] += later[0];
+                return earlier;
+            }
+
+
+            /**
+             * Divides the count by the planned workouts.
+             *
+             * @param accumulator The count.
+             * @return The consistency score as a percentage.
+             */
+            public Double finish(long[] accumulator) {
+                return (accumulator[0] / (double) totalPlannedWorkouts) * 100;
+            }
+
+
+            /**
+             * Formats the score with two decimals.
+             *
+             * @param result The score.
+             * @return The text.
+             */
+            public String format(Double result) {
+                return String.format("%.2f", result);
+            }
+        };
+    }
+
+
+    /**
+     * The accumulator of PERSONAL_BEST: the longest workout whose time can be
+     * read.
+     */
+    public static final class Best {
+
+        private WorkoutData best;    // The longest workout, or null if no time can be read
+        private int minutes;         // The minutes of the longest workout
+
+        /**
+         * Constructor to initialize an accumulator with no workouts.
+         */
+        Best() {
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package crossfunctionalfitness.core;
+
+import java.util.Arrays;
+
+/**
+ * StreakTracker keeps the completed days of one member's program as runs of
+ * consecutive completed days (run-length encoded): a run is stored as its
+ * first and last day, sorted by day. Saving a day updates the runs in place,
+ * merging, extending, shrinking or splitting at most two of them, so the
+ * streaks never have to be found by reading every day again.
+ *
+ * The current streak is the run that ends at the latest recorded day, so it
+ * is 0 once a day after the last run is saved as not completed. The current
+ * and longest streak, and the number of completed and missed days, are kept
+ * up to date by every change and read in constant time. A missed day is a day
+ * up to the latest recorded day that is not completed; the gaps between the
+ * runs are the missed days. Instances are not thread-safe.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class StreakTracker {
+
+    // Runs the tracker holds before it grows
+    private static final int INITIAL_RUNS = 8;
+
+    private int[] runStarts = new int[INITIAL_RUNS]; // First day of each run, in day order
+    private int[] runEnds = new int[INITIAL_RUNS];   // Last day of each run
+    private int runCount;        // Number of runs
+    private int lastDay;         // The latest recorded day, or 0 if none is recorded
+    private int completedDays;   // Days in all the runs
+    private int longestStreak;   // Days in the longest run
+
+    /**
+     * Constructor to initialize a StreakTracker with no recorded days.
+     */
+    public StreakTracker() {
+    }
+
+
+    /**
+     * Records whether the workout of a day was completed. Recording a day
+     * that was already recorded replaces it; the latest recorded day never
+     * moves back.
+     *
+     * @param day         The day number, from 1.
+     * @param isCompleted Whether the workout was completed.
+     * @throws IllegalArgumentException if the day is not positive.
+     */
+    public void set(int day, boolean isCompleted) {
+        if (day < 1) {
+            throw new IllegalArgumentException("Day must be at least 1: " + day);
+        }
+        lastDay = Math.max(lastDay, day);
+        int run = findRun(day); // The last run starting on or before the day, or -1
+        boolean inRun = run >= 0 && day <= runEnds[run];
+        if (isCompleted && !inRun) {
+            addDay(run, day);
+        } else if (!isCompleted && inRun) {
+            removeDay(run, day);
+        }
+    }
+
+
+    /**
+     * Returns the number of consecutive completed days ending at the latest
+     * recorded day.
+     *
+     * @return The current streak in days, or 0 if the latest recorded day was not completed.
+     */
+    public int getCurrentStreak() {
+        if (runCount == 0 || runEnds[runCount - 1] != lastDay) {
+            return 0;
+        }
+        return runEnds[runCount - 1] - runStarts[runCount - 1] + 1;
+    }
+
+
+    /**
+     * Returns the largest number of consecutive completed days.
+     *
+     * @return The longest streak in days, or 0 if no day was completed.
+     */
+    public int getLongestStreak() {
+        return longestStreak;
+    }
+
+
+    /**
+     * Returns the number of completed days.
+     *
+     * @return The number of days.
+     */
+    public int getCompletedDays() {
+        return completedDays;
+    }
+
+
+    /**
+     * Returns the number of days up to the latest recorded day that were not
+     * completed.
+     *
+     * @return The number of days.
+     */
+    public int getMissedDays() {
+        return lastDay - completedDays;
+    }
+
+
+    /**
+     * Returns the latest recorded day.
+     *
+     * @return The day number, or 0 if no day is recorded.
+     */
+    public int getLastDay() {
+        return lastDay;
+    }
+
+
+    /**
+     * Returns the number of runs of consecutive completed days.
+     *
+     * @return The number of runs.
+     */
+    public int getRunCount() {
+        return runCount;
+    }
+
+
+    /**
+     * Returns the first day of a run.
+     *
+     * @param run The run, from 0 to getRunCount() - 1 in day order.
+     * @return The day number.
+     * @throws IndexOutOfBoundsException if there is no such run.
+     */
+    public int getRunStart(int run) {
+        checkRun(run);
+        return runStarts[run];
+    }
+
+
+    /**
+     * Returns the last day of a run.
+     *
+     * @param run The run, from 0 to getRunCount() - 1 in day order.
+     * @return The day number.
+     * @throws IndexOutOfBoundsException if there is no such run.
+     */
+    public int getRunEnd(int run) {
+        checkRun(run);
+        return runEnds[run];
+    }
+
+
+    /**
+     * Returns a copy of the tracker, which later changes to either do not
+     * affect.
+     *
+     * @return The copy.
+     */
+    public StreakTracker copy() {
+        StreakTracker copy = new StreakTracker();
+        copy.runStarts = Arrays.copyOf(runStarts, Math.max(INITIAL_RUNS, runCount));
+        copy.runEnds = Arrays.copyOf(runEnds, copy.runStarts.length);
+        copy.runCount = runCount;
+        copy.lastDay = lastDay;
+        copy.completedDays = completedDays;
+        copy.longestStreak = longestStreak;
+        return copy;
+    }
+
+
+    /**
+     * Adds a completed day that is in no run, joining it to the runs that end
+     * just before or start just after it.
+     *
+     * @param run The last run starting before the day, or -1 if there is none.
+     * @param day The day number.
+     */
+    private void addDay(int run, int day) {
+        boolean joinsPrevious = run >= 0 && runEnds[run] == day - 1;
+        boolean joinsNext = run + 1 < runCount && runStarts[run + 1] == day + 1;
+        int changed; // The run that now holds the day
+        if (joinsPrevious && joinsNext) {
+            runEnds[run] = runEnds[run + 1]; // The day closes the gap between the two runs
+            removeRun(run + 1);
+            changed = run;
+        } else if (joinsPrevious) {
+            runEnds[run] = day;
+            changed = run;
+        } else if (joinsNext) {
+            runStarts[run + 1] = day;
+            changed = run + 1;
+        } else {
+            insertRun(run + 1, day, day);
+            changed = run + 1;
+        }
+        completedDays++;
+        longestStreak = Math.max(longestStreak, runEnds[changed] - runStarts[changed] + 1);
+    }
+
+
+    /**
+     * Removes a day from the run that holds it, splitting the run if the day
+     * is inside it.
+     *
+     * @param run The run that holds the day.
+     * @param day The day number.
+     */
+    private void removeDay(int run, int day) {
+        int length = runEnds[run] - runStarts[run] + 1; // Length of the run before the change
+        if (length == 1) {
+            removeRun(run);
+        } else if (day == runStarts[run]) {
+            runStarts[run]++;
+        } else if (day == runEnds[run]) {
+            runEnds[run]--;
+        } else {
+            insertRun(run + 1, day + 1, runEnds[run]);
+            runEnds[run] = day - 1;
+        }
+        completedDays--;
+        if (length == longestStreak) {
+            // The longest run may have been shortened; the runs are few, so find it again
+            longestStreak = 0;
+            for (int i = 0; i < runCount; i++) {
+                longestStreak = Math.max(longestStreak, runEnds[i] - runStarts[i] + 1);
+            }
+        }
+    }
+
+
+    /**
+     * Finds the last run that starts on or before a day.
+     *
+     * @param day The day number.
+     * @return The run, or -1 if every run starts after the day.
+     */
+    private int findRun(int day) {
+        int low = 0;
+        int high = runCount - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (runStarts[middle] <= day) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return high;
+    }
+
+
+    /**
+     * Inserts a run, moving the later runs up.
+     *
+     * @param run   The position of the new run.
+     * @param start The first day of the run.
+     * @param end   The last day of the run.
+     */
+    private void insertRun(int run, int start, int end) {
+        if (runCount == runStarts.length) {
+            runStarts = Arrays.copyOf(runStarts, runCount * 2);
+            runEnds = Arrays.copyOf(runEnds, runCount * 2);
+        }
+        System.arraycopy(runStarts, run, runStarts, run + 1, runCount - run);
+        System.arraycopy(runEnds, run, runEnds, run + 1, runCount - run);
+        runStarts[run] = start;
+        runEnds[run] = end;
+        runCount++;
+    }
+
+
+    /**
+     * Removes a run, moving the later runs down.
+     *
+     * @param run The position of the run.
+     */
+    private void removeRun(int run) {
+        System.arraycopy(runStarts, run + 1, runStarts, run, runCount - run - 1);
+        System.arraycopy(runEnds, run + 1, runEnds, run, runCount - run - 1);
+        runCount--;
+    }
+
+
+    /**
+     * Checks that a run exists.
+     *
+     * @param run The run.
+     * @throws IndexOutOfBoundsException if there is no such run.
+     */
+    private void checkRun(int run) {
+        if (run < 0 || run >= runCount) {
+            throw new IndexOutOfBoundsException("Run " + run + " of " + runCount);
+        }
+    }
+}
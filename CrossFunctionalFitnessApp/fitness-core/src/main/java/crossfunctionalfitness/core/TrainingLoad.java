@@ -0,0 +1,330 @@
+package crossfunctionalfitness.core;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import crossfunctionalfitness.instrumentation.Instrumentation;
+import crossfunctionalfitness.instrumentation.OperationTimer;
+
+/**
+ * TrainingLoad tracks the training load of one member: the energy of each
+ * day's workout (see CalorieEstimator) and its exponentially weighted moving
+ * averages over 7 days (the acute load) and 28 days (the chronic load). Each
+ * day's average is
+ *
+ *     average(day) = w x load(day) + (1 - w) x average(day - 1),  w = 2 / (N + 1)
+ *
+ * with days that have no workout counted as no load. The ratio of the acute to
+ * the chronic load shows whether a member is suddenly training much more (well
+ * above 1) or less (well below 1) than they are used to.
+ *
+ * The averages of every day are kept, so setting a day only works out the
+ * averages from that day on: saving the next day takes one step, and changing
+ * an earlier day takes one step per later day. The results are the same, to
+ * the last bit, as computing the days in order. Instances are not thread-safe;
+ * computeAll works out many members at once, in parallel.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class TrainingLoad {
+
+    // Days of the acute (short-term) average
+    public static final int ACUTE_DAYS = 7;
+
+    // Days of the chronic (long-term) average
+    public static final int CHRONIC_DAYS = 28;
+
+    // Weights of a day's load in the averages
+    private static final double ACUTE_WEIGHT = 2.0 / (ACUTE_DAYS + 1);
+    private static final double CHRONIC_WEIGHT = 2.0 / (CHRONIC_DAYS + 1);
+
+    // Rows a task of computeAll works out without splitting them further
+    private static final int TASK_ROWS = 8192;
+
+    // Days the arrays hold before they grow
+    private static final int INITIAL_DAYS = 32;
+
+    // Timer of the computation of many members
+    private static final OperationTimer COMPUTE_ALL_TIMER = Instrumentation.timer("TrainingLoad.computeAll");
+
+    private double[] loads = new double[INITIAL_DAYS];   // Energy of each day's workout in kcal, by day - 1
+    private double[] acute = new double[INITIAL_DAYS];   // Acute load of each day, by day - 1
+    private double[] chronic = new double[INITIAL_DAYS]; // Chronic load of each day, by day - 1
+    private int lastDay;                                 // The latest set day, or 0 if none is set
+
+    /**
+     * Constructor to initialize a TrainingLoad with no days.
+     */
+    public TrainingLoad() {
+    }
+
+
+    /**
+     * Computes the training load of one member's workouts.
+     *
+     * @param weightKg The member's weight in kilograms.
+     * @param workouts The workouts, whose days are named "Day N"; others are skipped.
+     * @return The training load.
+     */
+    public static TrainingLoad compute(double weightKg, List<WorkoutData> workouts) {
+        TrainingLoad load = new TrainingLoad();
+        for (WorkoutData workout : workouts) {
+            int day = WorkoutColumns.parseDay(workout.getDay());
+            if (day >= 1) {
+                load.set(day, CalorieEstimator.estimateCalories(weightKg, day, workout));
+            }
+        }
+        return load;
+    }
+
+
+    /**
+     * Computes the training load of every member of a set of workout records.
+     * The records of each member must be next to each other, as
+     * WorkoutColumns.addAll adds them; the members are split into tasks that
+     * run in parallel on the pool. A record without a day number is skipped.
+     *
+     * @param columns   The workout records, with member ids from 0.
+     * @param weightsKg The weight of each member in kilograms, by member id.
+     * @param pool      The pool that runs the tasks.
+     * @return The training load of each member by member id; a member without records has no days.
+     * @throws IllegalArgumentException if a member id has no weight.
+     */
+    public static TrainingLoad[] computeAll(WorkoutColumns columns, double[] weightsKg, ForkJoinPool pool) {
+        long start = COMPUTE_ALL_TIMER.start();
+        try {
+            TrainingLoad[] loads = new TrainingLoad[weightsKg.length];
+            pool.invoke(new LoadTask(columns, weightsKg, loads, 0, columns.size()));
+            for (int member = 0; member < loads.length; member++) {
+                if (loads[member] == null) {
+                    loads[member] = new TrainingLoad();
+                }
+            }
+            return loads;
+        } finally {
+            COMPUTE_ALL_TIMER.stop(start);
+        }
+    }
+
+
+    /**
+     * Sets the energy of a day's workout and works out the averages from that
+     * day on. Days between the latest set day and this one have no load.
+     *
+     * @param day  The day number, from 1.
+     * @param load The energy in kcal; 0 for a day without a workout.
+     * @throws IllegalArgumentException if the day is not positive or the load is negative or not a number.
+     */
+    public void set(int day, double load) {
+        if (day < 1) {
+            throw new IllegalArgumentException("Day must be at least 1: " + day);
+        }
+        if (!(load >= 0) || Double.isInfinite(load)) {
+            throw new IllegalArgumentException("Load must be a non-negative number: " + load);
+        }
+        if (day > loads.length) {
+            int length = Math.max(day, loads.length * 2);
+            loads = Arrays.copyOf(loads, length);
+            acute = Arrays.copyOf(acute, length);
+            chronic = Arrays.copyOf(chronic, length);
+        }
+        loads[day - 1] = load;
+        int from = Math.min(day, lastDay + 1); // The first day whose averages change
+        lastDay = Math.max(lastDay, day);
+
+        // Work out the averages of every day from the first changed one, in day order
+        for (int d = from; d <= lastDay; d++) {
+            double previousAcute = d == 1 ? 0.0 : acute[d - 2];
+            double previousChronic = d == 1 ? 0.0 : chronic[d - 2];
+            acute[d - 1] = ACUTE_WEIGHT * loads[d - 1] + (1 - ACUTE_WEIGHT) * previousAcute;
+            chronic[d - 1] = CHRONIC_WEIGHT * loads[d - 1] + (1 - CHRONIC_WEIGHT) * previousChronic;
+        }
+    }
+
+
+    /**
+     * Returns the latest set day.
+     *
+     * @return The day number, or 0 if no day is set.
+     */
+    public int getLastDay() {
+        return lastDay;
+    }
+
+
+    /**
+     * Returns the energy of a day's workout.
+     *
+     * @param day The day number.
+     * @return The energy in kcal, or 0.0 if the day is not set.
+     */
+    public double getLoad(int day) {
+        return day >= 1 && day <= lastDay ? loads[day - 1] : 0.0;
+    }
+
+
+    /**
+     * Returns the energy of all the workouts.
+     *
+     * @return The energy in kcal.
+     */
+    public double getTotalLoad() {
+        double total = 0;
+        for (int day = 1; day <= lastDay; day++) {
+            total += loads[day - 1];
+        }
+        return total;
+    }
+
+
+    /**
+     * Returns the acute (7-day) load as of a day.
+     *
+     * @param day The day number.
+     * @return The average in kcal per day, or 0.0 if the day is not set.
+     */
+    public double getAcuteLoad(int day) {
+        return day >= 1 && day <= lastDay ? acute[day - 1] : 0.0;
+    }
+
+
+    /**
+     * Returns the chronic (28-day) load as of a day.
+     *
+     * @param day The day number.
+     * @return The average in kcal per day, or 0.0 if the day is not set.
+     */
+    public double getChronicLoad(int day) {
+        return day >= 1 && day <= lastDay ? chronic[day - 1] : 0.0;
+    }
+
+
+    /**
+     * Returns the acute (7-day) load as of the latest set day.
+     *
+     * @return The average in kcal per day, or 0.0 if no day is set.
+     */
+    public double getAcuteLoad() {
+        return getAcuteLoad(lastDay);
+    }
+
+
+    /**
+     * Returns the chronic (28-day) load as of the latest set day.
+     *
+     * @return The average in kcal per day, or 0.0 if no day is set.
+     */
+    public double getChronicLoad() {
+        return getChronicLoad(lastDay);
+    }
+
+
+    /**
+     * Returns the ratio of the acute to the chronic load as of the latest set
+     * day.
+     *
+     * @return The ratio, or 0.0 if there is no chronic load.
+     */
+    public double getAcuteChronicRatio() {
+        double chronicLoad = getChronicLoad();
+        return chronicLoad == 0 ? 0.0 : getAcuteLoad() / chronicLoad;
+    }
+
+
+    /**
+     * Returns a copy of the training load, which later changes to either do
+     * not affect.
+     *
+     * @return The copy.
+     */
+    public TrainingLoad copy() {
+        TrainingLoad copy = new TrainingLoad();
+        int length = Math.max(INITIAL_DAYS, lastDay);
+        copy.loads = Arrays.copyOf(loads, length);
+        copy.acute = Arrays.copyOf(acute, length);
+        copy.chronic = Arrays.copyOf(chronic, length);
+        copy.lastDay = lastDay;
+        return copy;
+    }
+
+
+    /**
+     * Works out the training load of the members of a range of rows, splitting
+     * the range at a member boundary while it is larger than TASK_ROWS, so no
+     * two tasks ever set the days of the same member.
+     */
+    private static final class LoadTask extends RecursiveAction {
+
+        private final WorkoutColumns columns; // The workout records
+        private final double[] weightsKg;     // The weight of each member, by member id
+        private final TrainingLoad[] loads;   // The training load of each member, by member id
+        private final int from;               // The first row (inclusive)
+        private final int to;                 // The last row (exclusive)
+
+        /**
+         * Constructor to initialize a LoadTask.
+         *
+         * @param columns   The workout records.
+         * @param weightsKg The weight of each member in kilograms, by member id.
+         * @param loads     The training load of each member, filled in by the task.
+         * @param from      The first row (inclusive), the first of its member.
+         * @param to        The last row (exclusive), the last of its member.
+         */
+        LoadTask(WorkoutColumns columns, double[] weightsKg, TrainingLoad[] loads, int from, int to) {
+            this.columns = columns;
+            this.weightsKg = weightsKg;
+            this.loads = loads;
+            this.from = from;
+            this.to = to;
+        }
+
+
+        /**
+         * Works out the rows, or splits them into two tasks.
+         */
+        @Override
+        protected void compute() {
+            int middle = (from + to) >>> 1;
+            while (middle < to && middle > from && columns.getMember(middle) == columns.getMember(middle - 1)) {
+                middle++; // Move the split to the first row of a member
+            }
+            if (to - from <= TASK_ROWS || middle == to) {
+                computeRows();
+            } else {
+                invokeAll(new LoadTask(columns, weightsKg, loads, from, middle),
+                        new LoadTask(columns, weightsKg, loads, middle, to));
+            }
+        }
+
+
+        /**
+         * Sets the days of the rows in the training load of their members.
+         *
+         * @throws IllegalArgumentException if a member id has no weight.
+         */
+        private void computeRows() {
+            for (int row = from; row < to; row++) {
+                int member = columns.getMember(row);
+                int day = columns.getDay(row);
+                if (member < 0 || member >= weightsKg.length) {
+                    throw new IllegalArgumentException("No weight for member " + member);
+                }
+                if (day < 1) {
+                    continue;
+                }
+                if (loads[member] == null) {
+                    loads[member] = new TrainingLoad();
+                }
+                int minutes = columns.getMinutes(row);
+                if (columns.isCompleted(row) && minutes != WorkoutColumns.MISSING_MINUTES) {
+                    loads[member].set(day, CalorieEstimator.estimateCalories(weightsKg[member], day, minutes));
+                } else {
+                    loads[member].set(day, 0.0); // Not completed, or the time cannot be read
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package crossfunctionalfitness.core;
+
+/**
+ * Represents a saved user profile: first name, last name, age, weight and
+ * fitness level. ProfileStore in the storage module reads and writes the
+ * profile file, so that the profile form, the API server and other parts of
+ * the program share one profile store.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class UserProfile {
+
+    private final String firstName;     // The first name of the user
+    private final String lastName;      // The last name of the user
+    private final String age;           // The age of the user
+    private final String weight;        // The weight of the user in lbs
+    private final String fitnessLevel;  // The fitness level (Beginner, Novice, Intermediate, Advanced, Expert)
+
+    /**
+     * Constructor to initialize a UserProfile object.
+     *
+     * @param firstName    The first name of the user.
+     * @param lastName     The last name of the user.
+     * @param age          The age of the user.
+     * @param weight       The weight of the user in lbs.
+     * @param fitnessLevel The fitness level of the user.
+     */
+    public UserProfile(String firstName, String lastName, String age, String weight, String fitnessLevel) {
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.age = age;
+        this.weight = weight;
+        this.fitnessLevel = fitnessLevel;
+    }
+
+
+    /**
+     * Returns the first name of the user.
+     *
+     * @return The first name of the user.
+     */
+    public String getFirstName() {
+        return firstName;
+    }
+
+
+    /**
+     * Returns the last name of the user.
+     *
+     * @return The last name of the user.
+     */
+    public String getLastName() {
+        return lastName;
+    }
+
+
+    /**
+     * Returns the age of the user.
+     *
+     * @return The age of the user.
+     */
+    public String getAge() {
+        return age;
+    }
+
+
+    /**
+     * Returns the weight of the user.
+     *
+     * @return The weight of the user in lbs.
+     */
+    public String getWeight() {
+        return weight;
+    }
+
+
+    /**
+     * Returns the fitness level of the user.
+     *
+     * @return The fitness level of the user.
+     */
+    public String getFitnessLevel() {
+        return fitnessLevel;
+    }
+
+
+    /**
+     * Returns the member name used to identify the user (first and last name).
+     *
+     * @return The member name.
+     */
+    public String getMemberName() {
+        return firstName + " " + lastName;
+    }
+}
@@ -0,0 +1,163 @@
+package crossfunctionalfitness.core;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * VectorMetricKernels implements the metric kernels with the Vector API
+ * (jdk.incubator.vector). Each step loads a full vector of minutes and the
+ * matching completed flags straight from the off-heap columns, builds lane
+ * masks for "valid minutes" and "completed", and accumulates without branches.
+ * Sums are widened to long lanes before they are added, so the results are
+ * exactly those of ScalarMetricKernels. Rows left over at the end of a range
+ * are handled by the scalar kernels.
+ *
+ * This class needs the jdk.incubator.vector module at compile and run time;
+ * MetricKernels.get() only loads it when the module is present.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class VectorMetricKernels implements MetricKernels {
+
+    // Widest int vector supported by the CPU
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+
+    // Long vector of the same size, holding half as many lanes
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+
+    // Byte vector holding at least one completed flag per int lane (64 bits at minimum)
+    private static final VectorSpecies<Byte> BYTES = VectorShape.forBitSize(Math.max(64, INTS.length() * 8))
+            .withLanes(byte.class);
+
+    // Rows needed so that both an int and a byte vector can be loaded in full
+    private static final int STEP = Math.max(INTS.length(), BYTES.length());
+
+    // Scalar kernels for the rows left over at the end of a range
+    private final ScalarMetricKernels tail = new ScalarMetricKernels();
+
+    /**
+     * Sums the minutes of the rows in a range, skipping MISSING_MINUTES.
+     *
+     * @param columns       The workout columns.
+     * @param from          The first row (inclusive).
+     * @param to            The last row (exclusive).
+     * @param completedOnly Whether only completed workouts are summed.
+     * @return The sum of the minutes.
+     */
+    public long sumMinutes(WorkoutColumns columns, int from, int to, boolean completedOnly) {
+        ByteBuffer minutes = columns.minutesColumn();
+        ByteBuffer completed = columns.completedColumn();
+        LongVector sum = LongVector.zero(LONGS);
+        IntVector zero = IntVector.zero(INTS);
+
+        int row = from;
+        for (; row <= to - STEP; row += INTS.length()) {
+            IntVector values = IntVector.fromByteBuffer(INTS, minutes, row * Integer.BYTES, ByteOrder.nativeOrder());
+            VectorMask<Integer> mask = laneMask(values, completed, row, completedOnly);
+
+            // Widen the selected lanes to long before adding them
+            IntVector selected = zero.blend(values, mask);
+            for (int part = 0; part < INTS.length() / LONGS.length(); part++) {
+                sum = sum.add((LongVector) selected.convertShape(VectorOperators.I2L, LONGS, part));
+            }
+        }
+        return sum.reduceLanes(VectorOperators.ADD) + tail.sumMinutes(columns, row, to, completedOnly);
+    }
+
+
+    /**
+     * Counts the rows in a range with valid minutes (not MISSING_MINUTES).
+     *
+     * @param columns       The workout columns.
+     * @param from          The first row (inclusive).
+     * @param to            The last row (exclusive).
+     * @param completedOnly Whether only completed workouts are counted.
+     * @return The number of rows.
+     */
+    public int countMinutes(WorkoutColumns columns, int from, int to, boolean completedOnly) {
+        ByteBuffer minutes = columns.minutesColumn();
+        ByteBuffer completed = columns.completedColumn();
+        int count = 0;
+
+        int row = from;
+        for (; row <= to - STEP; row += INTS.length()) {
+            IntVector values = IntVector.fromByteBuffer(INTS, minutes, row * Integer.BYTES, ByteOrder.nativeOrder());
+            count += laneMask(values, completed, row, completedOnly).trueCount();
+        }
+        return count + tail.countMinutes(columns, row, to, completedOnly);
+    }
+
+
+    /**
+     * Counts the completed workouts in a range.
+     *
+     * @param columns The workout columns.
+     * @param from    The first row (inclusive).
+     * @param to      The last row (exclusive).
+     * @return The number of completed workouts.
+     */
+    public int countCompleted(WorkoutColumns columns, int from, int to) {
+        ByteBuffer completed = columns.completedColumn();
+        int count = 0;
+
+        int row = from;
+        for (; row <= to - BYTES.length(); row += BYTES.length()) {
+            ByteVector flags = ByteVector.fromByteBuffer(BYTES, completed, row, ByteOrder.nativeOrder());
+            count += flags.compare(VectorOperators.NE, (byte) 0).trueCount();
+        }
+        return count + tail.countCompleted(columns, row, to);
+    }
+
+
+    /**
+     * Finds the largest valid minutes in a range.
+     *
+     * @param columns The workout columns.
+     * @param from    The first row (inclusive).
+     * @param to      The last row (exclusive).
+     * @return The largest minutes, or WorkoutColumns.MISSING_MINUTES if no row has valid minutes.
+     */
+    public int maxMinutes(WorkoutColumns columns, int from, int to) {
+        // MISSING_MINUTES is below every valid time, so the lanes need no mask
+        ByteBuffer minutes = columns.minutesColumn();
+        IntVector max = IntVector.broadcast(INTS, WorkoutColumns.MISSING_MINUTES);
+
+        int row = from;
+        for (; row <= to - INTS.length(); row += INTS.length()) {
+            max = max.max(IntVector.fromByteBuffer(INTS, minutes, row * Integer.BYTES, ByteOrder.nativeOrder()));
+        }
+        return Math.max(max.reduceLanes(VectorOperators.MAX), tail.maxMinutes(columns, row, to));
+    }
+
+
+    /**
+     * Builds the mask of the lanes to include: lanes with valid minutes and,
+     * if requested, a completed workout.
+     *
+     * @param values        The minutes of the rows.
+     * @param completed     The completed column.
+     * @param row           The first row of the vector.
+     * @param completedOnly Whether only completed workouts are included.
+     * @return The mask of the lanes to include.
+     */
+    private static VectorMask<Integer> laneMask(IntVector values, ByteBuffer completed, int row,
+            boolean completedOnly) {
+        VectorMask<Integer> mask = values.compare(VectorOperators.NE, WorkoutColumns.MISSING_MINUTES);
+        if (completedOnly) {
+            // Widen one completed flag per int lane
+            ByteVector flags = ByteVector.fromByteBuffer(BYTES, completed, row, ByteOrder.nativeOrder());
+            IntVector done = (IntVector) flags.convertShape(VectorOperators.B2I, INTS, 0);
+            mask = mask.and(done.compare(VectorOperators.NE, 0));
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,203 @@
+package crossfunctionalfitness.core;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Represents the structured workout for one day of the program. A workout is
+ * an ordered list of WorkoutBlocks (warm up, EMOM, AMRAP, For Time, stretching...)
+ * parsed from the day's free-text description by WorkoutParser. Volume and
+ * duration totals are computed once when the workout is built, so bulk analytics
+ * over many workouts only read precomputed fields.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class Workout {
+
+    private final int day;                      // The day number of the workout
+    private final List<WorkoutBlock> blocks;    // The blocks of the workout, in program order
+    private final int totalReps;                // Total prescribed repetitions
+    private final int totalDistanceMeters;      // Total prescribed distance in meters
+    private final int estimatedSeconds;         // Estimated duration in seconds
+
+    /**
+     * Constructor to initialize a Workout object.
+     * The volume and duration totals are computed from the blocks.
+     *
+     * @param day    The day number of the workout.
+     * @param blocks The blocks of the workout, in program order.
+     */
+    public Workout(int day, List<WorkoutBlock> blocks) {
+        this.day = day;
+        this.blocks = Collections.unmodifiableList(blocks);
+
+        int reps = 0;       // Running total of repetitions
+        int meters = 0;     // Running total of distance
+        int seconds = 0;    // Running total of estimated time
+
+        // Accumulate the totals of every block
+        for (WorkoutBlock block : blocks) {
+            reps += block.getTotalReps();
+            meters += block.getTotalDistanceMeters();
+            seconds += block.getEstimatedSeconds();
+        }
+
+        this.totalReps = reps;
+        this.totalDistanceMeters = meters;
+        this.estimatedSeconds = seconds;
+    }
+
+
+    /**
+     * Returns the day number of the workout.
+     *
+     * @return The day number of the workout.
+     */
+    public int getDay() {
+        return day;
+    }
+
+
+    /**
+     * Returns the blocks of the workout.
+     *
+     * @return An unmodifiable list of blocks, in program order.
+     */
+    public List<WorkoutBlock> getBlocks() {
+        return blocks;
+    }
+
+
+    /**
+     * Returns the total prescribed repetitions of the workout.
+     *
+     * @return The total prescribed repetitions.
+     */
+    public int getTotalReps() {
+        return totalReps;
+    }
+
+
+    /**
+     * Returns the total prescribed distance of the workout.
+     *
+     * @return The total prescribed distance in meters.
+     */
+    public int getTotalDistanceMeters() {
+        return totalDistanceMeters;
+    }
+
+
+    /**
+     * Returns the estimated duration of the workout, including warm up and stretching.
+     *
+     * @return The estimated duration in minutes.
+     */
+    public int getEstimatedMinutes() {
+        return (estimatedSeconds + 59) / 60;
+    }
+
+
+    /**
+     * Returns the total prescribed repetitions of one exercise across the workout.
+     *
+     * @param name The exercise name (e.g., "Burpees"); it is normalized before matching.
+     * @return The total prescribed repetitions of the exercise.
+     */
+    public int getReps(String name) {
+        String key = Exercise.normalize(name); // Normalize the name for matching
+        int reps = 0;
+
+        // Sum the matching exercises of every block, across its rounds
+        for (WorkoutBlock block : blocks) {
+            for (Exercise exercise : block.getExercises()) {
+                if (!exercise.isAlternative() && exercise.getKey().equals(key)) {
+                    reps += exercise.getReps() * block.getRounds();
+                }
+            }
+        }
+        return reps;
+    }
+
+
+    /**
+     * Returns the first block of the given type.
+     *
+     * @param type The block type to look for.
+     * @return The first block of that type, or null if there is none.
+     */
+    public WorkoutBlock findBlock(WorkoutBlock.Type type) {
+        for (WorkoutBlock block : blocks) {
+            if (block.getType() == type) {
+                return block;
+            }
+        }
+        return null;
+    }
+
+
+    /**
+     * Returns whether the workout contains a benchmark test.
+     *
+     * @return Whether the workout is a benchmark day.
+     */
+    public boolean isBenchmark() {
+        return findBlock(WorkoutBlock.Type.BENCHMARK) != null;
+    }
+
+
+    /**
+     * Returns whether the workout is a rest day (no work blocks).
+     *
+     * @return Whether the workout is a rest day.
+     */
+    public boolean isRestDay() {
+        for (WorkoutBlock block : blocks) {
+            if (block.getType().isWork()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    /**
+     * Renders the workout as display text. Each block is written as its heading
+     * followed by its exercises, one per indented line, with a blank line
+     * between blocks.
+     *
+     * @return The workout as display text.
+     */
+    public String render() {
+        StringBuilder text = new StringBuilder();
+
+        for (WorkoutBlock block : blocks) {
+            // Write the heading of the block
+            if (!block.getTitle().isEmpty()) {
+                text.append(block.getTitle()).append('\n');
+            }
+
+            // Write each exercise on its own indented line
+            for (Exercise exercise : block.getExercises()) {
+                if (exercise.isAlternative()) {
+                    text.append("       or\n");
+                }
+                text.append("   ").append(exercise.getText()).append('\n');
+            }
+            text.append('\n'); // Blank line between blocks
+        }
+        return text.toString().trim();
+    }
+
+
+    /**
+     * Returns a string representation of the workout.
+     *
+     * @return A string representation of the workout.
+     */
+    public String toString() {
+        return "Day " + day + ": " + blocks.size() + " blocks, " + totalReps + " reps, " + totalDistanceMeters
+                + "m, ~" + getEstimatedMinutes() + " mins";
+    }
+}
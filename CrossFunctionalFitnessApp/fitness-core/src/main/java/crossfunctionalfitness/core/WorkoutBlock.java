@@ -0,0 +1,217 @@
+package crossfunctionalfitness.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Represents one block of a day's workout, such as the warm up, an EMOM, an
+ * AMRAP, a "rounds for time" piece or the post-workout stretching. A block has
+ * a time domain (its Type), an optional duration in minutes, a number of rounds
+ * and the list of exercises prescribed within it.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class WorkoutBlock {
+
+    // Estimated time needed to perform a single repetition
+    public static final int SECONDS_PER_REP = 3;
+
+    // Estimated time needed to run one kilometer (6 min/km pace)
+    public static final int SECONDS_PER_KM = 360;
+
+    /**
+     * The time domain of a workout block.
+     */
+    public enum Type {
+        WARM_UP, STRETCHING, REST, MOBILITY, SKILL,
+        WORKOUT, EMOM, AMRAP, FOR_TIME, ROUNDS, BENCHMARK, BUY_IN, CASH_OUT,
+        NOTE;
+
+        /**
+         * Returns whether blocks of this type contain exercises that count
+         * towards the workout's volume, as opposed to fixed-length blocks like
+         * the warm up, stretching or rest.
+         *
+         * @return Whether this is a work block type.
+         */
+        public boolean isWork() {
+            return ordinal() >= WORKOUT.ordinal() && ordinal() <= CASH_OUT.ordinal();
+        }
+    }
+
+    private final Type type;                    // The time domain of the block
+    private final String title;                 // The heading of the block as written in the program
+    private final int minutes;                  // The duration or time cap in minutes, 0 if not given
+    private final int rounds;                   // The number of rounds, 1 if not given
+    private final List<Exercise> exercises;     // The exercises prescribed in the block
+
+    /**
+     * Constructor to initialize a WorkoutBlock object.
+     *
+     * @param type    The time domain of the block.
+     * @param title   The heading of the block.
+     * @param minutes The duration or time cap in minutes, 0 if not given.
+     * @param rounds  The number of rounds, 1 if not given.
+     */
+    public WorkoutBlock(Type type, String title, int minutes, int rounds) {
+        this.type = type;
+        this.title = title;
+        this.minutes = minutes;
+        this.rounds = Math.max(1, rounds);
+        this.exercises = new ArrayList<>();
+    }
+
+
+    /**
+     * Adds an exercise to the block. Used by the parser while building the block.
+     *
+     * @param exercise The exercise to add.
+     */
+    void addExercise(Exercise exercise) {
+        exercises.add(exercise);
+    }
+
+
+    /**
+     * Returns the time domain of the block.
+     *
+     * @return The time domain of the block.
+     */
+    public Type getType() {
+        return type;
+    }
+
+
+    /**
+     * Returns the heading of the block.
+     *
+     * @return The heading of the block.
+     */
+    public String getTitle() {
+        return title;
+    }
+
+
+    /**
+     * Returns the duration or time cap of the block.
+     *
+     * @return The duration in minutes, or 0 if not given.
+     */
+    public int getMinutes() {
+        return minutes;
+    }
+
+
+    /**
+     * Returns the number of rounds of the block.
+     *
+     * @return The number of rounds (at least 1).
+     */
+    public int getRounds() {
+        return rounds;
+    }
+
+
+    /**
+     * Returns the exercises prescribed in the block.
+     *
+     * @return An unmodifiable list of exercises.
+     */
+    public List<Exercise> getExercises() {
+        return Collections.unmodifiableList(exercises);
+    }
+
+
+    /**
+     * Returns the total prescribed repetitions of the block across all rounds.
+     * Alternatives are not counted. For EMOM and AMRAP blocks a single round is
+     * counted since the number of rounds depends on the athlete.
+     *
+     * @return The total prescribed repetitions.
+     */
+    public int getTotalReps() {
+        int reps = 0;
+
+        // Sum the repetitions of every exercise that is not an alternative
+        for (Exercise exercise : exercises) {
+            if (!exercise.isAlternative()) {
+                reps += exercise.getReps();
+            }
+        }
+        return reps * rounds;
+    }
+
+
+    /**
+     * Returns the total prescribed distance of the block across all rounds.
+     * Alternatives are not counted.
+     *
+     * @return The total prescribed distance in meters.
+     */
+    public int getTotalDistanceMeters() {
+        int meters = 0;
+
+        // Sum the distance of every exercise that is not an alternative
+        for (Exercise exercise : exercises) {
+            if (!exercise.isAlternative()) {
+                meters += exercise.getDistanceMeters();
+            }
+        }
+        return meters * rounds;
+    }
+
+
+    /**
+     * Estimates how long the block takes. Fixed-length blocks and time-capped
+     * work blocks use their stated minutes. Other work blocks are estimated from
+     * their volume using SECONDS_PER_REP and SECONDS_PER_KM.
+     *
+     * @return The estimated duration of the block in seconds.
+     */
+    public int getEstimatedSeconds() {
+        // Notes take no time
+        if (type == Type.NOTE) {
+            return 0;
+        }
+
+        // Fixed-length blocks (warm up, stretching, rest...) last their stated minutes
+        if (!type.isWork()) {
+            return minutes * 60;
+        }
+
+        // Work blocks without exercises are only headings for the blocks that follow
+        if (exercises.isEmpty()) {
+            return 0;
+        }
+
+        // Time-capped work blocks (EMOM, AMRAP...) last their stated minutes
+        if (minutes > 0) {
+            return minutes * 60;
+        }
+
+        int seconds = 0; // Estimated time for a single round
+
+        // Estimate the time of each exercise in the round
+        for (Exercise exercise : exercises) {
+            if (!exercise.isAlternative()) {
+                seconds += exercise.getReps() * SECONDS_PER_REP;
+                seconds += exercise.getDistanceMeters() * SECONDS_PER_KM / 1000;
+                seconds += exercise.getDurationSeconds();
+            }
+        }
+        return seconds * rounds;
+    }
+
+
+    /**
+     * Returns a string representation of the block.
+     *
+     * @return A string representation of the block.
+     */
+    public String toString() {
+        return type + " \"" + title + "\" (" + minutes + " mins, " + rounds + " rounds, "
+                + exercises.size() + " exercises)";
+    }
+}
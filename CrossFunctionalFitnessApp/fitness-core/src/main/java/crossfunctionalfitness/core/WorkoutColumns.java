@@ -0,0 +1,275 @@
+package crossfunctionalfitness.core;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+
+/**
+ * WorkoutColumns stores workout records for many members outside of the Java
+ * heap, as a struct of arrays: one direct buffer per field (member, day,
+ * completed flag, minutes). A record costs 11 bytes of native memory and no
+ * heap objects, so loading every member's history for gym-wide analytics keeps
+ * heap usage flat and adds nothing for the garbage collector to trace.
+ *
+ * Records are appended in any order; records of one member are usually added
+ * together so that a member's history is a contiguous range of rows.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class WorkoutColumns {
+
+    // Minutes value stored for records whose time taken is not a valid number; no valid time is negative
+    public static final int MISSING_MINUTES = Integer.MIN_VALUE;
+
+    // Largest number of records a column can hold (int column of at most 2 GB)
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE / Integer.BYTES;
+
+    private int size;               // Number of records stored
+    private int capacity;           // Number of records the columns can hold
+    private ByteBuffer members;     // Member id of each record (int)
+    private ByteBuffer days;        // Day number of each record (short)
+    private ByteBuffer completed;   // Completion flag of each record (byte, 0 or 1)
+    private ByteBuffer minutes;     // Time taken in minutes of each record (int)
+
+    /**
+     * Constructor to initialize empty columns with an initial capacity.
+     * The columns grow automatically when full.
+     *
+     * @param capacity The initial number of records the columns can hold.
+     */
+    public WorkoutColumns(int capacity) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + MAX_CAPACITY);
+        }
+        this.capacity = capacity;
+        this.members = allocate(capacity * Integer.BYTES);
+        this.days = allocate(capacity * Short.BYTES);
+        this.completed = allocate(capacity);
+        this.minutes = allocate(capacity * Integer.BYTES);
+    }
+
+
+    /**
+     * Appends a workout record.
+     *
+     * @param member      The member id.
+     * @param day         The day number of the workout.
+     * @param isCompleted Whether the workout was completed.
+     * @param timeTaken   The time taken in minutes; a negative time is stored as MISSING_MINUTES.
+     */
+    public void add(int member, int day, boolean isCompleted, int timeTaken) {
+        // Grow the columns when full
+        if (size == capacity) {
+            grow();
+        }
+
+        members.putInt(size * Integer.BYTES, member);
+        days.putShort(size * Short.BYTES, (short) day);
+        completed.put(size, (byte) (isCompleted ? 1 : 0));
+        minutes.putInt(size * Integer.BYTES, validMinutes(timeTaken));
+        size++;
+    }
+
+
+    /**
+     * Appends a WorkoutData record. The day number is read from the "Day N"
+     * label and the time taken is parsed as whole minutes; a time that
+     * parseMinutes cannot read is stored as MISSING_MINUTES.
+     *
+     * @param member  The member id.
+     * @param workout The workout to append.
+     */
+    public void add(int member, WorkoutData workout) {
+        add(member, parseDay(workout.getDay()), workout.isCompleted(), parseMinutes(workout.getTimeTaken()));
+    }
+
+
+    /**
+     * Appends all of a member's workouts.
+     *
+     * @param member   The member id.
+     * @param workouts The workouts to append.
+     */
+    public void addAll(int member, List<WorkoutData> workouts) {
+        for (WorkoutData workout : workouts) {
+            add(member, workout);
+        }
+    }
+
+
+    /**
+     * Returns the number of records stored.
+     *
+     * @return The number of records.
+     */
+    public int size() {
+        return size;
+    }
+
+
+    /**
+     * Returns the member id of a record.
+     *
+     * @param row The record index.
+     * @return The member id.
+     */
+    public int getMember(int row) {
+        return members.getInt(row * Integer.BYTES);
+    }
+
+
+    /**
+     * Returns the day number of a record.
+     *
+     * @param row The record index.
+     * @return The day number.
+     */
+    public int getDay(int row) {
+        return days.getShort(row * Short.BYTES);
+    }
+
+
+    /**
+     * Returns whether the workout of a record was completed.
+     *
+     * @param row The record index.
+     * @return Whether the workout was completed.
+     */
+    public boolean isCompleted(int row) {
+        return completed.get(row) != 0;
+    }
+
+
+    /**
+     * Returns the time taken of a record.
+     *
+     * @param row The record index.
+     * @return The time taken in minutes, or MISSING_MINUTES.
+     */
+    public int getMinutes(int row) {
+        return minutes.getInt(row * Integer.BYTES);
+    }
+
+
+    /**
+     * Returns the bytes of native memory reserved by the columns.
+     *
+     * @return The reserved native memory in bytes.
+     */
+    public long getReservedBytes() {
+        return (long) capacity * (Integer.BYTES + Short.BYTES + 1 + Integer.BYTES);
+    }
+
+
+    /**
+     * Returns a read-only view of the minutes column, one native-order int per record.
+     *
+     * @return The minutes column.
+     */
+    ByteBuffer minutesColumn() {
+        return minutes.asReadOnlyBuffer().order(ByteOrder.nativeOrder());
+    }
+
+
+    /**
+     * Returns a read-only view of the completed column, one byte (0 or 1) per record.
+     *
+     * @return The completed column.
+     */
+    ByteBuffer completedColumn() {
+        return completed.asReadOnlyBuffer();
+    }
+
+
+    /**
+     * Doubles the capacity of every column, copying the stored records.
+     */
+    private void grow() {
+        if (capacity == MAX_CAPACITY) {
+            throw new IllegalStateException("Workout columns are full");
+        }
+        int newCapacity = (int) Math.min((long) capacity * 2, MAX_CAPACITY);
+
+        members = copy(members, newCapacity * Integer.BYTES, size * Integer.BYTES);
+        days = copy(days, newCapacity * Short.BYTES, size * Short.BYTES);
+        completed = copy(completed, newCapacity, size);
+        minutes = copy(minutes, newCapacity * Integer.BYTES, size * Integer.BYTES);
+        capacity = newCapacity;
+    }
+
+
+    /**
+     * Allocates a native-order direct buffer.
+     *
+     * @param bytes The size of the buffer in bytes.
+     * @return The allocated buffer.
+     */
+    private static ByteBuffer allocate(int bytes) {
+        return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+    }
+
+
+    /**
+     * Copies the used part of a buffer into a larger direct buffer.
+     *
+     * @param source   The buffer to copy.
+     * @param newBytes The size of the new buffer in bytes.
+     * @param used     The number of bytes in use.
+     * @return The new buffer.
+     */
+    private static ByteBuffer copy(ByteBuffer source, int newBytes, int used) {
+        ByteBuffer target = allocate(newBytes);
+        ByteBuffer slice = source.duplicate();
+        slice.position(0).limit(used);
+        target.put(slice);
+        target.clear();
+        return target;
+    }
+
+
+    /**
+     * Parses the day number of a "Day N" label.
+     *
+     * @param day The day label.
+     * @return The day number, or 0 if the label has no number.
+     */
+    public static int parseDay(String day) {
+        int number = 0;
+        for (int i = 0; i < day.length(); i++) {
+            char c = day.charAt(i);
+            if (c >= '0' && c <= '9') {
+                number = number * 10 + (c - '0');
+            }
+        }
+        return number;
+    }
+
+
+    /**
+     * Parses a time taken as whole minutes. This is the one rule for reading a
+     * time that every calculator follows: a time that is not a whole number,
+     * or that is negative, cannot be read.
+     *
+     * @param timeTaken The time taken text.
+     * @return The minutes, or MISSING_MINUTES if the text is not a valid time.
+     */
+    public static int parseMinutes(String timeTaken) {
+        try {
+            return validMinutes(Integer.parseInt(timeTaken));
+        } catch (NumberFormatException e) {
+            return MISSING_MINUTES;
+        }
+    }
+
+
+    /**
+     * Checks minutes by the rule of parseMinutes.
+     *
+     * @param minutes The minutes.
+     * @return The minutes, or MISSING_MINUTES if they are negative.
+     */
+    public static int validMinutes(int minutes) {
+        return minutes < 0 ? MISSING_MINUTES : minutes;
+    }
+}
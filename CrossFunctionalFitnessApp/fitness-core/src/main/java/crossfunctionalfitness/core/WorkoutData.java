@@ -0,0 +1,99 @@
+package crossfunctionalfitness.core;
+
+/**
+ * Represents the data for a workout, including the day, completion status, and
+ * time taken. This class encapsulates all relevant information about a workout; WorkoutStore
+ * in the storage module saves and loads it, one file per day, in the form of toString().
+ * 
+ * @author Nag Rajendran 
+ * @version Dec 11 2023
+ */
+public class WorkoutData {
+
+    private String day;         // The specific day of the workout
+    private boolean completed;  // Whether the workout was completed
+    private String timeTaken;   // The time taken for the workout
+    
+    /**
+     * Constructor to initialize a WorkoutData object.
+     *
+     * @param day       The day of the workout.
+     * @param completed Whether the workout was completed.
+     * @param timeTaken The time taken to complete the workout.
+     */
+    public WorkoutData(String day, boolean completed, String timeTaken) {
+        this.day = day;
+        this.completed = completed;
+        this.timeTaken = timeTaken;
+    }
+    
+
+    /**
+     * Returns the day of the workout.
+     *
+     * @return The day of the workout.
+     */
+    public String getDay() {
+        return day;
+    }
+
+
+    /**
+     * Sets the day of the workout.
+     *
+     * @param day The day of the workout.
+     */
+    public void setDay(String day) {
+        this.day = day;
+    }
+
+
+    /**
+     * Returns whether the workout was completed.
+     *
+     * @return Whether the workout was completed.
+     */
+    public boolean isCompleted() {
+        return completed;
+    }
+
+
+    /**
+     * Sets whether the workout was completed.
+     *
+     * @param completed Whether the workout was completed.
+     */
+    public void setCompleted(boolean completed) {
+        this.completed = completed;
+    }
+
+
+    /**
+     * Returns the time taken for the workout.
+     *
+     * @return The time taken for the workout.
+     */
+    public String getTimeTaken() {
+        return timeTaken;
+    }
+
+
+    /**
+     * Sets the time taken for the workout.
+     *
+     * @param timeTaken The time taken for the workout.
+     */
+    public void setTimeTaken(String timeTaken) {
+        this.timeTaken = timeTaken;
+    }
+
+
+    /**
+     * Returns a string representation of the workout data.
+     *
+     * @return A string representation of the workout data.
+     */
+    public String toString() {
+        return "Day: " + day + ", Completed: " + completed + ", Time Taken: " + timeTaken;
+    }
+}
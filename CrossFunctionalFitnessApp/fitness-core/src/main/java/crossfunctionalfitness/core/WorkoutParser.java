@@ -0,0 +1,484 @@
+package crossfunctionalfitness.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * WorkoutParser turns the free-text workout descriptions of the program into
+ * structured Workout objects. The parser makes a single pass over each line and
+ * scans characters directly (no regular expressions), recognizing block headings
+ * such as "Warm Up", "EMOM", "AMRAP", "rounds for time", "Benchmark Test",
+ * "Buy In" and "Cash Out", and exercise lines such as "40 air squats",
+ * "400m Run" or "Exercise 1: Air Squat: 20 to 35 reps".
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class WorkoutParser {
+
+    // Distance of one mile and one quarter mile in meters
+    private static final int METERS_PER_MILE = 1609;
+    private static final int METERS_PER_QUARTER_MILE = 402;
+
+    // Line prefixes that are instructions rather than blocks or exercises
+    private static final String[] NOTE_PREFIXES = { "goal", "every time", "repeat day" };
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private WorkoutParser() {
+    }
+
+
+    /**
+     * Parses a workout description into a structured Workout.
+     * Each non-empty line is either a block heading, an "or" separator between
+     * alternative exercises, a note, or a line of one or more exercises that is
+     * added to the current block. Exercises that appear outside of a work block
+     * start an untitled WORKOUT block.
+     *
+     * @param day         The day number of the workout.
+     * @param description The free-text description of the workout.
+     * @return The parsed Workout.
+     */
+    public static Workout parse(int day, String description) {
+        List<WorkoutBlock> blocks = new ArrayList<>(); // The blocks parsed so far
+        WorkoutBlock current = null; // The block that exercise lines are added to
+        boolean alternative = false; // Whether the next exercise line is an alternative
+
+        int start = 0; // Start of the current line
+        while (start <= description.length()) {
+            // Find the end of the current line
+            int end = description.indexOf('\n', start);
+            if (end < 0) {
+                end = description.length();
+            }
+            String line = description.substring(start, end).trim();
+            start = end + 1;
+
+            // Skip blank lines
+            if (line.isEmpty()) {
+                continue;
+            }
+            String lower = line.toLowerCase();
+
+            // An "or" line marks the next exercise line as an alternative
+            if (lower.equals("or")) {
+                alternative = true;
+                continue;
+            }
+
+            // Notes are kept as their own block so they are rendered in place
+            if (isNote(lower)) {
+                blocks.add(new WorkoutBlock(WorkoutBlock.Type.NOTE, line, 0, 1));
+                current = null;
+                continue;
+            }
+
+            // Block headings start a new block
+            WorkoutBlock.Type type = parseBlockType(lower);
+            if (type != null) {
+                String inline = parseInlineExercises(type, line); // Exercises written on the heading line
+                String title = inline == null ? line : line.substring(0, line.lastIndexOf(':') + 1).trim();
+
+                current = new WorkoutBlock(type, title, parseMinutes(lower), parseRounds(lower));
+                blocks.add(current);
+                if (inline != null) {
+                    addExercises(current, inline, false);
+                }
+                alternative = false;
+                continue;
+            }
+
+            // Exercise lines outside of a work block start an untitled workout block
+            if (current == null || !current.getType().isWork()) {
+                current = new WorkoutBlock(WorkoutBlock.Type.WORKOUT, "", 0, 1);
+                blocks.add(current);
+            }
+            addExercises(current, line, alternative);
+            alternative = false;
+        }
+
+        return new Workout(day, blocks);
+    }
+
+
+    /**
+     * Returns whether a line is a note (an instruction such as "Goal: Hard effort").
+     *
+     * @param lower The line in lower case.
+     * @return Whether the line is a note.
+     */
+    private static boolean isNote(String lower) {
+        for (String prefix : NOTE_PREFIXES) {
+            if (lower.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    /**
+     * Determines the block type of a heading line.
+     *
+     * @param lower The line in lower case.
+     * @return The block type, or null if the line is not a block heading.
+     */
+    private static WorkoutBlock.Type parseBlockType(String lower) {
+        if (lower.startsWith("warm up")) {
+            return WorkoutBlock.Type.WARM_UP;
+        }
+        if (lower.contains("stretching")) {
+            return WorkoutBlock.Type.STRETCHING;
+        }
+        if (lower.startsWith("rest")) {
+            return WorkoutBlock.Type.REST;
+        }
+        if (lower.startsWith("yoga")) {
+            return WorkoutBlock.Type.MOBILITY;
+        }
+        if (lower.startsWith("practice")) {
+            return WorkoutBlock.Type.SKILL;
+        }
+        if (lower.startsWith("emom")) {
+            return WorkoutBlock.Type.EMOM;
+        }
+        if (lower.contains("amrap")) {
+            return WorkoutBlock.Type.AMRAP;
+        }
+        if (lower.contains("rounds for time")) {
+            return WorkoutBlock.Type.FOR_TIME;
+        }
+
+        // "2 rounds:" or "1X: 1mile run, 50 burpees."
+        int digitsEnd = skipDigits(lower, 0);
+        if (digitsEnd > 0 && (lower.startsWith(" round", digitsEnd) || lower.startsWith("x:", digitsEnd))) {
+            return WorkoutBlock.Type.ROUNDS;
+        }
+
+        if (lower.startsWith("benchmark")) {
+            return WorkoutBlock.Type.BENCHMARK;
+        }
+        if (lower.startsWith("buy in") || lower.startsWith("buy-in")) {
+            return WorkoutBlock.Type.BUY_IN;
+        }
+        if (lower.startsWith("buy out") || lower.startsWith("cash out")) {
+            return WorkoutBlock.Type.CASH_OUT;
+        }
+        if (lower.startsWith("workout of the day") || lower.startsWith("then")) {
+            return WorkoutBlock.Type.WORKOUT;
+        }
+        return null;
+    }
+
+
+    /**
+     * Returns the exercises written on a heading line after its last colon, as
+     * in "Buy-in: 400m run" or "AMRAP in 30 mins: Burpees".
+     *
+     * @param type The block type of the heading.
+     * @param line The heading line.
+     * @return The exercise text, or null if the heading has no inline exercises.
+     */
+    private static String parseInlineExercises(WorkoutBlock.Type type, String line) {
+        // Only work blocks can carry exercises on their heading line
+        if (!type.isWork() || type == WorkoutBlock.Type.WORKOUT) {
+            return null;
+        }
+
+        int colon = line.lastIndexOf(':');
+        if (colon < 0) {
+            return null;
+        }
+        String rest = line.substring(colon + 1).trim();
+
+        // Ignore times such as "0:00-4:00" that contain no exercise name
+        for (int i = 0; i < rest.length(); i++) {
+            if (Character.isLetter(rest.charAt(i))) {
+                return rest;
+            }
+        }
+        return null;
+    }
+
+
+    /**
+     * Parses the duration of a block heading, such as "Warm Up: 10 mins",
+     * "EMOM ... 35 mins" or "AMRAP ... from 4:00-8:00".
+     *
+     * @param lower The heading line in lower case.
+     * @return The duration in minutes, or 0 if none is given.
+     */
+    private static int parseMinutes(String lower) {
+        // Time ranges such as "from 4:00-8:00"
+        int from = lower.indexOf("from ");
+        if (from >= 0) {
+            int startPos = from + 5;
+            int startEnd = skipDigits(lower, startPos);
+            int colon = lower.indexOf(':', startEnd);
+            int dash = lower.indexOf('-', startEnd);
+            if (startEnd > startPos && colon == startEnd && dash > colon) {
+                int endEnd = skipDigits(lower, dash + 1);
+                if (endEnd > dash + 1) {
+                    int startMinute = Integer.parseInt(lower.substring(startPos, startEnd));
+                    int endMinute = Integer.parseInt(lower.substring(dash + 1, endEnd));
+                    return endMinute - startMinute;
+                }
+            }
+        }
+
+        // The first number directly followed by "min" (e.g., "10 mins", "32 minutes")
+        for (int i = 0; i < lower.length(); i++) {
+            if (Character.isDigit(lower.charAt(i)) && (i == 0 || !Character.isDigit(lower.charAt(i - 1)))) {
+                int digitsEnd = skipDigits(lower, i);
+                int unit = skipSpaces(lower, digitsEnd);
+                if (lower.startsWith("min", unit)) {
+                    return Integer.parseInt(lower.substring(i, digitsEnd));
+                }
+                i = digitsEnd;
+            }
+        }
+        return 0;
+    }
+
+
+    /**
+     * Parses the number of rounds of a block heading, such as "(Repeat 2 times)",
+     * "10 rounds for time" or "3X:".
+     *
+     * @param lower The heading line in lower case.
+     * @return The number of rounds, or 1 if none is given.
+     */
+    private static int parseRounds(String lower) {
+        // "(Repeat 2 times)"
+        int repeat = lower.indexOf("repeat ");
+        if (repeat >= 0) {
+            int digitsEnd = skipDigits(lower, repeat + 7);
+            if (digitsEnd > repeat + 7) {
+                return Integer.parseInt(lower.substring(repeat + 7, digitsEnd));
+            }
+        }
+
+        // "10 rounds for time" or "3X:"
+        int digitsEnd = skipDigits(lower, 0);
+        if (digitsEnd > 0 && (lower.startsWith(" round", digitsEnd) || lower.startsWith("x:", digitsEnd))) {
+            return Integer.parseInt(lower.substring(0, digitsEnd));
+        }
+        return 1;
+    }
+
+
+    /**
+     * Splits a line into its exercises and adds them to a block. Exercises are
+     * separated by commas, or by a period followed by a number
+     * (e.g., "20 Jumping Jacks. 16 Jumping Jacks"). Separators inside
+     * parentheses are ignored. Only the first exercise of a line after "or" is
+     * the alternative: in "300 Jumping Jacks, 60 squats" the squats follow the
+     * jumping jacks.
+     *
+     * @param block       The block to add the exercises to.
+     * @param line        The line of exercises.
+     * @param alternative Whether the first exercise is an alternative to the previous one.
+     */
+    private static void addExercises(WorkoutBlock block, String line, boolean alternative) {
+        int depth = 0; // Parenthesis depth
+        int segmentStart = 0; // Start of the current exercise
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (depth == 0 && (c == ',' || (c == '.' && i + 2 < line.length()
+                    && line.charAt(i + 1) == ' ' && Character.isDigit(line.charAt(i + 2))))) {
+                if (addExercise(block, line.substring(segmentStart, i), alternative)) {
+                    alternative = false; // The rest of the line follows the alternative
+                }
+                segmentStart = i + 1;
+            }
+        }
+        addExercise(block, line.substring(segmentStart), alternative);
+    }
+
+
+    /**
+     * Parses a single exercise and adds it to a block. The first number in the
+     * text is the quantity; the unit that follows it ("m", "mile", "k", "min",
+     * "sec", "reps") decides whether it is a distance, a duration or repetitions.
+     *
+     * @param block       The block to add the exercise to.
+     * @param segment     The text of the exercise.
+     * @param alternative Whether the exercise is an alternative to the previous one.
+     * @return Whether an exercise was added; an empty segment adds none.
+     */
+    private static boolean addExercise(WorkoutBlock block, String segment, boolean alternative) {
+        String text = segment.trim();
+
+        // Drop the trailing period of the sentence
+        if (text.endsWith(".")) {
+            text = text.substring(0, text.length() - 1).trim();
+        }
+        if (text.isEmpty()) {
+            return false;
+        }
+
+        // Drop the "Exercise 1:" numbering
+        String body = text;
+        if (body.regionMatches(true, 0, "exercise ", 0, 9) && body.indexOf(':') > 0) {
+            body = body.substring(body.indexOf(':') + 1).trim();
+        }
+        String lower = body.toLowerCase();
+
+        int reps = 0;       // Prescribed repetitions
+        int meters = 0;     // Prescribed distance
+        int seconds = 0;    // Prescribed duration
+        String name;        // Name of the exercise
+
+        // Find the first number in the text
+        int digitsStart = 0;
+        while (digitsStart < lower.length() && !Character.isDigit(lower.charAt(digitsStart))) {
+            digitsStart++;
+        }
+
+        if (digitsStart == lower.length()) {
+            // No number: only "quarter mile" runs carry an implicit distance
+            int mile = lower.indexOf("mile");
+            if (lower.contains("quarter") && mile >= 0) {
+                meters = METERS_PER_QUARTER_MILE;
+                name = body.substring(mile + 4);
+            } else {
+                name = body;
+            }
+        } else {
+            int digitsEnd = skipDigits(lower, digitsStart);
+            int quantity = Integer.parseInt(lower.substring(digitsStart, digitsEnd));
+            int unit = skipSpaces(lower, digitsEnd);
+            int unitEnd = unit; // End of the unit word, where the name starts
+
+            if (lower.startsWith("mile", unit)) {
+                meters = quantity * METERS_PER_MILE;
+                unitEnd = skipLetters(lower, unit);
+            } else if (lower.startsWith("km", unit) || (lower.startsWith("k", unit) && !isLetterAt(lower, unit + 1))) {
+                meters = quantity * 1000;
+                unitEnd = skipLetters(lower, unit);
+            } else if (lower.startsWith("min", unit)) {
+                seconds = quantity * 60;
+                unitEnd = skipLetters(lower, unit);
+            } else if (lower.startsWith("sec", unit)) {
+                seconds = quantity;
+                unitEnd = skipLetters(lower, unit);
+            } else if (lower.startsWith("m", unit) && !isLetterAt(lower, unit + 1)) {
+                meters = quantity;
+                unitEnd = unit + 1;
+            } else if (lower.startsWith("rep", unit)) {
+                reps = quantity;
+                unitEnd = skipLetters(lower, unit);
+            } else {
+                reps = quantity;
+            }
+
+            // The name follows a leading quantity, or precedes a trailing one
+            name = digitsStart == 0 ? body.substring(unitEnd) : body.substring(0, digitsStart);
+        }
+
+        block.addExercise(new Exercise(cleanName(name, body), reps, meters, seconds, alternative, text));
+        return true;
+    }
+
+
+    /**
+     * Cleans an exercise name by cutting it at parenthesized remarks, colons,
+     * "or" choices and goals, and trimming connecting words and punctuation.
+     *
+     * @param name     The raw name.
+     * @param fallback The text to use if nothing is left of the name.
+     * @return The cleaned name.
+     */
+    private static String cleanName(String name, String fallback) {
+        String lower = name.toLowerCase();
+        int cut = name.length();
+
+        // Cut the name at the first remark or choice
+        for (String marker : new String[] { " (", "(", ":", " or ", " goal" }) {
+            int index = lower.indexOf(marker);
+            if (index >= 0 && index < cut) {
+                cut = index;
+            }
+        }
+        String cleaned = name.substring(0, cut).trim();
+
+        // Trim trailing punctuation and connecting words
+        while (cleaned.endsWith("-") || cleaned.endsWith(".")) {
+            cleaned = cleaned.substring(0, cleaned.length() - 1).trim();
+        }
+        if (cleaned.toLowerCase().endsWith(" for")) {
+            cleaned = cleaned.substring(0, cleaned.length() - 4).trim();
+        }
+        if (cleaned.startsWith("-")) {
+            cleaned = cleaned.substring(1).trim();
+        }
+        return cleaned.isEmpty() ? fallback : cleaned;
+    }
+
+
+    /**
+     * Returns the index of the first non-digit character at or after a position.
+     *
+     * @param s    The string to scan.
+     * @param from The position to start at.
+     * @return The index of the first non-digit character.
+     */
+    private static int skipDigits(String s, int from) {
+        int i = from;
+        while (i < s.length() && Character.isDigit(s.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+
+    /**
+     * Returns the index of the first non-space character at or after a position.
+     *
+     * @param s    The string to scan.
+     * @param from The position to start at.
+     * @return The index of the first non-space character.
+     */
+    private static int skipSpaces(String s, int from) {
+        int i = from;
+        while (i < s.length() && s.charAt(i) == ' ') {
+            i++;
+        }
+        return i;
+    }
+
+
+    /**
+     * Returns the index of the first non-letter character at or after a position.
+     *
+     * @param s    The string to scan.
+     * @param from The position to start at.
+     * @return The index of the first non-letter character.
+     */
+    private static int skipLetters(String s, int from) {
+        int i = from;
+        while (i < s.length() && Character.isLetter(s.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+
+    /**
+     * Returns whether the character at a position is a letter.
+     *
+     * @param s     The string to check.
+     * @param index The position to check.
+     * @return Whether there is a letter at that position.
+     */
+    private static boolean isLetterAt(String s, int index) {
+        return index < s.length() && Character.isLetter(s.charAt(index));
+    }
+}
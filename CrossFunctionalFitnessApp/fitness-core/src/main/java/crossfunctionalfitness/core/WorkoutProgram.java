@@ -0,0 +1,410 @@
+package crossfunctionalfitness.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * WorkoutProgram holds the 30 day workout program. It owns the free-text
+ * description of each day's workout and the structured Workout model parsed
+ * from that text. Workouts are parsed lazily the first time a day is requested
+ * and cached afterwards, so callers that only need the text never pay for parsing.
+ * 
+ * @author Nag Rajendran 
+ * @version Oct 19 2026
+ */
+public class WorkoutProgram {
+
+    // Workout descriptions for each day of the program
+    private static final List<String> WORKOUT_DESCRIPTIONS =
+            Collections.unmodifiableList(initializeWorkoutDescriptions());
+
+    // Parsed workouts for each day, filled in on first use
+    private static final Workout[] WORKOUTS = new Workout[WORKOUT_DESCRIPTIONS.size()];
+
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private WorkoutProgram() {
+    }
+
+
+    /**
+     * Returns the number of days in the workout program.
+     *
+     * @return The number of days in the program.
+     */
+    public static int getDayCount() {
+        return WORKOUT_DESCRIPTIONS.size();
+    }
+
+
+    /**
+     * Returns the free-text description of the workout for a specific day.
+     *
+     * @param day The day number (1-based).
+     * @return The workout description, or a default message if the day is out of range.
+     */
+    public static String getDescription(int day) {
+        // Check if the day number is within the range of the workout descriptions
+        if (day < 1 || day > WORKOUT_DESCRIPTIONS.size()) {
+            return "No workout description available.";
+        }
+        return WORKOUT_DESCRIPTIONS.get(day - 1);
+    }
+
+
+    /**
+     * Returns the structured workout for a specific day.
+     * The description is parsed on first access and the result is cached.
+     *
+     * @param day The day number (1-based).
+     * @return The parsed Workout for the day.
+     * @throws IllegalArgumentException if the day is out of range.
+     */
+    public static Workout getWorkout(int day) {
+        // Check if the day number is within the valid range
+        if (day < 1 || day > WORKOUTS.length) {
+            throw new IllegalArgumentException("Day must be between 1 and " + WORKOUTS.length);
+        }
+
+        synchronized (WORKOUTS) {
+            // Parse the description the first time the day is requested
+            if (WORKOUTS[day - 1] == null) {
+                WORKOUTS[day - 1] = WorkoutParser.parse(day, WORKOUT_DESCRIPTIONS.get(day - 1));
+            }
+            return WORKOUTS[day - 1];
+        }
+    }
+
+
+    /**
+     * Returns the structured workouts for every day of the program, in day order.
+     *
+     * @return A list of parsed workouts, one per day.
+     */
+    public static List<Workout> getWorkouts() {
+        List<Workout> workouts = new ArrayList<>(WORKOUTS.length);
+
+        // Parse (or fetch from the cache) each day's workout
+        for (int day = 1; day <= WORKOUTS.length; day++) {
+            workouts.add(getWorkout(day));
+        }
+        return workouts;
+    }
+
+
+    /**
+     * Initializes the list of workout descriptions for each day of the workout
+     * plan. This method populates an ArrayList with detailed descriptions of the 
+     * workouts for each day. The descriptions include various components of the workouts, 
+     * such as warm-up routines, specific exercises, the number of repetitions or duration 
+     * for each exercise, and post-workout stretching instructions.
+     * 
+     * These descriptions are used to provide users with clear guidance on what each
+     * day's workout entails.
+     *
+     * @return The workout descriptions, one per day of the program.
+     */
+    private static List<String> initializeWorkoutDescriptions() {
+
+        // Initialize the ArrayList to hold workout descriptions
+        List<String> workoutDescriptions = new ArrayList<>();
+
+        // Add workout descriptions for each day of the workout plan
+        // Day 1
+        workoutDescriptions.add("Warm Up: 10 mins\n\n" +
+                "Workout of the Day (WOD):" +
+                "(Repeat 2 times)\n\n" +
+                "   Exercise 1: 200m Jumping Jacks\n" +
+                "   Exercise 2: 40 air squats\n" +
+                "   Exercise 3: 200m Jumping Jacks\n" +
+                "   Exercise 4: 30 sit-ups\n" +
+                "   Exercise 5: 200m Jumping Jacks\n" +
+                "   Exercise 6: 20 jump squats\n" +
+                "   Exercise 7: 200m Jumping Jacks\n" +
+                "   Exercise 8: 10 burpees\n\n" +
+                "Post-workout stretching: 10 mins.");
+        
+        // Day 2
+        workoutDescriptions.add("Warm Up: 10 mins\n\n" +
+                "EMOM (Every minute on the minute) 35 mins (Workout for 45 sec, 15 sec rest).\n\n" +
+                "   Exercise 1: Air Squat: 20 to 35 reps\n" +
+                "   Exercise 2: Push Up: 10 to 20 reps\n" +
+                "   Exercise 3: Reverse lunge: 20 reps (10 reps per side)\n" +
+                "   Exercise 4: Burpee: 10 to 20 reps\n" +
+                "   Exercise 5: Russian Twist: 10 to 20 reps\n" +
+                "   Exercise 6: Jump rope\n" +
+                "   Exercise 7: V-up: 10 to 20 reps\n\n" +
+                "Stretching: 10 mins.");
+        
+        // Day 3
+        workoutDescriptions.add("Warm Up: 10 mins\n\n" +
+                "Workout Of the Day (WOD):\n" +
+                "Sixteen 2-minute AMRAP(AS MANY ROUNDS AS POSSIBLE) in 32 minutes\n\n" +
+                "   AMRAP(AS MANY ROUNDS AS POSSIBLE) from 0:00-4:00\n" +
+                "       20 Jumping Jacks, 16 Burpees\n\n" +
+                "   AMRAP(AS MANY ROUNDS AS POSSIBLE) from 4:00-8:00:\n" +
+                "       20 Jumping Jacks, 16 Push-Ups\n\n" +
+                "   AMRAP(AS MANY ROUNDS AS POSSIBLE) from 8:00-12:00:\n" +
+                "       20 Jumping Jacks, 16 Air Squats\n\n" +
+                "   AMRAP(AS MANY ROUNDS AS POSSIBLE) from 12:00-16:00:\n" +
+                "       20 Jumping Jacks, 16 Mountain Climbers\n\n" +
+                "   AMRAP(AS MANY ROUNDS AS POSSIBLE) from 16:00-20:00:\n" +
+                "       20 Jumping Jacks. 16 Jumping Jacks\n\n" +
+                "   AMRAP(AS MANY ROUNDS AS POSSIBLE) from 20:00-24:00:\n" +
+                "       20 Jumping Jacks, 16 Jumping Lunges\n\n" +
+                "   AMRAP(AS MANY ROUNDS AS POSSIBLE) from 24:00-28:00:\n" +
+                "       20 Jumping Jacks, 16 High Knees\n\n" +
+                "   AMRAP(AS MANY ROUNDS AS POSSIBLE) from 28:00-32:00:\n" +
+                "       20 Jumping Jacks, 16 Tuck Jumps\n\n" +
+                "Stretching: 10 mins.");
+
+        // Day 4
+        workoutDescriptions.add("Rest or yoga 30 mins. Thats it. You deserved it!");
+
+        // Day 5
+        workoutDescriptions.add("Warm Up: 10 mins\n\n\n" +
+                "Workout Of the Day (WOD):\n\n" +
+                "   1X: 1mile run, 50 burpees.\n\n" +
+                "   2X: 800 m run, 25 air squats.\n\n" +
+                "   3X: 400m run, 15 pushups.\n\n\n" +
+                "Stretching: 10 mins.");
+
+        // Day 6
+        workoutDescriptions.add("Warm Up: 10 mins\n\n" +
+                "Practice Wall Walks for 15 mins\n\n" +
+                "Workout Of the Day:\n\n" +
+                "   AMRAP(AS MANY ROUNDS AS POSSIBLE) in 30 mins: Burpees\n\n" +
+                "Stretching: 10 mins.");
+
+        // Day 7
+        workoutDescriptions.add("Warm Up: 10 mins\n\n" +
+                "Yoga: 20 mins\n\n" +
+                "Benchmark Test:\n" +
+                "   400m Run\n" +
+                "   25 Pushups\n" +
+                "   50 Air Squat\n" +
+                "   75 Sit-Ups\n" +
+                "   400m Run\n\n" +
+                "Stretching: 10 mins.");
+
+        // Day 8
+        workoutDescriptions.add("Rest or Yoga 30 mins");
+
+        // Day 9
+        workoutDescriptions.add("Warm Up: Yoga 10 mins\n\n" +
+                "5K Run Goal: 40 mins or less\n\n" +
+                "Stretching: 10 mins.");
+
+        // Day 10
+        workoutDescriptions.add("Warm Up: 10 mins\n\n" +
+                "Workout Of the Day:\n\n" +
+                "Buy In: \n" +
+                "   Quarter mile run\n" +
+                "   40 air squats\n" +
+                "   30 sit-ups\n" +
+                "   20 burpees\n" +
+                "   10 pull-ups\n\n" +
+                "Cash Out: \n" +
+                "   Another quarter-mile run\n\n" +
+                "Stretching: 10 mins.");
+
+        // Day 11
+        workoutDescriptions.add("Warm Up: 10 mins\n\n\n" +
+                "Practice Wall Walks for 15 mins\n\n" +
+                "Workout Of the Day:\n\n" +
+                "   100 lunges\n" +
+                "   100 jumping squats\n" +
+                "   150 sit-ups\n" +
+                "   50 air-squats\n" +
+                "   50 lunges\n\n\n" +
+                "Stretching: 10 mins.");
+
+        // Day 12
+        workoutDescriptions.add("Warm Up: 10 mins\n\n" +
+                "Workout Of the Day:\n" +
+                "2 rounds:\n\n" +
+                "   10 push-ups\n" +
+                "   1 mile run\n" +
+                "   17 air squats\n\n" +
+                "Buy out : 58 burpees\n\n" +
+                "Stretching: 10 mins.");
+
+        // Day 13
+        workoutDescriptions.add("Warm Up: 10 mins\n\n" +
+                "Workout Of the Day:\n\n" +
+                "   100 Double-Under\n" +
+                "       or\n" +
+                "   300 Single-Under\n" +
+                "       or\n" +
+                "   300 Jumping Jacks, 60 squats (with or without weights)\n\n" +
+                "   100 Double-Under\n" +
+                "       or\n" +
+                "   300 Single-Under\n" +
+                "       or\n" +
+                "   300 jumping jacks, 60 Push-Ups\n" +
+                "       or\n" +
+                "   Hand Release Push-Ups\n\n" +
+                "Goal: Hard effort\n\n" +
+                "Stretching: 10 mins.");
+
+        // Day 14
+        workoutDescriptions.add("Warm Up: 10 mins\n\n" +
+                "Yoga: 15 mins\n\n" +
+                "Benchmark Test:\n" +
+                "   800m Run\n" +
+                "   50 Pushups\n" +
+                "   75 Air Squat\n" +
+                "   100 Sit-Ups\n" +
+                "   800m Run\n\n" +
+                "Stretching: 10 mins.");
+
+        // Day 15
+        workoutDescriptions.add("Rest or Yoga 30 mins");
+
+        // Day 16
+        workoutDescriptions.add(
+                "Warm Up: 10 mins\n\n" +
+                        "Practice wall walks: 15 mins\n\n" +
+                        "Workout Of the Day:\n\n" +
+                        "Buy-in: 400m run\n" +
+                        "Then (88-66-44)\n\n" +
+                        "   88 Push-ups or hand release push-ups\n" +
+                        "   88 Sit-Ups\n" +
+                        "   66 Push-ups or hand release push-ups\n" +
+                        "   66 Sit-Ups\n" +
+                        "   44 Push-ups or hand release push-ups\n" +
+                        "   44 Sit-Ups\n\n" +
+                        "Cash Out: 400m run\n\n" +
+                        "Stretching: 10 mins");
+
+        // Day 17
+        workoutDescriptions.add(
+                "Warm Up: 10 mins\n\n" +
+                        "Workout Of the Day:\n\n" +
+                        "   150 push-ups\n" +
+                        "       Or\n" +
+                        "   75 handstand push-ups\n\n" +
+                        "Every time you break, perform 5 burpees.\n\n" +
+                        "Stretching: 10 mins");
+
+        // Day 18
+        workoutDescriptions.add(
+                "Repeat Day 2 and try to increase counts.\n\n" +
+                        "Warm Up: 10 mins\n\n" +
+                        "EMOM (Every minute on the minute) 35 mins (Workout for 45 sec, 15 sec rest)\n" +
+                        "   Exercise 1: Air Squat: 20 to 35 reps\n" +
+                        "   Exercise 2: Push Up: 10 to 20 reps\n" +
+                        "   Exercise 3: Reverse lunge: 20 reps (10 reps per side)\n" +
+                        "   Exercise 4: Burpee: 10 to 20 reps\n" +
+                        "   Exercise 5: Russian Twist: 10 to 20 reps\n" +
+                        "   Exercise 6: Jump rope\n" +
+                        "   Exercise 7: V-up: 10 to 20 reps\n\n" +
+                        "Stretching: 10 mins");
+
+        // Day 19
+        workoutDescriptions.add("60 min jogging or running");
+
+        // Day 20
+        workoutDescriptions.add("Rest or Yoga 30 mins");
+
+        // Day 21
+        workoutDescriptions.add(
+                "Warm Up: 10 Min Yoga\n\n" +
+                        "Benchmark Test:\n" +
+                        "   1200m Run\n" +
+                        "   75 Pushups\n" +
+                        "   150 Air Squat\n" +
+                        "   200 Sit-Ups\n" +
+                        "   1200m Run\n\n" +
+                        "Stretching: 10 mins");
+
+        // Day 22
+        workoutDescriptions.add(
+                "Warm Up: 10 mins\n\n" +
+                        "Workout Of the Day:\n\n" +
+                        "AMRAP(AS MANY ROUNDS AS POSSIBLE) in 40 mins\n" +
+                        "   4 Wall Walks\n" +
+                        "   14 jumping air squats\n" +
+                        "   24 mountain climbers (each side)\n" +
+                        "   34 jumping jacks\n\n" +
+                        "Stretching: 10 mins");
+
+        // Day 23
+        workoutDescriptions.add(
+                "Warm Up: 10 mins\n\n" +
+                        "Workout Of the Day:\n\n" +
+                        "   10 rounds for time\n" +
+                        "   25 air squats\n" +
+                        "   50 jumping jacks\n" +
+                        "   25 V-ups\n\n" +
+                        "Stretching: 10 mins");
+
+        // Day 24
+        workoutDescriptions.add(
+                "Warm Up: 10 mins\n\n" +
+                        "Practice wall walks: 15 min\n\n" +
+                        "Workout Of the Day:\n\n" +
+                        "   7 rounds for time:\n" +
+                        "   7 push-ups\n" +
+                        "   7 V-ups\n" +
+                        "   7 mountain climbers (each side)\n" +
+                        "   7 burpees\n" +
+                        "   7 squats\n" +
+                        "   7 Sit-ups\n" +
+                        "   7 jumping jacks\n\n" +
+                        "Stretching: 10 mins");
+
+        // Day 25
+        workoutDescriptions.add("Run 5 miles- (Goal within 60 mins)");
+
+        // Day 26
+        workoutDescriptions.add(
+                "Warm Up: 10 mins\n\n" +
+                        "Workout Of the Day:\n\n" +
+                        "AMRAP(AS MANY ROUNDS AS POSSIBLE) in 30 mins\n" +
+                        "   150 jumping jacks\n" +
+                        "   60 plank shoulder taps\n" +
+                        "   15 V-ups\n" +
+                        "   40 plank shoulder taps\n" +
+                        "   15 V-ups\n" +
+                        "   20 plank shoulder taps\n" +
+                        "   15 V-ups\n\n" +
+                        "Stretching: 10 mins");
+
+        // Day 27
+        workoutDescriptions.add(
+                "Repeat Day 2 and try to increase counts.\n\n" +
+                        "Warm Up: 10 mins\n\n" +
+                        "EMOM (Every minute on the minute) 35 mins (Workout for 45 sec, 15 sec rest)\n" +
+                        "   Exercise 1: Air Squat: 20 to 35 reps\n" +
+                        "   Exercise 2: Push Up: 10 to 20 reps\n" +
+                        "   Exercise 3: Reverse lunge: 20 reps (10 reps per side)\n" +
+                        "   Exercise 4: Burpee: 10 to 20 reps\n" +
+                        "   Exercise 5: Russian Twist: 10 to 20 reps\n" +
+                        "   Exercise 6: Jump rope\n" +
+                        "   Exercise 7: V-up: 10 to 20 reps\n\n" +
+                        "Stretching: 10 mins");
+
+        // Day 28
+        workoutDescriptions.add("Jogging or running for 60 mins");
+
+        // Day 29
+        workoutDescriptions.add("Rest or Yoga for 30 mins");
+
+        // Day 30
+        workoutDescriptions.add(
+                "Warm Up: 10 Min Yoga\n\n" +
+                        "Benchmark Test:\n" +
+                        "   1 mile Run\n" +
+                        "   100 Pushups\n" +
+                        "   200 Air Squat\n" +
+                        "   300 Sit-Ups\n" +
+                        "   1 mile run\n\n" +
+                        "Stretching: 10 mins");
+
+        return workoutDescriptions;
+    }
+}
@@ -0,0 +1,10 @@
+/**
+ * The workout model of the program: the 30 day workout program and its
+ * parser, the saved workouts and user profile with its validation rules, the
+ * benchmark results, the fitness metrics with their columnar kernels, the
+ * completion index of gym-wide adherence, the streaks and training load of a
+ * member, the metric plugins of the Fitness Summary, and the JSON form shared
+ * by the API server and the command line. It has no user interface and no
+ * files; crossfunctionalfitness.storage reads and writes the model.
+ */
+package crossfunctionalfitness.core;
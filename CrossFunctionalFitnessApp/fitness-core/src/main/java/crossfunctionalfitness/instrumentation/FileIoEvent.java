@@ -0,0 +1,87 @@
+package crossfunctionalfitness.instrumentation;
+
+import java.io.File;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * FileIoEvent is recorded for each read or write of a workout or profile
+ * file. Its bytes are the size of the file after the operation. The bytes are
+ * also added to a per-thread total, so that a UserActionEvent can report the
+ * file data its action read and wrote.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+@Name("crossfunctionalfitness.FileIO")
+@Label("File I/O")
+@Description("A read or write of a workout or profile file")
+public class FileIoEvent extends FitnessEvent {
+
+    // Operation names
+    public static final String READ = "read";
+    public static final String WRITE = "write";
+
+    // File bytes read and written by each thread while recording
+    private static final ThreadLocal<long[]> THREAD_BYTES = new ThreadLocal<long[]>() {
+        /**
+         * Returns the initial total of a thread.
+         *
+         * @return A zero total.
+         */
+        protected long[] initialValue() {
+            return new long[1];
+        }
+    };
+
+    @Label("Operation")
+    String operation;   // READ or WRITE
+
+    @Label("Path")
+    String path;        // The file read or written
+
+    /**
+     * Starts timing a file operation. It is called by FlightEvents once
+     * Flight Recorder is running.
+     *
+     * @param operation READ or WRITE.
+     * @param path      The file read or written.
+     * @param day       The program day of the file, or 0.
+     * @return The started event.
+     */
+    static FileIoEvent start(String operation, String path, int day) {
+        FileIoEvent event = new FileIoEvent();
+        if (event.isEnabled()) {
+            event.operation = operation;
+            event.path = path;
+        }
+        event.start(day);
+        return event;
+    }
+
+
+    /**
+     * Ends the file operation and records it with the size of the file.
+     */
+    void finish() {
+        end();
+        if (isEnabled()) {
+            bytes = new File(path).length(); // 0 if the file does not exist
+            THREAD_BYTES.get()[0] += bytes;
+        }
+        commit();
+    }
+
+
+    /**
+     * Returns the file bytes read and written by the current thread while a
+     * recording was running.
+     *
+     * @return The bytes.
+     */
+    static long getThreadBytes() {
+        return THREAD_BYTES.get()[0];
+    }
+}
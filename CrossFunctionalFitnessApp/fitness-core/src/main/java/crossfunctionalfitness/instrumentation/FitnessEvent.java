@@ -0,0 +1,50 @@
+package crossfunctionalfitness.instrumentation;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * FitnessEvent is the base of the program's Java Flight Recorder events. Every
+ * event carries the user, the program day and the bytes of file data involved,
+ * and JFR adds the start time, the duration and the thread. Events are only
+ * recorded while a recording is running, e.g.:
+ *
+ *     java -XX:StartFlightRecording=filename=kiosk.jfr -jar fitness-ui-1.0.jar
+ *
+ * Events are started and ended through FlightEvents. JfrActionReport turns
+ * such a recording into a per-action latency breakdown.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+@Category("Cross Functional Fitness")
+@StackTrace(false)
+public abstract class FitnessEvent extends Event {
+
+    @Label("User")
+    String user;    // Member name of the current user
+
+    @Label("Day")
+    int day;        // Program day, or 0 if the event is not about one day
+
+    @Label("Bytes")
+    @DataAmount
+    long bytes;     // Bytes of file data read or written
+
+    /**
+     * Sets the user and day of the event and starts timing it. The user is
+     * only looked up when the event is being recorded.
+     *
+     * @param eventDay The program day, or 0.
+     */
+    void start(int eventDay) {
+        if (isEnabled()) {
+            user = FlightEvents.getCurrentUser();
+            day = eventDay;
+        }
+        begin();
+    }
+}
@@ -0,0 +1,118 @@
+package crossfunctionalfitness.instrumentation;
+
+import jdk.jfr.FlightRecorder;
+
+/**
+ * FlightEvents starts and ends the program's Flight Recorder events. Setting
+ * up the first event class makes the JVM initialize Flight Recorder, which
+ * takes a few hundred milliseconds and would dominate the startup of the
+ * command line, so events are only created once Flight Recorder is running
+ * (started with -XX:StartFlightRecording, jcmd or JMX). Until then the start
+ * methods return null, which the other methods ignore. A file operation is
+ * timed as follows:
+ *
+ *     FileIoEvent event = FlightEvents.startFileIo(FileIoEvent.READ, filename, day);
+ *     try {
+ *         ... the operation ...
+ *     } finally {
+ *         FlightEvents.finish(event);
+ *     }
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public final class FlightEvents {
+
+    // Member name of the current user ("" if unknown)
+    private static volatile String currentUser = "";
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private FlightEvents() {
+    }
+
+
+    /**
+     * Starts timing a file operation.
+     *
+     * @param operation FileIoEvent.READ or FileIoEvent.WRITE.
+     * @param path      The file read or written.
+     * @param day       The program day of the file, or 0.
+     * @return The started event, or null if Flight Recorder is not running.
+     */
+    public static FileIoEvent startFileIo(String operation, String path, int day) {
+        return FlightRecorder.isInitialized() ? FileIoEvent.start(operation, path, day) : null;
+    }
+
+
+    /**
+     * Ends a file operation and records it.
+     *
+     * @param event The event returned by startFileIo, or null.
+     */
+    public static void finish(FileIoEvent event) {
+        if (event != null) {
+            event.finish();
+        }
+    }
+
+
+    /**
+     * Starts timing a user action.
+     *
+     * @param action Name of the action (e.g., UserActionEvent.SAVE).
+     * @param day    The program day, or 0 if the action is not about one day.
+     * @return The started event, or null if Flight Recorder is not running.
+     */
+    public static UserActionEvent startUserAction(String action, int day) {
+        return FlightRecorder.isInitialized() ? UserActionEvent.start(action, day) : null;
+    }
+
+
+    /**
+     * Ends a user action without recording it yet, e.g., before showing a
+     * confirmation dialog whose reading time is not part of the action.
+     *
+     * @param event The event returned by startUserAction, or null.
+     */
+    public static void end(UserActionEvent event) {
+        if (event != null) {
+            event.end();
+        }
+    }
+
+
+    /**
+     * Ends a user action, unless end was called, and records it.
+     *
+     * @param event The event returned by startUserAction, or null.
+     */
+    public static void finish(UserActionEvent event) {
+        if (event != null) {
+            event.finish();
+        }
+    }
+
+
+    /**
+     * Sets the member name recorded in later events. It is called by the
+     * profile store when the user profile is loaded, saved or deleted; the
+     * user interface and the API server load the profile when they start.
+     *
+     * @param memberName The member name, or null if no profile is saved.
+     */
+    public static void setCurrentUser(String memberName) {
+        currentUser = memberName == null ? "" : memberName;
+    }
+
+
+    /**
+     * Returns the member name recorded in events.
+     *
+     * @return The member name, or "" if no profile has been loaded.
+     */
+    static String getCurrentUser() {
+        return currentUser;
+    }
+}
@@ -0,0 +1,226 @@
+package crossfunctionalfitness.instrumentation;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Instrumentation is the registry of the program's timers and counters. Each
+ * persistence and compute operation holds an OperationTimer obtained once
+ * from timer(name), and events worth counting (e.g., unreadable workout
+ * times) hold a LongAdder from counter(name). Recording costs a clock read and
+ * an uncontended add, so instrumentation stays on in production; it can be
+ * turned off with -Dfitness.instrumentation=off.
+ *
+ * The results can be read as a text report with dump() (also served by the
+ * API server at GET /api/instrumentation) or through JMX once
+ * registerMBeans() has been called.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class Instrumentation {
+
+    // Whether timers record anything
+    public static final boolean ENABLED = !"off".equals(System.getProperty("fitness.instrumentation"));
+
+    // JMX domain of the registered beans
+    private static final String JMX_DOMAIN = "CrossFunctionalFitness";
+
+    // Timers by operation name
+    private static final Map<String, OperationTimer> TIMERS = new ConcurrentHashMap<>();
+
+    // Counters by name
+    private static final Map<String, LongAdder> COUNTERS = new ConcurrentHashMap<>();
+
+    // Other beans by JMX type, registered along with the timers
+    private static final Map<String, Object> BEANS = new ConcurrentHashMap<>();
+
+    // JMX server the beans are registered with (null until registerMBeans is called)
+    private static MBeanServer mbeanServer;
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private Instrumentation() {
+    }
+
+
+    /**
+     * Returns the timer of an operation, creating it on first use.
+     *
+     * @param name Name of the operation (e.g., "WorkoutStore.load").
+     * @return The timer.
+     */
+    public static OperationTimer timer(String name) {
+        OperationTimer timer = TIMERS.get(name);
+        if (timer == null) {
+            OperationTimer created = new OperationTimer(name);
+            timer = TIMERS.putIfAbsent(name, created);
+            if (timer == null) {
+                timer = created;
+                register(created);
+            }
+        }
+        return timer;
+    }
+
+
+    /**
+     * Returns a counter, creating it on first use.
+     *
+     * @param name Name of the counter (e.g., "FitnessMetricsCalculator.parseErrors").
+     * @return The counter.
+     */
+    public static LongAdder counter(String name) {
+        LongAdder counter = COUNTERS.get(name);
+        if (counter == null) {
+            LongAdder created = new LongAdder();
+            counter = COUNTERS.putIfAbsent(name, created);
+            if (counter == null) {
+                counter = created;
+            }
+        }
+        return counter;
+    }
+
+
+    /**
+     * Registers the registry and every timer with the platform JMX server.
+     * Timers created later are registered as they are created. This is left
+     * to the program's entry points because starting JMX takes time.
+     */
+    public static synchronized void registerMBeans() {
+        if (mbeanServer != null || !ENABLED) {
+            return;
+        }
+        mbeanServer = ManagementFactory.getPlatformMBeanServer();
+
+        try {
+            mbeanServer.registerMBean(new InstrumentationMXBean() {
+                /**
+                 * Returns the current value of every counter.
+                 *
+                 * @return The counter values by name.
+                 */
+                public Map<String, Long> getCounters() {
+                    Map<String, Long> values = new TreeMap<>();
+                    for (Map.Entry<String, LongAdder> entry : COUNTERS.entrySet()) {
+                        values.put(entry.getKey(), entry.getValue().sum());
+                    }
+                    return values;
+                }
+
+
+                /**
+                 * Returns a text report of every timer and counter.
+                 *
+                 * @return The report.
+                 */
+                public String getDump() {
+                    return dump();
+                }
+            }, new ObjectName(JMX_DOMAIN + ":type=Instrumentation"));
+        } catch (JMException e) {
+            e.printStackTrace(); // Log the exception for debugging purposes
+        }
+
+        for (OperationTimer timer : TIMERS.values()) {
+            register(timer);
+        }
+        for (Map.Entry<String, Object> entry : BEANS.entrySet()) {
+            register(entry.getKey(), entry.getValue());
+        }
+    }
+
+
+    /**
+     * Adds a bean to the registry, e.g., the EdtWatchdog. It is registered
+     * with JMX as "CrossFunctionalFitness:type=<type>" now if JMX has been
+     * started, or when registerMBeans() is called.
+     *
+     * @param type The JMX type of the bean.
+     * @param bean The bean, implementing an MXBean interface.
+     */
+    public static synchronized void registerMBean(String type, Object bean) {
+        BEANS.put(type, bean);
+        register(type, bean);
+    }
+
+
+    /**
+     * Returns a text report with one line per timer (calls, mean, median,
+     * 99th and 99.9th percentile and maximum in microseconds) followed by one
+     * line per counter, both sorted by name.
+     *
+     * @return The report.
+     */
+    public static String dump() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-40s %10s %10s %10s %10s %10s %10s%n", "operation", "calls", "mean_us", "p50_us",
+                "p99_us", "p999_us", "max_us"));
+        for (OperationTimer timer : new TreeMap<>(TIMERS).values()) {
+            LatencyHistogram histogram = timer.getHistogram();
+            sb.append(String.format("%-40s %10d %10.1f %10.1f %10.1f %10.1f %10.1f%n", timer.getName(),
+                    histogram.getCount(), histogram.getMeanNanos() / 1000.0,
+                    histogram.getPercentileNanos(50) / 1000.0, histogram.getPercentileNanos(99) / 1000.0,
+                    histogram.getPercentileNanos(99.9) / 1000.0, histogram.getMaxNanos() / 1000.0));
+        }
+
+        if (!COUNTERS.isEmpty()) {
+            sb.append(String.format("%n%-40s %10s%n", "counter", "value"));
+            for (Map.Entry<String, LongAdder> entry : new TreeMap<>(COUNTERS).entrySet()) {
+                sb.append(String.format("%-40s %10d%n", entry.getKey(), entry.getValue().sum()));
+            }
+        }
+        return sb.toString();
+    }
+
+
+    /**
+     * Registers a timer with the JMX server, if JMX has been started.
+     *
+     * @param timer The timer to register.
+     */
+    private static synchronized void register(OperationTimer timer) {
+        if (mbeanServer == null) {
+            return;
+        }
+        try {
+            ObjectName name = new ObjectName(JMX_DOMAIN + ":type=OperationTimer,name="
+                    + ObjectName.quote(timer.getName()));
+            if (!mbeanServer.isRegistered(name)) {
+                mbeanServer.registerMBean(timer, name);
+            }
+        } catch (JMException e) {
+            e.printStackTrace(); // Log the exception for debugging purposes
+        }
+    }
+
+
+    /**
+     * Registers a bean with the JMX server, if JMX has been started.
+     *
+     * @param type The JMX type of the bean.
+     * @param bean The bean.
+     */
+    private static synchronized void register(String type, Object bean) {
+        if (mbeanServer == null) {
+            return;
+        }
+        try {
+            ObjectName name = new ObjectName(JMX_DOMAIN + ":type=" + type);
+            if (!mbeanServer.isRegistered(name)) {
+                mbeanServer.registerMBean(bean, name);
+            }
+        } catch (JMException e) {
+            e.printStackTrace(); // Log the exception for debugging purposes
+        }
+    }
+}
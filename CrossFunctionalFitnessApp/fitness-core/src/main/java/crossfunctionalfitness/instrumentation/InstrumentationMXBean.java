@@ -0,0 +1,29 @@
+package crossfunctionalfitness.instrumentation;
+
+import java.util.Map;
+
+/**
+ * InstrumentationMXBean is the JMX view of the instrumentation registry,
+ * registered as "CrossFunctionalFitness:type=Instrumentation". It exposes the
+ * counters and the same text report as Instrumentation.dump().
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public interface InstrumentationMXBean {
+
+    /**
+     * Returns the current value of every counter.
+     *
+     * @return The counter values by name.
+     */
+    Map<String, Long> getCounters();
+
+
+    /**
+     * Returns a text report of every timer and counter.
+     *
+     * @return The report.
+     */
+    String getDump();
+}
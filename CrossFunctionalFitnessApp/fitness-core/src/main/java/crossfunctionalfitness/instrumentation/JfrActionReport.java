@@ -0,0 +1,243 @@
+package crossfunctionalfitness.instrumentation;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * JfrActionReport turns a Flight Recorder recording of the program into a
+ * per-action latency breakdown. For each user action (day navigation, Save,
+ * summary load) it prints the number of actions, their latency percentiles,
+ * and how much of the average action was spent in file I/O on the same
+ * thread. It then summarizes the file reads and writes, and lists the slowest
+ * actions with their user and day.
+ *
+ * Run with: java -cp fitness-core-1.0.jar crossfunctionalfitness.instrumentation.JfrActionReport recording.jfr [slowest]
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class JfrActionReport {
+
+    // Names of the events read from the recording
+    private static final String ACTION_EVENT = "crossfunctionalfitness.UserAction";
+    private static final String FILE_EVENT = "crossfunctionalfitness.FileIO";
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private JfrActionReport() {
+    }
+
+
+    /**
+     * Reads a recording and prints the report.
+     *
+     * @param args The recording file and, optionally, the number of slowest actions to list.
+     * @throws IOException if the recording cannot be read.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: JfrActionReport recording.jfr [slowest]");
+            System.exit(1);
+        }
+        int slowest = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+
+        System.out.print(report(Paths.get(args[0]), slowest));
+    }
+
+
+    /**
+     * Builds the report of a recording.
+     *
+     * @param recording The recording file.
+     * @param slowest   The number of slowest actions to list.
+     * @return The report.
+     * @throws IOException if the recording cannot be read.
+     */
+    public static String report(Path recording, int slowest) throws IOException {
+        List<RecordedEvent> actions = new ArrayList<>();
+        Map<Long, List<RecordedEvent>> filesByThread = new HashMap<>(); // File events of each thread
+
+        for (RecordedEvent event : RecordingFile.readAllEvents(recording)) {
+            String name = event.getEventType().getName();
+            if (name.equals(ACTION_EVENT)) {
+                actions.add(event);
+            } else if (name.equals(FILE_EVENT)) {
+                long thread = event.getThread() == null ? -1 : event.getThread().getJavaThreadId();
+                List<RecordedEvent> list = filesByThread.get(thread);
+                if (list == null) {
+                    list = new ArrayList<>();
+                    filesByThread.put(thread, list);
+                }
+                list.add(event);
+            }
+        }
+
+        StringBuilder sb = new StringBuilder();
+        appendActions(sb, actions, filesByThread);
+        appendFiles(sb, filesByThread);
+        appendSlowest(sb, actions, slowest);
+        return sb.toString();
+    }
+
+
+    /**
+     * Appends one line per action: count, latency percentiles, and the
+     * average time and bytes of file I/O within the action.
+     *
+     * @param sb            The report.
+     * @param actions       The user action events.
+     * @param filesByThread The file events of each thread.
+     */
+    private static void appendActions(StringBuilder sb, List<RecordedEvent> actions,
+            Map<Long, List<RecordedEvent>> filesByThread) {
+        Map<String, List<Long>> latencies = new TreeMap<>(); // Action durations by action name
+        Map<String, long[]> io = new HashMap<>();            // Total I/O nanos and bytes by action name
+
+        for (RecordedEvent action : actions) {
+            String name = action.getString("action");
+            List<Long> list = latencies.get(name);
+            if (list == null) {
+                list = new ArrayList<>();
+                latencies.put(name, list);
+                io.put(name, new long[2]);
+            }
+            list.add(action.getDuration().toNanos());
+
+            // Add the file I/O of the same thread that happened during the action
+            long thread = action.getThread() == null ? -1 : action.getThread().getJavaThreadId();
+            List<RecordedEvent> files = filesByThread.get(thread);
+            if (files != null) {
+                for (RecordedEvent file : files) {
+                    if (within(file, action.getStartTime(), action.getEndTime())) {
+                        io.get(name)[0] += file.getDuration().toNanos();
+                        io.get(name)[1] += file.getLong("bytes");
+                    }
+                }
+            }
+        }
+
+        sb.append(String.format("%-16s %7s %9s %9s %9s %9s %9s %7s %10s%n", "action", "count", "mean_ms", "p50_ms",
+                "p95_ms", "p99_ms", "max_ms", "io_%", "io_bytes"));
+        for (Map.Entry<String, List<Long>> entry : latencies.entrySet()) {
+            List<Long> list = entry.getValue();
+            Collections.sort(list);
+            long total = 0;
+            for (long nanos : list) {
+                total += nanos;
+            }
+            long[] actionIo = io.get(entry.getKey());
+            sb.append(String.format("%-16s %7d %9.2f %9.2f %9.2f %9.2f %9.2f %6.1f%% %10d%n", entry.getKey(),
+                    list.size(), total / (double) list.size() / 1e6, percentile(list, 50) / 1e6,
+                    percentile(list, 95) / 1e6, percentile(list, 99) / 1e6, list.get(list.size() - 1) / 1e6,
+                    total == 0 ? 0.0 : actionIo[0] * 100.0 / total, actionIo[1] / list.size()));
+        }
+    }
+
+
+    /**
+     * Appends one line per file operation: count, latency percentiles and
+     * total bytes.
+     *
+     * @param sb            The report.
+     * @param filesByThread The file events of each thread.
+     */
+    private static void appendFiles(StringBuilder sb, Map<Long, List<RecordedEvent>> filesByThread) {
+        Map<String, List<Long>> latencies = new TreeMap<>(); // Durations by operation
+        Map<String, Long> bytes = new HashMap<>();           // Total bytes by operation
+
+        for (List<RecordedEvent> files : filesByThread.values()) {
+            for (RecordedEvent file : files) {
+                String operation = file.getString("operation");
+                List<Long> list = latencies.get(operation);
+                if (list == null) {
+                    list = new ArrayList<>();
+                    latencies.put(operation, list);
+                    bytes.put(operation, 0L);
+                }
+                list.add(file.getDuration().toNanos());
+                bytes.put(operation, bytes.get(operation) + file.getLong("bytes"));
+            }
+        }
+
+        sb.append(String.format("%n%-16s %7s %9s %9s %9s %12s%n", "file_io", "count", "p50_ms", "p95_ms", "max_ms",
+                "bytes"));
+        for (Map.Entry<String, List<Long>> entry : latencies.entrySet()) {
+            List<Long> list = entry.getValue();
+            Collections.sort(list);
+            sb.append(String.format("%-16s %7d %9.3f %9.3f %9.3f %12d%n", entry.getKey(), list.size(),
+                    percentile(list, 50) / 1e6, percentile(list, 95) / 1e6, list.get(list.size() - 1) / 1e6,
+                    bytes.get(entry.getKey())));
+        }
+    }
+
+
+    /**
+     * Appends the slowest actions with their start time, user and day.
+     *
+     * @param sb      The report.
+     * @param actions The user action events.
+     * @param count   The number of actions to list.
+     */
+    private static void appendSlowest(StringBuilder sb, List<RecordedEvent> actions, int count) {
+        List<RecordedEvent> sorted = new ArrayList<>(actions);
+        sorted.sort(new Comparator<RecordedEvent>() {
+            /**
+             * Orders actions from the slowest to the fastest.
+             *
+             * @param a The first action.
+             * @param b The second action.
+             * @return A negative number if a is slower than b.
+             */
+            public int compare(RecordedEvent a, RecordedEvent b) {
+                return b.getDuration().compareTo(a.getDuration());
+            }
+        });
+
+        sb.append(String.format("%nslowest actions%n"));
+        for (int i = 0; i < Math.min(count, sorted.size()); i++) {
+            RecordedEvent action = sorted.get(i);
+            sb.append(String.format("%9.2f ms  %-16s day %-3d user %-20s at %s%n",
+                    action.getDuration().toNanos() / 1e6, action.getString("action"), action.getInt("day"),
+                    action.getString("user"), action.getStartTime()));
+        }
+    }
+
+
+    /**
+     * Returns whether an event happened within a time interval.
+     *
+     * @param event The event.
+     * @param start The start of the interval.
+     * @param end   The end of the interval.
+     * @return true if the event started and ended within the interval.
+     */
+    private static boolean within(RecordedEvent event, Instant start, Instant end) {
+        return !event.getStartTime().isBefore(start) && !event.getEndTime().isAfter(end);
+    }
+
+
+    /**
+     * Returns a percentile of sorted values (nearest rank).
+     *
+     * @param sorted     The values, sorted in ascending order.
+     * @param percentile The percentile, from 0 to 100.
+     * @return The value at the percentile.
+     */
+    private static long percentile(List<Long> sorted, double percentile) {
+        int rank = (int) Math.ceil(sorted.size() * percentile / 100.0);
+        return sorted.get(Math.max(0, Math.min(sorted.size() - 1, rank - 1)));
+    }
+}
@@ -0,0 +1,198 @@
+package crossfunctionalfitness.instrumentation;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LatencyHistogram counts durations in nanoseconds in log-linear buckets, in
+ * the style of HdrHistogram: every power of two is split into SUB_BUCKETS
+ * equal buckets, so any recorded value is known to within 1/SUB_BUCKETS
+ * (6.25%) of its true value, from nanoseconds up to about 18 minutes. Values
+ * below SUB_BUCKETS nanoseconds are counted exactly; longer values fall into
+ * the last bucket.
+ *
+ * Each bucket is a LongAdder, whose counter is split into cells when threads
+ * contend for it, so recording is a single uncontended add with no locking.
+ * No separate sum is kept, since that would double the cost of recording;
+ * the mean is estimated from the bucket midpoints, to the same precision as
+ * the percentiles. Reading the histogram sums the buckets and is meant for
+ * occasional reports.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class LatencyHistogram {
+
+    // Bits of the value kept below the leading bit, giving 16 buckets per power of two
+    private static final int SUB_BUCKET_BITS = 4;
+
+    // Buckets per power of two
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    // Largest power of two tracked (2^40 ns, about 18 minutes)
+    private static final int MAX_EXPONENT = 40;
+
+    // Number of buckets: the exact values below SUB_BUCKETS plus SUB_BUCKETS per power of two
+    private static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS]; // Count of values in each bucket
+
+    /**
+     * Constructor to initialize an empty LatencyHistogram.
+     */
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+
+    /**
+     * Records a duration.
+     *
+     * @param nanos The duration in nanoseconds; negative values are recorded as 0.
+     */
+    public void record(long nanos) {
+        buckets[bucketOf(Math.max(0, nanos))].increment();
+    }
+
+
+    /**
+     * Returns the number of recorded durations.
+     *
+     * @return The count.
+     */
+    public long getCount() {
+        long count = 0;
+        for (LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+
+    /**
+     * Returns the mean of the recorded durations, taking each duration as the
+     * midpoint of its bucket.
+     *
+     * @return The mean in nanoseconds, or 0.0 if nothing was recorded.
+     */
+    public double getMeanNanos() {
+        long count = 0;
+        double total = 0.0;
+        for (int i = 0; i < BUCKETS; i++) {
+            long bucketCount = buckets[i].sum();
+            count += bucketCount;
+            total += bucketCount * ((lowestValueOf(i) + highestValueOf(i)) / 2.0);
+        }
+        return count == 0 ? 0.0 : total / count;
+    }
+
+
+    /**
+     * Returns the duration below which a percentage of the recorded durations
+     * fall, as the midpoint of the bucket holding that percentile.
+     *
+     * @param percentile The percentile, from 0 to 100.
+     * @return The duration in nanoseconds, or 0 if nothing was recorded.
+     */
+    public long getPercentileNanos(double percentile) {
+        // Take one snapshot of the buckets so the count and the walk agree
+        long[] counts = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+            count += counts[i];
+        }
+        if (count == 0) {
+            return 0;
+        }
+
+        // Walk the buckets up to the rank of the percentile
+        long rank = Math.max(1, (long) Math.ceil(count * Math.min(100.0, Math.max(0.0, percentile)) / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return (lowestValueOf(i) + highestValueOf(i)) / 2;
+            }
+        }
+        return highestValueOf(BUCKETS - 1);
+    }
+
+
+    /**
+     * Returns the largest recorded duration, to the precision of its bucket.
+     *
+     * @return The duration in nanoseconds, or 0 if nothing was recorded.
+     */
+    public long getMaxNanos() {
+        for (int i = BUCKETS - 1; i >= 0; i--) {
+            if (buckets[i].sum() > 0) {
+                return highestValueOf(i);
+            }
+        }
+        return 0;
+    }
+
+
+    /**
+     * Clears all recorded durations. Durations recorded while the histogram
+     * is being cleared may or may not be kept.
+     */
+    public void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+    }
+
+
+    /**
+     * Returns the bucket of a value: the value itself below SUB_BUCKETS, then
+     * SUB_BUCKETS buckets for each power of two.
+     *
+     * @param value The value, not negative.
+     * @return The bucket index.
+     */
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value); // Position of the leading bit
+        if (exponent > MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+
+    /**
+     * Returns the smallest value counted in a bucket.
+     *
+     * @param bucket The bucket index.
+     * @return The smallest value.
+     */
+    static long lowestValueOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long subBucket = bucket % SUB_BUCKETS;
+        return (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+    }
+
+
+    /**
+     * Returns the largest value counted in a bucket.
+     *
+     * @param bucket The bucket index.
+     * @return The largest value.
+     */
+    static long highestValueOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        return lowestValueOf(bucket) + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+}
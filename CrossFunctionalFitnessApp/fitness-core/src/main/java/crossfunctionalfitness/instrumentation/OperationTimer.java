@@ -0,0 +1,157 @@
+package crossfunctionalfitness.instrumentation;
+
+/**
+ * OperationTimer measures how long one instrumented operation takes (e.g.,
+ * "WorkoutStore.load"). A call is timed as follows:
+ *
+ *     long start = TIMER.start();
+ *     try {
+ *         ... the operation ...
+ *     } finally {
+ *         TIMER.stop(start);
+ *     }
+ *
+ * Each stop records the elapsed time in a LatencyHistogram, which also counts
+ * the calls. When instrumentation is turned off (-Dfitness.instrumentation=off)
+ * start and stop do nothing and the JIT compiler removes them.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class OperationTimer implements OperationTimerMXBean {
+
+    private final String name;                  // Name of the timed operation
+    private final LatencyHistogram histogram = new LatencyHistogram(); // Recorded durations
+
+    /**
+     * Constructor to initialize an OperationTimer. Timers are created by
+     * Instrumentation.timer, which registers them by name.
+     *
+     * @param name Name of the timed operation.
+     */
+    OperationTimer(String name) {
+        this.name = name;
+    }
+
+
+    /**
+     * Returns the start time of a call.
+     *
+     * @return The current time in nanoseconds, or 0 if instrumentation is off.
+     */
+    public long start() {
+        return Instrumentation.ENABLED ? System.nanoTime() : 0;
+    }
+
+
+    /**
+     * Records a call that started at the given time.
+     *
+     * @param start The value returned by start().
+     */
+    public void stop(long start) {
+        if (Instrumentation.ENABLED) {
+            histogram.record(System.nanoTime() - start);
+        }
+    }
+
+
+    /**
+     * Records a call whose duration was measured by the caller.
+     *
+     * @param nanos The duration in nanoseconds.
+     */
+    public void record(long nanos) {
+        if (Instrumentation.ENABLED) {
+            histogram.record(nanos);
+        }
+    }
+
+
+    /**
+     * Returns the name of the timed operation.
+     *
+     * @return The name.
+     */
+    public String getName() {
+        return name;
+    }
+
+
+    /**
+     * Returns the histogram of recorded durations.
+     *
+     * @return The histogram.
+     */
+    public LatencyHistogram getHistogram() {
+        return histogram;
+    }
+
+
+    /**
+     * Returns the number of recorded calls.
+     *
+     * @return The count.
+     */
+    public long getCount() {
+        return histogram.getCount();
+    }
+
+
+    /**
+     * Returns the mean duration of a call.
+     *
+     * @return The mean in microseconds.
+     */
+    public double getMeanMicros() {
+        return histogram.getMeanNanos() / 1000.0;
+    }
+
+
+    /**
+     * Returns the median duration of a call.
+     *
+     * @return The median in microseconds.
+     */
+    public double getP50Micros() {
+        return histogram.getPercentileNanos(50) / 1000.0;
+    }
+
+
+    /**
+     * Returns the 99th percentile duration of a call.
+     *
+     * @return The 99th percentile in microseconds.
+     */
+    public double getP99Micros() {
+        return histogram.getPercentileNanos(99) / 1000.0;
+    }
+
+
+    /**
+     * Returns the 99.9th percentile duration of a call.
+     *
+     * @return The 99.9th percentile in microseconds.
+     */
+    public double getP999Micros() {
+        return histogram.getPercentileNanos(99.9) / 1000.0;
+    }
+
+
+    /**
+     * Returns the longest duration of a call.
+     *
+     * @return The maximum in microseconds.
+     */
+    public double getMaxMicros() {
+        return histogram.getMaxNanos() / 1000.0;
+    }
+
+
+    /**
+     * Clears the recorded calls.
+     */
+    public void reset() {
+        histogram.reset();
+    }
+}
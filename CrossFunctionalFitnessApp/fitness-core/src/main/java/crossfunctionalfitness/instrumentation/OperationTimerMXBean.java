@@ -0,0 +1,65 @@
+package crossfunctionalfitness.instrumentation;
+
+/**
+ * OperationTimerMXBean is the JMX view of an OperationTimer, registered as
+ * "CrossFunctionalFitness:type=OperationTimer,name=<operation>" so call counts
+ * and latencies can be read with JConsole or any JMX client.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public interface OperationTimerMXBean {
+
+    /**
+     * Returns the number of recorded calls.
+     *
+     * @return The count.
+     */
+    long getCount();
+
+
+    /**
+     * Returns the mean duration of a call.
+     *
+     * @return The mean in microseconds.
+     */
+    double getMeanMicros();
+
+
+    /**
+     * Returns the median duration of a call.
+     *
+     * @return The median in microseconds.
+     */
+    double getP50Micros();
+
+
+    /**
+     * Returns the 99th percentile duration of a call.
+     *
+     * @return The 99th percentile in microseconds.
+     */
+    double getP99Micros();
+
+
+    /**
+     * Returns the 99.9th percentile duration of a call.
+     *
+     * @return The 99.9th percentile in microseconds.
+     */
+    double getP999Micros();
+
+
+    /**
+     * Returns the longest duration of a call.
+     *
+     * @return The maximum in microseconds.
+     */
+    double getMaxMicros();
+
+
+    /**
+     * Clears the recorded calls.
+     */
+    void reset();
+}
@@ -0,0 +1,67 @@
+package crossfunctionalfitness.instrumentation;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * UserActionEvent is recorded for each user action whose latency matters on a
+ * kiosk: selecting a day in the workout program, saving a day and opening the
+ * Fitness Summary. Its bytes are the file data read and written by the action,
+ * as reported by the FileIoEvents it caused. An action is timed as follows:
+ *
+ *     UserActionEvent event = FlightEvents.startUserAction(UserActionEvent.SAVE, day);
+ *     try {
+ *         ... the action ...
+ *     } finally {
+ *         FlightEvents.finish(event);
+ *     }
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+@Name("crossfunctionalfitness.UserAction")
+@Label("User Action")
+@Description("A click in the user interface, from the click to the updated screen")
+public class UserActionEvent extends FitnessEvent {
+
+    // Action names
+    public static final String DAY_NAVIGATION = "Day navigation";
+    public static final String SAVE = "Save";
+    public static final String SUMMARY_LOAD = "Summary load";
+
+    @Label("Action")
+    String action;          // Name of the action
+
+    private transient long startBytes; // File bytes of the thread when the action started (not recorded)
+
+    /**
+     * Starts timing a user action. It is called by FlightEvents once Flight
+     * Recorder is running.
+     *
+     * @param action Name of the action (e.g., SAVE).
+     * @param day    The program day, or 0 if the action is not about one day.
+     * @return The started event.
+     */
+    static UserActionEvent start(String action, int day) {
+        UserActionEvent event = new UserActionEvent();
+        if (event.isEnabled()) {
+            event.action = action;
+            event.startBytes = FileIoEvent.getThreadBytes();
+        }
+        event.start(day);
+        return event;
+    }
+
+
+    /**
+     * Ends the action and records it. If end() was called earlier (e.g.,
+     * before showing a confirmation dialog), the action ends there.
+     */
+    void finish() {
+        if (isEnabled()) {
+            bytes = FileIoEvent.getThreadBytes() - startBytes;
+        }
+        commit();
+    }
+}
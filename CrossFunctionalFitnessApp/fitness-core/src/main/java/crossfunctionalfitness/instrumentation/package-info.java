@@ -0,0 +1,6 @@
+/**
+ * Timers, counters and latency histograms of the program's operations,
+ * exposed through JMX, and its Flight Recorder events. Every other module
+ * times its operations through this package.
+ */
+package crossfunctionalfitness.instrumentation;
@@ -0,0 +1,93 @@
+package crossfunctionalfitness.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that ColumnarMetricsCalculator and its kernels give the results of
+ * the list-based FitnessMetricsCalculator and of the MetricRegistry for the
+ * same workouts, unreadable and negative times included.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class ColumnarMetricsCalculatorTest {
+
+    /**
+     * The columnar metrics equal the list and registry metrics.
+     */
+    @Test
+    public void columnsMatchList() {
+        List<WorkoutData> workouts = FitnessMetricsCalculatorTest.randomWorkouts(new Random(11), 5000);
+        WorkoutColumns columns = new WorkoutColumns(16);
+        columns.addAll(0, workouts);
+        MetricResults registry = FitnessMetricsCalculator.calculateAll(workouts, null);
+
+        long total = FitnessMetricsCalculator.calculateTotalTime(workouts);
+        assertEquals(total, ColumnarMetricsCalculator.calculateTotalTime(columns));
+        assertEquals(total, registry.getValue("totalTime"));
+
+        double average = FitnessMetricsCalculator.calculateAverageTime(workouts);
+        assertEquals(average, ColumnarMetricsCalculator.calculateAverageTime(columns), 1e-9);
+        assertEquals(average, (Double) registry.getValue("averageTime"), 1e-9);
+
+        assertEquals(FitnessMetricsCalculator.calculateConsistencyScore(workouts, 6000),
+                ColumnarMetricsCalculator.calculateConsistencyScore(columns, 0, columns.size(), 6000));
+
+        String best = FitnessMetricsCalculator.calculatePersonalBests(workouts);
+        assertEquals(best, ColumnarMetricsCalculator.calculatePersonalBests(columns, 0, columns.size()));
+        assertEquals(best, registry.getValue("personalBest"));
+    }
+
+
+    /**
+     * Negative times are missing, whether they are parsed or added as numbers.
+     */
+    @Test
+    public void negativeTimesAreMissing() {
+        WorkoutColumns columns = new WorkoutColumns(4);
+        columns.add(0, new WorkoutData("Day 1", true, "-1"));
+        columns.add(0, 2, true, -30);
+        assertEquals(WorkoutColumns.MISSING_MINUTES, columns.getMinutes(0));
+        assertEquals(WorkoutColumns.MISSING_MINUTES, columns.getMinutes(1));
+        assertEquals(0, ColumnarMetricsCalculator.calculateTotalTime(columns));
+        assertEquals("No data available", ColumnarMetricsCalculator.calculatePersonalBests(columns, 0, 2));
+
+        columns.add(0, 3, true, 0);
+        assertEquals(0.0, ColumnarMetricsCalculator.calculateAverageTime(columns));
+        assertEquals("0 minutes on Day 3", ColumnarMetricsCalculator.calculatePersonalBests(columns, 0, 3));
+    }
+
+
+    /**
+     * The kernels in use give the results of the plain loops over any range,
+     * including ranges shorter than a vector and unaligned ones.
+     */
+    @Test
+    public void kernelsMatchScalar() {
+        WorkoutColumns columns = new WorkoutColumns(16);
+        columns.addAll(0, FitnessMetricsCalculatorTest.randomWorkouts(new Random(3), 1000));
+        MetricKernels kernels = MetricKernels.get();
+        assertEquals(VectorMetricKernels.class, kernels.getClass()); // The build adds the Vector API to the tests
+        ScalarMetricKernels scalar = new ScalarMetricKernels();
+        Random random = new Random(5);
+        for (int i = 0; i < 200; i++) {
+            int from = random.nextInt(columns.size());
+            int to = from + random.nextInt(columns.size() - from + 1);
+            String range = from + " to " + to;
+            assertEquals(scalar.sumMinutes(columns, from, to, false), kernels.sumMinutes(columns, from, to, false),
+                    range);
+            assertEquals(scalar.sumMinutes(columns, from, to, true), kernels.sumMinutes(columns, from, to, true),
+                    range);
+            assertEquals(scalar.countMinutes(columns, from, to, true), kernels.countMinutes(columns, from, to, true),
+                    range);
+            assertEquals(scalar.countCompleted(columns, from, to), kernels.countCompleted(columns, from, to), range);
+            assertEquals(scalar.maxMinutes(columns, from, to), kernels.maxMinutes(columns, from, to), range);
+        }
+        assertEquals(WorkoutColumns.MISSING_MINUTES, scalar.maxMinutes(columns, 10, 10));
+    }
+}
@@ -0,0 +1,128 @@
+package crossfunctionalfitness.core;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that the answers of CompletionIndex match a scan of every member's
+ * days, for the whole gym and for a cohort, as days are saved and saved
+ * again.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class CompletionIndexTest {
+
+    // Members and days of the random saves
+    private static final int MEMBERS = 3000;
+    private static final int DAYS = 40;
+
+    /**
+     * Random saves, some of them replacing a completed day, match a scan of
+     * the days.
+     */
+    @Test
+    public void queriesMatchScan() {
+        Random random = new Random(37);
+        CompletionIndex index = new CompletionIndex();
+        boolean[][] completed = new boolean[MEMBERS][DAYS + 1]; // Indexed by member and day
+        BitSet members = new BitSet();
+        for (int save = 0; save < 100000; save++) {
+            int member = random.nextInt(MEMBERS);
+            int day = 1 + random.nextInt(DAYS);
+            boolean isCompleted = random.nextInt(10) != 0;
+            index.set(member, day, isCompleted);
+            completed[member][day] = isCompleted;
+            members.set(member);
+        }
+        index.addMember(MEMBERS + 5); // A member with no saved days
+        members.set(MEMBERS + 5);
+
+        MemberBitmap cohort = new MemberBitmap();
+        BitSet cohortIds = new BitSet();
+        for (int member = 0; member < MEMBERS + 10; member += 3) {
+            cohort.add(member);
+            cohortIds.set(member);
+        }
+
+        assertEquals(members.cardinality(), index.getMemberCount());
+        assertArrayEquals(members.stream().toArray(), index.getMembers().toArray());
+        for (int fromDay = 1; fromDay <= DAYS; fromDay += 7) {
+            for (int toDay = fromDay; toDay <= DAYS + 2; toDay += 5) {
+                assertRange(index, completed, members, fromDay, toDay, null, null);
+                assertRange(index, completed, members, fromDay, toDay, cohort, cohortIds);
+            }
+        }
+        for (int member = 0; member < MEMBERS; member += 101) {
+            int longest = 0;
+            int current = 0;
+            int completedDays = 0;
+            for (int day = 1; day <= DAYS; day++) {
+                assertEquals(completed[member][day], index.isCompleted(member, day));
+                current = completed[member][day] ? current + 1 : 0;
+                longest = Math.max(longest, current);
+                completedDays += completed[member][day] ? 1 : 0;
+            }
+            assertEquals(longest, index.findLongestStreak(member, 1, DAYS));
+            assertEquals(completedDays * 100.0 / DAYS, index.calculateConsistencyScore(member, 1, DAYS), 1e-9);
+        }
+    }
+
+
+    /**
+     * Checks the range queries of the index against a scan of the days.
+     *
+     * @param index     The index.
+     * @param completed Whether each member completed each day.
+     * @param members   The members of the index.
+     * @param fromDay   The first day (inclusive).
+     * @param toDay     The last day (inclusive).
+     * @param cohort    The cohort, or null for every member.
+     * @param cohortIds The ids of the cohort, or null for every member.
+     */
+    private static void assertRange(CompletionIndex index, boolean[][] completed, BitSet members, int fromDay,
+            int toDay, MemberBitmap cohort, BitSet cohortIds) {
+        BitSet every = new BitSet();
+        BitSet any = new BitSet();
+        for (int member = members.nextSetBit(0); member >= 0; member = members.nextSetBit(member + 1)) {
+            if (cohortIds != null && !cohortIds.get(member)) {
+                continue;
+            }
+            boolean all = true;
+            for (int day = fromDay; day <= toDay; day++) {
+                boolean done = member < MEMBERS && day <= DAYS && completed[member][day];
+                all &= done;
+                if (done) {
+                    any.set(member);
+                }
+            }
+            if (all) {
+                every.set(member);
+            }
+        }
+        assertArrayEquals(every.stream().toArray(), index.completedEveryDay(fromDay, toDay, cohort).toArray());
+        assertArrayEquals(any.stream().toArray(), index.completedAnyDay(fromDay, toDay, cohort).toArray());
+
+        int worstDay = fromDay;
+        int worstCount = Integer.MAX_VALUE;
+        for (int day = fromDay; day <= toDay; day++) {
+            int count = 0;
+            for (int member = 0; member < MEMBERS; member++) {
+                if (day <= DAYS && completed[member][day] && (cohortIds == null || cohortIds.get(member))) {
+                    count++;
+                }
+            }
+            assertEquals(count, index.countCompleted(day, cohort));
+            if (count < worstCount) {
+                worstDay = day;
+                worstCount = count;
+            }
+        }
+        assertEquals(worstDay, index.findWorstDay(fromDay, toDay, cohort));
+    }
+}
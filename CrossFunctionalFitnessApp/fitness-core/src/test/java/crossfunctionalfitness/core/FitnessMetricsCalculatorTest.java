@@ -0,0 +1,115 @@
+package crossfunctionalfitness.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that the parallel form of FitnessMetricsCalculator gives the results
+ * of the sequential form, and that both read times by the same rule.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class FitnessMetricsCalculatorTest {
+
+    // Times that cannot be read, negative ones included
+    private static final String[] UNREADABLE = { "-1", "-30", "", "abc", "12.5", "99999999999" };
+
+    /**
+     * Negative and malformed times are skipped, by the sequential and the
+     * parallel form alike.
+     */
+    @Test
+    public void unreadableTimesAreSkipped() {
+        List<WorkoutData> workouts = List.of(new WorkoutData("Day 1", true, "30"), new WorkoutData("Day 2", true, "-1"),
+                new WorkoutData("Day 3", false, "abc"), new WorkoutData("Day 4", true, "-45"));
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            assertEquals(30, FitnessMetricsCalculator.calculateTotalTime(workouts));
+            assertEquals(30, FitnessMetricsCalculator.calculateTotalTime(workouts, pool));
+            assertEquals(30.0, FitnessMetricsCalculator.calculateAverageTime(workouts));
+            assertEquals(30.0, FitnessMetricsCalculator.calculateAverageTime(workouts, pool));
+            assertEquals("30 minutes on Day 1", FitnessMetricsCalculator.calculatePersonalBests(workouts));
+            assertEquals("30 minutes on Day 1", FitnessMetricsCalculator.calculatePersonalBests(workouts, pool));
+
+            List<WorkoutData> negative = List.of(new WorkoutData("Day 1", true, "-1"));
+            assertEquals("No data available", FitnessMetricsCalculator.calculatePersonalBests(negative));
+            assertEquals("No data available", FitnessMetricsCalculator.calculatePersonalBests(negative, pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+
+    /**
+     * Every metric of the parallel form equals the sequential form, on any
+     * number of threads, for a list of several chunks with unreadable times
+     * and tied personal bests.
+     */
+    @Test
+    public void parallelMatchesSequential() {
+        List<WorkoutData> workouts = randomWorkouts(new Random(7), 3 * MetricRegistry.CHUNK_SIZE + 17);
+
+        double average = FitnessMetricsCalculator.calculateAverageTime(workouts);
+        long before = FitnessMetricsCalculator.getParseErrors();
+        long total = FitnessMetricsCalculator.calculateTotalTime(workouts);
+        long unreadable = FitnessMetricsCalculator.getParseErrors() - before;
+        double consistency = FitnessMetricsCalculator.calculateConsistencyScore(workouts, 1000);
+        String best = FitnessMetricsCalculator.calculatePersonalBests(workouts);
+
+        for (int threads : new int[] { 1, 2, 4, 8 }) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                String name = threads + " threads";
+                assertEquals(average, FitnessMetricsCalculator.calculateAverageTime(workouts, pool), name);
+                before = FitnessMetricsCalculator.getParseErrors();
+                assertEquals(total, FitnessMetricsCalculator.calculateTotalTime(workouts, pool), name);
+                assertEquals(unreadable, FitnessMetricsCalculator.getParseErrors() - before, name);
+                assertEquals(consistency, FitnessMetricsCalculator.calculateConsistencyScore(workouts, 1000, pool),
+                        name);
+                assertEquals(best, FitnessMetricsCalculator.calculatePersonalBests(workouts, pool), name);
+
+                MetricResults all = FitnessMetricsCalculator.calculateAll(workouts, pool);
+                assertEquals(average, all.getValue("averageTime"), name);
+                assertEquals(total, all.getValue("totalTime"), name);
+                assertEquals(best, all.getValue("personalBest"), name);
+                assertEquals(unreadable, all.getUnreadableTimes(), name);
+            } finally {
+                pool.shutdown();
+            }
+        }
+        assertEquals(average, FitnessMetricsCalculator.calculateAverageTime(workouts, null));
+        assertEquals(best, FitnessMetricsCalculator.calculatePersonalBests(workouts, null));
+    }
+
+
+    /**
+     * Creates workouts with about a tenth of the times unreadable and a few
+     * days sharing the longest time.
+     *
+     * @param random The source of the workouts.
+     * @param count  The number of workouts.
+     * @return The workouts.
+     */
+    static List<WorkoutData> randomWorkouts(Random random, int count) {
+        List<WorkoutData> workouts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String time;
+            if (random.nextInt(10) == 0) {
+                time = UNREADABLE[random.nextInt(UNREADABLE.length)];
+            } else if (random.nextInt(500) == 0) {
+                time = "240"; // The longest time, on several days
+            } else {
+                time = String.valueOf(random.nextInt(200));
+            }
+            workouts.add(new WorkoutData("Day " + (1 + random.nextInt(90)), random.nextInt(4) != 0, time));
+        }
+        return workouts;
+    }
+}
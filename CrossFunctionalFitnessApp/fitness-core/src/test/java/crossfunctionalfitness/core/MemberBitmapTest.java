@@ -0,0 +1,116 @@
+package crossfunctionalfitness.core;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that MemberBitmap holds the same ids as a BitSet given the same
+ * changes, as its chunks turn from arrays to bitmaps and back, and that its
+ * intersections, unions and counts match those of BitSet.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class MemberBitmapTest {
+
+    // Ids the random changes fall on: several chunks of 65,536
+    private static final int IDS = 4 * 65536;
+
+    /**
+     * Random adds and removes, dense enough for some chunks to become
+     * bitmaps and sparse enough for others to stay arrays, match a BitSet.
+     */
+    @Test
+    public void changesMatchBitSet() {
+        Random random = new Random(29);
+        MemberBitmap bitmap = new MemberBitmap();
+        BitSet expected = new BitSet();
+        for (int round = 0; round < 4; round++) {
+            // Fill the first chunk past the array limit, then empty most of it again
+            int dense = round % 2 == 0 ? 20000 : 500;
+            for (int i = 0; i < dense; i++) {
+                int id = random.nextInt(65536);
+                bitmap.add(id);
+                expected.set(id);
+            }
+            for (int i = 0; i < 30000; i++) {
+                int id = random.nextInt(IDS);
+                if (random.nextInt(3) == 0) {
+                    bitmap.remove(id);
+                    expected.clear(id);
+                } else if (random.nextInt(8) == 0) {
+                    bitmap.add(id);
+                    expected.set(id);
+                }
+            }
+            assertMatches(expected, bitmap);
+        }
+        for (int id = 0; id < 65536; id++) {
+            bitmap.remove(id); // A bitmap chunk emptied
+            expected.clear(id);
+        }
+        assertMatches(expected, bitmap);
+
+        MemberBitmap copy = bitmap.copy();
+        BitSet copied = (BitSet) expected.clone();
+        bitmap.add(IDS + 1);
+        bitmap.remove(copied.nextSetBit(0));
+        assertMatches(copied, copy);
+    }
+
+
+    /**
+     * Intersections, unions and intersection counts of array and bitmap
+     * chunks match those of BitSet.
+     */
+    @Test
+    public void setOperationsMatchBitSet() {
+        Random random = new Random(31);
+        for (int trial = 0; trial < 20; trial++) {
+            BitSet[] sets = new BitSet[2];
+            MemberBitmap[] bitmaps = new MemberBitmap[2];
+            for (int s = 0; s < 2; s++) {
+                sets[s] = new BitSet();
+                bitmaps[s] = new MemberBitmap();
+                int count = random.nextInt(3) == 0 ? 100 : 40000; // Sparse or dense
+                int limit = random.nextBoolean() ? 65536 : IDS;
+                for (int i = 0; i < count; i++) {
+                    int id = random.nextInt(limit);
+                    sets[s].set(id);
+                    bitmaps[s].add(id);
+                }
+            }
+
+            BitSet and = (BitSet) sets[0].clone();
+            and.and(sets[1]);
+            BitSet or = (BitSet) sets[0].clone();
+            or.or(sets[1]);
+            assertMatches(and, MemberBitmap.and(bitmaps[0], bitmaps[1]));
+            assertMatches(or, MemberBitmap.or(bitmaps[0], bitmaps[1]));
+            assertEquals(and.cardinality(), MemberBitmap.andCardinality(bitmaps[0], bitmaps[1]));
+            assertMatches(sets[0], bitmaps[0]); // The operands are not changed
+            assertMatches(sets[1], bitmaps[1]);
+        }
+    }
+
+
+    /**
+     * Checks a bitmap against a BitSet of the same ids.
+     *
+     * @param expected The ids.
+     * @param bitmap   The bitmap.
+     */
+    private static void assertMatches(BitSet expected, MemberBitmap bitmap) {
+        assertEquals(expected.cardinality(), bitmap.cardinality());
+        assertEquals(expected.isEmpty(), bitmap.isEmpty());
+        assertArrayEquals(expected.stream().toArray(), bitmap.toArray());
+        for (int id = 0; id < expected.length() + 2; id += 97) {
+            assertEquals(expected.get(id), bitmap.contains(id));
+        }
+    }
+}
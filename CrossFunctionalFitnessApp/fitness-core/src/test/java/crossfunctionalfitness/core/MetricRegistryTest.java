@@ -0,0 +1,203 @@
+package crossfunctionalfitness.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that MetricRegistry gives the same results, for the standard metrics
+ * and for a registered metric that depends on the order of the workouts, on
+ * the calling thread and on pools of any size.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class MetricRegistryTest {
+
+    /**
+     * Evaluations in one pass, on one thread of a pool and on many threads
+     * give the same values, texts and unreadable times.
+     */
+    @Test
+    public void parallelMatchesSequential() {
+        MetricRegistry registry = new MetricRegistry();
+        for (Metric<?, ?> metric : StandardMetrics.getMetrics()) {
+            registry.register(metric);
+        }
+        registry.register(new FirstLongWorkout());
+
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool parallel = new ForkJoinPool(8);
+        try {
+            Random random = new Random(23);
+            for (int count : new int[] {0, 1, MetricRegistry.CHUNK_SIZE + 1, 20 * MetricRegistry.CHUNK_SIZE + 7}) {
+                List<WorkoutData> workouts = FitnessMetricsCalculatorTest.randomWorkouts(random, count);
+                MetricResults expected = registry.evaluate(workouts);
+                assertSameResults(expected, registry.evaluate(workouts, single));
+                assertSameResults(expected, registry.evaluate(workouts, parallel));
+                assertSameResults(expected, registry.evaluate(new LinkedList<>(workouts), parallel)); // Copied first
+                assertEquals(firstLongDay(workouts), expected.getValue("firstLongWorkout"));
+            }
+        } finally {
+            single.shutdown();
+            parallel.shutdown();
+        }
+    }
+
+
+    /**
+     * A second metric with a registered name is refused.
+     */
+    @Test
+    public void duplicateNameIsRefused() {
+        MetricRegistry registry = new MetricRegistry();
+        registry.register(new FirstLongWorkout());
+        try {
+            registry.register(new FirstLongWorkout());
+            fail("A metric was registered twice");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+        assertEquals(1, registry.getMetrics().size());
+    }
+
+
+    /**
+     * Checks that two evaluations have the same results, in the same order.
+     *
+     * @param expected The results of the evaluation in one pass.
+     * @param actual   The results to check.
+     */
+    private static void assertSameResults(MetricResults expected, MetricResults actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.getName(i), actual.getName(i));
+            assertEquals(expected.getValue(i), actual.getValue(i), expected.getName(i));
+            assertEquals(expected.getText(i), actual.getText(i));
+        }
+        assertEquals(expected.getUnreadableTimes(), actual.getUnreadableTimes());
+    }
+
+
+    /**
+     * Finds the day of the first completed workout of at least
+     * FirstLongWorkout.MINUTES, in list order.
+     *
+     * @param workouts The workouts.
+     * @return The day number, or 0 if there is none.
+     */
+    private static int firstLongDay(List<WorkoutData> workouts) {
+        for (WorkoutData workout : workouts) {
+            int minutes = WorkoutColumns.parseMinutes(workout.getTimeTaken());
+            if (workout.isCompleted() && minutes >= FirstLongWorkout.MINUTES) {
+                return WorkoutColumns.parseDay(workout.getDay());
+            }
+        }
+        return 0;
+    }
+
+
+    /**
+     * A metric whose result depends on the order of the workouts: the day of
+     * the first completed workout of at least MINUTES. It is only right if
+     * the chunks are combined in order.
+     */
+    private static final class FirstLongWorkout implements Metric<int[], Integer> {
+
+        // Shortest time of a long workout
+        static final int MINUTES = 180;
+
+        /**
+         * Returns the name of the metric.
+         *
+         * @return "firstLongWorkout".
+         */
+        public String getName() {
+            return "firstLongWorkout";
+        }
+
+
+        /**
+         * Returns the label of the metric.
+         *
+         * @return The label.
+         */
+        public String getLabel() {
+            return "First Long Workout";
+        }
+
+
+        /**
+         * Returns what the metric represents.
+         *
+         * @return The description.
+         */
+        public String getDescription() {
+            return "The day of the first completed workout of at least " + MINUTES + " minutes";
+        }
+
+
+        /**
+         * Creates an accumulator with no long workout.
+         *
+         * @return The day of the first long workout, 0 for none, as the only element.
+         */
+        public int[] createAccumulator() {
+            return new int[1];
+        }
+
+
+        /**
+         * Records the day of a long workout if none was recorded.
+         *
+         * @param accumulator The accumulator.
+         * @param workout     The workout.
+         * @param minutes     The parsed time taken.
+         */
+        public void accumulate(int[] accumulator, WorkoutData workout, int minutes) {
+            if (accumulator[0] == 0 && workout.isCompleted() && minutes >= MINUTES) {
+                accumulator[0] = WorkoutColumns.parseDay(workout.getDay());
+            }
+        }
+
+
+        /**
+         * Keeps the earlier chunk's long workout, if it has one.
+         *
+         * @param earlier The accumulator of the earlier workouts.
+         * @param later   The accumulator of the later workouts.
+         * @return The accumulator of both.
+         */
+        public int[] combine(int[] earlier, int[] later) {
+            return earlier[0] != 0 ? earlier : later;
+        }
+
+
+        /**
+         * Returns the recorded day.
+         *
+         * @param accumulator The accumulator of every workout.
+         * @return The day number, or 0 if there is none.
+         */
+        public Integer finish(int[] accumulator) {
+            return accumulator[0];
+        }
+
+
+        /**
+         * Formats the day.
+         *
+         * @param result The day number.
+         * @return The text, e.g., "Day 12", or "None".
+         */
+        public String format(Integer result) {
+            return result == 0 ? "None" : "Day " + result;
+        }
+    }
+}
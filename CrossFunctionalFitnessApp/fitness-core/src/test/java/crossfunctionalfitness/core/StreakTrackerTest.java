@@ -0,0 +1,116 @@
+package crossfunctionalfitness.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that the runs StreakTracker keeps up to date give the same streaks
+ * and counts as reading every day again after each change.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class StreakTrackerTest {
+
+    // Days the random changes fall on
+    private static final int DAYS = 60;
+
+    /**
+     * Random saves, in and out of day order, match a scan of the days after
+     * every save, and a copy is not changed by later saves.
+     */
+    @Test
+    public void runsMatchScanOfDays() {
+        Random random = new Random(5);
+        for (int trial = 0; trial < 50; trial++) {
+            StreakTracker tracker = new StreakTracker();
+            boolean[] completed = new boolean[DAYS + 1]; // Indexed by day
+            int lastDay = 0;
+            for (int change = 0; change < 300; change++) {
+                int day = 1 + random.nextInt(DAYS);
+                boolean isCompleted = random.nextInt(3) != 0;
+                tracker.set(day, isCompleted);
+                completed[day] = isCompleted;
+                lastDay = Math.max(lastDay, day);
+                assertMatches(completed, lastDay, tracker);
+            }
+
+            StreakTracker copy = tracker.copy();
+            boolean[] copied = completed.clone();
+            for (int day = 1; day <= DAYS; day++) {
+                tracker.set(day, !completed[day]);
+            }
+            assertMatches(copied, lastDay, copy);
+        }
+    }
+
+
+    /**
+     * A day saved again as not completed ends the current streak, and the
+     * latest day never moves back.
+     */
+    @Test
+    public void currentStreakEndsAtLatestDay() {
+        StreakTracker tracker = new StreakTracker();
+        for (int day = 1; day <= 5; day++) {
+            tracker.set(day, true);
+        }
+        assertEquals(5, tracker.getCurrentStreak());
+
+        tracker.set(3, false);
+        assertEquals(2, tracker.getCurrentStreak());
+        assertEquals(2, tracker.getLongestStreak());
+        assertEquals(2, tracker.getRunCount());
+
+        tracker.set(6, false);
+        assertEquals(0, tracker.getCurrentStreak());
+        tracker.set(2, true); // Already completed
+        assertEquals(0, tracker.getCurrentStreak());
+        assertEquals(6, tracker.getLastDay());
+        assertEquals(4, tracker.getCompletedDays());
+        assertEquals(2, tracker.getMissedDays()); // Days 3 and 6
+    }
+
+
+    /**
+     * Checks a tracker against a scan of every day.
+     *
+     * @param completed Whether each day is completed, indexed by day.
+     * @param lastDay   The latest recorded day.
+     * @param tracker   The tracker.
+     */
+    private static void assertMatches(boolean[] completed, int lastDay, StreakTracker tracker) {
+        int completedDays = 0;
+        int longest = 0;
+        int current = 0;
+        int runs = 0;
+        for (int day = 1; day <= lastDay; day++) {
+            if (completed[day]) {
+                completedDays++;
+                current++;
+                if (current == 1) {
+                    assertEquals(day, tracker.getRunStart(runs));
+                    runs++;
+                }
+                longest = Math.max(longest, current);
+            } else {
+                if (current > 0) {
+                    assertEquals(day - 1, tracker.getRunEnd(runs - 1));
+                }
+                current = 0;
+            }
+        }
+        if (current > 0) {
+            assertEquals(lastDay, tracker.getRunEnd(runs - 1));
+        }
+        assertEquals(runs, tracker.getRunCount());
+        assertEquals(lastDay, tracker.getLastDay());
+        assertEquals(completedDays, tracker.getCompletedDays());
+        assertEquals(lastDay - completedDays, tracker.getMissedDays());
+        assertEquals(longest, tracker.getLongestStreak());
+        assertEquals(current, tracker.getCurrentStreak());
+    }
+}
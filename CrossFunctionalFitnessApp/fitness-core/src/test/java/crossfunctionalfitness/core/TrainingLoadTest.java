@@ -0,0 +1,134 @@
+package crossfunctionalfitness.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that TrainingLoad gives the same averages, to the last bit, when days
+ * are set in any order as when every day is worked out again in day order,
+ * and that computeAll gives each member the load of compute on any pool.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class TrainingLoadTest {
+
+    // Days the random loads fall on
+    private static final int DAYS = 90;
+
+    // Members of the parallel test, enough rows for computeAll to split them
+    private static final int MEMBERS = 1000;
+
+    /**
+     * Days set in random order, some of them again, match the averages
+     * worked out from the first day after every change.
+     */
+    @Test
+    public void incrementalMatchesRecompute() {
+        Random random = new Random(3);
+        for (int trial = 0; trial < 20; trial++) {
+            TrainingLoad load = new TrainingLoad();
+            double[] loads = new double[DAYS + 1]; // Indexed by day
+            int lastDay = 0;
+            for (int change = 0; change < 200; change++) {
+                int day = 1 + random.nextInt(DAYS);
+                double kcal = random.nextInt(5) == 0 ? 0.0 : random.nextDouble() * 900;
+                load.set(day, kcal);
+                loads[day] = kcal;
+                lastDay = Math.max(lastDay, day);
+                assertMatches(loads, lastDay, load);
+            }
+
+            TrainingLoad copy = load.copy();
+            load.set(DAYS + 50, 100.0);
+            assertMatches(loads, lastDay, copy);
+        }
+    }
+
+
+    /**
+     * Sets of rows too small and large enough to be split give every member
+     * the load of compute over the member's workouts, on one thread and on
+     * many.
+     */
+    @Test
+    public void computeAllMatchesCompute() {
+        Random random = new Random(17);
+        List<List<WorkoutData>> workouts = new ArrayList<>();
+        double[] weightsKg = new double[MEMBERS + 1]; // The last member has no records
+        WorkoutColumns columns = new WorkoutColumns(16);
+        for (int member = 0; member < MEMBERS; member++) {
+            workouts.add(FitnessMetricsCalculatorTest.randomWorkouts(random, 1 + random.nextInt(40)));
+            weightsKg[member] = 45 + random.nextDouble() * 80;
+            columns.addAll(member, workouts.get(member));
+        }
+        weightsKg[MEMBERS] = 70;
+
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool parallel = new ForkJoinPool(8);
+        try {
+            TrainingLoad[] sequential = TrainingLoad.computeAll(columns, weightsKg, single);
+            TrainingLoad[] split = TrainingLoad.computeAll(columns, weightsKg, parallel);
+            assertEquals(MEMBERS + 1, split.length);
+            for (int member = 0; member < MEMBERS; member++) {
+                TrainingLoad expected = TrainingLoad.compute(weightsKg[member], workouts.get(member));
+                assertSameLoad(expected, sequential[member]);
+                assertSameLoad(expected, split[member]);
+            }
+            assertEquals(0, split[MEMBERS].getLastDay());
+        } finally {
+            single.shutdown();
+            parallel.shutdown();
+        }
+    }
+
+
+    /**
+     * Checks a training load against the averages worked out from the first
+     * day, in day order.
+     *
+     * @param loads   The load of each day, indexed by day.
+     * @param lastDay The latest set day.
+     * @param load    The training load.
+     */
+    private static void assertMatches(double[] loads, int lastDay, TrainingLoad load) {
+        double acuteWeight = 2.0 / (TrainingLoad.ACUTE_DAYS + 1);
+        double chronicWeight = 2.0 / (TrainingLoad.CHRONIC_DAYS + 1);
+        double acute = 0.0;
+        double chronic = 0.0;
+        double total = 0.0;
+        for (int day = 1; day <= lastDay; day++) {
+            acute = acuteWeight * loads[day] + (1 - acuteWeight) * acute;
+            chronic = chronicWeight * loads[day] + (1 - chronicWeight) * chronic;
+            total += loads[day];
+            assertEquals(loads[day], load.getLoad(day));
+            assertEquals(acute, load.getAcuteLoad(day));
+            assertEquals(chronic, load.getChronicLoad(day));
+        }
+        assertEquals(lastDay, load.getLastDay());
+        assertEquals(total, load.getTotalLoad());
+        assertEquals(chronic == 0 ? 0.0 : acute / chronic, load.getAcuteChronicRatio());
+    }
+
+
+    /**
+     * Checks that two training loads have the same days, to the last bit.
+     *
+     * @param expected The expected training load.
+     * @param actual   The training load to check.
+     */
+    private static void assertSameLoad(TrainingLoad expected, TrainingLoad actual) {
+        assertEquals(expected.getLastDay(), actual.getLastDay());
+        for (int day = 1; day <= expected.getLastDay(); day++) {
+            assertEquals(expected.getLoad(day), actual.getLoad(day));
+            assertEquals(expected.getAcuteLoad(day), actual.getAcuteLoad(day));
+            assertEquals(expected.getChronicLoad(day), actual.getChronicLoad(day));
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package crossfunctionalfitness.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests WorkoutParser against the descriptions of the program.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class WorkoutParserTest {
+
+    /**
+     * Parsing the rendered text of a workout gives back the same workout, for
+     * every day of the program.
+     */
+    @Test
+    public void renderedWorkoutParsesBack() {
+        for (int day = 1; day <= WorkoutProgram.getDayCount(); day++) {
+            Workout workout = WorkoutParser.parse(day, WorkoutProgram.getDescription(day));
+            Workout parsed = WorkoutParser.parse(day, workout.render());
+            assertEquals(describe(workout), describe(parsed), "Day " + day);
+            assertEquals(workout.render(), parsed.render(), "Day " + day);
+        }
+    }
+
+
+    /**
+     * Each "or" line of a description makes exactly one alternative exercise.
+     */
+    @Test
+    public void orMarksOneAlternative() {
+        for (int day = 1; day <= WorkoutProgram.getDayCount(); day++) {
+            String description = WorkoutProgram.getDescription(day);
+            int orLines = 0; // The "or" lines of the description
+            for (String line : description.split("\n")) {
+                if (line.trim().equalsIgnoreCase("or")) {
+                    orLines++;
+                }
+            }
+            int alternatives = 0; // The alternatives of the parsed workout
+            for (WorkoutBlock block : WorkoutParser.parse(day, description).getBlocks()) {
+                for (Exercise exercise : block.getExercises()) {
+                    if (exercise.isAlternative()) {
+                        alternatives++;
+                    }
+                }
+            }
+            assertEquals(orLines, alternatives, "Day " + day);
+        }
+    }
+
+
+    /**
+     * On day 13 the squats follow the jumping jacks instead of replacing them,
+     * so they count toward the volume.
+     */
+    @Test
+    public void exercisesAfterAlternativeAreNotAlternatives() {
+        Workout workout = WorkoutParser.parse(13, WorkoutProgram.getDescription(13));
+        List<Exercise> exercises = workout.getBlocks().get(1).getExercises();
+        assertEquals("300 Jumping Jacks", exercises.get(2).getText());
+        assertTrue(exercises.get(2).isAlternative());
+        assertEquals("60 squats (with or without weights)", exercises.get(3).getText());
+        assertFalse(exercises.get(3).isAlternative());
+        assertTrue(workout.render().contains("   300 Jumping Jacks\n   60 squats"));
+    }
+
+
+    /**
+     * Describes every block and exercise of a workout, for comparing two workouts.
+     *
+     * @param workout The workout.
+     * @return The description.
+     */
+    private static String describe(Workout workout) {
+        StringBuilder text = new StringBuilder(workout.toString());
+        for (WorkoutBlock block : workout.getBlocks()) {
+            text.append('\n').append(block.getType()).append(' ').append(block.getTitle()).append(' ')
+                    .append(block.getMinutes()).append('x').append(block.getRounds());
+            for (Exercise exercise : block.getExercises()) {
+                text.append("\n  ").append(exercise.isAlternative() ? "or " : "").append(exercise.getText())
+                        .append(' ').append(exercise.getReps()).append(' ').append(exercise.getDistanceMeters())
+                        .append(' ').append(exercise.getDurationSeconds());
+            }
+        }
+        return text.toString();
+    }
+}
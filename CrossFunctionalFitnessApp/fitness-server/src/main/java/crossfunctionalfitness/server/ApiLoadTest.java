@@ -0,0 +1,156 @@
+package crossfunctionalfitness.server;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ApiLoadTest measures the request rate of a running FitnessApiServer. Each
+ * connection is kept alive for the whole test and sends its requests in
+ * pipelined batches: a batch of GET requests is written at once and then the
+ * responses are read back in order. The target on a laptop is 10,000 requests
+ * per second.
+ *
+ * Run with: java -cp fitness-server-1.0.jar crossfunctionalfitness.server.ApiLoadTest
+ *           [host] [port] [path] [connections] [pipeline] [seconds]
+ * (defaults: localhost 8080 /api/metrics 8 16 10)
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class ApiLoadTest {
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private ApiLoadTest() {
+    }
+
+
+    /**
+     * Runs the load test and prints the request rate.
+     *
+     * @param args The command line arguments.
+     * @throws InterruptedException if interrupted while waiting for the connections.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        final String host = args.length > 0 ? args[0] : "localhost";
+        final int port = args.length > 1 ? Integer.parseInt(args[1]) : FitnessApiServer.DEFAULT_PORT;
+        final String path = args.length > 2 ? args[2] : "/api/metrics";
+        int connections = args.length > 3 ? Integer.parseInt(args[3]) : 8;
+        final int pipeline = args.length > 4 ? Integer.parseInt(args[4]) : 16;
+        int seconds = args.length > 5 ? Integer.parseInt(args[5]) : 10;
+
+        final long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        final AtomicLong completed = new AtomicLong(); // Responses received
+        final AtomicLong failed = new AtomicLong();    // Responses other than 2xx
+
+        // Send the same batch of pipelined requests over and over
+        StringBuilder batchText = new StringBuilder();
+        for (int i = 0; i < pipeline; i++) {
+            batchText.append("GET ").append(path).append(" HTTP/1.1\r\nHost: ").append(host).append("\r\n\r\n");
+        }
+        final byte[] batch = batchText.toString().getBytes(StandardCharsets.US_ASCII);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int c = 0; c < connections; c++) {
+            Thread thread = new Thread(new Runnable() {
+                /**
+                 * Sends batches over one connection until the deadline.
+                 */
+                public void run() {
+                    try (Socket socket = new Socket(host, port)) {
+                        socket.setTcpNoDelay(true);
+                        OutputStream out = socket.getOutputStream();
+                        InputStream in = new BufferedInputStream(socket.getInputStream());
+
+                        while (System.nanoTime() < deadline) {
+                            out.write(batch);
+                            out.flush();
+                            for (int i = 0; i < pipeline; i++) {
+                                if (readResponse(in) / 100 != 2) {
+                                    failed.incrementAndGet();
+                                }
+                                completed.incrementAndGet();
+                            }
+                        }
+                    } catch (IOException e) {
+                        System.err.println("Connection failed: " + e.getMessage());
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        System.out.printf("%d requests in %d s over %d connections (pipeline %d): %.0f requests/s, %d failed%n",
+                completed.get(), seconds, connections, pipeline, completed.get() / (double) seconds, failed.get());
+    }
+
+
+    /**
+     * Reads one HTTP response and skips its body.
+     *
+     * @param in The connection input.
+     * @return The status code of the response.
+     * @throws IOException if the connection is closed or the response is invalid.
+     */
+    private static int readResponse(InputStream in) throws IOException {
+        String statusLine = readLine(in);
+        int status = Integer.parseInt(statusLine.substring(9, 12)); // "HTTP/1.1 200 OK"
+
+        // Read the headers up to the empty line
+        long contentLength = 0;
+        String line;
+        while (!(line = readLine(in)).isEmpty()) {
+            if (line.regionMatches(true, 0, "Content-Length:", 0, 15)) {
+                contentLength = Long.parseLong(line.substring(15).trim());
+            }
+        }
+
+        // Skip the body
+        while (contentLength > 0) {
+            long skipped = in.skip(contentLength);
+            if (skipped <= 0) {
+                if (in.read() < 0) {
+                    throw new IOException("Connection closed");
+                }
+                skipped = 1;
+            }
+            contentLength -= skipped;
+        }
+        return status;
+    }
+
+
+    /**
+     * Reads one line terminated by CRLF.
+     *
+     * @param in The connection input.
+     * @return The line, without the line terminator.
+     * @throws IOException if the connection is closed.
+     */
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        int c;
+        while ((c = in.read()) != '\n') {
+            if (c < 0) {
+                throw new IOException("Connection closed");
+            }
+            if (c != '\r') {
+                sb.append((char) c);
+            }
+        }
+        return sb.toString();
+    }
+}
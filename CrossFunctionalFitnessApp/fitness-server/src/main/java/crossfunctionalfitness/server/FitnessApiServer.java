@@ -0,0 +1,572 @@
+package crossfunctionalfitness.server;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import crossfunctionalfitness.core.Json;
+import crossfunctionalfitness.core.ProfileQuery;
+import crossfunctionalfitness.core.ProfileValidator;
+import crossfunctionalfitness.core.UserProfile;
+import crossfunctionalfitness.core.WorkoutData;
+import crossfunctionalfitness.instrumentation.Instrumentation;
+import crossfunctionalfitness.storage.ProfileStore;
+
+/**
+ * FitnessApiServer is an embedded HTTP server that exposes the user profile,
+ * the daily workouts and the fitness metrics as JSON, so that the mobile app
+ * and the kiosks share the same backend as the desktop program:
+ *
+ * GET/PUT/DELETE /api/profile  - read, save or delete the user profile
+ * GET /api/members             - find members by name prefix, age band,
+ *                                weight range and fitness level (the
+ *                                parameters of ProfileQuery)
+ * GET /api/adherence           - how many members completed each day of a
+ *                                range of their plans (from, to and level)
+ * GET /api/workouts            - the workouts of every day
+ * GET/PUT /api/workouts/{day}  - read or save the workout of one day
+ * GET /api/metrics             - average time, total time, consistency score
+ *                                and personal best
+ * GET /api/streaks             - current and longest streak of completed
+ *                                days, with the runs and missed-day gaps
+ * GET /api/training-load       - estimated calories of each day and the
+ *                                7-day and 28-day training load averages
+ * GET /api/metrics/stream      - the same metrics as a Server-Sent Events
+ *                                stream, pushed whenever a workout is saved
+ * GET /api/instrumentation     - call counts and latencies of the
+ *                                persistence and compute operations (text)
+ *
+ * Connections are kept alive (HTTP/1.1) and pipelined requests on a connection
+ * are answered in order: every response has a fixed Content-Length and every
+ * request body is read in full before the response is sent, so the connection
+ * can carry the next request. Requests are handled by a fixed pool of threads
+ * with a bounded queue; when the queue is full, the accepting thread handles
+ * the request itself, which slows down accepting new requests instead of
+ * growing without limit.
+ *
+ * Run with: java -jar fitness-server-1.0.jar [port]
+ * (-Dfitness.server.threads=N sets the request threads and
+ * -Dfitness.stream.maxSubscribers=N the largest number of stream clients)
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class FitnessApiServer {
+
+    // Default port of the server
+    public static final int DEFAULT_PORT = 8080;
+
+    // Requests waiting for a thread before the accepting thread handles them itself
+    private static final int QUEUE_CAPACITY = 1024;
+
+    // Threads writing events to stream clients
+    private static final int STREAM_WRITER_THREADS = 2;
+
+    // Largest request body accepted, in bytes
+    private static final int MAX_BODY_BYTES = 16 * 1024;
+
+    static {
+        // The JDK server leaves Nagle's algorithm on by default, which holds back
+        // small responses on kept-alive connections for up to 40 ms
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private final FitnessService service;      // The shared backend
+    private final HttpServer server;           // The HTTP server
+    private final ThreadPoolExecutor executor; // Threads handling the requests
+    private final MetricsBroadcaster broadcaster; // Pushes metrics to stream clients
+
+    /**
+     * Constructor to initialize a FitnessApiServer. The server does not accept
+     * requests until it is started.
+     *
+     * @param service The backend to expose.
+     * @param port    The port to listen on (0 for any free port).
+     * @param threads The number of threads handling requests.
+     * @param maxSubscribers The largest number of clients of the metrics stream.
+     * @throws IOException if the port cannot be opened.
+     */
+    public FitnessApiServer(FitnessService service, int port, int threads, int maxSubscribers) throws IOException {
+        this.service = service;
+        this.server = HttpServer.create(new InetSocketAddress(port), QUEUE_CAPACITY);
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<Runnable>(QUEUE_CAPACITY), new ApiThreadFactory(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.broadcaster = new MetricsBroadcaster(service, maxSubscribers, STREAM_WRITER_THREADS);
+
+        server.createContext("/api/", new ApiHandler());
+        server.createContext("/api/metrics/stream", new StreamHandler());
+        server.setExecutor(executor);
+    }
+
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+    }
+
+
+    /**
+     * Stops the server, giving requests in progress time to finish.
+     *
+     * @param delaySeconds The longest time to wait for requests in progress.
+     */
+    public void stop(int delaySeconds) {
+        broadcaster.close(); // Stream clients would otherwise hold the server open
+        server.stop(delaySeconds);
+        executor.shutdown();
+    }
+
+
+    /**
+     * Returns the port the server listens on.
+     *
+     * @return The port.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+
+    /**
+     * Starts the server on the port given as the first argument, or on the
+     * default port. The number of threads is read from the system property
+     * "fitness.server.threads" and defaults to the number of processors; the
+     * largest number of stream clients is read from
+     * "fitness.stream.maxSubscribers".
+     *
+     * @param args The command line arguments: an optional port.
+     * @throws IOException if the port cannot be opened.
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        int threads = Integer.getInteger("fitness.server.threads", Runtime.getRuntime().availableProcessors());
+        int maxSubscribers = Integer.getInteger("fitness.stream.maxSubscribers",
+                MetricsBroadcaster.DEFAULT_MAX_SUBSCRIBERS);
+
+        Instrumentation.registerMBeans(); // Expose the timers and counters through JMX
+        FitnessService service = new FitnessService();
+        service.getProfile(); // Sets the member name recorded in Flight Recorder events
+        ProfileStore.getMemberIndex(); // Builds the member index before the first search
+        final FitnessApiServer apiServer = new FitnessApiServer(service, port, threads, maxSubscribers);
+        apiServer.start();
+        System.out.println("Fitness API listening on port " + apiServer.getPort() + " with " + threads
+                + " threads");
+
+        // Let requests in progress finish on Ctrl+C
+        Runtime.getRuntime().addShutdownHook(new Thread(new Runnable() {
+            /**
+             * Stops the server when the program exits.
+             */
+            public void run() {
+                apiServer.stop(1);
+            }
+        }));
+    }
+
+
+    /**
+     * Handles every request under /api/ and routes it by path and method.
+     */
+    private class ApiHandler implements HttpHandler {
+
+        /**
+         * Handles one request. Invalid requests are answered with 400 and a
+         * JSON error message; file errors are answered with 500.
+         *
+         * @param exchange The request and its response.
+         * @throws IOException if the response cannot be sent.
+         */
+        public void handle(HttpExchange exchange) throws IOException {
+            try {
+                String body = readBody(exchange); // Read in full so the connection can be reused
+                if (body == null) {
+                    sendError(exchange, 413, "Request body is too large");
+                    return;
+                }
+                route(exchange, body);
+            } catch (IllegalArgumentException e) {
+                sendError(exchange, 400, e.getMessage());
+            } catch (IOException e) {
+                e.printStackTrace(); // Log the exception for debugging purposes
+                sendError(exchange, 500, "An error occurred while accessing the data");
+            } finally {
+                exchange.close();
+            }
+        }
+
+
+        /**
+         * Routes a request to the matching endpoint.
+         *
+         * @param exchange The request and its response.
+         * @param body     The request body.
+         * @throws IOException if the data cannot be read or written.
+         */
+        private void route(HttpExchange exchange, String body) throws IOException {
+            String path = exchange.getRequestURI().getPath();
+            String method = exchange.getRequestMethod();
+
+            if (path.equals("/api/profile")) {
+                handleProfile(exchange, method, body);
+            } else if (path.equals("/api/members")) {
+                if (!method.equals("GET")) {
+                    sendMethodNotAllowed(exchange, "GET");
+                    return;
+                }
+                ProfileQuery query = ProfileQuery.parse(parseQuery(exchange.getRequestURI().getRawQuery()));
+                StringBuilder json = new StringBuilder("[");
+                for (UserProfile member : service.searchMembers(query)) {
+                    json.append(json.length() == 1 ? "" : ",").append(Json.toJson(member));
+                }
+                send(exchange, 200, json.append(']').toString());
+            } else if (path.equals("/api/adherence")) {
+                if (!method.equals("GET")) {
+                    sendMethodNotAllowed(exchange, "GET");
+                    return;
+                }
+                Map<String, String> parameters = parseQuery(exchange.getRequestURI().getRawQuery());
+                int fromDay = parseDay(parameters.getOrDefault("from", "1"));
+                int toDay = parseDay(parameters.getOrDefault("to", String.valueOf(service.getDayCount())));
+                send(exchange, 200, Json.toJson(service.getAdherence(fromDay, toDay,
+                        ProfileQuery.parseLevels(parameters.getOrDefault("level", "")))));
+            } else if (path.equals("/api/workouts")) {
+                if (!method.equals("GET")) {
+                    sendMethodNotAllowed(exchange, "GET");
+                    return;
+                }
+                StringBuilder json = new StringBuilder("[");
+                int day = 1;
+                for (WorkoutData workout : service.getWorkouts()) {
+                    if (day > 1) {
+                        json.append(',');
+                    }
+                    json.append(Json.toJson(day++, workout));
+                }
+                send(exchange, 200, json.append(']').toString());
+            } else if (path.startsWith("/api/workouts/")) {
+                handleWorkout(exchange, method, parseDay(path.substring("/api/workouts/".length())), body);
+            } else if (path.equals("/api/metrics")) {
+                if (!method.equals("GET")) {
+                    sendMethodNotAllowed(exchange, "GET");
+                    return;
+                }
+                send(exchange, 200, Json.toJson(service.getMetrics()));
+            } else if (path.equals("/api/streaks")) {
+                if (!method.equals("GET")) {
+                    sendMethodNotAllowed(exchange, "GET");
+                    return;
+                }
+                send(exchange, 200, Json.toJson(service.getStreaks()));
+            } else if (path.equals("/api/training-load")) {
+                if (!method.equals("GET")) {
+                    sendMethodNotAllowed(exchange, "GET");
+                    return;
+                }
+                send(exchange, 200, Json.toJson(service.getTrainingLoad()));
+            } else if (path.equals("/api/instrumentation")) {
+                if (!method.equals("GET")) {
+                    sendMethodNotAllowed(exchange, "GET");
+                    return;
+                }
+                send(exchange, 200, "text/plain; charset=utf-8", Instrumentation.dump());
+            } else {
+                sendError(exchange, 404, "Not found");
+            }
+        }
+
+
+        /**
+         * Handles the profile endpoint: GET reads, PUT saves and DELETE
+         * deletes the user profile.
+         *
+         * @param exchange The request and its response.
+         * @param method   The request method.
+         * @param body     The request body.
+         * @throws IOException if the profile cannot be read or written.
+         */
+        private void handleProfile(HttpExchange exchange, String method, String body) throws IOException {
+            switch (method) {
+                case "GET":
+                    UserProfile profile = service.getProfile();
+                    if (profile == null) {
+                        sendError(exchange, 404, "No profile saved");
+                    } else {
+                        send(exchange, 200, Json.toJson(profile));
+                    }
+                    break;
+                case "PUT":
+                    UserProfile saved = ProfileValidator.toProfile(Json.parseObject(body));
+                    service.saveProfile(saved);
+                    send(exchange, 200, Json.toJson(saved));
+                    break;
+                case "DELETE":
+                    if (service.deleteProfile()) {
+                        send(exchange, 204, null);
+                    } else {
+                        sendError(exchange, 404, "No profile saved");
+                    }
+                    break;
+                default:
+                    sendMethodNotAllowed(exchange, "GET, PUT, DELETE");
+            }
+        }
+
+
+        /**
+         * Handles the workout endpoint of one day: GET reads and PUT saves the
+         * workout.
+         *
+         * @param exchange The request and its response.
+         * @param method   The request method.
+         * @param day      The day number.
+         * @param body     The request body.
+         * @throws IOException if the workout cannot be written.
+         */
+        private void handleWorkout(HttpExchange exchange, String method, int day, String body) throws IOException {
+            switch (method) {
+                case "GET":
+                    send(exchange, 200, Json.toJson(day, service.getWorkout(day)));
+                    break;
+                case "PUT":
+                    Map<String, String> fields = Json.parseObject(body);
+                    String completed = fields.get("completed");
+                    if (!"true".equals(completed) && !"false".equals(completed)) {
+                        throw new IllegalArgumentException("completed must be true or false");
+                    }
+                    String timeTaken = requireField(fields, "timeTaken");
+                    if (parseWholeNumber(timeTaken) < 0) {
+                        throw new IllegalArgumentException("timeTaken must be a whole number of minutes");
+                    }
+                    WorkoutData workout = service.saveWorkout(day, Boolean.parseBoolean(completed), timeTaken);
+                    send(exchange, 200, Json.toJson(day, workout));
+                    break;
+                default:
+                    sendMethodNotAllowed(exchange, "GET, PUT");
+            }
+        }
+    }
+
+
+    /**
+     * Handles GET /api/metrics/stream by subscribing the client to the
+     * metrics broadcaster. The exchange stays open after the handler returns.
+     */
+    private class StreamHandler implements HttpHandler {
+
+        /**
+         * Subscribes the client, or answers 503 if the subscriber limit is reached.
+         *
+         * @param exchange The request and its response.
+         * @throws IOException if the response cannot be sent.
+         */
+        public void handle(HttpExchange exchange) throws IOException {
+            try {
+                if (!exchange.getRequestURI().getPath().equals("/api/metrics/stream")) {
+                    sendError(exchange, 404, "Not found");
+                } else if (!exchange.getRequestMethod().equals("GET")) {
+                    sendMethodNotAllowed(exchange, "GET");
+                } else if (broadcaster.subscribe(exchange)) {
+                    return; // Streaming; the broadcaster closes the exchange
+                } else {
+                    sendError(exchange, 503, "Too many stream clients");
+                }
+            } catch (IOException e) {
+                e.printStackTrace(); // Log the exception for debugging purposes
+            }
+            exchange.close();
+        }
+    }
+
+
+    /**
+     * Parses the query string of a request URI.
+     *
+     * @param rawQuery The query string as sent, or null if there is none.
+     * @return The decoded parameters by name.
+     */
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null) {
+            return parameters;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int equals = pair.indexOf('=');
+            String name = equals < 0 ? pair : pair.substring(0, equals);
+            String value = equals < 0 ? "" : pair.substring(equals + 1);
+            parameters.put(URLDecoder.decode(name, StandardCharsets.UTF_8),
+                    URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return parameters;
+    }
+
+
+    /**
+     * Returns a required, non-empty field, trimmed.
+     *
+     * @param fields The request fields.
+     * @param name   The field name.
+     * @return The field value.
+     * @throws IllegalArgumentException if the field is missing or empty.
+     */
+    private static String requireField(Map<String, String> fields, String name) {
+        String value = fields.get(name);
+        if (value == null || value.trim().isEmpty()) {
+            throw new IllegalArgumentException(name + " must not be empty");
+        }
+        return value.trim();
+    }
+
+
+    /**
+     * Parses a whole number, returning -1 if the text is not one.
+     *
+     * @param text The text to parse.
+     * @return The number, or -1 if the text is not a whole number.
+     */
+    private static int parseWholeNumber(String text) {
+        try {
+            return Integer.parseInt(text);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+
+    /**
+     * Parses the day number of a workout path.
+     *
+     * @param text The last path segment.
+     * @return The day number.
+     * @throws IllegalArgumentException if the segment is not a day number.
+     */
+    private static int parseDay(String text) {
+        int day = parseWholeNumber(text);
+        if (day < 0) {
+            throw new IllegalArgumentException("Invalid day: " + text);
+        }
+        return day;
+    }
+
+
+    /**
+     * Reads the request body in full, as UTF-8 text.
+     *
+     * @param exchange The request.
+     * @return The body, or null if it is larger than MAX_BODY_BYTES.
+     * @throws IOException if the body cannot be read.
+     */
+    private static String readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] body = in.readNBytes(MAX_BODY_BYTES + 1);
+            if (body.length > MAX_BODY_BYTES) {
+                return null;
+            }
+            return new String(body, StandardCharsets.UTF_8);
+        }
+    }
+
+
+    /**
+     * Sends a JSON response with a fixed length, so the connection stays open
+     * for the next request.
+     *
+     * @param exchange The request and its response.
+     * @param status   The HTTP status code.
+     * @param json     The JSON body, or null for no body.
+     * @throws IOException if the response cannot be sent.
+     */
+    private static void send(HttpExchange exchange, int status, String json) throws IOException {
+        send(exchange, status, "application/json; charset=utf-8", json);
+    }
+
+
+    /**
+     * Sends a response with a fixed length, so the connection stays open for
+     * the next request.
+     *
+     * @param exchange    The request and its response.
+     * @param status      The HTTP status code.
+     * @param contentType The content type of the body.
+     * @param body        The body, or null for no body.
+     * @throws IOException if the response cannot be sent.
+     */
+    private static void send(HttpExchange exchange, int status, String contentType, String body)
+            throws IOException {
+        if (body == null) {
+            exchange.sendResponseHeaders(status, -1); // No body
+            return;
+        }
+
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+
+    /**
+     * Sends a JSON error message.
+     *
+     * @param exchange The request and its response.
+     * @param status   The HTTP status code.
+     * @param message  The error message.
+     * @throws IOException if the response cannot be sent.
+     */
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        send(exchange, status, "{\"error\":" + Json.quote(message) + "}");
+    }
+
+
+    /**
+     * Sends a 405 response listing the allowed methods.
+     *
+     * @param exchange The request and its response.
+     * @param allowed  The allowed methods.
+     * @throws IOException if the response cannot be sent.
+     */
+    private static void sendMethodNotAllowed(HttpExchange exchange, String allowed) throws IOException {
+        exchange.getResponseHeaders().set("Allow", allowed);
+        sendError(exchange, 405, "Method not allowed");
+    }
+
+
+    /**
+     * Creates the named threads that handle requests.
+     */
+    private static class ApiThreadFactory implements ThreadFactory {
+
+        // Number of the next thread
+        private final AtomicInteger next = new AtomicInteger(1);
+
+        /**
+         * Creates a thread for the request pool.
+         *
+         * @param task The task the thread runs.
+         * @return The new thread.
+         */
+        public Thread newThread(Runnable task) {
+            return new Thread(task, "fitness-api-" + next.getAndIncrement());
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package crossfunctionalfitness.server;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import crossfunctionalfitness.core.Json;
+import crossfunctionalfitness.core.ProfileErrors;
+import crossfunctionalfitness.core.ProfileQuery;
+import crossfunctionalfitness.core.ProfileValidator;
+import crossfunctionalfitness.core.UserProfile;
+import crossfunctionalfitness.core.WorkoutData;
+import crossfunctionalfitness.storage.ProfileStore;
+
+/**
+ * FitnessCli runs one request against the saved profile and workouts and
+ * prints the result as JSON, in the same form as the API server. It only uses
+ * FitnessService and the headless core and storage modules, which need no AWT
+ * or Swing and no reflection, so it starts in
+ * milliseconds when compiled ahead of time as a native image and can be run
+ * once per request, e.g., from a serverless function.
+ *
+ * Usage, where FitnessCli stands for
+ * java -cp fitness-server-1.0.jar crossfunctionalfitness.server.FitnessCli
+ * (or the native image):
+ *
+ *     FitnessCli profile
+ *     FitnessCli workouts
+ *     FitnessCli workout <day>
+ *     FitnessCli save <day> <true|false> <minutes>
+ *     FitnessCli metrics
+ *     FitnessCli streaks
+ *     FitnessCli training-load
+ *     FitnessCli archive <cycle>
+ *     FitnessCli archived <cycle> <day>
+ *     FitnessCli check-profiles <file>
+ *     FitnessCli import-profiles <file>
+ *     FitnessCli search [<name>=<value> ...]
+ *     FitnessCli adherence <fromDay> <toDay> [<level>,...]
+ *
+ * check-profiles checks a file of profiles to import (see
+ * ProfileStore.readImport) with the rules of the New User form and lists
+ * every error of every invalid line; import-profiles also adds the valid
+ * profiles to the member directory. search finds members, with the
+ * parameters of ProfileQuery, e.g., "search last=ra level=Novice,Expert".
+ * adherence reports how many members of the member directory, or of the
+ * given fitness levels, completed each day of a range of their plans.
+ *
+ * The exit status is 0 on success, 1 for an unknown command, 2 for an invalid
+ * argument and 3 if a file cannot be read or written; errors are printed to
+ * the error stream.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class FitnessCli {
+
+    // Exit statuses
+    private static final int EXIT_USAGE = 1;
+    private static final int EXIT_INVALID = 2;
+    private static final int EXIT_IO = 3;
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private FitnessCli() {
+    }
+
+
+    /**
+     * Runs the request given on the command line.
+     *
+     * @param args The command and its arguments.
+     */
+    public static void main(String[] args) {
+        try {
+            String json = run(new FitnessService(), args);
+            if (json == null) {
+                System.err.println("Usage: FitnessCli profile | workouts | workout <day>"
+                        + " | save <day> <true|false> <minutes> | metrics | streaks | training-load"
+                        + " | archive <cycle> | archived <cycle> <day> | check-profiles <file> | import-profiles <file>"
+                        + " | search [<name>=<value> ...] | adherence <fromDay> <toDay> [<level>,...]");
+                System.exit(EXIT_USAGE);
+            }
+            System.out.println(json);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(EXIT_INVALID);
+        } catch (IOException e) {
+            System.err.println(e.getMessage());
+            System.exit(EXIT_IO);
+        }
+    }
+
+
+    /**
+     * Runs one request.
+     *
+     * @param service The service holding the profile and workouts.
+     * @param args    The command and its arguments.
+     * @return The JSON result, or null if the command is unknown.
+     * @throws IllegalArgumentException if an argument is invalid.
+     * @throws IOException              if a file cannot be read or written.
+     */
+    static String run(FitnessService service, String[] args) throws IOException {
+        String command = args.length > 0 ? args[0] : "";
+        switch (command) {
+            case "profile":
+                if (args.length == 1) {
+                    UserProfile profile = service.getProfile();
+                    return profile == null ? "null" : Json.toJson(profile);
+                }
+                break;
+            case "workouts":
+                if (args.length == 1) {
+                    StringBuilder json = new StringBuilder("[");
+                    List<WorkoutData> workouts = service.getWorkouts();
+                    for (int i = 0; i < workouts.size(); i++) {
+                        json.append(i == 0 ? "" : ",").append(Json.toJson(i + 1, workouts.get(i)));
+                    }
+                    return json.append(']').toString();
+                }
+                break;
+            case "workout":
+                if (args.length == 2) {
+                    int day = parseWholeNumber(args[1], "day");
+                    return Json.toJson(day, service.getWorkout(day));
+                }
+                break;
+            case "save":
+                if (args.length == 4) {
+                    int day = parseWholeNumber(args[1], "day");
+                    if (!"true".equals(args[2]) && !"false".equals(args[2])) {
+                        throw new IllegalArgumentException("completed must be true or false");
+                    }
+                    String timeTaken = String.valueOf(parseWholeNumber(args[3], "minutes"));
+                    return Json.toJson(day, service.saveWorkout(day, Boolean.parseBoolean(args[2]), timeTaken));
+                }
+                break;
+            case "metrics":
+                if (args.length == 1) {
+                    return Json.toJson(service.getMetrics());
+                }
+                break;
+            case "streaks":
+                if (args.length == 1) {
+                    return Json.toJson(service.getStreaks());
+                }
+                break;
+            case "training-load":
+                if (args.length == 1) {
+                    return Json.toJson(service.getTrainingLoad());
+                }
+                break;
+            case "archive":
+                if (args.length == 2) {
+                    int cycle = parseWholeNumber(args[1], "cycle");
+                    return "{\"cycle\":" + cycle + ",\"days\":" + service.archiveCycle(cycle) + "}";
+                }
+                break;
+            case "archived":
+                if (args.length == 3) {
+                    int day = parseWholeNumber(args[2], "day");
+                    WorkoutData workout = service.getArchivedWorkout(parseWholeNumber(args[1], "cycle"), day);
+                    return workout == null ? "null" : Json.toJson(day, workout);
+                }
+                break;
+            case "check-profiles":
+                if (args.length == 2) {
+                    List<UserProfile> profiles = ProfileStore.readImport(new File(args[1]));
+                    return toJson(profiles.size(), ProfileValidator.validateAll(profiles));
+                }
+                break;
+            case "import-profiles":
+                if (args.length == 2) {
+                    List<UserProfile> profiles = ProfileStore.readImport(new File(args[1]));
+                    return toJson(profiles.size(), service.importMembers(profiles));
+                }
+                break;
+            case "search":
+                Map<String, String> parameters = new HashMap<>();
+                for (int i = 1; i < args.length; i++) {
+                    int equals = args[i].indexOf('=');
+                    if (equals < 0) {
+                        throw new IllegalArgumentException("Search parameters are <name>=<value>: " + args[i]);
+                    }
+                    parameters.put(args[i].substring(0, equals), args[i].substring(equals + 1));
+                }
+                StringBuilder json = new StringBuilder("[");
+                for (UserProfile profile : service.searchMembers(ProfileQuery.parse(parameters))) {
+                    json.append(json.length() == 1 ? "" : ",").append(Json.toJson(profile));
+                }
+                return json.append(']').toString();
+            case "adherence":
+                if (args.length == 3 || args.length == 4) {
+                    List<String> levels = ProfileQuery.parseLevels(args.length == 4 ? args[3] : "");
+                    return Json.toJson(service.getAdherence(parseWholeNumber(args[1], "fromDay"),
+                            parseWholeNumber(args[2], "toDay"), levels));
+                }
+                break;
+            default:
+                break;
+        }
+        return null;
+    }
+
+
+    /**
+     * Returns the result of checking or importing profiles as JSON.
+     *
+     * @param profiles The number of profiles read.
+     * @param invalid  The errors of each invalid profile by its index.
+     * @return The number of profiles and invalid profiles, and the errors of
+     *         each invalid line.
+     */
+    private static String toJson(int profiles, Map<Integer, ProfileErrors> invalid) {
+        StringBuilder json = new StringBuilder();
+        json.append("{\"profiles\":").append(profiles).append(",\"invalid\":").append(invalid.size())
+                .append(",\"errors\":[");
+        boolean firstLine = true;
+        for (Map.Entry<Integer, ProfileErrors> entry : invalid.entrySet()) {
+            json.append(firstLine ? "" : ",").append("{\"line\":").append(entry.getKey() + 1).append(",\"errors\":[");
+            List<String> messages = entry.getValue().getMessages();
+            for (int i = 0; i < messages.size(); i++) {
+                json.append(i == 0 ? "" : ",").append(Json.quote(messages.get(i)));
+            }
+            json.append("]}");
+            firstLine = false;
+        }
+        return json.append("]}").toString();
+    }
+
+
+    /**
+     * Parses a whole number argument.
+     *
+     * @param text The argument.
+     * @param name Name of the argument, for the error message.
+     * @return The number.
+     * @throws IllegalArgumentException if the argument is not a whole number.
+     */
+    private static int parseWholeNumber(String text, String name) {
+        try {
+            int value = Integer.parseInt(text);
+            if (value >= 0) {
+                return value;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw new IllegalArgumentException(name + " must be a whole number: " + text);
+    }
+}
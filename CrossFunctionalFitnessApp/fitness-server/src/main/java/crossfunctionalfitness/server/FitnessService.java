@@ -0,0 +1,399 @@
+package crossfunctionalfitness.server;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import crossfunctionalfitness.core.AdherenceReport;
+import crossfunctionalfitness.core.CalorieEstimator;
+import crossfunctionalfitness.core.FitnessMetrics;
+import crossfunctionalfitness.core.MemberBitmap;
+import crossfunctionalfitness.core.ProfileErrors;
+import crossfunctionalfitness.core.ProfileQuery;
+import crossfunctionalfitness.core.ProfileValidator;
+import crossfunctionalfitness.core.StreakTracker;
+import crossfunctionalfitness.core.TrainingLoad;
+import crossfunctionalfitness.core.UserProfile;
+import crossfunctionalfitness.core.WorkoutData;
+import crossfunctionalfitness.core.WorkoutProgram;
+import crossfunctionalfitness.storage.ProfileStore;
+import crossfunctionalfitness.storage.WorkoutArchive;
+import crossfunctionalfitness.storage.WorkoutStore;
+
+/**
+ * FitnessService is the shared backend behind the API server: it reads and
+ * writes the user profile and the daily workouts through ProfileStore and
+ * WorkoutStore, and computes the fitness metrics, without any user interface.
+ *
+ * The profile, the workouts and the computed metrics are kept in memory after
+ * they are first read, so repeated requests do not touch the disk. A save
+ * writes through to the file first and then updates the cached copy; the
+ * metrics are recomputed on the next request after a workout changes, while
+ * the streaks and the training load are updated by the save itself. All
+ * methods are synchronized, so the files are never written by two requests at
+ * once. Listeners are told about every saved workout, so that connected
+ * clients can be pushed the new metrics. Member searches and adherence
+ * reports use the shared indexes of ProfileStore and WorkoutStore and do not
+ * wait for other requests.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class FitnessService {
+
+    /**
+     * Receives a notification each time a workout is saved.
+     */
+    public interface WorkoutListener {
+
+        /**
+         * Invoked after a workout has been saved, while the service is locked;
+         * implementations should only schedule work and return quickly.
+         *
+         * @param day     The day number of the workout.
+         * @param workout The saved workout.
+         */
+        void workoutSaved(int day, WorkoutData workout);
+    }
+
+    private final List<WorkoutListener> listeners = new CopyOnWriteArrayList<>(); // Notified of saved workouts
+    private final WorkoutData[] workouts;  // Cached workouts, indexed by day - 1 (null until read)
+    private UserProfile profile;           // Cached profile (null if none is saved)
+    private boolean profileLoaded;         // Whether the profile has been read
+    private FitnessMetrics metrics;        // Cached metrics (null when the workouts have changed)
+    private StreakTracker streaks;         // Streaks of the saved workouts (null until first read)
+    private TrainingLoad trainingLoad;     // Training load of the saved workouts (null until first read)
+    private double weightKg;               // The profile weight the training load was computed with
+
+    /**
+     * Constructor to initialize a FitnessService for the days of the workout program.
+     */
+    public FitnessService() {
+        this.workouts = new WorkoutData[WorkoutProgram.getDayCount()];
+    }
+
+
+    /**
+     * Returns the number of days in the workout program.
+     *
+     * @return The number of days.
+     */
+    public int getDayCount() {
+        return workouts.length;
+    }
+
+
+    /**
+     * Adds a listener to be notified each time a workout is saved.
+     *
+     * @param listener The listener to add.
+     */
+    public void addWorkoutListener(WorkoutListener listener) {
+        listeners.add(listener);
+    }
+
+
+    /**
+     * Returns the saved user profile.
+     *
+     * @return The profile, or null if none is saved.
+     * @throws IOException if the profile file cannot be read.
+     */
+    public synchronized UserProfile getProfile() throws IOException {
+        if (!profileLoaded) {
+            profile = ProfileStore.load();
+            profileLoaded = true;
+        }
+        return profile;
+    }
+
+
+    /**
+     * Saves the user profile, replacing any saved profile.
+     *
+     * @param newProfile The profile to save.
+     * @throws IOException if the profile file cannot be written.
+     */
+    public synchronized void saveProfile(UserProfile newProfile) throws IOException {
+        ProfileStore.save(newProfile);
+        profile = newProfile;
+        profileLoaded = true;
+        trainingLoad = null; // The weight may have changed
+    }
+
+
+    /**
+     * Deletes the saved user profile.
+     *
+     * @return true if a profile was deleted, false if none was saved.
+     */
+    public synchronized boolean deleteProfile() {
+        boolean deleted = ProfileStore.delete();
+        profile = null;
+        profileLoaded = true;
+        trainingLoad = null;
+        return deleted;
+    }
+
+
+    /**
+     * Returns the workout of a day. A day that has not been saved yet is
+     * returned as not completed, with a time of "0".
+     *
+     * @param day The day number, from 1 to getDayCount().
+     * @return The workout of the day.
+     */
+    public synchronized WorkoutData getWorkout(int day) {
+        checkDay(day);
+        if (workouts[day - 1] == null) {
+            workouts[day - 1] = WorkoutStore.load(day);
+        }
+        return workouts[day - 1];
+    }
+
+
+    /**
+     * Returns the workouts of every day of the program.
+     *
+     * @return The workouts, in day order.
+     */
+    public synchronized List<WorkoutData> getWorkouts() {
+        List<WorkoutData> list = new ArrayList<>(workouts.length);
+        for (int day = 1; day <= workouts.length; day++) {
+            list.add(getWorkout(day));
+        }
+        return list;
+    }
+
+
+    /**
+     * Saves the workout of a day. If a profile is saved, the day is then also
+     * recorded in the member's plan file, so the adherence reports include it.
+     * The workout stays saved, and the listeners are told, even if the plan
+     * file cannot be updated.
+     *
+     * @param day       The day number, from 1 to getDayCount().
+     * @param completed Whether the workout was completed.
+     * @param timeTaken The time taken in minutes.
+     * @return The saved workout.
+     * @throws IOException if the workout file cannot be written, or the plan file could not be updated after the
+     *                     workout was saved.
+     */
+    public synchronized WorkoutData saveWorkout(int day, boolean completed, String timeTaken) throws IOException {
+        checkDay(day);
+        WorkoutData workout = new WorkoutData("Day " + day, completed, timeTaken);
+        UserProfile saved = getProfile();
+        WorkoutStore.write(workout, day);
+        workouts[day - 1] = workout;
+        metrics = null; // Recompute the metrics on the next request
+        if (streaks != null) {
+            streaks.set(day, completed); // Only the runs around the day change
+        }
+        if (trainingLoad != null) {
+            trainingLoad.set(day, CalorieEstimator.estimateCalories(weightKg, day, workout));
+        }
+
+        // Tell the listeners about the saved workout
+        for (WorkoutListener listener : listeners) {
+            listener.workoutSaved(day, workout);
+        }
+
+        // Record the day in the member's plan last, so a failure there does not lose the save
+        if (saved != null) {
+            try {
+                WorkoutStore.writePlan(saved.getMemberName(), workout, day);
+            } catch (RuntimeException e) {
+                throw new IOException("Day " + day + " was saved, but the plan of " + saved.getMemberName()
+                        + " could not be updated", e);
+            }
+        }
+        return workout;
+    }
+
+
+    /**
+     * Finds members in the member directory.
+     *
+     * @param query The query.
+     * @return The matching profiles, ordered as by ProfileIndex.search.
+     * @throws IOException if the member directory cannot be read.
+     */
+    public List<UserProfile> searchMembers(ProfileQuery query) throws IOException {
+        return ProfileStore.getMemberIndex().search(query);
+    }
+
+
+    /**
+     * Reports the adherence of the members of the member directory to a
+     * range of days of their plans.
+     *
+     * @param fromDay       The first day (inclusive).
+     * @param toDay         The last day (inclusive).
+     * @param fitnessLevels The levels of the members to report on, or an empty list for every member.
+     * @return The computed report.
+     * @throws IllegalArgumentException if the range or a level is not valid.
+     * @throws IOException              if the member directory or a plan file cannot be read.
+     */
+    public AdherenceReport getAdherence(int fromDay, int toDay, List<String> fitnessLevels) throws IOException {
+        MemberBitmap cohort = fitnessLevels.isEmpty() ? null
+                : ProfileStore.getMemberIndex().getLevelMembers(fitnessLevels);
+        return AdherenceReport.compute(WorkoutStore.getCompletionIndex(), cohort, fromDay, toDay);
+    }
+
+
+    /**
+     * Adds the valid profiles of an import to the member directory, in one
+     * write, and skips the invalid ones.
+     *
+     * @param profiles The imported profiles.
+     * @return The errors of each invalid profile by its index in the list.
+     * @throws IOException if the member directory cannot be written.
+     */
+    public Map<Integer, ProfileErrors> importMembers(List<UserProfile> profiles) throws IOException {
+        Map<Integer, ProfileErrors> invalid = ProfileValidator.validateAll(profiles);
+        List<UserProfile> valid = new ArrayList<>(profiles.size() - invalid.size());
+        for (int i = 0; i < profiles.size(); i++) {
+            if (!invalid.containsKey(i)) {
+                valid.add(profiles.get(i));
+            }
+        }
+        ProfileStore.addMembers(valid);
+        return invalid;
+    }
+
+
+    /**
+     * Moves the saved workouts of a finished cycle into the profile member's
+     * archive, so the program starts again with no saved days.
+     *
+     * @param cycle The number of the finished cycle (1-based).
+     * @return The number of days archived.
+     * @throws IllegalArgumentException if no profile is saved, or the cycle is not valid or already archived.
+     * @throws IOException              if a file cannot be read or written.
+     */
+    public synchronized int archiveCycle(int cycle) throws IOException {
+        String member = getMemberName();
+        int archived = WorkoutArchive.archiveDayFiles(member, cycle);
+        WorkoutStore.clearPlan(member); // The plan starts again with the next cycle
+
+        // Every day now reads as not saved; tell the listeners about the cleared days
+        for (int day = 1; day <= workouts.length; day++) {
+            workouts[day - 1] = null;
+            WorkoutData workout = getWorkout(day);
+            for (WorkoutListener listener : listeners) {
+                listener.workoutSaved(day, workout);
+            }
+        }
+        metrics = null;
+        streaks = null;
+        trainingLoad = null;
+        return archived;
+    }
+
+
+    /**
+     * Returns a day of an archived cycle of the profile member.
+     *
+     * @param cycle The cycle number.
+     * @param day   The day number, from 1 to getDayCount().
+     * @return The workout of the day, or null if the cycle is not archived.
+     * @throws IllegalArgumentException if no profile is saved or the day is not part of the program.
+     * @throws IOException              if the archive cannot be read.
+     */
+    public synchronized WorkoutData getArchivedWorkout(int cycle, int day) throws IOException {
+        checkDay(day);
+        return WorkoutArchive.load(getMemberName(), cycle, day);
+    }
+
+
+    /**
+     * Returns the member name of the saved profile, which names the archive.
+     *
+     * @return The member name.
+     * @throws IllegalArgumentException if no profile is saved.
+     * @throws IOException              if the profile file cannot be read.
+     */
+    private String getMemberName() throws IOException {
+        UserProfile saved = getProfile();
+        if (saved == null) {
+            throw new IllegalArgumentException("Save a profile before using the archive");
+        }
+        return saved.getMemberName();
+    }
+
+
+    /**
+     * Returns the fitness metrics of all the workouts of the program.
+     *
+     * @return The computed metrics.
+     */
+    public synchronized FitnessMetrics getMetrics() {
+        if (metrics == null) {
+            metrics = FitnessMetrics.compute(getWorkouts());
+        }
+        return metrics;
+    }
+
+
+    /**
+     * Returns the streaks of the saved workouts: the current and longest
+     * streak of completed days, and the runs and gaps of the program. They are
+     * read from the saved days once and then kept up to date by each save.
+     *
+     * @return A copy of the streaks, which later saves do not change.
+     */
+    public synchronized StreakTracker getStreaks() {
+        if (streaks == null) {
+            streaks = new StreakTracker();
+            for (int day = 1; day <= workouts.length; day++) {
+                if (WorkoutStore.isSaved(day)) {
+                    streaks.set(day, getWorkout(day).isCompleted());
+                }
+            }
+        }
+        return streaks.copy();
+    }
+
+
+    /**
+     * Returns the training load of the saved workouts: the energy of each
+     * day's workout, estimated from the weight in the profile, and its acute
+     * and chronic averages. It is read from the saved days once and then kept
+     * up to date by each save.
+     *
+     * @return A copy of the training load, which later saves do not change.
+     * @throws IllegalArgumentException if no profile is saved or its weight is not valid.
+     * @throws IOException              if the profile file cannot be read.
+     */
+    public synchronized TrainingLoad getTrainingLoad() throws IOException {
+        if (trainingLoad == null) {
+            UserProfile saved = getProfile();
+            if (saved == null) {
+                throw new IllegalArgumentException("Save a profile before asking for the training load");
+            }
+            weightKg = CalorieEstimator.parseWeightKg(saved.getWeight());
+            trainingLoad = new TrainingLoad();
+            for (int day = 1; day <= workouts.length; day++) {
+                if (WorkoutStore.isSaved(day)) {
+                    trainingLoad.set(day, CalorieEstimator.estimateCalories(weightKg, day, getWorkout(day)));
+                }
+            }
+        }
+        return trainingLoad.copy();
+    }
+
+
+    /**
+     * Checks that a day number is part of the program.
+     *
+     * @param day The day number.
+     * @throws IllegalArgumentException if the day is not part of the program.
+     */
+    private void checkDay(int day) {
+        if (day < 1 || day > workouts.length) {
+            throw new IllegalArgumentException("Day must be between 1 and " + workouts.length);
+        }
+    }
+}
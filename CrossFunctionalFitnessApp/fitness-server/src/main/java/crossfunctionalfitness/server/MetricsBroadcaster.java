@@ -0,0 +1,366 @@
+package crossfunctionalfitness.server;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import crossfunctionalfitness.core.FitnessMetrics;
+import crossfunctionalfitness.core.Json;
+import crossfunctionalfitness.core.WorkoutData;
+
+/**
+ * MetricsBroadcaster pushes the fitness metrics to subscribed clients as a
+ * Server-Sent Events stream (GET /api/metrics/stream), so dashboards see new
+ * totals as soon as a workout is saved instead of polling for them.
+ *
+ * Bursts of saves are coalesced: the metrics are computed and published at
+ * most once per COALESCE_MILLIS, and an update that does not change the
+ * metrics is not sent at all. Each published event is encoded once and the
+ * same bytes are shared by every subscriber. A subscriber keeps no queue of
+ * its own, only the id of the last event it was sent; whenever it is ready to
+ * write, it is sent the latest event. A slow client therefore skips the
+ * updates it could not keep up with rather than building a backlog, and a
+ * client whose write makes no progress for WRITE_TIMEOUT_SECONDS is
+ * disconnected. A small, fixed pool of threads writes to all subscribers, so
+ * subscribers do not hold a thread while idle.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class MetricsBroadcaster implements FitnessService.WorkoutListener {
+
+    // Default largest number of connected subscribers
+    public static final int DEFAULT_MAX_SUBSCRIBERS = 10_000;
+
+    // Shortest time between two published events, so bursts of saves become one event
+    private static final long COALESCE_MILLIS = 250;
+
+    // Time between heartbeats, which keep idle connections open and detect closed ones
+    private static final long HEARTBEAT_SECONDS = 15;
+
+    // Time between checks for writes that make no progress
+    private static final long WRITE_CHECK_SECONDS = 5;
+
+    // Longest time a write may block before the subscriber is disconnected
+    private static final long WRITE_TIMEOUT_SECONDS = 30;
+
+    // Comment line sent as a heartbeat; clients ignore it
+    private static final byte[] HEARTBEAT = ": heartbeat\n\n".getBytes(StandardCharsets.UTF_8);
+
+    private final FitnessService service;       // Source of the metrics
+    private final int maxSubscribers;           // Largest number of connected subscribers
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet(); // Connected subscribers
+    private final AtomicInteger slots = new AtomicInteger(); // Subscribers connected or being subscribed
+    private final ThreadPoolExecutor writers;   // Threads writing events to subscribers
+    private final ScheduledExecutorService scheduler; // Publishes events and sends heartbeats
+    private final AtomicBoolean publishScheduled = new AtomicBoolean(); // Whether a publish is pending
+    private volatile Event latest;              // The latest event (null until first published)
+
+    /**
+     * Constructor to initialize a MetricsBroadcaster. The broadcaster
+     * registers itself with the service to be told about saved workouts.
+     *
+     * @param service        The backend whose metrics are pushed.
+     * @param maxSubscribers The largest number of connected subscribers.
+     * @param writerThreads  The number of threads writing to subscribers.
+     */
+    public MetricsBroadcaster(FitnessService service, int maxSubscribers, int writerThreads) {
+        this.service = service;
+        this.maxSubscribers = maxSubscribers;
+
+        // Each subscriber has at most one write task queued at a time
+        this.writers = new ThreadPoolExecutor(writerThreads, writerThreads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>());
+        this.scheduler = Executors.newSingleThreadScheduledExecutor();
+
+        scheduler.scheduleWithFixedDelay(new Runnable() {
+            /**
+             * Sends a heartbeat to every subscriber.
+             */
+            public void run() {
+                for (Subscriber subscriber : subscribers) {
+                    subscriber.heartbeatDue = true;
+                    subscriber.schedule();
+                }
+            }
+        }, HEARTBEAT_SECONDS, HEARTBEAT_SECONDS, TimeUnit.SECONDS);
+
+        scheduler.scheduleWithFixedDelay(new Runnable() {
+            /**
+             * Disconnects the subscribers whose write has made no progress.
+             */
+            public void run() {
+                long now = System.nanoTime();
+                for (Subscriber subscriber : subscribers) {
+                    subscriber.checkWriteTimeout(now);
+                }
+            }
+        }, WRITE_CHECK_SECONDS, WRITE_CHECK_SECONDS, TimeUnit.SECONDS);
+
+        service.addWorkoutListener(this);
+    }
+
+
+    /**
+     * Schedules the metrics to be published after a save. Saves that arrive
+     * before the publish runs are covered by the same event.
+     *
+     * @param day     The day number of the workout.
+     * @param workout The saved workout.
+     */
+    public void workoutSaved(int day, WorkoutData workout) {
+        if (publishScheduled.compareAndSet(false, true)) {
+            scheduler.schedule(new Runnable() {
+                /**
+                 * Publishes the metrics of all saves since the publish was scheduled.
+                 */
+                public void run() {
+                    publishScheduled.set(false); // Later saves schedule another publish
+                    publish(service.getMetrics());
+                }
+            }, COALESCE_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+
+    /**
+     * Starts streaming to a client. The response headers are sent at once and
+     * the client is sent the current metrics, then every change.
+     *
+     * @param exchange The request of the client; it stays open until the
+     *                 client disconnects or the broadcaster is closed.
+     * @return true if the client was subscribed, false if the subscriber limit is reached.
+     * @throws IOException if the response headers cannot be sent.
+     */
+    public boolean subscribe(HttpExchange exchange) throws IOException {
+        // Reserve a slot first, so clients subscribing at the same time cannot pass the limit
+        int reserved;
+        do {
+            reserved = slots.get();
+            if (reserved >= maxSubscribers) {
+                return false;
+            }
+        } while (!slots.compareAndSet(reserved, reserved + 1));
+
+        Subscriber subscriber;
+        try {
+            exchange.getResponseHeaders().set("Content-Type", "text/event-stream; charset=utf-8");
+            exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+            exchange.sendResponseHeaders(200, 0); // Chunked, open-ended response
+
+            // Publish the current metrics if nothing has been published yet
+            if (latest == null) {
+                publish(service.getMetrics());
+            }
+
+            subscriber = new Subscriber(exchange);
+        } catch (IOException | RuntimeException e) {
+            slots.decrementAndGet(); // The client was not subscribed
+            throw e;
+        }
+        subscribers.add(subscriber);
+        subscriber.schedule();
+        return true;
+    }
+
+
+    /**
+     * Returns the number of connected subscribers.
+     *
+     * @return The number of subscribers.
+     */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+
+    /**
+     * Stops publishing and disconnects every subscriber.
+     */
+    public void close() {
+        scheduler.shutdownNow();
+        writers.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.close();
+        }
+    }
+
+
+    /**
+     * Publishes metrics as a new event, unless they are the same as the
+     * latest event, and wakes every subscriber to send it.
+     *
+     * @param metrics The metrics to publish.
+     */
+    private synchronized void publish(FitnessMetrics metrics) {
+        String json = Json.toJson(metrics);
+        Event previous = latest;
+        if (previous != null && previous.json.equals(json)) {
+            return; // Nothing has changed
+        }
+
+        latest = new Event(previous == null ? 1 : previous.id + 1, json);
+        for (Subscriber subscriber : subscribers) {
+            subscriber.schedule();
+        }
+    }
+
+
+    /**
+     * A published metrics event, encoded once for all subscribers.
+     */
+    private static class Event {
+
+        private final long id;      // Sequence number of the event
+        private final String json;  // The metrics as JSON
+        private final byte[] bytes; // The event as sent on the stream
+
+        /**
+         * Constructor to initialize an Event.
+         *
+         * @param id   Sequence number of the event.
+         * @param json The metrics as JSON.
+         */
+        Event(long id, String json) {
+            this.id = id;
+            this.json = json;
+            this.bytes = ("id: " + id + "\nevent: metrics\ndata: " + json + "\n\n").getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+
+    /**
+     * One connected client. It holds only its connection, the id of the last
+     * event it was sent and a few flags; it is written to by one writer thread
+     * at a time.
+     */
+    private class Subscriber implements Runnable {
+
+        private final HttpExchange exchange;  // The open request of the client
+        private final OutputStream out;       // The response stream
+        private final AtomicBoolean scheduled = new AtomicBoolean(); // Whether a write task is queued or running
+        private long sentId;                  // Id of the last event sent
+        private volatile boolean heartbeatDue; // Whether a heartbeat should be sent
+        private final AtomicBoolean closed = new AtomicBoolean(); // Whether the client has been disconnected
+        private Thread writeThread;           // Thread blocked in a write (null when not writing)
+        private long writeStarted;            // When the current write started, in nanoseconds
+
+        /**
+         * Constructor to initialize a Subscriber.
+         *
+         * @param exchange The open request of the client.
+         */
+        Subscriber(HttpExchange exchange) {
+            this.exchange = exchange;
+            this.out = exchange.getResponseBody();
+        }
+
+
+        /**
+         * Queues a write task unless one is already queued or running.
+         */
+        void schedule() {
+            if (!closed.get() && scheduled.compareAndSet(false, true)) {
+                try {
+                    writers.execute(this);
+                } catch (RuntimeException e) {
+                    close(); // The broadcaster is closed
+                }
+            }
+        }
+
+
+        /**
+         * Sends the latest event, if it has not been sent yet, and any due
+         * heartbeat.
+         */
+        public void run() {
+            try {
+                while (!closed.get()) {
+                    Event event = latest;
+                    if (event != null && event.id > sentId) {
+                        write(event.bytes);
+                        sentId = event.id;
+                    } else if (heartbeatDue) {
+                        heartbeatDue = false;
+                        write(HEARTBEAT);
+                    } else {
+                        break; // Up to date
+                    }
+                }
+            } catch (IOException e) {
+                close(); // The client has gone away or stopped reading
+            }
+
+            // Catch up with anything published while the last write was in progress
+            scheduled.set(false);
+            Event event = latest;
+            if (!closed.get() && ((event != null && event.id > sentId) || heartbeatDue)) {
+                schedule();
+            }
+        }
+
+
+        /**
+         * Writes bytes to the client. The write can be interrupted by
+         * checkWriteTimeout, which closes the connection.
+         *
+         * @param bytes The bytes to write.
+         * @throws IOException if the bytes cannot be written.
+         */
+        private void write(byte[] bytes) throws IOException {
+            synchronized (this) {
+                writeThread = Thread.currentThread();
+                writeStarted = System.nanoTime();
+            }
+            try {
+                out.write(bytes);
+                out.flush();
+            } finally {
+                synchronized (this) {
+                    writeThread = null;
+                }
+                Thread.interrupted(); // Clear an interrupt that arrived as the write finished
+            }
+        }
+
+
+        /**
+         * Interrupts a write that has been blocked for longer than
+         * WRITE_TIMEOUT_SECONDS. Interrupting a blocked socket write closes the
+         * connection, so the writer thread is freed for other subscribers.
+         *
+         * @param now The current time, in nanoseconds.
+         */
+        synchronized void checkWriteTimeout(long now) {
+            if (writeThread != null && now - writeStarted > TimeUnit.SECONDS.toNanos(WRITE_TIMEOUT_SECONDS)) {
+                writeThread.interrupt();
+            }
+        }
+
+
+        /**
+         * Disconnects the client and releases its slot. Only the first call
+         * has any effect, whichever thread makes it.
+         */
+        void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            subscribers.remove(this);
+            slots.decrementAndGet();
+            exchange.close();
+        }
+    }
+}
@@ -0,0 +1,6 @@
+/**
+ * The headless front ends: the HTTP API server (FitnessApiServer) with its
+ * metrics stream and load generator, and the command line (FitnessCli), both
+ * on top of FitnessService.
+ */
+package crossfunctionalfitness.server;
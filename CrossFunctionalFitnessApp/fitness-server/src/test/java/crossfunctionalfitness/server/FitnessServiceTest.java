@@ -0,0 +1,144 @@
+package crossfunctionalfitness.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import crossfunctionalfitness.core.UserProfile;
+import crossfunctionalfitness.core.WorkoutProgram;
+import crossfunctionalfitness.storage.ProfileStore;
+import crossfunctionalfitness.storage.WorkoutStore;
+
+/**
+ * Tests that workouts saved through FitnessService reach the adherence
+ * reports, and stay saved when the plan cannot be. Each test saves its own
+ * member and uses its own days, so the tests do not depend on their order.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class FitnessServiceTest {
+
+    /**
+     * Deletes the files left by an earlier run, before the member directory
+     * is loaded.
+     */
+    @BeforeAll
+    public static void deleteOldFiles() {
+        File[] files = new File(".").listFiles();
+        for (File file : files) {
+            String name = file.getName();
+            if (name.endsWith(".dat") || name.endsWith(".seg") || name.endsWith("workout.txt")) {
+                file.delete();
+            }
+        }
+    }
+
+
+    /**
+     * Deletes the saved profile and day files, which are shared by every member.
+     */
+    @AfterEach
+    public void deleteDayFiles() {
+        ProfileStore.delete();
+        for (int day = 1; day <= WorkoutProgram.getDayCount(); day++) {
+            new File(WorkoutStore.filename(day)).delete();
+        }
+    }
+
+
+    /**
+     * A saved workout is counted by a report whose index was loaded before the save.
+     *
+     * @throws IOException if a file cannot be read or written.
+     */
+    @Test
+    public void savedWorkoutReachesLoadedIndex() throws IOException {
+        FitnessService service = new FitnessService();
+        service.getAdherence(1, 30, List.of()); // Loads the index
+        service.saveProfile(new UserProfile("Ada", "Lovelace", "36", "130", "Beginner"));
+
+        service.saveWorkout(3, true, "30");
+        assertEquals(1, service.getAdherence(3, 3, List.of()).getCompleted(3));
+
+        service.saveWorkout(3, false, "30");
+        assertEquals(0, service.getAdherence(3, 3, List.of()).getCompleted(3));
+    }
+
+
+    /**
+     * Days saved before the profile are imported into the member's plan with the
+     * first save after it.
+     *
+     * @throws IOException if a file cannot be read or written.
+     */
+    @Test
+    public void daysSavedBeforeProfileAreImported() throws IOException {
+        FitnessService service = new FitnessService();
+        service.deleteProfile();
+        service.saveWorkout(5, true, "20"); // No profile, so only the day file
+        service.saveProfile(new UserProfile("Grace", "Hopper", "40", "140", "Advanced"));
+        service.saveWorkout(6, true, "25");
+
+        assertEquals(1, service.getAdherence(5, 5, List.of()).getCompleted(5));
+        assertEquals(1, service.getAdherence(6, 6, List.of()).getCompleted(6));
+        assertEquals(2, WorkoutStore.loadRange("Grace Hopper", 1, 30).countCompleted());
+    }
+
+
+    /**
+     * Archiving a cycle removes its days from the reports.
+     *
+     * @throws IOException if a file cannot be read or written.
+     */
+    @Test
+    public void archivedCycleLeavesReports() throws IOException {
+        FitnessService service = new FitnessService();
+        service.saveProfile(new UserProfile("Alan", "Turing", "41", "150", "Intermediate"));
+        service.saveWorkout(8, true, "35");
+        assertEquals(1, service.getAdherence(8, 8, List.of()).getCompleted(8));
+
+        assertEquals(1, service.archiveCycle(1));
+        assertEquals(0, service.getAdherence(8, 8, List.of()).getCompleted(8));
+        assertEquals(0, WorkoutStore.loadRange("Alan Turing", 1, 30).countCompleted());
+    }
+
+
+    /**
+     * A member whose name has no ASCII letters saves days to their plan, and
+     * a plan that cannot be written is reported without losing the save.
+     *
+     * @throws IOException if a file cannot be read or written.
+     */
+    @Test
+    public void saveIsKeptWhenPlanFails() throws IOException {
+        FitnessService service = new FitnessService();
+        service.saveProfile(new UserProfile("\u738b", "\u4f1f", "29", "60", "Beginner"));
+        service.saveWorkout(10, true, "40");
+        assertEquals(1, service.getAdherence(10, 10, List.of()).getCompleted(10));
+        assertEquals(1, WorkoutStore.loadRange("\u738b \u4f1f", 1, 30).countCompleted());
+
+        service.saveProfile(new UserProfile("Mary-Ann", "Smith", "33", "65", "Beginner"));
+        service.getWorkout(11); // Cached before the save
+        File plan = WorkoutStore.planFile("Mary-Ann Smith");
+        assertTrue(plan.mkdir()); // A directory in place of the plan file cannot be written
+        try {
+            service.saveWorkout(11, true, "45");
+            fail("A plan that cannot be written was not reported");
+        } catch (IOException e) {
+            // Expected
+        } finally {
+            plan.delete();
+        }
+        assertEquals("Day: Day 11, Completed: true, Time Taken: 45", WorkoutStore.load(11).toString());
+        assertEquals("Day: Day 11, Completed: true, Time Taken: 45", service.getWorkout(11).toString());
+    }
+}
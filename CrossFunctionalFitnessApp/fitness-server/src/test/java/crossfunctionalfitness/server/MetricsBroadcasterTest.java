@@ -0,0 +1,338 @@
+package crossfunctionalfitness.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpContext;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpPrincipal;
+
+/**
+ * Tests the subscriber limit of MetricsBroadcaster: clients connecting at
+ * the same time to the metrics stream of a FitnessApiServer on a free port,
+ * and the slot of a client that has gone away.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class MetricsBroadcasterTest {
+
+    // Largest number of stream clients of the server
+    private static final int MAX_SUBSCRIBERS = 3;
+
+    // Clients connecting at the same time
+    private static final int CLIENTS = 24;
+
+    /**
+     * Clients connecting at the same time never pass the limit: exactly
+     * MAX_SUBSCRIBERS of them are streamed to and the others are turned away.
+     *
+     * @throws Exception if the server cannot be started or a client fails.
+     */
+    @Test
+    public void concurrentSubscribersStayWithinLimit() throws Exception {
+        FitnessApiServer server = new FitnessApiServer(new FitnessService(), 0, CLIENTS, MAX_SUBSCRIBERS);
+        server.start();
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        final List<HttpURLConnection> connections = new ArrayList<>();
+        try {
+            final URL url = new URL("http://localhost:" + server.getPort() + "/api/metrics/stream");
+            final CountDownLatch ready = new CountDownLatch(1);
+            List<Future<Integer>> statuses = new ArrayList<>();
+            for (int i = 0; i < CLIENTS; i++) {
+                statuses.add(clients.submit(new Callable<Integer>() {
+                    /**
+                     * Connects once every client is ready.
+                     *
+                     * @return The status of the response.
+                     * @throws Exception if the client cannot connect.
+                     */
+                    public Integer call() throws Exception {
+                        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+                        synchronized (connections) {
+                            connections.add(connection);
+                        }
+                        ready.await();
+                        return connection.getResponseCode();
+                    }
+                }));
+            }
+            ready.countDown();
+
+            int streamed = 0;
+            for (Future<Integer> status : statuses) {
+                int code = status.get();
+                if (code == 200) {
+                    streamed++;
+                } else {
+                    assertEquals(503, code);
+                }
+            }
+            assertEquals(MAX_SUBSCRIBERS, streamed);
+        } finally {
+            clients.shutdownNow();
+            synchronized (connections) {
+                for (HttpURLConnection connection : connections) {
+                    connection.disconnect();
+                }
+            }
+            server.stop(0);
+        }
+    }
+
+
+    /**
+     * A client whose stream fails is disconnected and gives its slot back, so
+     * another client can subscribe in its place.
+     *
+     * @throws Exception if a client cannot be subscribed.
+     */
+    @Test
+    public void disconnectedSubscriberReleasesItsSlot() throws Exception {
+        MetricsBroadcaster broadcaster = new MetricsBroadcaster(new FitnessService(), 1, 1);
+        try {
+            StubExchange broken = new StubExchange(true);
+            assertTrue(broadcaster.subscribe(broken));
+
+            // The first write fails and closes the client; wait for its slot
+            StubExchange next = new StubExchange(false);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (!broadcaster.subscribe(next)) {
+                assertTrue(System.nanoTime() < deadline, "The slot was not released");
+                Thread.sleep(10);
+            }
+            assertTrue(broken.closed);
+            assertEquals(1, broadcaster.getSubscriberCount());
+            assertFalse(broadcaster.subscribe(new StubExchange(false)));
+        } finally {
+            broadcaster.close();
+        }
+    }
+
+
+    /**
+     * An exchange with no connection behind it, whose response body can be
+     * made to fail like a client that has gone away.
+     */
+    private static class StubExchange extends HttpExchange {
+
+        private final Headers requestHeaders = new Headers();   // Always empty
+        private final Headers responseHeaders = new Headers();  // Set by the broadcaster
+        private final OutputStream body;                        // The response body
+        private volatile boolean closed;                        // Whether close was called
+
+        /**
+         * Constructor to initialize a StubExchange.
+         *
+         * @param broken Whether every write to the response body fails.
+         */
+        StubExchange(final boolean broken) {
+            this.body = new OutputStream() {
+                /**
+                 * Discards a byte, or fails if the exchange is broken.
+                 *
+                 * @param b The byte.
+                 * @throws IOException if the exchange is broken.
+                 */
+                public void write(int b) throws IOException {
+                    if (broken) {
+                        throw new IOException("Broken pipe");
+                    }
+                }
+            };
+        }
+
+
+        /**
+         * Returns the request headers.
+         *
+         * @return No headers.
+         */
+        public Headers getRequestHeaders() {
+            return requestHeaders;
+        }
+
+
+        /**
+         * Returns the response headers.
+         *
+         * @return The headers set so far.
+         */
+        public Headers getResponseHeaders() {
+            return responseHeaders;
+        }
+
+
+        /**
+         * Returns the request URI.
+         *
+         * @return The metrics stream.
+         */
+        public URI getRequestURI() {
+            return URI.create("/api/metrics/stream");
+        }
+
+
+        /**
+         * Returns the request method.
+         *
+         * @return GET.
+         */
+        public String getRequestMethod() {
+            return "GET";
+        }
+
+
+        /**
+         * Returns the context of the request.
+         *
+         * @return null, as there is no server.
+         */
+        public HttpContext getHttpContext() {
+            return null;
+        }
+
+
+        /**
+         * Marks the exchange as closed.
+         */
+        public void close() {
+            closed = true;
+        }
+
+
+        /**
+         * Returns the request body.
+         *
+         * @return An empty stream.
+         */
+        public InputStream getRequestBody() {
+            return new ByteArrayInputStream(new byte[0]);
+        }
+
+
+        /**
+         * Returns the response body.
+         *
+         * @return The stream given to the constructor.
+         */
+        public OutputStream getResponseBody() {
+            return body;
+        }
+
+
+        /**
+         * Ignores the response headers, as there is no client.
+         *
+         * @param rCode          The status.
+         * @param responseLength The length of the body.
+         */
+        public void sendResponseHeaders(int rCode, long responseLength) {
+            // Nothing to send
+        }
+
+
+        /**
+         * Returns the address of the client.
+         *
+         * @return null, as there is no client.
+         */
+        public InetSocketAddress getRemoteAddress() {
+            return null;
+        }
+
+
+        /**
+         * Returns the status of the response.
+         *
+         * @return -1, as no status is kept.
+         */
+        public int getResponseCode() {
+            return -1;
+        }
+
+
+        /**
+         * Returns the address of the server.
+         *
+         * @return null, as there is no server.
+         */
+        public InetSocketAddress getLocalAddress() {
+            return null;
+        }
+
+
+        /**
+         * Returns the protocol of the request.
+         *
+         * @return HTTP/1.1.
+         */
+        public String getProtocol() {
+            return "HTTP/1.1";
+        }
+
+
+        /**
+         * Returns an attribute of the exchange.
+         *
+         * @param name The name of the attribute.
+         * @return null, as no attributes are kept.
+         */
+        public Object getAttribute(String name) {
+            return null;
+        }
+
+
+        /**
+         * Ignores an attribute of the exchange.
+         *
+         * @param name  The name of the attribute.
+         * @param value The value of the attribute.
+         */
+        public void setAttribute(String name, Object value) {
+            // No attributes are kept
+        }
+
+
+        /**
+         * Ignores the filtered streams of the exchange.
+         *
+         * @param i The request stream.
+         * @param o The response stream.
+         */
+        public void setStreams(InputStream i, OutputStream o) {
+            // No filters are used
+        }
+
+
+        /**
+         * Returns the authenticated client.
+         *
+         * @return null, as there is no authentication.
+         */
+        public HttpPrincipal getPrincipal() {
+            return null;
+        }
+    }
+}
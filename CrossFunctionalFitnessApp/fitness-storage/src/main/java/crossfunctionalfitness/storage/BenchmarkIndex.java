@@ -0,0 +1,477 @@
+package crossfunctionalfitness.storage;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import crossfunctionalfitness.core.BenchmarkComparison;
+import crossfunctionalfitness.core.BenchmarkResult;
+import crossfunctionalfitness.core.WorkoutProgram;
+import crossfunctionalfitness.instrumentation.Instrumentation;
+import crossfunctionalfitness.instrumentation.OperationTimer;
+
+/**
+ * BenchmarkIndex records benchmark test results (Day 7, 14, 21 and 30 of the
+ * program) and compares them across program cycles and across members at the
+ * same fitness level.
+ *
+ * Results are indexed by member and benchmark day, ordered by cycle. A result
+ * is recorded under the member's program cycle (WorkoutArchive.getCurrentCycle),
+ * so saving a benchmark day again within a cycle, on any date, replaces its
+ * result; only archiving the cycle starts a new one. The improvement deltas of
+ * each result over the previous and first cycles are computed when the result
+ * is recorded, so a comparison never walks a member's history. Each (fitness
+ * level, day) cohort keeps the latest time of every member in a sorted array,
+ * so a member's rank is a binary search.
+ *
+ * Results are appended to "benchmarkResults.txt", one tab-separated line each.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class BenchmarkIndex {
+
+    // Default file used to persist benchmark results
+    public static final String BENCHMARK_FILENAME = "benchmarkResults.txt";
+
+    // Timers of the file operations
+    private static final OperationTimer LOAD_TIMER = Instrumentation.timer("BenchmarkIndex.load");
+    private static final OperationTimer RECORD_TIMER = Instrumentation.timer("BenchmarkIndex.record");
+
+    private final File file;                                            // The file results are appended to
+    private final Map<String, MemberHistory> histories = new HashMap<>(); // History per member and day
+    private final Map<String, CohortRanking> cohorts = new HashMap<>();   // Ranking per level and day
+
+    /**
+     * Constructor to initialize an empty BenchmarkIndex backed by a file.
+     * Use load() to read previously recorded results.
+     *
+     * @param file The file results are appended to.
+     */
+    public BenchmarkIndex(File file) {
+        this.file = file;
+    }
+
+
+    /**
+     * Loads the benchmark index from the default file. If the file does not
+     * exist yet, an empty index is returned.
+     *
+     * @return The loaded BenchmarkIndex.
+     * @throws IOException if the file exists but cannot be read.
+     */
+    public static BenchmarkIndex load() throws IOException {
+        return load(new File(BENCHMARK_FILENAME));
+    }
+
+
+    /**
+     * Loads the benchmark index from a file. If the file does not exist yet,
+     * an empty index is returned.
+     *
+     * @param file The file to load.
+     * @return The loaded BenchmarkIndex.
+     * @throws IOException if the file exists but cannot be read.
+     */
+    public static BenchmarkIndex load(File file) throws IOException {
+        BenchmarkIndex index = new BenchmarkIndex(file);
+        if (!file.exists()) {
+            return index;
+        }
+
+        long start = LOAD_TIMER.start();
+        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+            String line; // The current line in the file
+
+            // Read the file line by line
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    index.index(parseResult(line));
+                }
+            }
+        } finally {
+            LOAD_TIMER.stop(start);
+        }
+        return index;
+    }
+
+
+    /**
+     * Records a benchmark result. The result is appended to the results file
+     * and indexed. A result for a cycle that was already recorded replaces it.
+     *
+     * @param result The result to record.
+     * @return The comparison of the result with earlier cycles and the cohort.
+     * @throws IOException if the result cannot be appended to the file.
+     */
+    public synchronized BenchmarkComparison record(BenchmarkResult result) throws IOException {
+        // Append the result to the file
+        long start = RECORD_TIMER.start();
+        try (PrintWriter writer = new PrintWriter(new FileWriter(file, true))) {
+            writer.println(formatResult(result));
+        } finally {
+            RECORD_TIMER.stop(start);
+        }
+
+        index(result);
+        return compare(result.getMember(), result.getDay());
+    }
+
+
+    /**
+     * Compares a member's latest result for a benchmark day with their earlier
+     * cycles and with the members at the same fitness level.
+     *
+     * @param member The member name.
+     * @param day    The program day of the benchmark.
+     * @return The comparison, or null if the member has no result for the day.
+     */
+    public synchronized BenchmarkComparison compare(String member, int day) {
+        MemberHistory history = histories.get(historyKey(member, day));
+        if (history == null) {
+            return null;
+        }
+        return history.compare(history.size() - 1);
+    }
+
+
+    /**
+     * Compares every cycle of a member's results for a benchmark day.
+     *
+     * @param member The member name.
+     * @param day    The program day of the benchmark.
+     * @return The comparisons in cycle order; empty if the member has no result for the day.
+     */
+    public synchronized List<BenchmarkComparison> compareCycles(String member, int day) {
+        List<BenchmarkComparison> comparisons = new ArrayList<>();
+        MemberHistory history = histories.get(historyKey(member, day));
+        if (history != null) {
+            for (int i = 0; i < history.size(); i++) {
+                comparisons.add(history.compare(i));
+            }
+        }
+        return comparisons;
+    }
+
+
+    /**
+     * Compares the member's most recently taken benchmark, whichever day it was.
+     *
+     * @param member The member name.
+     * @return The comparison, or null if the member has no benchmark results.
+     */
+    public synchronized BenchmarkComparison compareLatest(String member) {
+        BenchmarkComparison latest = null;
+
+        // Check each benchmark day of the program
+        for (int day = 1; day <= WorkoutProgram.getDayCount(); day++) {
+            BenchmarkComparison comparison = compare(member, day);
+            if (comparison != null && (latest == null
+                    || comparison.getResult().getEpochDay() >= latest.getResult().getEpochDay())) {
+                latest = comparison;
+            }
+        }
+        return latest;
+    }
+
+
+    /**
+     * Adds a result to the member history and to the cohort ranking.
+     *
+     * @param result The result to index.
+     */
+    private void index(BenchmarkResult result) {
+        String key = historyKey(result.getMember(), result.getDay());
+        MemberHistory history = histories.get(key);
+        if (history == null) {
+            history = new MemberHistory();
+            histories.put(key, history);
+        }
+
+        // Remember the cohort of the member's latest result before it changes
+        BenchmarkResult oldLatest = history.size() == 0 ? null : history.latest();
+        history.add(result);
+        BenchmarkResult newLatest = history.latest();
+
+        // Move the member's latest time within (or between) cohorts
+        if (oldLatest != newLatest) {
+            if (oldLatest != null) {
+                cohortFor(oldLatest).remove(oldLatest.getTotalSeconds());
+            }
+            cohortFor(newLatest).add(newLatest.getTotalSeconds());
+        }
+    }
+
+
+    /**
+     * Returns the cohort ranking of a result's fitness level and day, creating it if needed.
+     *
+     * @param result The result.
+     * @return The cohort ranking.
+     */
+    private CohortRanking cohortFor(BenchmarkResult result) {
+        String key = result.getFitnessLevel() + '\t' + result.getDay();
+        CohortRanking cohort = cohorts.get(key);
+        if (cohort == null) {
+            cohort = new CohortRanking();
+            cohorts.put(key, cohort);
+        }
+        return cohort;
+    }
+
+
+    /**
+     * Returns the key of a member's history for a benchmark day.
+     *
+     * @param member The member name.
+     * @param day    The program day.
+     * @return The history key.
+     */
+    private static String historyKey(String member, int day) {
+        return member + '\t' + day;
+    }
+
+
+    /**
+     * Formats a result as one tab-separated line:
+     * member, level, cycle, day, date, total seconds and comma-separated station seconds.
+     *
+     * @param result The result to format.
+     * @return The formatted line.
+     */
+    private static String formatResult(BenchmarkResult result) {
+        StringBuilder line = new StringBuilder();
+        line.append(result.getMember()).append('\t').append(result.getFitnessLevel()).append('\t')
+                .append(result.getCycle()).append('\t').append(result.getDay()).append('\t')
+                .append(result.getEpochDay()).append('\t').append(result.getTotalSeconds()).append('\t');
+        for (int i = 0; i < result.getStationCount(); i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            line.append(result.getStationSeconds(i));
+        }
+        return line.toString();
+    }
+
+
+    /**
+     * Parses a line written by formatResult.
+     *
+     * @param line The line to parse.
+     * @return The parsed result.
+     * @throws IOException if the line is malformed.
+     */
+    private static BenchmarkResult parseResult(String line) throws IOException {
+        String[] parts = line.split("\t", -1); // Split the line into parts
+        if (parts.length < 7) {
+            throw new IOException("Malformed benchmark result: " + line);
+        }
+
+        try {
+            // Parse the station times, if any
+            int[] stations = new int[0];
+            if (!parts[6].isEmpty()) {
+                String[] stationParts = parts[6].split(",");
+                stations = new int[stationParts.length];
+                for (int i = 0; i < stationParts.length; i++) {
+                    stations[i] = Integer.parseInt(stationParts[i]);
+                }
+            }
+            return new BenchmarkResult(parts[0], parts[1], Integer.parseInt(parts[2]), Integer.parseInt(parts[3]),
+                    Integer.parseInt(parts[4]), Integer.parseInt(parts[5]), stations);
+        } catch (NumberFormatException e) {
+            throw new IOException("Malformed benchmark result: " + line, e);
+        }
+    }
+
+
+    /**
+     * The results of one member for one benchmark day, ordered by cycle, with
+     * the improvement deltas of each result precomputed.
+     */
+    private class MemberHistory {
+
+        private final List<BenchmarkResult> results = new ArrayList<>();    // Results in cycle order
+        private final List<int[]> stationDeltas = new ArrayList<>();        // Station deltas vs previous cycle
+        private int[] deltaFromPrevious = new int[4];                       // Total delta vs previous cycle
+        private int[] deltaFromFirst = new int[4];                          // Total delta vs first cycle
+
+        /**
+         * Returns the number of cycles recorded.
+         *
+         * @return The number of cycles.
+         */
+        int size() {
+            return results.size();
+        }
+
+
+        /**
+         * Returns the result of the latest cycle.
+         *
+         * @return The latest result.
+         */
+        BenchmarkResult latest() {
+            return results.get(results.size() - 1);
+        }
+
+
+        /**
+         * Adds a result in cycle order, replacing a result of the same cycle,
+         * and recomputes the deltas of the results that follow it.
+         *
+         * @param result The result to add.
+         */
+        void add(BenchmarkResult result) {
+            // Find the position of the cycle; appending is the common case
+            int position = results.size();
+            while (position > 0 && results.get(position - 1).getCycle() >= result.getCycle()) {
+                position--;
+            }
+
+            if (position < results.size() && results.get(position).getCycle() == result.getCycle()) {
+                results.set(position, result); // Replace the same cycle
+            } else {
+                results.add(position, result);
+                stationDeltas.add(null);
+            }
+
+            // Grow the delta arrays when full
+            if (results.size() > deltaFromPrevious.length) {
+                deltaFromPrevious = Arrays.copyOf(deltaFromPrevious, results.size() * 2);
+                deltaFromFirst = Arrays.copyOf(deltaFromFirst, results.size() * 2);
+            }
+
+            // Only the deltas from the position on change (all of them for a new first cycle)
+            BenchmarkResult first = results.get(0);
+            for (int i = position; i < results.size(); i++) {
+                BenchmarkResult current = results.get(i);
+                BenchmarkResult previous = i == 0 ? null : results.get(i - 1);
+                deltaFromFirst[i] = first.getTotalSeconds() - current.getTotalSeconds();
+                deltaFromPrevious[i] = previous == null ? 0 : previous.getTotalSeconds() - current.getTotalSeconds();
+                stationDeltas.set(i, stationDeltas(previous, current));
+            }
+        }
+
+
+        /**
+         * Builds the comparison of one cycle from the precomputed deltas.
+         *
+         * @param i The index of the cycle.
+         * @return The comparison.
+         */
+        BenchmarkComparison compare(int i) {
+            BenchmarkResult result = results.get(i);
+            CohortRanking cohort = cohortFor(result);
+            return new BenchmarkComparison(result, i == 0 ? null : results.get(i - 1), results.get(0),
+                    deltaFromPrevious[i], deltaFromFirst[i], stationDeltas.get(i),
+                    Math.min(cohort.rank(result.getTotalSeconds()), cohort.size()), cohort.size());
+        }
+
+
+        /**
+         * Computes the per-station improvement of a result over the previous one.
+         *
+         * @param previous The previous result, or null.
+         * @param current  The current result.
+         * @return The per-station improvement in seconds.
+         */
+        private int[] stationDeltas(BenchmarkResult previous, BenchmarkResult current) {
+            if (previous == null) {
+                return new int[0];
+            }
+
+            int stations = Math.min(previous.getStationCount(), current.getStationCount());
+            int[] deltas = new int[stations];
+            for (int s = 0; s < stations; s++) {
+                deltas[s] = previous.getStationSeconds(s) - current.getStationSeconds(s);
+            }
+            return deltas;
+        }
+    }
+
+
+    /**
+     * The latest total time of every member of a (fitness level, day) cohort,
+     * kept in a sorted array.
+     */
+    private static class CohortRanking {
+
+        private int[] totals = new int[16]; // Sorted latest totals
+        private int size;                   // Number of members in the cohort
+
+        /**
+         * Returns the number of members in the cohort.
+         *
+         * @return The size of the cohort.
+         */
+        int size() {
+            return size;
+        }
+
+
+        /**
+         * Adds a member's total time.
+         *
+         * @param total The total time in seconds.
+         */
+        void add(int total) {
+            if (size == totals.length) {
+                totals = Arrays.copyOf(totals, size * 2);
+            }
+            int position = lowerBound(total);
+            System.arraycopy(totals, position, totals, position + 1, size - position);
+            totals[position] = total;
+            size++;
+        }
+
+
+        /**
+         * Removes one occurrence of a member's total time.
+         *
+         * @param total The total time in seconds.
+         */
+        void remove(int total) {
+            int position = lowerBound(total);
+            if (position < size && totals[position] == total) {
+                System.arraycopy(totals, position + 1, totals, position, size - position - 1);
+                size--;
+            }
+        }
+
+
+        /**
+         * Returns the rank of a total time: one more than the number of faster times.
+         *
+         * @param total The total time in seconds.
+         * @return The rank (1 = fastest).
+         */
+        int rank(int total) {
+            return lowerBound(total) + 1;
+        }
+
+
+        /**
+         * Returns the index of the first total that is not less than a value.
+         *
+         * @param total The value to search for.
+         * @return The insertion index.
+         */
+        private int lowerBound(int total) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (totals[mid] < total) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,429 @@
+package crossfunctionalfitness.storage;
+
+import java.io.*;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import crossfunctionalfitness.core.Exercise;
+import crossfunctionalfitness.instrumentation.Instrumentation;
+import crossfunctionalfitness.instrumentation.OperationTimer;
+
+/**
+ * ExerciseLog records per-exercise results (reps, rounds completed in AMRAPs,
+ * run splits) logged against a day of the workout program. Results are held in
+ * memory as parallel primitive columns, one entry per row, so aggregations such
+ * as "total burpees this month" or "best 1 mile split" are tight loops over int
+ * arrays. Exercise names are stored once in a dictionary and referenced by id.
+ *
+ * Every logged result is appended to "exerciseLog.dat" as a single record, so
+ * frequent entries never rewrite the day's workout file or earlier results.
+ * Loading the log cuts off a last record torn by a crash, so the next entry
+ * is appended after the last complete record instead of after the torn bytes.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class ExerciseLog {
+
+    // Default file used to persist the log
+    public static final String LOG_FILENAME = "exerciseLog.dat";
+
+    // Initial capacity of the columns
+    private static final int INITIAL_CAPACITY = 64;
+
+    // Bytes of a record besides the exercise name: date, day, name length and the four results
+    private static final int RECORD_BYTES = 4 + 2 + 2 + 4 * 4;
+
+    // Timers of the file operations
+    private static final OperationTimer LOAD_TIMER = Instrumentation.timer("ExerciseLog.load");
+    private static final OperationTimer LOG_TIMER = Instrumentation.timer("ExerciseLog.log");
+
+    private final File file;                    // The file the log is appended to
+    private DataOutputStream out;               // Open append stream, created on first entry
+
+    private final List<String> exerciseNames = new ArrayList<>();          // Exercise dictionary (id -> key)
+    private final Map<String, Integer> exerciseIds = new HashMap<>();      // Exercise dictionary (key -> id)
+
+    private int size;               // Number of entries in the log
+    private int[] epochDays;        // Calendar date of each entry (days since 1970-01-01)
+    private short[] days;           // Program day of each entry
+    private int[] exercises;        // Exercise id of each entry
+    private int[] reps;             // Repetitions completed
+    private int[] rounds;           // Rounds completed (AMRAPs)
+    private int[] meters;           // Distance covered
+    private int[] seconds;          // Time taken (run splits)
+
+    /**
+     * Constructor to initialize an empty ExerciseLog backed by a file.
+     * Use load() to read previously logged results.
+     *
+     * @param file The file the log is appended to.
+     */
+    public ExerciseLog(File file) {
+        this.file = file;
+        this.epochDays = new int[INITIAL_CAPACITY];
+        this.days = new short[INITIAL_CAPACITY];
+        this.exercises = new int[INITIAL_CAPACITY];
+        this.reps = new int[INITIAL_CAPACITY];
+        this.rounds = new int[INITIAL_CAPACITY];
+        this.meters = new int[INITIAL_CAPACITY];
+        this.seconds = new int[INITIAL_CAPACITY];
+    }
+
+
+    /**
+     * Loads the exercise log from the default file. If the file does not exist
+     * yet, an empty log is returned.
+     *
+     * @return The loaded ExerciseLog.
+     * @throws IOException if the file exists but cannot be read.
+     */
+    public static ExerciseLog load() throws IOException {
+        return load(new File(LOG_FILENAME));
+    }
+
+
+    /**
+     * Loads the exercise log from a file. If the file does not exist yet, an
+     * empty log is returned. If the last record was cut short by a crash, the
+     * file is truncated to the end of the last complete record.
+     *
+     * @param file The file to load.
+     * @return The loaded ExerciseLog.
+     * @throws IOException if the file exists but cannot be read or truncated.
+     */
+    public static ExerciseLog load(File file) throws IOException {
+        ExerciseLog log = new ExerciseLog(file);
+        if (!file.exists()) {
+            return log;
+        }
+
+        long start = LOAD_TIMER.start();
+        try {
+            long complete = 0; // Length of the complete records
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+                // Read records until the end of the file or a record cut short by a crash
+                while (true) {
+                    try {
+                        int epochDay = in.readInt();
+                        int day = in.readShort();
+                        String exercise = in.readUTF();
+                        log.addRow(epochDay, day, log.exerciseId(exercise), in.readInt(), in.readInt(),
+                                in.readInt(), in.readInt());
+                        complete += RECORD_BYTES + utfLength(exercise);
+                    } catch (EOFException | UTFDataFormatException e) {
+                        break; // No more complete records
+                    }
+                }
+            }
+
+            // Drop the torn record so later entries are appended after the last complete one
+            if (complete < file.length()) {
+                try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE)) {
+                    channel.truncate(complete);
+                }
+            }
+        } finally {
+            LOAD_TIMER.stop(start);
+        }
+        return log;
+    }
+
+
+    /**
+     * Logs a result for today's date.
+     *
+     * @param day      The program day the result belongs to.
+     * @param exercise The exercise name (e.g., "Burpees"); it is normalized before storing.
+     * @param reps     Repetitions completed.
+     * @param rounds   Rounds completed (AMRAPs), 0 if not applicable.
+     * @param meters   Distance covered, 0 if not applicable.
+     * @param seconds  Time taken, 0 if not applicable.
+     * @throws IOException if the result cannot be appended to the file.
+     */
+    public void log(int day, String exercise, int reps, int rounds, int meters, int seconds) throws IOException {
+        log((int) LocalDate.now().toEpochDay(), day, exercise, reps, rounds, meters, seconds);
+    }
+
+
+    /**
+     * Logs a result for a given date. The result is appended to the log file
+     * as one record and added to the in-memory columns.
+     *
+     * @param epochDay The calendar date of the result (days since 1970-01-01).
+     * @param day      The program day the result belongs to.
+     * @param exercise The exercise name; it is normalized before storing.
+     * @param reps     Repetitions completed.
+     * @param rounds   Rounds completed (AMRAPs), 0 if not applicable.
+     * @param meters   Distance covered, 0 if not applicable.
+     * @param seconds  Time taken, 0 if not applicable.
+     * @throws IOException if the result cannot be appended to the file.
+     */
+    public synchronized void log(int epochDay, int day, String exercise, int reps, int rounds, int meters,
+            int seconds) throws IOException {
+        String key = Exercise.normalize(exercise); // Normalize the name for aggregation
+
+        long start = LOG_TIMER.start();
+        try {
+            // Open the append stream on first use and keep it open for later entries
+            if (out == null) {
+                out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file, true)));
+            }
+
+            // Append one record and flush it so the entry survives a crash
+            out.writeInt(epochDay);
+            out.writeShort(day);
+            out.writeUTF(key);
+            out.writeInt(reps);
+            out.writeInt(rounds);
+            out.writeInt(meters);
+            out.writeInt(seconds);
+            out.flush();
+        } finally {
+            LOG_TIMER.stop(start);
+        }
+
+        addRow(epochDay, day, exerciseId(key), reps, rounds, meters, seconds);
+    }
+
+
+    /**
+     * Closes the append stream of the log, if it is open.
+     *
+     * @throws IOException if the stream cannot be closed.
+     */
+    public synchronized void close() throws IOException {
+        if (out != null) {
+            out.close();
+            out = null;
+        }
+    }
+
+
+    /**
+     * Returns the number of entries in the log.
+     *
+     * @return The number of entries.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+
+    /**
+     * Returns the total repetitions of an exercise logged between two calendar
+     * dates, inclusive (e.g., total burpees this month).
+     *
+     * @param exercise     The exercise name.
+     * @param fromEpochDay The first date (days since 1970-01-01).
+     * @param toEpochDay   The last date (days since 1970-01-01).
+     * @return The total repetitions.
+     */
+    public synchronized long getTotalReps(String exercise, int fromEpochDay, int toEpochDay) {
+        int id = findExerciseId(exercise);
+        if (id < 0) {
+            return 0;
+        }
+
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            if (exercises[i] == id && epochDays[i] >= fromEpochDay && epochDays[i] <= toEpochDay) {
+                total += reps[i];
+            }
+        }
+        return total;
+    }
+
+
+    /**
+     * Returns the total repetitions of an exercise logged against a range of
+     * program days, inclusive.
+     *
+     * @param exercise The exercise name.
+     * @param fromDay  The first program day.
+     * @param toDay    The last program day.
+     * @return The total repetitions.
+     */
+    public synchronized long getTotalRepsForDays(String exercise, int fromDay, int toDay) {
+        int id = findExerciseId(exercise);
+        if (id < 0) {
+            return 0;
+        }
+
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            if (exercises[i] == id && days[i] >= fromDay && days[i] <= toDay) {
+                total += reps[i];
+            }
+        }
+        return total;
+    }
+
+
+    /**
+     * Returns the best (fastest) time logged for an exercise over a given
+     * distance on a program day, such as the best 1 mile run split on Day 30.
+     *
+     * @param exercise The exercise name (e.g., "Run").
+     * @param meters   The distance of the split.
+     * @param day      The program day, or 0 for any day.
+     * @return The best time in seconds, or -1 if no split was logged.
+     */
+    public synchronized int getBestSplitSeconds(String exercise, int meters, int day) {
+        int id = findExerciseId(exercise);
+        if (id < 0) {
+            return -1;
+        }
+
+        int best = -1;
+        for (int i = 0; i < size; i++) {
+            if (exercises[i] == id && this.meters[i] == meters && seconds[i] > 0 && (day == 0 || days[i] == day)
+                    && (best < 0 || seconds[i] < best)) {
+                best = seconds[i];
+            }
+        }
+        return best;
+    }
+
+
+    /**
+     * Returns the time of the latest result with a time logged for an exercise
+     * on a program day and date, such as a station of a benchmark test.
+     *
+     * @param exercise The exercise name.
+     * @param day      The program day.
+     * @param epochDay The calendar date (days since 1970-01-01).
+     * @return The time in seconds, or 0 if no time was logged.
+     */
+    public synchronized int getLatestSeconds(String exercise, int day, int epochDay) {
+        int id = findExerciseId(exercise);
+        if (id < 0) {
+            return 0;
+        }
+
+        // Search from the end, where the latest entries are
+        for (int i = size - 1; i >= 0; i--) {
+            if (exercises[i] == id && days[i] == day && epochDays[i] == epochDay && seconds[i] > 0) {
+                return seconds[i];
+            }
+        }
+        return 0;
+    }
+
+
+    /**
+     * Returns the most rounds logged for an exercise on a program day, such as
+     * the best AMRAP score.
+     *
+     * @param exercise The exercise name.
+     * @param day      The program day, or 0 for any day.
+     * @return The most rounds completed, or 0 if none were logged.
+     */
+    public synchronized int getMaxRounds(String exercise, int day) {
+        int id = findExerciseId(exercise);
+        if (id < 0) {
+            return 0;
+        }
+
+        int max = 0;
+        for (int i = 0; i < size; i++) {
+            if (exercises[i] == id && (day == 0 || days[i] == day) && rounds[i] > max) {
+                max = rounds[i];
+            }
+        }
+        return max;
+    }
+
+
+    /**
+     * Returns the number of bytes of a name in the modified UTF-8 of
+     * DataOutputStream.writeUTF, without its length.
+     *
+     * @param name The name.
+     * @return The number of bytes.
+     */
+    private static int utfLength(String name) {
+        int length = 0;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c >= 0x0001 && c <= 0x007F) {
+                length += 1;
+            } else if (c <= 0x07FF) {
+                length += 2;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+
+    /**
+     * Returns the id of an exercise in the dictionary.
+     *
+     * @param exercise The exercise name; it is normalized before the lookup.
+     * @return The id of the exercise, or -1 if it was never logged.
+     */
+    private int findExerciseId(String exercise) {
+        Integer id = exerciseIds.get(Exercise.normalize(exercise));
+        return id == null ? -1 : id;
+    }
+
+
+    /**
+     * Returns the id of an exercise in the dictionary, adding it if needed.
+     *
+     * @param key The normalized exercise name.
+     * @return The id of the exercise.
+     */
+    private int exerciseId(String key) {
+        Integer id = exerciseIds.get(key);
+        if (id == null) {
+            id = exerciseNames.size();
+            exerciseNames.add(key);
+            exerciseIds.put(key, id);
+        }
+        return id;
+    }
+
+
+    /**
+     * Appends a row to the in-memory columns, growing them when full.
+     *
+     * @param epochDay The calendar date of the entry.
+     * @param day      The program day of the entry.
+     * @param exercise The exercise id of the entry.
+     * @param reps     Repetitions completed.
+     * @param rounds   Rounds completed.
+     * @param meters   Distance covered.
+     * @param seconds  Time taken.
+     */
+    private void addRow(int epochDay, int day, int exercise, int reps, int rounds, int meters, int seconds) {
+        // Double the capacity of every column when full
+        if (size == epochDays.length) {
+            int capacity = size * 2;
+            this.epochDays = Arrays.copyOf(this.epochDays, capacity);
+            this.days = Arrays.copyOf(this.days, capacity);
+            this.exercises = Arrays.copyOf(this.exercises, capacity);
+            this.reps = Arrays.copyOf(this.reps, capacity);
+            this.rounds = Arrays.copyOf(this.rounds, capacity);
+            this.meters = Arrays.copyOf(this.meters, capacity);
+            this.seconds = Arrays.copyOf(this.seconds, capacity);
+        }
+
+        this.epochDays[size] = epochDay;
+        this.days[size] = (short) day;
+        this.exercises[size] = exercise;
+        this.reps[size] = reps;
+        this.rounds[size] = rounds;
+        this.meters[size] = meters;
+        this.seconds[size] = seconds;
+        size++;
+    }
+}
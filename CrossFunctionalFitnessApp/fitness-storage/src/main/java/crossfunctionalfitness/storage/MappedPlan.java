@@ -0,0 +1,172 @@
+package crossfunctionalfitness.storage;
+
+import java.nio.ByteBuffer;
+
+import crossfunctionalfitness.core.WorkoutColumns;
+import crossfunctionalfitness.core.WorkoutData;
+
+/**
+ * MappedPlan reads a member's plan file through a memory mapping, as returned
+ * by WorkoutStore.mapPlan. Each day's record is at a fixed offset of the
+ * file, so any day is read directly from the mapped pages without reading
+ * the days before it or copying the file into the heap; this suits members
+ * with years of history and range queries over thousands of days.
+ *
+ * The mapping is read only with absolute gets, so one MappedPlan can be
+ * shared by any number of threads. It covers the file as it was when mapped:
+ * days saved in place later are seen, days appended past the end are not
+ * until the file is mapped again. Days never saved read as in WorkoutRange.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class MappedPlan {
+
+    private final ByteBuffer buffer;    // The mapped file, header included; empty if there is no file
+    private final int lastDay;          // The last day with a record in the mapping
+
+    /**
+     * Constructor to initialize a MappedPlan over a mapped plan file whose
+     * header has been checked.
+     *
+     * @param buffer The mapped file, or an empty buffer if there is no file.
+     */
+    MappedPlan(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.lastDay = Math.max(0, buffer.limit() - WorkoutStore.PLAN_HEADER_BYTES) / WorkoutStore.PLAN_RECORD_BYTES;
+    }
+
+
+    /**
+     * Returns the last day that has a record in the file. Later days were
+     * never saved.
+     *
+     * @return The day number, or 0 if the file has no records.
+     */
+    public int getLastDay() {
+        return lastDay;
+    }
+
+
+    /**
+     * Tells whether a day was saved.
+     *
+     * @param day The day number.
+     * @return True if the day has a saved record.
+     * @throws IllegalArgumentException if the day is less than 1.
+     */
+    public boolean isSaved(int day) {
+        return getState(day) != WorkoutRange.NOT_SAVED;
+    }
+
+
+    /**
+     * Tells whether a day was completed.
+     *
+     * @param day The day number.
+     * @return True if the day was saved as completed.
+     * @throws IllegalArgumentException if the day is less than 1.
+     */
+    public boolean isCompleted(int day) {
+        return getState(day) == WorkoutRange.COMPLETED;
+    }
+
+
+    /**
+     * Returns the minutes of a day.
+     *
+     * @param day The day number.
+     * @return The minutes, 0 if the day was never saved, or WorkoutColumns.MISSING_MINUTES.
+     * @throws IllegalArgumentException if the day is less than 1.
+     */
+    public int getMinutes(int day) {
+        if (getState(day) == WorkoutRange.NOT_SAVED) {
+            return 0;
+        }
+        return WorkoutColumns.validMinutes(buffer.getInt((int) WorkoutStore.recordOffset(day) + 4));
+    }
+
+
+    /**
+     * Returns a day's workout in the form of WorkoutStore.load.
+     *
+     * @param day The day number.
+     * @return A new WorkoutData object.
+     * @throws IllegalArgumentException if the day is less than 1.
+     */
+    public WorkoutData get(int day) {
+        int dayMinutes = getMinutes(day);
+        String timeTaken = dayMinutes == WorkoutColumns.MISSING_MINUTES ? "" : String.valueOf(dayMinutes);
+        return new WorkoutData("Day " + day, isCompleted(day), timeTaken);
+    }
+
+
+    /**
+     * Counts the completed days of a range, reading the mapped records
+     * directly.
+     *
+     * @param fromDay The first day (inclusive).
+     * @param toDay   The last day (inclusive).
+     * @return The number of completed days.
+     * @throws IllegalArgumentException if the range is not valid.
+     */
+    public int countCompleted(int fromDay, int toDay) {
+        checkRange(fromDay, toDay);
+        int count = 0;
+        for (int day = fromDay; day <= Math.min(toDay, lastDay); day++) {
+            if (buffer.get((int) WorkoutStore.recordOffset(day)) == WorkoutRange.COMPLETED) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+
+    /**
+     * Copies consecutive days into a WorkoutRange, as WorkoutStore.loadRange
+     * would read them, without reading the file again.
+     *
+     * @param fromDay The first day (inclusive).
+     * @param toDay   The last day (inclusive).
+     * @return The workouts of the days; days never saved are not completed.
+     * @throws IllegalArgumentException if the range is not valid.
+     */
+    public WorkoutRange loadRange(int fromDay, int toDay) {
+        checkRange(fromDay, toDay);
+        WorkoutRange range = new WorkoutRange(fromDay, toDay - fromDay + 1);
+        for (int day = fromDay; day <= Math.min(toDay, lastDay); day++) {
+            int offset = (int) WorkoutStore.recordOffset(day);
+            range.set(day, buffer.get(offset), buffer.getInt(offset + 4));
+        }
+        return range;
+    }
+
+
+    /**
+     * Returns the stored state of a day.
+     *
+     * @param day The day number.
+     * @return NOT_SAVED, SAVED or COMPLETED.
+     * @throws IllegalArgumentException if the day is less than 1.
+     */
+    private byte getState(int day) {
+        if (day < 1) {
+            throw new IllegalArgumentException("Invalid day: " + day);
+        }
+        return day > lastDay ? WorkoutRange.NOT_SAVED : buffer.get((int) WorkoutStore.recordOffset(day));
+    }
+
+
+    /**
+     * Checks a range of days in the bounds of WorkoutStore.loadRange.
+     *
+     * @param fromDay The first day (inclusive).
+     * @param toDay   The last day (inclusive).
+     * @throws IllegalArgumentException if the range is not valid.
+     */
+    private static void checkRange(int fromDay, int toDay) {
+        if (fromDay < 1 || toDay < fromDay || toDay > WorkoutStore.MAX_PLAN_DAY) {
+            throw new IllegalArgumentException("Invalid day range: " + fromDay + " to " + toDay);
+        }
+    }
+}
@@ -0,0 +1,515 @@
+package crossfunctionalfitness.storage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import crossfunctionalfitness.core.MemberBitmap;
+import crossfunctionalfitness.core.ProfileQuery;
+import crossfunctionalfitness.core.ProfileValidator;
+import crossfunctionalfitness.core.UserProfile;
+import crossfunctionalfitness.instrumentation.Instrumentation;
+import crossfunctionalfitness.instrumentation.OperationTimer;
+
+/**
+ * ProfileIndex finds members by name prefix, age band, weight range and
+ * fitness level in memory. Each member has an id, and the fields of the
+ * members are kept in columns by id:
+ *
+ * - two arrays of ids sorted by last name (then first name) and by first
+ *   name (then last name), ignoring case, so a name prefix is found by a
+ *   binary search and its matches are next to each other, already in order;
+ * - a bitmap of the ids at each fitness level;
+ * - the ages and weights as primitive arrays.
+ *
+ * A search walks the ids of the name prefix (or every id, by last name),
+ * checks the level bitmaps, age and weight of each and stops at the limit of
+ * the query, so it takes well under a millisecond over 100,000 members. A
+ * member is identified by their member name (first and last name): putting
+ * a profile with the name of a known member replaces that member. Results
+ * are ordered by last name, then first name, except that a search by first
+ * name alone is ordered by first name, then last name.
+ *
+ * The id of a member never changes, so other indexes of members, such as the
+ * CompletionIndex of WorkoutStore, use it as the member's id too.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class ProfileIndex {
+
+    // Timers of building and searching the index
+    private static final OperationTimer BUILD_TIMER = Instrumentation.timer("ProfileIndex.build");
+    private static final OperationTimer SEARCH_TIMER = Instrumentation.timer("ProfileIndex.search");
+
+    // Members the columns hold before they grow
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final Map<String, Integer> idsByMember; // Id of each member name
+    private final Map<String, String> firstNamePool = new HashMap<>(); // One copy of each first name and key
+    private int size;               // Number of members
+    private String[] firstNames;    // First name of each id
+    private String[] lastNames;     // Last name of each id
+    private String[] firstKeys;     // First name of each id, in lower case
+    private String[] lastKeys;      // Last name of each id, in lower case
+    private byte[] ages;            // Age of each id
+    private float[] weights;        // Weight of each id
+    private byte[] levels;          // Fitness level index of each id
+    private int[] lastNameOrder;    // Ids sorted by last name, then first name
+    private int[] firstNameOrder;   // Ids sorted by first name, then last name
+    private long[][] levelBits;     // Bitmap of the ids at each fitness level
+
+    /**
+     * Constructor to initialize an empty ProfileIndex.
+     */
+    public ProfileIndex() {
+        this(INITIAL_CAPACITY);
+    }
+
+
+    /**
+     * Constructor to initialize an empty ProfileIndex with room for a number
+     * of members.
+     *
+     * @param capacity The number of members.
+     */
+    private ProfileIndex(int capacity) {
+        capacity = Math.max(capacity, 1);
+        idsByMember = new HashMap<>(capacity * 4 / 3 + 1);
+        firstNames = new String[capacity];
+        lastNames = new String[capacity];
+        firstKeys = new String[capacity];
+        lastKeys = new String[capacity];
+        ages = new byte[capacity];
+        weights = new float[capacity];
+        levels = new byte[capacity];
+        lastNameOrder = new int[capacity];
+        firstNameOrder = new int[capacity];
+        levelBits = new long[ProfileValidator.FITNESS_LEVELS.size()][(capacity + 63) / 64];
+    }
+
+
+    /**
+     * Builds the index of the profiles of a profile file. A later record of
+     * a member replaces an earlier one. The names are sorted once, after
+     * every record has been read.
+     *
+     * @param table The profiles, in the order they were saved.
+     * @return The index.
+     */
+    public static ProfileIndex build(ProfileTable table) {
+        long start = BUILD_TIMER.start();
+        try {
+            ProfileIndex index = new ProfileIndex(table.size());
+            for (int i = 0; i < table.size(); i++) {
+                String firstName = table.getFirstName(i);
+                String lastName = table.getLastName(i);
+                Integer id = index.idsByMember.get(memberName(firstName, lastName));
+                if (id == null) {
+                    id = index.addId(firstName, lastName);
+                }
+                index.setFields(id, table.getAge(i), table.getWeight(i), table.getLevelIndex(i));
+            }
+
+            // Sort the ids by name; sorting the last name order by first name
+            // keeps the ids of a first name in last name order
+            for (int id = 0; id < index.size; id++) {
+                index.lastNameOrder[id] = id;
+            }
+            sort(index.lastNameOrder, index.size, index.lastKeys, index.firstKeys);
+            System.arraycopy(index.lastNameOrder, 0, index.firstNameOrder, 0, index.size);
+            sort(index.firstNameOrder, index.size, index.firstKeys, null);
+            return index;
+        } finally {
+            BUILD_TIMER.stop(start);
+        }
+    }
+
+
+    /**
+     * Adds a profile, or replaces the member with the same member name.
+     *
+     * @param profile The profile, which must be valid (see ProfileValidator).
+     */
+    public synchronized void put(UserProfile profile) {
+        String firstName = profile.getFirstName().trim();
+        String lastName = profile.getLastName().trim();
+        Integer id = idsByMember.get(memberName(firstName, lastName));
+        if (id == null) {
+            id = addId(firstName, lastName);
+            insert(lastNameOrder, id, lastKeys, firstKeys);
+            insert(firstNameOrder, id, firstKeys, lastKeys);
+        }
+        setFields(id, Integer.parseInt(profile.getAge().trim()), Float.parseFloat(profile.getWeight().trim()),
+                ProfileValidator.FITNESS_LEVELS.indexOf(profile.getFitnessLevel().trim()));
+    }
+
+
+    /**
+     * Returns the number of members.
+     *
+     * @return The number of members.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+
+    /**
+     * Returns the id of a member.
+     *
+     * @param memberName The member name, as UserProfile.getMemberName.
+     * @return The id, or -1 if there is no such member.
+     */
+    public synchronized int getId(String memberName) {
+        Integer id = idsByMember.get(memberName);
+        return id == null ? -1 : id;
+    }
+
+
+    /**
+     * Returns the member name of an id.
+     *
+     * @param id The id, from 0 to size() - 1.
+     * @return The member name, as UserProfile.getMemberName.
+     * @throws IndexOutOfBoundsException if there is no such id.
+     */
+    public synchronized String getMemberName(int id) {
+        if (id < 0 || id >= size) {
+            throw new IndexOutOfBoundsException("Member " + id + " of " + size);
+        }
+        return memberName(firstNames[id], lastNames[id]);
+    }
+
+
+    /**
+     * Returns the ids of the members at any of a set of fitness levels, e.g.,
+     * as a cohort of a CompletionIndex.
+     *
+     * @param fitnessLevels The levels, e.g., "Novice"; an empty list matches no member.
+     * @return A new bitmap of the ids.
+     * @throws IllegalArgumentException if a level is not one of ProfileValidator.FITNESS_LEVELS.
+     */
+    public synchronized MemberBitmap getLevelMembers(List<String> fitnessLevels) {
+        for (String level : fitnessLevels) {
+            if (!ProfileValidator.FITNESS_LEVELS.contains(level)) {
+                throw new IllegalArgumentException("level must be one of " + ProfileValidator.FITNESS_LEVELS);
+            }
+        }
+        long[] matches = levelMatches(fitnessLevels);
+        MemberBitmap members = new MemberBitmap();
+        for (int word = 0; matches != null && word < matches.length; word++) {
+            long remaining = matches[word];
+            while (remaining != 0) {
+                members.add((word << 6) | Long.numberOfTrailingZeros(remaining));
+                remaining &= remaining - 1; // Clear the lowest set bit
+            }
+        }
+        return members;
+    }
+
+
+    /**
+     * Returns every member.
+     *
+     * @return New UserProfile objects, ordered by last name, then first name.
+     */
+    public synchronized List<UserProfile> toList() {
+        List<UserProfile> profiles = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            profiles.add(profile(lastNameOrder[i]));
+        }
+        return profiles;
+    }
+
+
+    /**
+     * Finds the members matching a query.
+     *
+     * @param query The query.
+     * @return At most query.getLimit() new UserProfile objects, ordered by
+     *         last name, then first name (by first name, then last name, if
+     *         the query has only a first name prefix).
+     */
+    public synchronized List<UserProfile> search(ProfileQuery query) {
+        long start = SEARCH_TIMER.start();
+        try {
+            // Walk the ids of the last name prefix, or of the first name prefix
+            // if only that is given (every id if neither is given)
+            boolean byFirstName = query.getLastNamePrefix().isEmpty() && !query.getFirstNamePrefix().isEmpty();
+            int[] order = byFirstName ? firstNameOrder : lastNameOrder;
+            String[] keys = byFirstName ? firstKeys : lastKeys;
+            String prefix = byFirstName ? query.getFirstNamePrefix() : query.getLastNamePrefix();
+            String otherPrefix = byFirstName ? "" : query.getFirstNamePrefix();
+            long[] levelMatches = levelMatches(query.getFitnessLevels());
+
+            List<UserProfile> results = new ArrayList<>();
+            for (int i = lowerBound(order, keys, prefix); i < size && results.size() < query.getLimit(); i++) {
+                int id = order[i];
+                if (!keys[id].startsWith(prefix)) {
+                    break; // Past the last name with the prefix
+                }
+                if (!firstKeys[id].startsWith(otherPrefix)
+                        || (levelMatches != null && (levelMatches[id >>> 6] & (1L << id)) == 0)
+                        || ages[id] < query.getMinAge() || ages[id] > query.getMaxAge()
+                        || weights[id] < query.getMinWeight() || weights[id] > query.getMaxWeight()) {
+                    continue;
+                }
+                results.add(profile(id));
+            }
+            return results;
+        } finally {
+            SEARCH_TIMER.stop(start);
+        }
+    }
+
+
+    /**
+     * Combines the bitmaps of the fitness levels of a query.
+     *
+     * @param fitnessLevels The levels, or an empty list for every level.
+     * @return The bitmap of the ids at any of the levels, or null for every id.
+     */
+    private long[] levelMatches(List<String> fitnessLevels) {
+        if (fitnessLevels.isEmpty()) {
+            return null;
+        }
+        long[] matches = new long[(size + 63) / 64];
+        for (String level : fitnessLevels) {
+            long[] bits = levelBits[ProfileValidator.FITNESS_LEVELS.indexOf(level)];
+            for (int word = 0; word < matches.length; word++) {
+                matches[word] |= bits[word];
+            }
+        }
+        return matches;
+    }
+
+
+    /**
+     * Returns a member as a profile.
+     *
+     * @param id The id of the member.
+     * @return A new UserProfile object.
+     */
+    private UserProfile profile(int id) {
+        return new UserProfile(firstNames[id], lastNames[id], String.valueOf(ages[id]),
+                ProfileRecord.formatWeight(weights[id]), ProfileValidator.FITNESS_LEVELS.get(levels[id]));
+    }
+
+
+    /**
+     * Adds a member with the next id, growing the columns if they are full.
+     * The member is not yet in the name orders.
+     *
+     * @param firstName The first name.
+     * @param lastName  The last name.
+     * @return The id.
+     */
+    private int addId(String firstName, String lastName) {
+        if (size == firstNames.length) {
+            int capacity = size * 2;
+            firstNames = Arrays.copyOf(firstNames, capacity);
+            lastNames = Arrays.copyOf(lastNames, capacity);
+            firstKeys = Arrays.copyOf(firstKeys, capacity);
+            lastKeys = Arrays.copyOf(lastKeys, capacity);
+            ages = Arrays.copyOf(ages, capacity);
+            weights = Arrays.copyOf(weights, capacity);
+            levels = Arrays.copyOf(levels, capacity);
+            lastNameOrder = Arrays.copyOf(lastNameOrder, capacity);
+            firstNameOrder = Arrays.copyOf(firstNameOrder, capacity);
+            for (int level = 0; level < levelBits.length; level++) {
+                levelBits[level] = Arrays.copyOf(levelBits[level], (capacity + 63) / 64);
+            }
+        }
+        int id = size++;
+        firstNames[id] = pooled(firstName);
+        lastNames[id] = lastName;
+        firstKeys[id] = pooled(ProfileQuery.nameKey(firstName));
+        lastKeys[id] = ProfileQuery.nameKey(lastName);
+        levels[id] = -1; // No level bit set yet
+        idsByMember.put(memberName(firstName, lastName), id);
+        return id;
+    }
+
+
+    /**
+     * Returns the one copy of a first name kept by the index. Many members
+     * share a first name, and equal keys that are the same string are
+     * compared without reading their characters, which makes sorting by
+     * first name much faster.
+     *
+     * @param name The first name or its key.
+     * @return The equal string kept by the index.
+     */
+    private String pooled(String name) {
+        String copy = firstNamePool.putIfAbsent(name, name);
+        return copy != null ? copy : name;
+    }
+
+
+    /**
+     * Sets the age, weight and fitness level of a member.
+     *
+     * @param id     The id of the member.
+     * @param age    The age in years.
+     * @param weight The weight in lbs.
+     * @param level  The index of the fitness level.
+     */
+    private void setFields(int id, int age, float weight, int level) {
+        if (levels[id] >= 0) {
+            levelBits[levels[id]][id >>> 6] &= ~(1L << id); // Clear the previous level
+        }
+        ages[id] = (byte) age;
+        weights[id] = weight;
+        levels[id] = (byte) level;
+        levelBits[level][id >>> 6] |= 1L << id;
+    }
+
+
+    /**
+     * Returns the member name of a profile, which identifies the member.
+     *
+     * @param firstName The trimmed first name.
+     * @param lastName  The trimmed last name.
+     * @return The member name, as UserProfile.getMemberName.
+     */
+    private static String memberName(String firstName, String lastName) {
+        return firstName + " " + lastName;
+    }
+
+
+    /**
+     * Inserts a new id into an order of ids, keeping it sorted.
+     *
+     * @param order     The ids, sorted, with room for one more.
+     * @param id        The id, which is the last id (size - 1).
+     * @param primary   The keys sorted on first.
+     * @param secondary The keys sorted on for equal primary keys.
+     */
+    private void insert(int[] order, int id, String[] primary, String[] secondary) {
+        int count = size - 1; // Ids in the order before this one
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compare(order[middle], id, primary, secondary) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        System.arraycopy(order, low, order, low + 1, count - low);
+        order[low] = id;
+    }
+
+
+    /**
+     * Returns the first position of an order of ids whose key is not less
+     * than a prefix, which is where the keys with the prefix start.
+     *
+     * @param order  The ids, sorted by the keys.
+     * @param keys   The keys of each id.
+     * @param prefix The prefix.
+     * @return The position.
+     */
+    private int lowerBound(int[] order, String[] keys, String prefix) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keys[order[middle]].compareTo(prefix) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+
+    /**
+     * Compares two ids by their keys, then by id.
+     *
+     * @param a         An id.
+     * @param b         Another id.
+     * @param primary   The keys compared first.
+     * @param secondary The keys compared when the primary keys are equal.
+     * @return A negative number, zero or a positive number as a sorts before, with or after b.
+     */
+    private static int compare(int a, int b, String[] primary, String[] secondary) {
+        int result = primary[a].compareTo(primary[b]);
+        if (result == 0 && secondary[a] != secondary[b]) {
+            result = secondary[a].compareTo(secondary[b]);
+        }
+        return result != 0 ? result : Integer.compare(a, b);
+    }
+
+
+    /**
+     * Sorts the first ids of an array by their keys with a merge sort, which
+     * needs no boxed Integer objects. The sort is stable: ids with equal keys
+     * keep their order. The first four characters of each primary key are
+     * packed into a long and compared first, so most comparisons do not read
+     * the strings at all.
+     *
+     * @param order     The ids.
+     * @param count     The number of ids to sort.
+     * @param primary   The keys compared first.
+     * @param secondary The keys compared when the primary keys are equal, or
+     *                  null to keep the order of ids with equal primary keys.
+     */
+    private static void sort(int[] order, int count, String[] primary, String[] secondary) {
+        long[] heads = new long[count];
+        for (int id = 0; id < count; id++) {
+            heads[id] = head(primary[id]);
+        }
+        int[] buffer = new int[count];
+        for (int width = 1; width < count; width *= 2) {
+            for (int low = 0; low < count - width; low += 2 * width) {
+                int middle = low + width;
+                int high = Math.min(low + 2 * width, count);
+                int i = low;
+                int j = middle;
+                int k = low;
+                while (i < middle && j < high) {
+                    int a = order[i];
+                    int b = order[j];
+                    int result = Long.compareUnsigned(heads[a], heads[b]);
+                    if (result == 0 && primary[a] != primary[b]) {
+                        result = primary[a].compareTo(primary[b]);
+                    }
+                    if (result == 0 && secondary != null && secondary[a] != secondary[b]) {
+                        result = secondary[a].compareTo(secondary[b]);
+                    }
+                    buffer[k++] = result <= 0 ? order[i++] : order[j++];
+                }
+                while (i < middle) {
+                    buffer[k++] = order[i++];
+                }
+                while (j < high) {
+                    buffer[k++] = order[j++];
+                }
+                System.arraycopy(buffer, low, order, low, high - low);
+            }
+        }
+    }
+
+
+    /**
+     * Packs the first four characters of a key into a long, so that longs
+     * compared as unsigned numbers are in the order of their keys (a key
+     * shorter than four characters is padded with zeros, and sorts first).
+     *
+     * @param key The key.
+     * @return The packed characters.
+     */
+    private static long head(String key) {
+        long head = 0;
+        for (int i = 0; i < 4; i++) {
+            head = (head << 16) | (i < key.length() ? key.charAt(i) : 0);
+        }
+        return head;
+    }
+}
@@ -0,0 +1,280 @@
+package crossfunctionalfitness.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import crossfunctionalfitness.core.ProfileErrors;
+import crossfunctionalfitness.core.ProfileValidator;
+import crossfunctionalfitness.core.UserProfile;
+
+/**
+ * ProfileRecord encodes a user profile as a compact binary record with typed
+ * fields, as stored in profile files by ProfileStore:
+ *
+ *     version      1 byte   schema version of the record (1)
+ *     length       2 bytes  number of bytes of the fields that follow
+ *     age          1 byte   years
+ *     weight       4 bytes  lbs, as a float
+ *     level        1 byte   index in ProfileValidator.FITNESS_LEVELS
+ *     first name   1 byte UTF-8 length, then the UTF-8 bytes
+ *     last name    1 byte UTF-8 length, then the UTF-8 bytes
+ *
+ * A later version only adds fields after the last name and raises the
+ * version, so every version starts with the fields above at the same
+ * offsets. A reader takes the fields it knows from a record of any version
+ * and skips the rest by its length, so files written by older and newer
+ * versions of the program are read without converting them. The fixed-size
+ * fields come first, so a report can read them without decoding the names.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public final class ProfileRecord {
+
+    // Schema version written in new records
+    public static final int VERSION = 1;
+
+    // Bytes of the version and length in front of the fields
+    static final int HEADER_BYTES = 3;
+
+    // Offsets of the fields from the start of a record
+    static final int AGE_OFFSET = 3;
+    static final int WEIGHT_OFFSET = 4;
+    static final int LEVEL_OFFSET = 8;
+    static final int FIRST_NAME_OFFSET = 9;
+
+    // Bytes of the fields of version 1 with empty names
+    private static final int MIN_FIELD_BYTES = 8;
+
+    // Longest name in UTF-8 bytes
+    private static final int MAX_NAME_BYTES = 255;
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private ProfileRecord() {
+    }
+
+
+    /**
+     * Encodes a profile as a record at the position of a buffer, advancing
+     * the position past it.
+     *
+     * @param profile The profile.
+     * @param buffer  The buffer, with room for the record.
+     * @throws IllegalArgumentException if the profile is not valid (see
+     *                                  ProfileValidator) or a name is longer than 255 UTF-8 bytes.
+     */
+    public static void encode(UserProfile profile, ByteBuffer buffer) {
+        ProfileErrors errors = ProfileValidator.validate(profile);
+        if (!errors.isValid()) {
+            throw new IllegalArgumentException(errors.toString());
+        }
+        float weight = Float.parseFloat(profile.getWeight().trim());
+        if (Float.isInfinite(weight)) {
+            throw new IllegalArgumentException("Weight is too large: " + profile.getWeight());
+        }
+        byte[] firstName = nameBytes(profile.getFirstName());
+        byte[] lastName = nameBytes(profile.getLastName());
+        buffer.put((byte) VERSION);
+        buffer.putShort((short) (MIN_FIELD_BYTES + firstName.length + lastName.length));
+        buffer.put((byte) Integer.parseInt(profile.getAge().trim()));
+        buffer.putFloat(weight);
+        buffer.put((byte) ProfileValidator.FITNESS_LEVELS.indexOf(profile.getFitnessLevel().trim()));
+        buffer.put((byte) firstName.length).put(firstName);
+        buffer.put((byte) lastName.length).put(lastName);
+    }
+
+
+    /**
+     * Encodes a profile as a record.
+     *
+     * @param profile The profile.
+     * @return The record.
+     * @throws IllegalArgumentException if the profile is not valid (see
+     *                                  ProfileValidator) or a name is longer than 255 UTF-8 bytes.
+     */
+    public static byte[] encode(UserProfile profile) {
+        ByteBuffer buffer = ByteBuffer.allocate(size(profile));
+        encode(profile, buffer);
+        return buffer.array();
+    }
+
+
+    /**
+     * Returns the size of the record of a profile.
+     *
+     * @param profile The profile.
+     * @return The size in bytes.
+     * @throws IllegalArgumentException if a name is longer than 255 UTF-8 bytes.
+     */
+    public static int size(UserProfile profile) {
+        return HEADER_BYTES + MIN_FIELD_BYTES + nameBytes(profile.getFirstName()).length
+                + nameBytes(profile.getLastName()).length;
+    }
+
+
+    /**
+     * Returns the UTF-8 bytes of a name.
+     *
+     * @param name The name.
+     * @return The bytes of the trimmed name.
+     * @throws IllegalArgumentException if the name is longer than 255 UTF-8 bytes.
+     */
+    private static byte[] nameBytes(String name) {
+        byte[] bytes = name.trim().getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_NAME_BYTES) {
+            throw new IllegalArgumentException("Name must be at most " + MAX_NAME_BYTES + " bytes: " + name);
+        }
+        return bytes;
+    }
+
+
+    /**
+     * Tells whether the record at an offset of a buffer is whole, i.e., its
+     * header and as many bytes as its length are in the buffer. The last
+     * record of a file can be cut short by a crash.
+     *
+     * @param buffer The buffer.
+     * @param offset The offset of the record.
+     * @return true if the record is not cut short.
+     */
+    static boolean isComplete(ByteBuffer buffer, int offset) {
+        return offset + HEADER_BYTES <= buffer.limit()
+                && offset + HEADER_BYTES + (buffer.getShort(offset + 1) & 0xFFFF) <= buffer.limit();
+    }
+
+
+    /**
+     * Checks the record at an offset of a buffer and returns its size.
+     *
+     * @param buffer The buffer.
+     * @param offset The offset of the record.
+     * @return The size of the record in bytes, including its header.
+     * @throws IOException if the record is cut short or not a profile record.
+     */
+    static int recordSize(ByteBuffer buffer, int offset) throws IOException {
+        if (offset + HEADER_BYTES > buffer.limit()) {
+            throw new IOException("Profile record is cut short at byte " + offset);
+        }
+        int version = buffer.get(offset) & 0xFF;
+        int length = buffer.getShort(offset + 1) & 0xFFFF;
+        if (version < 1 || length < MIN_FIELD_BYTES || offset + HEADER_BYTES + length > buffer.limit()) {
+            throw new IOException("Profile record is corrupt at byte " + offset);
+        }
+        int firstLength = buffer.get(offset + FIRST_NAME_OFFSET) & 0xFF;
+        int lastLengthOffset = offset + FIRST_NAME_OFFSET + 1 + firstLength;
+        if (MIN_FIELD_BYTES + firstLength > length
+                || MIN_FIELD_BYTES + firstLength + (buffer.get(lastLengthOffset) & 0xFF) > length
+                || level(buffer, offset) >= ProfileValidator.FITNESS_LEVELS.size()) {
+            throw new IOException("Profile record is corrupt at byte " + offset);
+        }
+        return HEADER_BYTES + length;
+    }
+
+
+    /**
+     * Decodes the record at an offset of a buffer, which recordSize has
+     * checked.
+     *
+     * @param buffer The buffer.
+     * @param offset The offset of the record.
+     * @return The profile, with the age and weight as text.
+     */
+    static UserProfile decode(ByteBuffer buffer, int offset) {
+        return new UserProfile(firstName(buffer, offset), lastName(buffer, offset),
+                String.valueOf(age(buffer, offset)), formatWeight(weight(buffer, offset)),
+                ProfileValidator.FITNESS_LEVELS.get(level(buffer, offset)));
+    }
+
+
+    /**
+     * Returns the age of the record at an offset.
+     *
+     * @param buffer The buffer.
+     * @param offset The offset of the record.
+     * @return The age in years.
+     */
+    static int age(ByteBuffer buffer, int offset) {
+        return buffer.get(offset + AGE_OFFSET) & 0xFF;
+    }
+
+
+    /**
+     * Returns the weight of the record at an offset.
+     *
+     * @param buffer The buffer.
+     * @param offset The offset of the record.
+     * @return The weight in lbs.
+     */
+    static float weight(ByteBuffer buffer, int offset) {
+        return buffer.getFloat(offset + WEIGHT_OFFSET);
+    }
+
+
+    /**
+     * Returns the fitness level of the record at an offset.
+     *
+     * @param buffer The buffer.
+     * @param offset The offset of the record.
+     * @return The index of the level in ProfileValidator.FITNESS_LEVELS.
+     */
+    static int level(ByteBuffer buffer, int offset) {
+        return buffer.get(offset + LEVEL_OFFSET) & 0xFF;
+    }
+
+
+    /**
+     * Returns the first name of the record at an offset.
+     *
+     * @param buffer The buffer.
+     * @param offset The offset of the record.
+     * @return The first name.
+     */
+    static String firstName(ByteBuffer buffer, int offset) {
+        return readName(buffer, offset + FIRST_NAME_OFFSET);
+    }
+
+
+    /**
+     * Returns the last name of the record at an offset.
+     *
+     * @param buffer The buffer.
+     * @param offset The offset of the record.
+     * @return The last name.
+     */
+    static String lastName(ByteBuffer buffer, int offset) {
+        int firstLength = buffer.get(offset + FIRST_NAME_OFFSET) & 0xFF;
+        return readName(buffer, offset + FIRST_NAME_OFFSET + 1 + firstLength);
+    }
+
+
+    /**
+     * Reads a length-prefixed UTF-8 name.
+     *
+     * @param buffer The buffer.
+     * @param offset The offset of the length byte.
+     * @return The name.
+     */
+    private static String readName(ByteBuffer buffer, int offset) {
+        int length = buffer.get(offset) & 0xFF;
+        if (buffer.hasArray()) {
+            return new String(buffer.array(), buffer.arrayOffset() + offset + 1, length, StandardCharsets.UTF_8);
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(offset + 1, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+
+    /**
+     * Formats a weight as text, without a fraction if it is whole.
+     *
+     * @param weight The weight in lbs.
+     * @return The text, e.g., "150" or "150.5".
+     */
+    public static String formatWeight(float weight) {
+        return weight == (int) weight ? String.valueOf((int) weight) : Float.toString(weight);
+    }
+}
@@ -0,0 +1,392 @@
+package crossfunctionalfitness.storage;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Scanner;
+
+import crossfunctionalfitness.core.UserProfile;
+import crossfunctionalfitness.instrumentation.FileIoEvent;
+import crossfunctionalfitness.instrumentation.FlightEvents;
+import crossfunctionalfitness.instrumentation.Instrumentation;
+import crossfunctionalfitness.instrumentation.OperationTimer;
+
+/**
+ * ProfileStore reads and writes the saved user profile ("userProfile.dat")
+ * without any user interface. Loading, saving and deleting the profile also
+ * sets the member name recorded in Flight Recorder events. It also saves and
+ * loads many profiles at once, e.g., for reports, and reads files of profiles
+ * to import, which are checked with ProfileValidator before they are used.
+ *
+ * A profile file is a 4 byte header ("CFPR") followed by the profiles as
+ * ProfileRecord records, each marked with its schema version, so files
+ * written by older and newer versions of the program are read as they are.
+ * The saved profile is a profile file of one record. A profile saved as text
+ * by earlier versions ("userProfile.txt", one field per line) is read until
+ * the profile is saved again.
+ *
+ * A record cut short by a crash at the end of a profile file is ignored, so
+ * the saved profile reads as not saved and the member directory keeps the
+ * records before it.
+ *
+ * Every saved or imported profile is also appended to the member directory
+ * ("members.dat"), a profile file in which a later record of a member
+ * replaces an earlier one. The directory is loaded into a ProfileIndex on
+ * first use, when a record cut short is dropped from the file, and the index
+ * is kept up to date on every save.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public final class ProfileStore {
+
+    // File used to store the user profile
+    public static final String PROFILE_FILENAME = "userProfile.dat";
+
+    // File of the user profile saved as text by earlier versions
+    public static final String TEXT_PROFILE_FILENAME = "userProfile.txt";
+
+    // File of every member saved or imported
+    public static final String MEMBERS_FILENAME = "members.dat";
+
+    // Header of a profile file
+    private static final int PROFILE_MAGIC = 0x43465052; // "CFPR"
+    private static final int PROFILE_HEADER_BYTES = 4;
+
+    // Timers of the file operations
+    private static final OperationTimer LOAD_TIMER = Instrumentation.timer("ProfileStore.load");
+    private static final OperationTimer SAVE_TIMER = Instrumentation.timer("ProfileStore.save");
+    private static final OperationTimer SAVE_ALL_TIMER = Instrumentation.timer("ProfileStore.saveAll");
+    private static final OperationTimer LOAD_ALL_TIMER = Instrumentation.timer("ProfileStore.loadAll");
+    private static final OperationTimer IMPORT_TIMER = Instrumentation.timer("ProfileStore.readImport");
+    private static final OperationTimer ADD_MEMBERS_TIMER = Instrumentation.timer("ProfileStore.addMembers");
+
+    private static ProfileIndex memberIndex; // Index of the member directory, null until first used
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private ProfileStore() {
+    }
+
+
+    /**
+     * Loads the user profile from "userProfile.dat", or from the text file
+     * "userProfile.txt" of earlier versions if the profile has not been saved
+     * since.
+     *
+     * @return The loaded UserProfile, or null if no complete profile has been saved.
+     * @throws IOException if the file exists but cannot be read.
+     */
+    public static UserProfile load() throws IOException {
+        File f = new File(PROFILE_FILENAME);
+        if (!f.exists()) {
+            f = new File(TEXT_PROFILE_FILENAME);
+        }
+        FileIoEvent event = FlightEvents.startFileIo(FileIoEvent.READ, f.getName(), 0);
+        long start = LOAD_TIMER.start();
+        try {
+            UserProfile profile;
+            if (f.getName().equals(PROFILE_FILENAME)) {
+                ProfileTable table = read(f);
+                profile = table.size() == 0 ? null : table.get(0);
+            } else {
+                profile = readText(f);
+            }
+            FlightEvents.setCurrentUser(profile == null ? null : profile.getMemberName());
+            return profile;
+        } finally {
+            LOAD_TIMER.stop(start);
+            FlightEvents.finish(event);
+        }
+    }
+
+
+    /**
+     * Reads a user profile saved as text, one field per line.
+     *
+     * @param f The profile file.
+     * @return The loaded UserProfile, or null if the file does not hold a complete profile.
+     * @throws IOException if the file exists but cannot be read.
+     */
+    private static UserProfile readText(File f) throws IOException {
+        if (!f.exists()) {
+            return null; // No profile saved yet
+        }
+
+        // Read each line of data from the file
+        ArrayList<String> userData = new ArrayList<>();
+        try (Scanner scanner = new Scanner(f)) {
+            while (scanner.hasNextLine()) {
+                userData.add(scanner.nextLine());
+            }
+        }
+
+        // A complete profile has five lines
+        if (userData.size() < 5) {
+            return null;
+        }
+        return new UserProfile(userData.get(0), userData.get(1), userData.get(2), userData.get(3), userData.get(4));
+    }
+
+
+    /**
+     * Saves a user profile to "userProfile.dat" and deletes the profile saved
+     * as text by earlier versions.
+     *
+     * @param profile The profile to save.
+     * @throws IllegalArgumentException if the profile is not valid (see ProfileValidator).
+     * @throws IOException              if the file cannot be written.
+     */
+    public static void save(UserProfile profile) throws IOException {
+        ByteBuffer buffer = encode(List.of(profile)); // Checked before the file is touched
+        FileIoEvent event = FlightEvents.startFileIo(FileIoEvent.WRITE, PROFILE_FILENAME, buffer.remaining());
+        long start = SAVE_TIMER.start();
+        try (FileChannel channel = FileChannel.open(new File(PROFILE_FILENAME).toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            WorkoutStore.writeFully(channel, buffer, 0);
+        } finally {
+            SAVE_TIMER.stop(start);
+            FlightEvents.finish(event);
+        }
+        new File(TEXT_PROFILE_FILENAME).delete(); // Replaced by the new file
+        FlightEvents.setCurrentUser(profile.getMemberName());
+        addMembers(List.of(profile));
+    }
+
+
+    /**
+     * Returns the index of the member directory, loading the directory on
+     * first use. If most of the records of the directory have been replaced
+     * by later records, the directory is rewritten with one record per
+     * member; otherwise a record cut short by a crash is dropped from the
+     * end of the file, so the next save appends after the complete records.
+     *
+     * @return The index, shared by every caller and kept up to date by save and addMembers.
+     * @throws IOException if the directory cannot be read.
+     */
+    public static synchronized ProfileIndex getMemberIndex() throws IOException {
+        if (memberIndex == null) {
+            File f = new File(MEMBERS_FILENAME);
+            ProfileTable table = loadAll(f);
+            ProfileIndex index = ProfileIndex.build(table);
+            if (table.size() > 2 * index.size()) {
+                saveAll(f, index.toList()); // Drop the replaced records
+            } else if (f.length() > table.getLength()) {
+                try (FileChannel channel = FileChannel.open(f.toPath(), StandardOpenOption.WRITE)) {
+                    channel.truncate(table.getLength());
+                }
+            }
+            memberIndex = index;
+        }
+        return memberIndex;
+    }
+
+
+    /**
+     * Appends profiles to the member directory in one write and adds them to
+     * the index of the directory, loading the directory first if it has not
+     * been loaded.
+     *
+     * @param profiles The profiles.
+     * @throws IllegalArgumentException if a profile is not valid (see ProfileValidator).
+     * @throws IOException              if the directory cannot be written.
+     */
+    public static synchronized void addMembers(Collection<UserProfile> profiles) throws IOException {
+        ByteBuffer buffer = encode(profiles);
+        ProfileIndex index = getMemberIndex(); // Also drops a record cut short at the end of the file
+        File f = new File(MEMBERS_FILENAME);
+        FileIoEvent event = FlightEvents.startFileIo(FileIoEvent.WRITE, MEMBERS_FILENAME, buffer.remaining());
+        long start = ADD_MEMBERS_TIMER.start();
+        try (FileChannel channel = FileChannel.open(f.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE)) {
+            long end = channel.size();
+            if (end > 0) {
+                buffer.position(PROFILE_HEADER_BYTES); // The file already has its header
+            }
+            WorkoutStore.writeFully(channel, buffer, end);
+        } finally {
+            ADD_MEMBERS_TIMER.stop(start);
+            FlightEvents.finish(event);
+        }
+        for (UserProfile profile : profiles) {
+            index.put(profile);
+        }
+    }
+
+
+    /**
+     * Forgets the loaded index of the member directory, so the next use loads
+     * the directory again, e.g., after the file was replaced.
+     */
+    static synchronized void unloadMemberIndex() {
+        memberIndex = null;
+    }
+
+
+    /**
+     * Deletes the saved user profile.
+     *
+     * @return true if a profile was deleted, false if none was saved.
+     */
+    public static boolean delete() {
+        FlightEvents.setCurrentUser(null);
+        boolean deleted = new File(PROFILE_FILENAME).delete();
+        return new File(TEXT_PROFILE_FILENAME).delete() || deleted;
+    }
+
+
+    /**
+     * Saves many profiles to a profile file in one write, replacing the file.
+     *
+     * @param f        The profile file.
+     * @param profiles The profiles, in the order to save them.
+     * @throws IllegalArgumentException if a profile is not valid (see ProfileValidator).
+     * @throws IOException              if the file cannot be written.
+     */
+    public static void saveAll(File f, Collection<UserProfile> profiles) throws IOException {
+        ByteBuffer buffer = encode(profiles);
+        FileIoEvent event = FlightEvents.startFileIo(FileIoEvent.WRITE, f.getPath(), buffer.remaining());
+        long start = SAVE_ALL_TIMER.start();
+        try (FileChannel channel = FileChannel.open(f.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            WorkoutStore.writeFully(channel, buffer, 0);
+            channel.force(false);
+        } finally {
+            SAVE_ALL_TIMER.stop(start);
+            FlightEvents.finish(event);
+        }
+    }
+
+
+    /**
+     * Loads every profile of a profile file in one read. Records of every
+     * schema version are read as they are.
+     *
+     * @param f The profile file.
+     * @return The profiles; empty if the file does not exist.
+     * @throws IOException if the file cannot be read or is not a profile file.
+     */
+    public static ProfileTable loadAll(File f) throws IOException {
+        if (!f.exists()) {
+            return new ProfileTable(ByteBuffer.allocate(0), new int[0], 0);
+        }
+        FileIoEvent event = FlightEvents.startFileIo(FileIoEvent.READ, f.getPath(), 0);
+        long start = LOAD_ALL_TIMER.start();
+        try {
+            return read(f);
+        } finally {
+            LOAD_ALL_TIMER.stop(start);
+            FlightEvents.finish(event);
+        }
+    }
+
+
+    /**
+     * Encodes profiles as the contents of a profile file.
+     *
+     * @param profiles The profiles.
+     * @return The bytes of the file, ready to be written.
+     * @throws IllegalArgumentException if a profile is not valid (see ProfileValidator).
+     */
+    private static ByteBuffer encode(Collection<UserProfile> profiles) {
+        int size = PROFILE_HEADER_BYTES;
+        for (UserProfile profile : profiles) {
+            size += ProfileRecord.size(profile);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(PROFILE_MAGIC);
+        for (UserProfile profile : profiles) {
+            ProfileRecord.encode(profile, buffer);
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+
+    /**
+     * Reads a profile file and finds the offset of each record.
+     *
+     * @param f The profile file.
+     * @return The profiles.
+     * @throws IOException if the file cannot be read or is not a profile file.
+     */
+    private static ProfileTable read(File f) throws IOException {
+        try (FileChannel channel = FileChannel.open(f.toPath(), StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException(f + " is too large");
+            }
+            ByteBuffer buffer = WorkoutStore.readFully(channel, ByteBuffer.allocate((int) channel.size()), 0);
+            if (buffer.limit() < PROFILE_HEADER_BYTES || buffer.getInt(0) != PROFILE_MAGIC) {
+                throw new IOException(f + " is not a profile file");
+            }
+
+            // Walk the records, skipping any fields of newer versions by their length
+            int[] offsets = new int[16];
+            int size = 0;
+            int offset = PROFILE_HEADER_BYTES;
+            try {
+                while (offset < buffer.limit() && ProfileRecord.isComplete(buffer, offset)) {
+                    if (size == offsets.length) {
+                        offsets = Arrays.copyOf(offsets, size * 2);
+                    }
+                    offsets[size++] = offset;
+                    offset += ProfileRecord.recordSize(buffer, offset);
+                }
+            } catch (IOException e) {
+                throw new IOException(f + ": " + e.getMessage(), e);
+            }
+            buffer.limit(offset); // A record cut short by a crash ends the file
+            return new ProfileTable(buffer, offsets, size);
+        }
+    }
+
+
+    /**
+     * Reads a file of profiles to import: one profile per line, with the first
+     * name, last name, age, weight and fitness level separated by commas.
+     * The fields are not checked; a line with fewer fields gets empty fields,
+     * so that ProfileValidator reports every missing field.
+     *
+     * @param f The import file (UTF-8).
+     * @return The profiles, one per line of the file, in file order.
+     * @throws IOException if the file cannot be read.
+     */
+    public static List<UserProfile> readImport(File f) throws IOException {
+        FileIoEvent event = FlightEvents.startFileIo(FileIoEvent.READ, f.getName(), 0);
+        long start = IMPORT_TIMER.start();
+        try (BufferedReader reader = Files.newBufferedReader(f.toPath(), StandardCharsets.UTF_8)) {
+            List<UserProfile> profiles = new ArrayList<>();
+            String[] fields = new String[5];
+            String line;
+            while ((line = reader.readLine()) != null) {
+                // Split the line at its commas, without a regular expression
+                int from = 0;
+                for (int i = 0; i < fields.length; i++) {
+                    if (from > line.length()) {
+                        fields[i] = ""; // The line has fewer fields
+                        continue;
+                    }
+                    int comma = i < fields.length - 1 ? line.indexOf(',', from) : -1; // The last field takes the rest
+                    int end = comma < 0 ? line.length() : comma;
+                    fields[i] = line.substring(from, end);
+                    from = end + 1;
+                }
+                profiles.add(new UserProfile(fields[0], fields[1], fields[2], fields[3], fields[4]));
+            }
+            return profiles;
+        } finally {
+            IMPORT_TIMER.stop(start);
+            FlightEvents.finish(event);
+        }
+    }
+}
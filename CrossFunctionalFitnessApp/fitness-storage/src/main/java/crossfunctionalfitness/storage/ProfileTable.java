@@ -0,0 +1,165 @@
+package crossfunctionalfitness.storage;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import crossfunctionalfitness.core.ProfileValidator;
+import crossfunctionalfitness.core.UserProfile;
+
+/**
+ * ProfileTable holds the profiles of a profile file as returned by
+ * ProfileStore.loadAll: the bytes of the file and the offset of each record.
+ * The age, weight and fitness level of a profile are read straight from its
+ * record, so a report over every profile creates no objects; the names and
+ * UserProfile objects are only created when asked for.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class ProfileTable {
+
+    private final ByteBuffer data;  // The bytes of the profile file
+    private final int[] offsets;    // Offset of the record of each profile
+    private final int size;         // Number of profiles
+
+    /**
+     * Constructor to initialize a ProfileTable of checked records.
+     *
+     * @param data    The bytes of the profile file.
+     * @param offsets The offset of the record of each profile.
+     * @param size    The number of profiles.
+     */
+    ProfileTable(ByteBuffer data, int[] offsets, int size) {
+        this.data = data;
+        this.offsets = offsets;
+        this.size = size;
+    }
+
+
+    /**
+     * Returns the number of profiles.
+     *
+     * @return The number of profiles.
+     */
+    public int size() {
+        return size;
+    }
+
+
+    /**
+     * Returns the age of a profile.
+     *
+     * @param index The index of the profile, in file order.
+     * @return The age in years.
+     */
+    public int getAge(int index) {
+        return ProfileRecord.age(data, offset(index));
+    }
+
+
+    /**
+     * Returns the weight of a profile.
+     *
+     * @param index The index of the profile, in file order.
+     * @return The weight in lbs.
+     */
+    public float getWeight(int index) {
+        return ProfileRecord.weight(data, offset(index));
+    }
+
+
+    /**
+     * Returns the fitness level of a profile as an index.
+     *
+     * @param index The index of the profile, in file order.
+     * @return The index of the level in ProfileValidator.FITNESS_LEVELS.
+     */
+    public int getLevelIndex(int index) {
+        return ProfileRecord.level(data, offset(index));
+    }
+
+
+    /**
+     * Returns the fitness level of a profile.
+     *
+     * @param index The index of the profile, in file order.
+     * @return The fitness level, e.g., "Novice".
+     */
+    public String getFitnessLevel(int index) {
+        return ProfileValidator.FITNESS_LEVELS.get(getLevelIndex(index));
+    }
+
+
+    /**
+     * Returns the first name of a profile.
+     *
+     * @param index The index of the profile, in file order.
+     * @return A new string of the first name.
+     */
+    public String getFirstName(int index) {
+        return ProfileRecord.firstName(data, offset(index));
+    }
+
+
+    /**
+     * Returns the last name of a profile.
+     *
+     * @param index The index of the profile, in file order.
+     * @return A new string of the last name.
+     */
+    public String getLastName(int index) {
+        return ProfileRecord.lastName(data, offset(index));
+    }
+
+
+    /**
+     * Returns a profile.
+     *
+     * @param index The index of the profile, in file order.
+     * @return A new UserProfile object.
+     */
+    public UserProfile get(int index) {
+        return ProfileRecord.decode(data, offset(index));
+    }
+
+
+    /**
+     * Returns the length of the file up to the end of its last complete
+     * record.
+     *
+     * @return The length in bytes, 0 if the file does not exist.
+     */
+    int getLength() {
+        return data.limit();
+    }
+
+
+    /**
+     * Returns every profile.
+     *
+     * @return New UserProfile objects, in file order.
+     */
+    public List<UserProfile> toList() {
+        List<UserProfile> profiles = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            profiles.add(get(i));
+        }
+        return profiles;
+    }
+
+
+    /**
+     * Returns the offset of the record of a profile.
+     *
+     * @param index The index of the profile.
+     * @return The offset in bytes.
+     * @throws IndexOutOfBoundsException if there is no such profile.
+     */
+    private int offset(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Profile " + index + " of " + size);
+        }
+        return offsets[index];
+    }
+}
@@ -0,0 +1,540 @@
+package crossfunctionalfitness.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import crossfunctionalfitness.core.WorkoutColumns;
+import crossfunctionalfitness.core.WorkoutData;
+import crossfunctionalfitness.core.WorkoutProgram;
+import crossfunctionalfitness.instrumentation.FileIoEvent;
+import crossfunctionalfitness.instrumentation.FlightEvents;
+import crossfunctionalfitness.instrumentation.Instrumentation;
+import crossfunctionalfitness.instrumentation.OperationTimer;
+
+/**
+ * WorkoutArchive packs the workouts of finished program cycles into one
+ * compressed segment file per member ("archive-<key>.seg"), so that years
+ * of history take a few kilobytes in one file instead of thirty small files,
+ * each a full disk block, per cycle.
+ *
+ * A segment starts with an 8 byte header ("CFFA" and the format version) and
+ * holds one block per cycle, appended in the order archived. A block is its
+ * length followed by:
+ *
+ *     cycle number
+ *     number of saved days n
+ *     n day numbers, each as the difference from the previous one
+ *     n completed flags, packed eight to a byte
+ *     n minutes, each plus one (0 is a missing time)
+ *
+ * All numbers are unsigned varints (7 bits per byte, the high bit set on all
+ * but the last byte), so a day delta or a workout under two hours takes one
+ * byte and a 30 day cycle takes about 70 bytes. Days never saved are left out.
+ *
+ * A segment is read in one call. The length of each block lets a lookup skip
+ * to the block of a cycle without decoding the others, and only that block is
+ * decoded to find a day. A block cut short by a crash while appending is
+ * ignored, and removed by the next append.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public final class WorkoutArchive {
+
+    // Layout of a segment file
+    private static final int SEGMENT_MAGIC = 0x43464641; // "CFFA"
+    private static final int SEGMENT_VERSION = 1;
+    private static final int SEGMENT_HEADER_BYTES = 8;
+
+    // Most bytes of an int varint
+    private static final int MAX_VARINT_BYTES = 5;
+
+    // Timers of the file operations
+    private static final OperationTimer APPEND_TIMER = Instrumentation.timer("WorkoutArchive.append");
+    private static final OperationTimer READ_TIMER = Instrumentation.timer("WorkoutArchive.read");
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private WorkoutArchive() {
+    }
+
+
+    /**
+     * Returns the segment file of a member (e.g., "archive-%4aane%20%44oe.seg"),
+     * named by the same key as the member's plan file, so no two members
+     * share one.
+     *
+     * @param user The member name.
+     * @return The segment file.
+     */
+    public static File segmentFile(String user) {
+        return WorkoutStore.memberFile("archive-", user, ".seg");
+    }
+
+
+    /**
+     * Archives the day files of the program (e.g., "day1workout.txt") as a
+     * finished cycle of a member, then deletes them, so the next cycle starts
+     * with no saved days. The files are only deleted after the archive has
+     * been synced to disk. A cycle with no saved days is not archived.
+     *
+     * @param user  The member name.
+     * @param cycle The number of the finished cycle (1-based).
+     * @return The number of days archived, 0 if no day was saved.
+     * @throws IllegalArgumentException if the cycle is not valid or already archived.
+     * @throws IOException              if a day file cannot be read or deleted, or the archive written.
+     */
+    public static int archiveDayFiles(String user, int cycle) throws IOException {
+        int days = WorkoutProgram.getDayCount();
+        WorkoutRange range = new WorkoutRange(1, days);
+        List<File> files = new ArrayList<>();
+        for (int day = 1; day <= days; day++) {
+            File file = new File(WorkoutStore.filename(day));
+            if (file.isFile()) {
+                WorkoutData workout = WorkoutStore.read(day);
+                range.set(day, workout.isCompleted() ? WorkoutRange.COMPLETED : WorkoutRange.SAVED,
+                        WorkoutColumns.parseMinutes(workout.getTimeTaken()));
+                files.add(file);
+            }
+        }
+
+        // An empty cycle would only add an empty block, and mark the cycle as archived
+        if (files.isEmpty()) {
+            return 0;
+        }
+
+        append(segmentFile(user), cycle, range);
+        for (File file : files) {
+            Files.delete(file.toPath()); // A day file left behind would be archived again with the next cycle
+        }
+        return files.size();
+    }
+
+
+    /**
+     * Appends a finished cycle to a segment file and syncs it. The saved days
+     * of the range are archived; days never saved are left out.
+     *
+     * @param segment The segment file.
+     * @param cycle   The number of the cycle (1-based).
+     * @param days    The workouts of the cycle.
+     * @throws IllegalArgumentException if the cycle is not valid or already archived.
+     * @throws IOException              if the file cannot be written or is not a segment file.
+     */
+    public static void append(File segment, int cycle, WorkoutRange days) throws IOException {
+        if (cycle < 1) {
+            throw new IllegalArgumentException("Cycle must be at least 1: " + cycle);
+        }
+        ByteBuffer block = encode(cycle, days);
+
+        FileIoEvent event = FlightEvents.startFileIo(FileIoEvent.WRITE, segment.getPath(), 0);
+        long start = APPEND_TIMER.start();
+        try (FileChannel channel = FileChannel.open(segment.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long end;
+            if (channel.size() == 0) {
+                ByteBuffer header = ByteBuffer.allocate(SEGMENT_HEADER_BYTES);
+                header.putInt(SEGMENT_MAGIC).putInt(SEGMENT_VERSION).flip();
+                WorkoutStore.writeFully(channel, header, 0);
+                end = SEGMENT_HEADER_BYTES;
+            } else {
+                ByteBuffer contents = read(channel, segment);
+                if (findBlock(contents, cycle, segment) >= 0) {
+                    throw new IllegalArgumentException("Cycle " + cycle + " is already archived in " + segment);
+                }
+                end = completeLength(contents, segment);
+                channel.truncate(end); // Drop a block cut short by an earlier crash
+            }
+            WorkoutStore.writeFully(channel, block, end);
+            channel.force(false);
+        } finally {
+            APPEND_TIMER.stop(start);
+            FlightEvents.finish(event);
+        }
+    }
+
+
+    /**
+     * Returns the cycles archived for a member.
+     *
+     * @param user The member name.
+     * @return The cycle numbers, in the order archived; empty if none.
+     * @throws IOException if the segment file cannot be read.
+     */
+    public static List<Integer> getCycles(String user) throws IOException {
+        return getCycles(segmentFile(user));
+    }
+
+
+    /**
+     * Returns the program cycle a member is in: the one after the highest
+     * archived cycle, or the first if none was archived.
+     *
+     * @param user The member name.
+     * @return The current cycle (1-based).
+     * @throws IOException if the segment file cannot be read.
+     */
+    public static int getCurrentCycle(String user) throws IOException {
+        int highest = 0;
+        for (int cycle : getCycles(user)) {
+            highest = Math.max(highest, cycle);
+        }
+        return highest + 1;
+    }
+
+
+    /**
+     * Returns the cycles archived in a segment file.
+     *
+     * @param segment The segment file.
+     * @return The cycle numbers, in the order archived; empty if none.
+     * @throws IOException if the file cannot be read or is not a segment file.
+     */
+    public static List<Integer> getCycles(File segment) throws IOException {
+        List<Integer> cycles = new ArrayList<>();
+        ByteBuffer contents = readSegment(segment);
+        if (contents == null) {
+            return cycles;
+        }
+        try {
+            int offset = SEGMENT_HEADER_BYTES;
+            ByteBuffer in = contents.duplicate();
+            while (offset < contents.limit()) {
+                in.position(offset);
+                int length = readVarint(in);
+                if (in.position() + length > contents.limit()) {
+                    break; // A block cut short by a crash
+                }
+                offset = in.position() + length;
+                cycles.add(readVarint(in));
+            }
+        } catch (BufferUnderflowException e) {
+            // A length cut short by a crash ends the segment
+        } catch (IllegalArgumentException e) {
+            throw new IOException(segment + " is corrupt", e);
+        }
+        return cycles;
+    }
+
+
+    /**
+     * Loads one day of an archived cycle of a member.
+     *
+     * @param user  The member name.
+     * @param cycle The cycle number.
+     * @param day   The day number.
+     * @return The workout, not completed with a time of "0" if the day was never
+     *         saved, or null if the cycle is not archived.
+     * @throws IOException if the segment file cannot be read.
+     */
+    public static WorkoutData load(String user, int cycle, int day) throws IOException {
+        return load(segmentFile(user), cycle, day);
+    }
+
+
+    /**
+     * Loads one day of an archived cycle. Only the block of the cycle is
+     * decoded, and only up to the day.
+     *
+     * @param segment The segment file.
+     * @param cycle   The cycle number.
+     * @param day     The day number.
+     * @return The workout, not completed with a time of "0" if the day was never
+     *         saved, or null if the cycle is not archived.
+     * @throws IOException if the file cannot be read or is not a segment file.
+     */
+    public static WorkoutData load(File segment, int cycle, int day) throws IOException {
+        ByteBuffer contents = readSegment(segment);
+        int offset = contents == null ? -1 : findBlock(contents, cycle, segment);
+        if (offset < 0) {
+            return null;
+        }
+        try {
+            ByteBuffer in = contents.duplicate();
+            in.position(offset);
+            readVarint(in); // The cycle
+            int count = readVarint(in);
+
+            // Find the day among the delta-coded day numbers, then skip the rest of them
+            int index = -1;
+            int current = 0;
+            for (int i = 0; i < count; i++) {
+                current += readVarint(in);
+                if (current == day) {
+                    index = i;
+                }
+            }
+            if (index < 0) {
+                return new WorkoutData("Day " + day, false, "0"); // Not saved in this cycle
+            }
+
+            // The flag is one bit; the minutes follow the flags, one varint per day
+            boolean completed = (in.get(in.position() + index / 8) & (1 << (index % 8))) != 0;
+            in.position(in.position() + (count + 7) / 8);
+            for (int i = 0; i < index; i++) {
+                readVarint(in);
+            }
+            int minutes = WorkoutColumns.validMinutes(readVarint(in) - 1);
+            return new WorkoutData("Day " + day, completed,
+                    minutes == WorkoutColumns.MISSING_MINUTES ? "" : String.valueOf(minutes));
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IOException(segment + " is corrupt", e);
+        }
+    }
+
+
+    /**
+     * Loads every day of an archived cycle of a member.
+     *
+     * @param user  The member name.
+     * @param cycle The cycle number.
+     * @return The days from 1 to the last saved day or the last day of the
+     *         program, or null if the cycle is not archived.
+     * @throws IOException if the segment file cannot be read.
+     */
+    public static WorkoutRange loadCycle(String user, int cycle) throws IOException {
+        return loadCycle(segmentFile(user), cycle);
+    }
+
+
+    /**
+     * Loads every day of an archived cycle.
+     *
+     * @param segment The segment file.
+     * @param cycle   The cycle number.
+     * @return The days from 1 to the last saved day or the last day of the
+     *         program, or null if the cycle is not archived.
+     * @throws IOException if the file cannot be read or is not a segment file.
+     */
+    public static WorkoutRange loadCycle(File segment, int cycle) throws IOException {
+        ByteBuffer contents = readSegment(segment);
+        int offset = contents == null ? -1 : findBlock(contents, cycle, segment);
+        if (offset < 0) {
+            return null;
+        }
+        try {
+            ByteBuffer in = contents.duplicate();
+            in.position(offset);
+            readVarint(in); // The cycle
+            int count = readVarint(in);
+            int[] dayNumbers = new int[count];
+            int current = 0;
+            for (int i = 0; i < count; i++) {
+                current += readVarint(in);
+                dayNumbers[i] = current;
+            }
+            int flags = in.position();
+            in.position(flags + (count + 7) / 8);
+
+            int lastDay = Math.max(count == 0 ? 0 : dayNumbers[count - 1], WorkoutProgram.getDayCount());
+            WorkoutRange range = new WorkoutRange(1, lastDay);
+            for (int i = 0; i < count; i++) {
+                boolean completed = (in.get(flags + i / 8) & (1 << (i % 8))) != 0;
+                range.set(dayNumbers[i], completed ? WorkoutRange.COMPLETED : WorkoutRange.SAVED, readVarint(in) - 1);
+            }
+            return range;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IOException(segment + " is corrupt", e);
+        }
+    }
+
+
+    /**
+     * Encodes a cycle as a block, preceded by its length.
+     *
+     * @param cycle The cycle number.
+     * @param days  The workouts of the cycle.
+     * @return The block, ready to be written.
+     */
+    private static ByteBuffer encode(int cycle, WorkoutRange days) {
+        int count = 0;
+        for (int day = days.getFromDay(); day <= days.getToDay(); day++) {
+            if (days.isSaved(day)) {
+                count++;
+            }
+        }
+
+        ByteBuffer body = ByteBuffer.allocate(2 * MAX_VARINT_BYTES + count * 2 * MAX_VARINT_BYTES + (count + 7) / 8);
+        putVarint(body, cycle);
+        putVarint(body, count);
+        int previous = 0;
+        for (int day = days.getFromDay(); day <= days.getToDay(); day++) {
+            if (days.isSaved(day)) {
+                putVarint(body, day - previous);
+                previous = day;
+            }
+        }
+        int flags = body.position();
+        int index = 0;
+        body.position(flags + (count + 7) / 8);
+        for (int day = days.getFromDay(); day <= days.getToDay(); day++) {
+            if (days.isSaved(day)) {
+                if (days.isCompleted(day)) {
+                    body.put(flags + index / 8, (byte) (body.get(flags + index / 8) | (1 << (index % 8))));
+                }
+                int minutes = days.getMinutes(day);
+                putVarint(body, minutes == WorkoutColumns.MISSING_MINUTES ? 0 : minutes + 1);
+                index++;
+            }
+        }
+        body.flip();
+
+        ByteBuffer block = ByteBuffer.allocate(MAX_VARINT_BYTES + body.remaining());
+        putVarint(block, body.remaining());
+        block.put(body);
+        block.flip();
+        return block;
+    }
+
+
+    /**
+     * Finds the block of a cycle.
+     *
+     * @param contents The contents of the segment file.
+     * @param cycle    The cycle number.
+     * @param segment  The segment file, for the error message.
+     * @return The offset of the block after its length, or -1 if the cycle is not archived.
+     * @throws IOException if the segment is corrupt.
+     */
+    private static int findBlock(ByteBuffer contents, int cycle, File segment) throws IOException {
+        try {
+            int offset = SEGMENT_HEADER_BYTES;
+            ByteBuffer in = contents.duplicate();
+            while (offset < contents.limit()) {
+                in.position(offset);
+                int length = readVarint(in);
+                int blockStart = in.position();
+                if (blockStart + length > contents.limit()) {
+                    return -1; // A block cut short by a crash
+                }
+                if (readVarint(in) == cycle) {
+                    return blockStart;
+                }
+                offset = blockStart + length;
+            }
+            return -1;
+        } catch (BufferUnderflowException e) {
+            return -1; // A length cut short by a crash ends the segment
+        } catch (IllegalArgumentException e) {
+            throw new IOException(segment + " is corrupt", e);
+        }
+    }
+
+
+    /**
+     * Returns the length of the segment up to the end of its last complete block.
+     *
+     * @param contents The contents of the segment file.
+     * @param segment  The segment file, for the error message.
+     * @return The length in bytes.
+     * @throws IOException if the segment is corrupt.
+     */
+    private static int completeLength(ByteBuffer contents, File segment) throws IOException {
+        int offset = SEGMENT_HEADER_BYTES;
+        try {
+            ByteBuffer in = contents.duplicate();
+            while (offset < contents.limit()) {
+                in.position(offset);
+                int length = readVarint(in);
+                if (in.position() + length > contents.limit()) {
+                    break; // A block cut short by a crash
+                }
+                offset = in.position() + length;
+            }
+        } catch (BufferUnderflowException e) {
+            // A length cut short by a crash ends the segment
+        } catch (IllegalArgumentException e) {
+            throw new IOException(segment + " is corrupt", e);
+        }
+        return offset;
+    }
+
+
+    /**
+     * Reads a whole segment file in one call.
+     *
+     * @param segment The segment file.
+     * @return The contents, or null if the file does not exist.
+     * @throws IOException if the file cannot be read or is not a segment file.
+     */
+    private static ByteBuffer readSegment(File segment) throws IOException {
+        if (!segment.exists()) {
+            return null;
+        }
+        FileIoEvent event = FlightEvents.startFileIo(FileIoEvent.READ, segment.getPath(), 0);
+        long start = READ_TIMER.start();
+        try (FileChannel channel = FileChannel.open(segment.toPath(), StandardOpenOption.READ)) {
+            return read(channel, segment);
+        } finally {
+            READ_TIMER.stop(start);
+            FlightEvents.finish(event);
+        }
+    }
+
+
+    /**
+     * Reads the contents of an open segment file and checks its header.
+     *
+     * @param channel The open file.
+     * @param segment The segment file, for the error message.
+     * @return The contents.
+     * @throws IOException if the file cannot be read or is not a segment file.
+     */
+    private static ByteBuffer read(FileChannel channel, File segment) throws IOException {
+        if (channel.size() > Integer.MAX_VALUE) {
+            throw new IOException(segment + " is too large for a segment file");
+        }
+        ByteBuffer contents = WorkoutStore.readFully(channel, ByteBuffer.allocate((int) channel.size()), 0);
+        if (contents.limit() < SEGMENT_HEADER_BYTES || contents.getInt(0) != SEGMENT_MAGIC) {
+            throw new IOException(segment + " is not a workout archive segment");
+        }
+        if (contents.getInt(4) != SEGMENT_VERSION) {
+            throw new IOException(segment + " has unknown segment format version " + contents.getInt(4));
+        }
+        return contents;
+    }
+
+
+    /**
+     * Writes an int as an unsigned varint.
+     *
+     * @param out   The buffer to write to.
+     * @param value The value; negative values take five bytes.
+     */
+    private static void putVarint(ByteBuffer out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+
+    /**
+     * Reads an unsigned varint.
+     *
+     * @param in The buffer to read from.
+     * @return The value.
+     * @throws BufferUnderflowException if the buffer ends inside the varint.
+     * @throws IllegalArgumentException if the varint is longer than an int.
+     */
+    private static int readVarint(ByteBuffer in) {
+        int value = 0;
+        for (int shift = 0; shift < 7 * MAX_VARINT_BYTES; shift += 7) {
+            byte b = in.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Varint longer than " + MAX_VARINT_BYTES + " bytes");
+    }
+}
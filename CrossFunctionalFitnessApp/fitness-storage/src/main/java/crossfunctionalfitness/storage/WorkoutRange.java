@@ -0,0 +1,194 @@
+package crossfunctionalfitness.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import crossfunctionalfitness.core.CompletionIndex;
+import crossfunctionalfitness.core.WorkoutColumns;
+import crossfunctionalfitness.core.WorkoutData;
+
+/**
+ * WorkoutRange holds the workouts of consecutive days of one member's plan,
+ * as returned by WorkoutStore.loadRange. Each day is a byte of state and an
+ * int of minutes in two primitive arrays, so a summary over the range reads
+ * them directly and a WorkoutData object is only created when asked for.
+ *
+ * A day that was never saved reads as not completed with 0 minutes, like
+ * WorkoutStore.load; a saved time that was not a whole number, or stored
+ * negative, reads as WorkoutColumns.MISSING_MINUTES.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class WorkoutRange {
+
+    // States of a day, as stored in the plan file
+    static final byte NOT_SAVED = 0;
+    static final byte SAVED = 1;
+    static final byte COMPLETED = 2;
+
+    private final int fromDay;      // The first day of the range
+    private final byte[] states;    // State of each day, indexed by day - fromDay
+    private final int[] minutes;    // Minutes of each day, indexed by day - fromDay
+
+    /**
+     * Constructor to initialize a WorkoutRange of days that were not saved.
+     * The store fills it with set().
+     *
+     * @param fromDay The first day of the range.
+     * @param days    The number of days.
+     */
+    WorkoutRange(int fromDay, int days) {
+        this.fromDay = fromDay;
+        this.states = new byte[days];
+        this.minutes = new int[days];
+    }
+
+
+    /**
+     * Sets the stored record of a day.
+     *
+     * @param day     The day number.
+     * @param state   NOT_SAVED, SAVED or COMPLETED.
+     * @param minutes The minutes; any negative value is a missing time.
+     */
+    void set(int day, byte state, int minutes) {
+        states[day - fromDay] = state;
+        this.minutes[day - fromDay] = state == NOT_SAVED ? 0 : WorkoutColumns.validMinutes(minutes);
+    }
+
+
+    /**
+     * Returns the first day of the range.
+     *
+     * @return The day number.
+     */
+    public int getFromDay() {
+        return fromDay;
+    }
+
+
+    /**
+     * Returns the last day of the range.
+     *
+     * @return The day number.
+     */
+    public int getToDay() {
+        return fromDay + states.length - 1;
+    }
+
+
+    /**
+     * Returns the number of days in the range.
+     *
+     * @return The number of days.
+     */
+    public int size() {
+        return states.length;
+    }
+
+
+    /**
+     * Returns whether a day has been saved.
+     *
+     * @param day The day number.
+     * @return true if the day's workout was saved.
+     */
+    public boolean isSaved(int day) {
+        return states[day - fromDay] != NOT_SAVED;
+    }
+
+
+    /**
+     * Returns whether a day's workout was completed.
+     *
+     * @param day The day number.
+     * @return true if the workout was completed.
+     */
+    public boolean isCompleted(int day) {
+        return states[day - fromDay] == COMPLETED;
+    }
+
+
+    /**
+     * Returns the minutes of a day's workout.
+     *
+     * @param day The day number.
+     * @return The minutes, 0 if the day was not saved, or MISSING_MINUTES.
+     */
+    public int getMinutes(int day) {
+        return minutes[day - fromDay];
+    }
+
+
+    /**
+     * Returns the number of completed workouts in the range.
+     *
+     * @return The number of completed workouts.
+     */
+    public int countCompleted() {
+        int completed = 0;
+        for (byte state : states) {
+            if (state == COMPLETED) {
+                completed++;
+            }
+        }
+        return completed;
+    }
+
+
+    /**
+     * Returns a day's workout in the form of WorkoutStore.load.
+     *
+     * @param day The day number.
+     * @return A new WorkoutData object.
+     */
+    public WorkoutData get(int day) {
+        int dayMinutes = getMinutes(day);
+        String timeTaken = dayMinutes == WorkoutColumns.MISSING_MINUTES ? "" : String.valueOf(dayMinutes);
+        return new WorkoutData("Day " + day, isCompleted(day), timeTaken);
+    }
+
+
+    /**
+     * Returns the workouts of every day of the range.
+     *
+     * @return New WorkoutData objects, ordered by day.
+     */
+    public List<WorkoutData> toList() {
+        List<WorkoutData> workouts = new ArrayList<>(states.length);
+        for (int day = fromDay; day <= getToDay(); day++) {
+            workouts.add(get(day));
+        }
+        return workouts;
+    }
+
+
+    /**
+     * Adds every day of the range to gym-wide columns, without creating
+     * WorkoutData objects.
+     *
+     * @param columns The columns to add to.
+     * @param member  The member id of the rows.
+     */
+    public void addTo(WorkoutColumns columns, int member) {
+        for (int i = 0; i < states.length; i++) {
+            columns.add(member, fromDay + i, states[i] == COMPLETED, minutes[i]);
+        }
+    }
+
+
+    /**
+     * Records every day of the range in a completion index, as completed or
+     * not, without creating WorkoutData objects.
+     *
+     * @param index  The index to record in.
+     * @param member The member id.
+     */
+    public void addTo(CompletionIndex index, int member) {
+        index.addMember(member);
+        for (int i = 0; i < states.length; i++) {
+            index.set(member, fromDay + i, states[i] == COMPLETED);
+        }
+    }
+}
@@ -0,0 +1,716 @@
+package crossfunctionalfitness.storage;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import crossfunctionalfitness.core.CompletionIndex;
+import crossfunctionalfitness.core.WorkoutColumns;
+import crossfunctionalfitness.core.WorkoutData;
+import crossfunctionalfitness.core.WorkoutProgram;
+import crossfunctionalfitness.instrumentation.FileIoEvent;
+import crossfunctionalfitness.instrumentation.FlightEvents;
+import crossfunctionalfitness.instrumentation.Instrumentation;
+import crossfunctionalfitness.instrumentation.OperationTimer;
+
+/**
+ * WorkoutStore saves and loads the workout of each day of the program. Each
+ * day is a text file named after the day number (e.g., "day1workout.txt")
+ * holding one line in the form of WorkoutData.toString(). It has no user
+ * interface, so it can run in the command line and in the API server; callers
+ * report save errors to the user.
+ *
+ * Whole plans, e.g., imported member histories, are saved and loaded in bulk
+ * with saveAll and loadRange. A member's plan is one file ("plan-<key>.dat",
+ * where no two member names share a key) with an 8 byte header ("CFFP" and
+ * the format version) followed by one 8 byte record per day at a fixed
+ * offset: the state (not saved, saved or completed), three reserved bytes and
+ * the minutes, negative if missing. A bulk save writes all its records
+ * through one channel and syncs the file once; a range load reads the header
+ * and the records in one call into a WorkoutRange. For long histories,
+ * mapPlan maps the file into memory instead, and any day is then read in
+ * place from a MappedPlan shared by every thread.
+ *
+ * A day saved for a member with write(user, workout, day) is also recorded in
+ * the member's plan file, which is created from the day files the first time.
+ * The completed days of every member of the member directory are kept in a
+ * CompletionIndex, keyed by the ids of ProfileStore's member index, for
+ * gym-wide adherence. It is built from the plan files on first use and kept
+ * up to date by every save of a member's plan.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public final class WorkoutStore {
+
+    // Timers of the file operations
+    private static final OperationTimer LOAD_TIMER = Instrumentation.timer("WorkoutStore.load");
+    private static final OperationTimer WRITE_TIMER = Instrumentation.timer("WorkoutStore.write");
+    private static final OperationTimer SAVE_ALL_TIMER = Instrumentation.timer("WorkoutStore.saveAll");
+    private static final OperationTimer LOAD_RANGE_TIMER = Instrumentation.timer("WorkoutStore.loadRange");
+    private static final OperationTimer MAP_PLAN_TIMER = Instrumentation.timer("WorkoutStore.mapPlan");
+    private static final OperationTimer COMPLETION_INDEX_TIMER =
+            Instrumentation.timer("WorkoutStore.buildCompletionIndex");
+
+    // Layout of a plan file
+    private static final int PLAN_MAGIC = 0x43464650; // "CFFP"
+    private static final int PLAN_VERSION = 1;
+    static final int PLAN_HEADER_BYTES = 8;
+    static final int PLAN_RECORD_BYTES = 8;
+
+    // Largest day number of a plan file, which bounds the size of a bulk operation
+    public static final int MAX_PLAN_DAY = 100000;
+
+    // Naming of member files: the digits of escaped bytes and hashes, and the longest key kept as is
+    private static final String HEX_DIGITS = "0123456789abcdef";
+    private static final int MAX_KEY_LENGTH = 200;
+
+    private static CompletionIndex completionIndex; // Completed days of the members, null until first used
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private WorkoutStore() {
+    }
+
+
+    /**
+     * Returns the name of the file of a day's workout.
+     *
+     * @param day The day number.
+     * @return The filename (e.g., "day1workout.txt").
+     */
+    public static String filename(int day) {
+        return "day" + day + "workout.txt";
+    }
+
+
+    /**
+     * Returns whether the workout of a day has been saved.
+     *
+     * @param day The day number.
+     * @return true if the day's file exists.
+     */
+    public static boolean isSaved(int day) {
+        return new File(filename(day)).isFile();
+    }
+
+
+    /**
+     * Writes the workout data to its text file, reporting failures to the caller.
+     *
+     * @param workout The WorkoutData object to save.
+     * @param day     The day number of the workout.
+     * @throws IOException if the file cannot be written.
+     */
+    public static void write(WorkoutData workout, int day) throws IOException {
+        String filename = filename(day);
+
+        FileIoEvent event = FlightEvents.startFileIo(FileIoEvent.WRITE, filename, day);
+        long start = WRITE_TIMER.start();
+        try (PrintWriter writer = new PrintWriter(new FileWriter(filename))) {
+            writer.println(workout); // Write the workout data to the file
+            if (writer.checkError()) {
+                throw new IOException("Could not write " + filename);
+            }
+        } finally {
+            WRITE_TIMER.stop(start);
+            FlightEvents.finish(event);
+        }
+    }
+
+
+    /**
+     * Writes the workout of a day saved by a member: the day's text file, then
+     * the day's record in the member's plan file with writePlan. The day file
+     * is written first, so the day is saved even if the plan cannot be.
+     *
+     * @param user    The member name.
+     * @param workout The WorkoutData object to save.
+     * @param day     The day number of the workout.
+     * @throws IOException if a file cannot be written.
+     */
+    public static void write(String user, WorkoutData workout, int day) throws IOException {
+        write(workout, day);
+        writePlan(user, workout, day);
+    }
+
+
+    /**
+     * Records the workout of a day, already written to its day file, in the
+     * member's plan file, which also updates the completion index. If the
+     * member has no plan file yet, it is created from every saved day file,
+     * so the days saved before are not lost.
+     *
+     * @param user    The member name.
+     * @param workout The saved workout.
+     * @param day     The day number of the workout.
+     * @throws IOException if the plan file cannot be written or the member directory read.
+     */
+    public static void writePlan(String user, WorkoutData workout, int day) throws IOException {
+        if (planFile(user).exists()) {
+            saveAll(user, List.of(new WorkoutData("Day " + day, workout.isCompleted(), workout.getTimeTaken())));
+        } else {
+            saveAll(user, readDayFiles()); // The day files include the day just written
+        }
+    }
+
+
+    /**
+     * Deletes a member's plan file, e.g., when the days of a finished cycle
+     * have been archived, and marks the days of the program as not completed
+     * in the completion index.
+     *
+     * @param user The member name.
+     * @throws IOException if the file cannot be deleted or the member directory read.
+     */
+    public static void clearPlan(String user) throws IOException {
+        Files.deleteIfExists(planFile(user).toPath());
+        synchronized (WorkoutStore.class) {
+            if (completionIndex == null) {
+                return; // Read from the plan files when first used
+            }
+            int id = ProfileStore.getMemberIndex().getId(user);
+            if (id >= 0 && completionIndex.hasMember(id)) {
+                for (int day = 1; day <= WorkoutProgram.getDayCount(); day++) {
+                    completionIndex.set(id, day, false);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Loads every day of the program of a member, as the Fitness Summary
+     * shows it, from their plan file in one call. If the member has no plan
+     * file yet, it is first created from the saved day files with saveAll.
+     *
+     * @param user The member name.
+     * @return The days of the program; days never saved are not completed.
+     * @throws IOException if a file cannot be read or the plan file written.
+     */
+    public static WorkoutRange loadProgram(String user) throws IOException {
+        if (!planFile(user).exists()) {
+            List<WorkoutData> saved = readDayFiles();
+            if (!saved.isEmpty()) {
+                saveAll(user, saved); // Later days are recorded by write(user, ...)
+            }
+        }
+        return loadRange(user, 1, WorkoutProgram.getDayCount());
+    }
+
+
+    /**
+     * Loads every day of the program from the day files, one by one, when no
+     * member is known. A day file that cannot be read is not saved, as in load.
+     *
+     * @return The days of the program; days never saved are not completed.
+     */
+    public static WorkoutRange loadDayFiles() {
+        int days = WorkoutProgram.getDayCount();
+        WorkoutRange range = new WorkoutRange(1, days);
+        for (int day = 1; day <= days; day++) {
+            try {
+                WorkoutData workout = read(day);
+                range.set(day, workout.isCompleted() ? WorkoutRange.COMPLETED : WorkoutRange.SAVED,
+                        WorkoutColumns.parseMinutes(workout.getTimeTaken()));
+            } catch (IOException e) {
+                // Not saved, or unreadable: the day reads as not completed
+            }
+        }
+        return range;
+    }
+
+
+    /**
+     * Reads the workout of every saved day file of the program.
+     *
+     * @return The workouts, in day order, each labeled with its day ("Day N").
+     * @throws IOException if a day file cannot be read.
+     */
+    static List<WorkoutData> readDayFiles() throws IOException {
+        List<WorkoutData> saved = new ArrayList<>();
+        for (int day = 1; day <= WorkoutProgram.getDayCount(); day++) {
+            if (isSaved(day)) {
+                saved.add(read(day));
+            }
+        }
+        return saved;
+    }
+
+
+    /**
+     * Loads the workout data of a day from its text file. If the file cannot
+     * be read, it returns default workout data indicating the workout was not
+     * completed.
+     *
+     * @param day The day number for which to load the workout data.
+     * @return A WorkoutData object containing the loaded or default data.
+     */
+    public static WorkoutData load(int day) {
+        try {
+            return read(day);
+        } catch (IOException e) {
+            // Return default data if file cannot be read
+            return new WorkoutData("Day " + day, false, "0");
+        }
+    }
+
+
+    /**
+     * Reads the workout data of a day from its text file.
+     *
+     * @param day The day number for which to read the workout data.
+     * @return A WorkoutData object containing the loaded data.
+     * @throws IOException if the file does not exist or cannot be read.
+     */
+    static WorkoutData read(int day) throws IOException {
+        String filename = filename(day);
+
+        FileIoEvent event = FlightEvents.startFileIo(FileIoEvent.READ, filename, day);
+        long start = LOAD_TIMER.start();
+        try (BufferedReader reader = new BufferedReader(new FileReader(filename))) {
+            String line; // The current line in the file
+            boolean parsedCompleted = false; // Whether the workout was completed
+            String parsedTimeTaken = ""; // The time taken for the workout
+
+            // Read the file line by line
+            while ((line = reader.readLine()) != null) {
+                String[] parts = line.split(", "); // Split the line into parts
+                parsedCompleted = Boolean.parseBoolean(parts[1].split(": ")[1]); // Parse the completed status
+                parsedTimeTaken = parts[2].split(": ")[1]; // Parse the time taken
+            }
+
+            return new WorkoutData("Day " + day, parsedCompleted, parsedTimeTaken); // Return the loaded workout data
+        } finally {
+            LOAD_TIMER.stop(start);
+            FlightEvents.finish(event);
+        }
+    }
+
+
+    /**
+     * Returns the plan file of a member (e.g., "plan-%4aane%20%44oe.dat").
+     *
+     * @param user The member name.
+     * @return The plan file.
+     */
+    public static File planFile(String user) {
+        return memberFile("plan-", user, ".dat");
+    }
+
+
+    /**
+     * Returns a file of a member, named by the member key between a prefix
+     * and a suffix. A file named by the key of earlier versions, the name in
+     * lower case with every other character replaced by '_' (e.g.,
+     * "plan-jane_doe.dat"), is renamed to it on first use, so saved plans and
+     * archives are kept. If it cannot be renamed, it is returned instead.
+     *
+     * @param prefix The start of the file name (e.g., "plan-").
+     * @param user   The member name.
+     * @param suffix The end of the file name (e.g., ".dat").
+     * @return The file.
+     */
+    static File memberFile(String prefix, String user, String suffix) {
+        File file = new File(prefix + memberKey(user) + suffix);
+        if (!file.exists()) {
+            String legacyKey = legacyMemberKey(user);
+            File legacy = legacyKey == null ? null : new File(prefix + legacyKey + suffix);
+            if (legacy != null && legacy.isFile() && !legacy.renameTo(file)) {
+                return legacy; // Still readable and writable under its old name
+            }
+        }
+        return file;
+    }
+
+
+    /**
+     * Returns the key naming a member's files. Lower case ASCII letters and
+     * digits are kept; every other character, including upper case letters,
+     * is replaced by '%' and the two hex digits of each of its UTF-8 bytes.
+     * Different names thus have different keys, on file systems that ignore
+     * case too. A key too long for a file name is replaced by '~' and the
+     * SHA-256 hash of the name in hex.
+     *
+     * @param user The member name.
+     * @return The key (e.g., "%4aane%20%44oe" for "Jane Doe").
+     */
+    static String memberKey(String user) {
+        byte[] bytes = user.getBytes(StandardCharsets.UTF_8);
+        StringBuilder key = new StringBuilder();
+        for (byte b : bytes) {
+            if ((b >= 'a' && b <= 'z') || (b >= '0' && b <= '9')) {
+                key.append((char) b);
+            } else {
+                key.append('%').append(HEX_DIGITS.charAt((b >> 4) & 0xF)).append(HEX_DIGITS.charAt(b & 0xF));
+            }
+        }
+        if (key.length() <= MAX_KEY_LENGTH) {
+            return key.toString();
+        }
+
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(bytes);
+            StringBuilder hashed = new StringBuilder("~");
+            for (byte b : hash) {
+                hashed.append(HEX_DIGITS.charAt((b >> 4) & 0xF)).append(HEX_DIGITS.charAt(b & 0xF));
+            }
+            return hashed.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e); // Every Java platform has it
+        }
+    }
+
+
+    /**
+     * Returns the key that named a member's files in earlier versions: the
+     * member name in lower case with every character other than a letter or
+     * digit replaced by '_'. Different names could share it.
+     *
+     * @param user The member name.
+     * @return The key (e.g., "jane_doe"), or null if the name has no letters
+     *         or digits, which had no files.
+     */
+    private static String legacyMemberKey(String user) {
+        StringBuilder key = new StringBuilder();
+        boolean named = false; // Whether the name has a letter or digit
+        for (int i = 0; i < user.length(); i++) {
+            char c = Character.toLowerCase(user.charAt(i));
+            boolean letterOrDigit = (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9');
+            key.append(letterOrDigit ? c : '_');
+            named |= letterOrDigit;
+        }
+        return named ? key.toString() : null;
+    }
+
+
+    /**
+     * Saves workouts to a member's plan file, replacing the saved records of
+     * their days and keeping the other days.
+     *
+     * @param user     The member name.
+     * @param workouts The workouts, each labeled with its day ("Day N").
+     * @throws IllegalArgumentException if a workout has no valid day number.
+     * @throws IOException              if the file cannot be written.
+     */
+    public static void saveAll(String user, Collection<WorkoutData> workouts) throws IOException {
+        saveAll(planFile(user), workouts);
+        updateCompletionIndex(user, workouts);
+    }
+
+
+    /**
+     * Returns the index of the completed days of the program of every member
+     * of the member directory, reading their plan files on first use. The
+     * members are identified by their ids in ProfileStore.getMemberIndex().
+     *
+     * @return The index, shared by every caller and kept up to date by saveAll.
+     * @throws IOException if the member directory or a plan file cannot be read.
+     */
+    public static synchronized CompletionIndex getCompletionIndex() throws IOException {
+        if (completionIndex == null) {
+            long start = COMPLETION_INDEX_TIMER.start();
+            try {
+                ProfileIndex members = ProfileStore.getMemberIndex();
+                CompletionIndex index = new CompletionIndex();
+                for (int id = 0; id < members.size(); id++) {
+                    loadRange(members.getMemberName(id), 1, WorkoutProgram.getDayCount()).addTo(index, id);
+                }
+                completionIndex = index;
+            } finally {
+                COMPLETION_INDEX_TIMER.stop(start);
+            }
+        }
+        return completionIndex;
+    }
+
+
+    /**
+     * Records saved workouts of a member in the completion index, if it has
+     * been loaded and the member is in the member directory. A member who was
+     * not yet in the index is added with their whole plan.
+     *
+     * @param user     The member name.
+     * @param workouts The saved workouts.
+     * @throws IOException if the member directory or the plan file cannot be read.
+     */
+    private static synchronized void updateCompletionIndex(String user, Collection<WorkoutData> workouts)
+            throws IOException {
+        if (completionIndex == null) {
+            return; // Read from the plan files when first used
+        }
+        int id = ProfileStore.getMemberIndex().getId(user);
+        if (id < 0) {
+            return; // Not a member of the directory
+        }
+        if (!completionIndex.hasMember(id)) {
+            loadRange(user, 1, WorkoutProgram.getDayCount()).addTo(completionIndex, id);
+            return;
+        }
+        for (WorkoutData workout : workouts) {
+            completionIndex.set(id, WorkoutColumns.parseDay(workout.getDay()), workout.isCompleted());
+        }
+    }
+
+
+    /**
+     * Saves workouts to a plan file, replacing the saved records of their
+     * days and keeping the other days. A new file is written in one call; an
+     * existing file gets one call per run of consecutive days. The file is
+     * synced once, after all records are written. A later workout of the same
+     * day replaces an earlier one, and a time that is not a whole number is
+     * stored as missing.
+     *
+     * @param file     The plan file.
+     * @param workouts The workouts, each labeled with its day ("Day N").
+     * @throws IllegalArgumentException if a workout has no valid day number.
+     * @throws IOException              if the file cannot be written or is not a plan file.
+     */
+    public static void saveAll(File file, Collection<WorkoutData> workouts) throws IOException {
+        if (workouts.isEmpty()) {
+            return;
+        }
+
+        // Find the days covered by the workouts
+        int firstDay = Integer.MAX_VALUE;
+        int lastDay = 0;
+        for (WorkoutData workout : workouts) {
+            int day = WorkoutColumns.parseDay(workout.getDay());
+            if (day < 1 || day > MAX_PLAN_DAY) {
+                throw new IllegalArgumentException("Workout has no valid day number: " + workout.getDay());
+            }
+            firstDay = Math.min(firstDay, day);
+            lastDay = Math.max(lastDay, day);
+        }
+
+        // Lay out the records of those days, marking the days given
+        ByteBuffer records = ByteBuffer.allocate((lastDay - firstDay + 1) * PLAN_RECORD_BYTES);
+        boolean[] given = new boolean[lastDay - firstDay + 1];
+        for (WorkoutData workout : workouts) {
+            int index = WorkoutColumns.parseDay(workout.getDay()) - firstDay;
+            given[index] = true;
+            records.put(index * PLAN_RECORD_BYTES, workout.isCompleted() ? WorkoutRange.COMPLETED : WorkoutRange.SAVED);
+            records.putInt(index * PLAN_RECORD_BYTES + 4, WorkoutColumns.parseMinutes(workout.getTimeTaken()));
+        }
+
+        FileIoEvent event = FlightEvents.startFileIo(FileIoEvent.WRITE, file.getPath(), 0);
+        long start = SAVE_ALL_TIMER.start();
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            if (channel.size() == 0) {
+                // A new file: the header, then every day up to the last (days not given stay zero, not saved)
+                ByteBuffer whole = ByteBuffer.allocate((int) recordOffset(lastDay + 1));
+                whole.putInt(PLAN_MAGIC).putInt(PLAN_VERSION);
+                whole.position((int) recordOffset(firstDay));
+                whole.put(records);
+                whole.flip();
+                writeFully(channel, whole, 0);
+            } else {
+                checkHeader(readFully(channel, ByteBuffer.allocate(PLAN_HEADER_BYTES), 0), file);
+
+                // Write each run of consecutive given days in place
+                int index = 0;
+                while (index < given.length) {
+                    if (!given[index]) {
+                        index++;
+                        continue;
+                    }
+                    int end = index;
+                    while (end < given.length && given[end]) {
+                        end++;
+                    }
+                    ByteBuffer run = records.duplicate();
+                    run.limit(end * PLAN_RECORD_BYTES).position(index * PLAN_RECORD_BYTES);
+                    writeFully(channel, run, recordOffset(firstDay + index));
+                    index = end;
+                }
+            }
+            channel.force(false); // One sync for the whole batch
+        } finally {
+            SAVE_ALL_TIMER.stop(start);
+            FlightEvents.finish(event);
+        }
+    }
+
+
+    /**
+     * Loads consecutive days of a member's plan.
+     *
+     * @param user    The member name.
+     * @param fromDay The first day (inclusive).
+     * @param toDay   The last day (inclusive).
+     * @return The workouts of the days; days never saved are not completed.
+     * @throws IllegalArgumentException if the range is not valid.
+     * @throws IOException              if the file cannot be read.
+     */
+    public static WorkoutRange loadRange(String user, int fromDay, int toDay) throws IOException {
+        return loadRange(planFile(user), fromDay, toDay);
+    }
+
+
+    /**
+     * Loads consecutive days of a plan file. The header and the records up to
+     * the last day are read in one call; plans are small, so reading the days
+     * before the range costs less than a second call. If the file does not
+     * exist, no day has been saved.
+     *
+     * @param file    The plan file.
+     * @param fromDay The first day (inclusive).
+     * @param toDay   The last day (inclusive).
+     * @return The workouts of the days; days never saved are not completed.
+     * @throws IllegalArgumentException if the range is not valid.
+     * @throws IOException              if the file cannot be read or is not a plan file.
+     */
+    public static WorkoutRange loadRange(File file, int fromDay, int toDay) throws IOException {
+        if (fromDay < 1 || toDay < fromDay || toDay > MAX_PLAN_DAY) {
+            throw new IllegalArgumentException("Invalid day range: " + fromDay + " to " + toDay);
+        }
+        WorkoutRange range = new WorkoutRange(fromDay, toDay - fromDay + 1);
+        if (!file.exists()) {
+            return range;
+        }
+
+        FileIoEvent event = FlightEvents.startFileIo(FileIoEvent.READ, file.getPath(), 0);
+        long start = LOAD_RANGE_TIMER.start();
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long end = Math.min(recordOffset(toDay + 1), channel.size());
+            ByteBuffer buffer = readFully(channel, ByteBuffer.allocate((int) end), 0);
+            checkHeader(buffer, file);
+            for (int day = fromDay; day <= toDay; day++) {
+                int offset = (int) recordOffset(day);
+                if (offset + PLAN_RECORD_BYTES > buffer.limit()) {
+                    break; // Days past the end of the file were never saved
+                }
+                range.set(day, buffer.get(offset), buffer.getInt(offset + 4));
+            }
+        } finally {
+            LOAD_RANGE_TIMER.stop(start);
+            FlightEvents.finish(event);
+        }
+        return range;
+    }
+
+
+    /**
+     * Maps a member's plan file into memory for reading.
+     *
+     * @param user The member name.
+     * @return The mapped plan; no day is saved if the file does not exist.
+     * @throws IOException if the file cannot be mapped or is not a plan file.
+     */
+    public static MappedPlan mapPlan(String user) throws IOException {
+        return mapPlan(planFile(user));
+    }
+
+
+    /**
+     * Maps a plan file into memory for reading. The header is checked once
+     * and the records are then read in place by the MappedPlan, which pages
+     * in only the days it reads. The mapping stays valid after the channel
+     * is closed; saveAll never shortens a plan file, so it stays readable
+     * while the file is saved. If the file does not exist, no day has been
+     * saved.
+     *
+     * @param file The plan file.
+     * @return The mapped plan.
+     * @throws IOException if the file cannot be mapped or is not a plan file.
+     */
+    public static MappedPlan mapPlan(File file) throws IOException {
+        if (!file.exists()) {
+            return new MappedPlan(ByteBuffer.allocate(0));
+        }
+
+        FileIoEvent event = FlightEvents.startFileIo(FileIoEvent.READ, file.getPath(), 0);
+        long start = MAP_PLAN_TIMER.start();
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long size = Math.min(channel.size(), recordOffset(MAX_PLAN_DAY + 1));
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            checkHeader(buffer, file);
+            return new MappedPlan(buffer);
+        } finally {
+            MAP_PLAN_TIMER.stop(start);
+            FlightEvents.finish(event);
+        }
+    }
+
+
+    /**
+     * Returns the offset of a day's record in a plan file.
+     *
+     * @param day The day number.
+     * @return The offset in bytes.
+     */
+    static long recordOffset(int day) {
+        return PLAN_HEADER_BYTES + (long) (day - 1) * PLAN_RECORD_BYTES;
+    }
+
+
+    /**
+     * Checks the header at the start of a buffer read from a plan file.
+     *
+     * @param buffer The bytes read from the start of the file.
+     * @param file   The plan file, for the error message.
+     * @throws IOException if the file is not a plan file of a known version.
+     */
+    private static void checkHeader(ByteBuffer buffer, File file) throws IOException {
+        if (buffer.limit() < PLAN_HEADER_BYTES || buffer.getInt(0) != PLAN_MAGIC) {
+            throw new IOException(file + " is not a workout plan file");
+        }
+        if (buffer.getInt(4) != PLAN_VERSION) {
+            throw new IOException(file + " has unknown plan format version " + buffer.getInt(4));
+        }
+    }
+
+
+    /**
+     * Writes all remaining bytes of a buffer at a position of a channel.
+     *
+     * @param channel  The channel.
+     * @param buffer   The bytes to write.
+     * @param position The file position of the first byte.
+     * @throws IOException if the bytes cannot be written.
+     */
+    static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+
+    /**
+     * Reads a channel from a position until a buffer is full or the end of
+     * the file is reached.
+     *
+     * @param channel  The channel.
+     * @param buffer   The buffer to fill.
+     * @param position The file position of the first byte.
+     * @return The buffer, flipped for reading.
+     * @throws IOException if the channel cannot be read.
+     */
+    static ByteBuffer readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                break; // End of the file
+            }
+            position += read;
+        }
+        buffer.flip();
+        return buffer;
+    }
+}
@@ -0,0 +1,10 @@
+/**
+ * The program's files: the user profile and files of many profiles as
+ * versioned binary records (ProfileStore, ProfileRecord, ProfileTable), the
+ * in-memory index of the member directory (ProfileIndex), the workout of each
+ * day and the bulk plan files of members, read in bulk or through a memory
+ * mapping (WorkoutStore, WorkoutRange, MappedPlan), the compressed archive of
+ * finished cycles (WorkoutArchive), the exercise log and the benchmark
+ * results. It has no user interface, so callers report errors to the user.
+ */
+package crossfunctionalfitness.storage;
@@ -0,0 +1,177 @@
+package crossfunctionalfitness.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import crossfunctionalfitness.core.BenchmarkComparison;
+import crossfunctionalfitness.core.BenchmarkResult;
+import crossfunctionalfitness.core.WorkoutData;
+import crossfunctionalfitness.core.WorkoutProgram;
+
+/**
+ * Tests BenchmarkIndex: results keyed on the program cycle, the precomputed
+ * deltas and cohort ranks against a recomputation, and the results file.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class BenchmarkIndexTest {
+
+    private File file; // The results file of the test
+
+    /**
+     * Starts each test with no results file, archive or day files.
+     */
+    @BeforeEach
+    public void setUp() {
+        file = new File("benchmarkResults-test.txt");
+        tearDown();
+    }
+
+
+    /**
+     * Deletes the files of the test.
+     */
+    @AfterEach
+    public void tearDown() {
+        file.delete();
+        WorkoutArchive.segmentFile("Pat Smith").delete();
+        for (int day = 1; day <= WorkoutProgram.getDayCount(); day++) {
+            new File(WorkoutStore.filename(day)).delete();
+        }
+    }
+
+
+    /**
+     * Saving a benchmark again within a cycle replaces its result, on any
+     * date; archiving the cycle starts the next one.
+     *
+     * @throws IOException if a file cannot be read or written.
+     */
+    @Test
+    public void resultsAreKeyedOnProgramCycle() throws IOException {
+        BenchmarkIndex index = BenchmarkIndex.load(file);
+        assertEquals(1, WorkoutArchive.getCurrentCycle("Pat Smith"));
+        index.record(result("Pat Smith", WorkoutArchive.getCurrentCycle("Pat Smith"), 20000, 1800, 600, 700, 500));
+        index.record(result("Pat Smith", WorkoutArchive.getCurrentCycle("Pat Smith"), 20003, 1700, 550, 650, 500));
+        assertEquals(1, index.compareCycles("Pat Smith", 7).size());
+        assertEquals(1700, index.compare("Pat Smith", 7).getResult().getTotalSeconds());
+        assertEquals(1, index.compare("Pat Smith", 7).getCohortSize()); // The replaced time left the cohort
+
+        WorkoutStore.write(new WorkoutData("Day 7", true, "30"), 7);
+        WorkoutArchive.archiveDayFiles("Pat Smith", 1);
+        assertEquals(2, WorkoutArchive.getCurrentCycle("Pat Smith"));
+        BenchmarkComparison second = index.record(result("Pat Smith", 2, 20031, 1600, 500, 620, 480));
+        assertEquals(100, second.getDeltaFromPrevious());
+        assertEquals(50, second.getStationDeltaFromPrevious(0));
+        assertEquals(30, second.getStationDeltaFromPrevious(1));
+        assertEquals(20, second.getStationDeltaFromPrevious(2));
+        assertEquals(2, index.compareCycles("Pat Smith", 7).size());
+    }
+
+
+    /**
+     * The precomputed deltas and ranks equal a recomputation from the
+     * results, for results recorded in any cycle order, and read back the
+     * same from the results file.
+     *
+     * @throws IOException if the file cannot be read or written.
+     */
+    @Test
+    public void deltasAndRanksMatchRecomputation() throws IOException {
+        Random random = new Random(9);
+        String[] members = { "Ann", "Ben", "Cat", "Dan", "Eve" };
+        BenchmarkIndex index = BenchmarkIndex.load(file);
+        List<BenchmarkResult> recorded = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            BenchmarkResult result = result(members[random.nextInt(members.length)], 1 + random.nextInt(6),
+                    20000 + i, 1200 + random.nextInt(900), random.nextInt(600), random.nextInt(600), 0);
+            index.record(result);
+            recorded.add(result);
+        }
+
+        BenchmarkIndex loaded = BenchmarkIndex.load(file);
+        for (String member : members) {
+            List<BenchmarkResult> cycles = latestByCycle(recorded, member);
+            List<BenchmarkComparison> comparisons = index.compareCycles(member, 7);
+            assertEquals(cycles.size(), comparisons.size(), member);
+            for (int c = 0; c < cycles.size(); c++) {
+                BenchmarkComparison comparison = comparisons.get(c);
+                int total = cycles.get(c).getTotalSeconds();
+                assertEquals(cycles.get(c).getCycle(), comparison.getResult().getCycle());
+                assertEquals(cycles.get(0).getTotalSeconds() - total, comparison.getDeltaFromFirst());
+                assertEquals(c == 0 ? 0 : cycles.get(c - 1).getTotalSeconds() - total,
+                        comparison.getDeltaFromPrevious());
+                assertEquals(c == 0 ? 0 : cycles.get(c - 1).getStationSeconds(1)
+                        - cycles.get(c).getStationSeconds(1), comparison.getStationDeltaFromPrevious(1));
+            }
+
+            // Rank among the latest cycle of every member
+            int latest = cycles.get(cycles.size() - 1).getTotalSeconds();
+            int faster = 0;
+            for (String other : members) {
+                List<BenchmarkResult> otherCycles = latestByCycle(recorded, other);
+                if (otherCycles.get(otherCycles.size() - 1).getTotalSeconds() < latest) {
+                    faster++;
+                }
+            }
+            assertEquals(faster + 1, index.compare(member, 7).getCohortRank(), member);
+            assertEquals(members.length, index.compare(member, 7).getCohortSize());
+            assertEquals(index.compare(member, 7).describe(), loaded.compare(member, 7).describe());
+        }
+        assertNull(index.compare("Ann", 14));
+    }
+
+
+    /**
+     * Returns the result kept for each cycle of a member: the last one recorded.
+     *
+     * @param recorded The results in the order recorded.
+     * @param member   The member.
+     * @return The results in cycle order.
+     */
+    private static List<BenchmarkResult> latestByCycle(List<BenchmarkResult> recorded, String member) {
+        BenchmarkResult[] byCycle = new BenchmarkResult[10];
+        for (BenchmarkResult result : recorded) {
+            if (result.getMember().equals(member)) {
+                byCycle[result.getCycle()] = result;
+            }
+        }
+        List<BenchmarkResult> cycles = new ArrayList<>();
+        for (BenchmarkResult result : byCycle) {
+            if (result != null) {
+                cycles.add(result);
+            }
+        }
+        return cycles;
+    }
+
+
+    /**
+     * Creates a Day 7 result of an Intermediate member with three stations.
+     *
+     * @param member   The member.
+     * @param cycle    The cycle.
+     * @param epochDay The date.
+     * @param total    The total time in seconds.
+     * @param run      The time of the first station.
+     * @param pushups  The time of the second station.
+     * @param squats   The time of the third station.
+     * @return The result.
+     */
+    private static BenchmarkResult result(String member, int cycle, int epochDay, int total, int run, int pushups,
+            int squats) {
+        return new BenchmarkResult(member, "Intermediate", cycle, 7, epochDay, total,
+                new int[] { run, pushups, squats });
+    }
+}
@@ -0,0 +1,116 @@
+package crossfunctionalfitness.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that ExerciseLog reads back what it appended, and that a record torn
+ * by a crash does not misalign the records appended after it.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class ExerciseLogTest {
+
+    private File file; // The log file of the test
+
+    /**
+     * Starts each test with no log file.
+     */
+    @BeforeEach
+    public void setUp() {
+        file = new File("exerciseLog-test.dat");
+        file.delete();
+    }
+
+
+    /**
+     * Deletes the log file.
+     */
+    @AfterEach
+    public void tearDown() {
+        file.delete();
+    }
+
+
+    /**
+     * Logged results read back with their totals, splits and rounds, and a
+     * complete log, names outside ASCII included, is not truncated.
+     *
+     * @throws IOException if the file cannot be read or written.
+     */
+    @Test
+    public void loggedResultsReadBack() throws IOException {
+        ExerciseLog log = ExerciseLog.load(file);
+        log.log(20000, 3, "Burpees", 50, 0, 0, 0);
+        log.log(20001, 4, "burpees", 30, 0, 0, 0);
+        log.log(20001, 4, "Run", 0, 0, 1609, 480);
+        log.log(20002, 5, "Wall Balls", 0, 7, 0, 0);
+        log.log(20002, 5, "Sprint \u00e0 l'\u00e9tape \u4e00", 12, 0, 0, 0);
+        log.close();
+        long length = file.length();
+
+        ExerciseLog loaded = ExerciseLog.load(file);
+        assertEquals(length, file.length());
+        assertEquals(5, loaded.size());
+        assertEquals(12, loaded.getTotalReps("Sprint \u00e0 l'\u00e9tape \u4e00", 20002, 20002));
+        assertEquals(80, loaded.getTotalReps("Burpees", 20000, 20001));
+        assertEquals(30, loaded.getTotalRepsForDays("Burpees", 4, 5));
+        assertEquals(480, loaded.getBestSplitSeconds("Run", 1609, 0));
+        assertEquals(7, loaded.getMaxRounds("Wall Balls", 5));
+        assertEquals(480, loaded.getLatestSeconds("Run", 4, 20001));
+        assertEquals(0, loaded.getLatestSeconds("Run", 4, 20002)); // Another date
+        assertEquals(0, loaded.getLatestSeconds("Burpees", 4, 20001)); // No time logged
+    }
+
+
+    /**
+     * A record cut short at any byte is dropped on load, and results logged
+     * after it read back intact.
+     *
+     * @throws IOException if the file cannot be read or written.
+     */
+    @Test
+    public void appendAfterTruncatedRecord() throws IOException {
+        ExerciseLog log = ExerciseLog.load(file);
+        log.log(20000, 1, "Air Squats", 40, 0, 0, 0);
+        log.close();
+        long first = file.length(); // End of the first record
+        log.log(20000, 1, "Burpees", 25, 0, 0, 0);
+        log.close();
+        long whole = file.length();
+
+        for (long length = whole - 1; length > first; length--) {
+            try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+                raf.setLength(length); // The second record cut short
+            }
+
+            ExerciseLog torn = ExerciseLog.load(file);
+            assertEquals(1, torn.size(), "Cut at " + length);
+            assertEquals(first, file.length(), "Cut at " + length);
+            torn.log(20001, 2, "Burpees", 25, 0, 0, 0);
+            torn.log(20001, 2, "Push-Ups", 10, 0, 0, 0);
+            torn.close();
+
+            ExerciseLog loaded = ExerciseLog.load(file);
+            assertEquals(3, loaded.size(), "Cut at " + length);
+            assertEquals(40, loaded.getTotalReps("Air Squats", 20000, 20001));
+            assertEquals(25, loaded.getTotalRepsForDays("Burpees", 2, 2));
+            assertEquals(10, loaded.getTotalReps("Push-Ups", 20001, 20001));
+
+            try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+                raf.setLength(first); // Back to the first record with the second one logged whole
+            }
+            ExerciseLog again = ExerciseLog.load(file);
+            again.log(20000, 1, "Burpees", 25, 0, 0, 0);
+            again.close();
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package crossfunctionalfitness.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import crossfunctionalfitness.core.WorkoutData;
+
+/**
+ * Tests that MappedPlan reads a plan file as WorkoutStore.loadRange does,
+ * from one thread and from many sharing the mapping.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class MappedPlanTest {
+
+    // Days of the saved history
+    private static final int DAYS = 2000;
+
+    // Threads sharing the mapping
+    private static final int THREADS = 8;
+
+    private File file; // The plan file of the test
+
+    /**
+     * Starts each test with a history of about three quarters of the days
+     * saved, some with times that cannot be read, and the last day cut short.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    @BeforeEach
+    public void setUp() throws IOException {
+        file = new File("mapped-test.dat");
+        file.delete();
+        Random random = new Random(41);
+        List<WorkoutData> workouts = new ArrayList<>();
+        for (int day = 1; day <= DAYS; day++) {
+            if (random.nextInt(4) != 0) {
+                String time = random.nextInt(20) == 0 ? "n/a" : String.valueOf(random.nextInt(120));
+                workouts.add(new WorkoutData("Day " + day, random.nextBoolean(), time));
+            }
+        }
+        workouts.add(new WorkoutData("Day " + DAYS, true, "30"));
+        WorkoutStore.saveAll(file, workouts);
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(raf.length() - 3); // The last day cut short by a crash
+        }
+    }
+
+
+    /**
+     * Deletes the plan file.
+     */
+    @AfterEach
+    public void deleteFile() {
+        file.delete();
+    }
+
+
+    /**
+     * Ranges, days and counts read from the mapping match loadRange, and a
+     * day saved in place after mapping is seen.
+     *
+     * @throws IOException if the file cannot be read or written.
+     */
+    @Test
+    public void mappingMatchesLoadRange() throws IOException {
+        MappedPlan plan = WorkoutStore.mapPlan(file);
+        assertEquals(DAYS - 1, plan.getLastDay());
+        Random random = new Random(43);
+        for (int query = 0; query < 200; query++) {
+            int fromDay = 1 + random.nextInt(DAYS + 10);
+            int toDay = fromDay + random.nextInt(300);
+            assertSameRange(WorkoutStore.loadRange(file, fromDay, toDay), plan);
+        }
+        assertFalse(plan.isSaved(DAYS));
+
+        WorkoutStore.saveAll(file, List.of(new WorkoutData("Day 7", true, "55")));
+        assertEquals("Day: Day 7, Completed: true, Time Taken: 55", plan.get(7).toString());
+
+        MappedPlan none = WorkoutStore.mapPlan(new File("no-such-plan.dat"));
+        assertEquals(0, none.getLastDay());
+        assertEquals(0, none.countCompleted(1, 30));
+        assertFalse(none.isSaved(1));
+    }
+
+
+    /**
+     * Threads sharing one mapping read the same ranges as loadRange.
+     *
+     * @throws Exception if the file cannot be read or a thread fails.
+     */
+    @Test
+    public void sharedMappingMatchesLoadRange() throws Exception {
+        final MappedPlan plan = WorkoutStore.mapPlan(file);
+        ExecutorService threads = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                final long seed = t;
+                results.add(threads.submit(new Callable<Integer>() {
+                    /**
+                     * Reads random ranges from the shared mapping.
+                     *
+                     * @return The number of ranges read.
+                     * @throws IOException if the file cannot be read.
+                     */
+                    public Integer call() throws IOException {
+                        Random random = new Random(seed);
+                        int queries = 0;
+                        for (; queries < 100; queries++) {
+                            int fromDay = 1 + random.nextInt(DAYS);
+                            int toDay = fromDay + random.nextInt(500);
+                            assertSameRange(WorkoutStore.loadRange(file, fromDay, toDay), plan);
+                        }
+                        return queries;
+                    }
+                }));
+            }
+            for (Future<Integer> result : results) {
+                assertEquals(100, result.get()); // Rethrows a failed check of the thread
+            }
+        } finally {
+            threads.shutdown();
+        }
+    }
+
+
+    /**
+     * Checks that a mapped plan has the days of a range read by loadRange.
+     *
+     * @param expected The range read by loadRange.
+     * @param plan     The mapped plan.
+     */
+    private static void assertSameRange(WorkoutRange expected, MappedPlan plan) {
+        int fromDay = expected.getFromDay();
+        int toDay = expected.getToDay();
+        assertEquals(expected.toList().toString(), plan.loadRange(fromDay, toDay).toList().toString());
+        assertEquals(expected.countCompleted(), plan.countCompleted(fromDay, toDay));
+        for (int day = fromDay; day <= toDay; day++) {
+            assertEquals(expected.isSaved(day), plan.isSaved(day));
+            assertEquals(expected.getMinutes(day), plan.getMinutes(day));
+            assertEquals(expected.get(day).toString(), plan.get(day).toString());
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package crossfunctionalfitness.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import crossfunctionalfitness.core.UserProfile;
+
+/**
+ * Tests the profile files of ProfileStore: profiles read back as saved, a
+ * record cut short by a crash at any byte, and the member directory appended
+ * to after such a crash.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class ProfileStoreTest {
+
+    private File file; // The profile file of the test
+
+    /**
+     * Starts each test with no profile files and no loaded member directory.
+     */
+    @BeforeEach
+    public void setUp() {
+        file = new File("profiles-test.dat");
+        deleteFiles();
+    }
+
+
+    /**
+     * Deletes the files of the test.
+     */
+    @AfterEach
+    public void deleteFiles() {
+        file.delete();
+        ProfileStore.delete();
+        new File(ProfileStore.MEMBERS_FILENAME).delete();
+        ProfileStore.unloadMemberIndex();
+    }
+
+
+    /**
+     * Saved profiles read back with the same fields, in the same order.
+     *
+     * @throws IOException if the file cannot be read or written.
+     */
+    @Test
+    public void savedProfilesReadBack() throws IOException {
+        List<UserProfile> profiles = profiles();
+        ProfileStore.saveAll(file, profiles);
+
+        ProfileTable table = ProfileStore.loadAll(file);
+        assertEquals(profiles.size(), table.size());
+        for (int i = 0; i < profiles.size(); i++) {
+            assertSameProfile(profiles.get(i), table.get(i));
+        }
+        assertEquals(file.length(), table.getLength());
+
+        ProfileStore.save(profiles.get(2));
+        assertSameProfile(profiles.get(2), ProfileStore.load());
+    }
+
+
+    /**
+     * A file cut at any byte of its last record keeps the records before it,
+     * and a saved profile cut short reads as not saved.
+     *
+     * @throws IOException if the file cannot be read or written.
+     */
+    @Test
+    public void truncatedFileKeepsCompleteRecords() throws IOException {
+        List<UserProfile> profiles = profiles();
+        ProfileStore.saveAll(file, profiles.subList(0, profiles.size() - 1));
+        long completeLength = file.length();
+        ProfileStore.saveAll(file, profiles);
+        long fullLength = file.length();
+
+        for (long length = completeLength; length < fullLength; length++) {
+            try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+                raf.setLength(length);
+            }
+            ProfileTable table = ProfileStore.loadAll(file);
+            assertEquals(profiles.size() - 1, table.size());
+            assertEquals(completeLength, table.getLength());
+            ProfileStore.saveAll(file, profiles);
+        }
+
+        ProfileStore.save(profiles.get(0));
+        File saved = new File(ProfileStore.PROFILE_FILENAME);
+        for (long length = saved.length() - 1; length >= 4; length--) {
+            try (RandomAccessFile raf = new RandomAccessFile(saved, "rw")) {
+                raf.setLength(length);
+            }
+            assertNull(ProfileStore.load());
+        }
+    }
+
+
+    /**
+     * A record of another kind in the middle of a file is reported, not
+     * ignored.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    @Test
+    public void corruptRecordIsReported() throws IOException {
+        ProfileStore.saveAll(file, profiles());
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.seek(4 + ProfileRecord.LEVEL_OFFSET);
+            raf.write(99); // No such fitness level
+        }
+        try {
+            ProfileStore.loadAll(file);
+            fail("A corrupt record was read");
+        } catch (IOException e) {
+            // Expected
+        }
+    }
+
+
+    /**
+     * A member directory cut short by a crash is repaired when it is loaded,
+     * so the members saved after the crash are read back.
+     *
+     * @throws IOException if the directory cannot be read or written.
+     */
+    @Test
+    public void truncatedDirectoryIsRepairedBeforeAppend() throws IOException {
+        List<UserProfile> profiles = profiles();
+        File members = new File(ProfileStore.MEMBERS_FILENAME);
+        ProfileStore.addMembers(profiles.subList(0, 3));
+        try (RandomAccessFile raf = new RandomAccessFile(members, "rw")) {
+            raf.setLength(raf.length() - 2); // The third member cut short
+        }
+        ProfileStore.unloadMemberIndex(); // As if the program was started again
+
+        ProfileStore.addMembers(profiles.subList(3, profiles.size()));
+        assertEquals(profiles.size() - 1, ProfileStore.getMemberIndex().size());
+
+        ProfileStore.unloadMemberIndex();
+        ProfileIndex index = ProfileStore.getMemberIndex();
+        assertEquals(profiles.size() - 1, index.size());
+        assertEquals(-1, index.getId(profiles.get(2).getMemberName()));
+        for (UserProfile profile : profiles.subList(3, profiles.size())) {
+            assertEquals(profile.getMemberName(), index.getMemberName(index.getId(profile.getMemberName())));
+        }
+    }
+
+
+    /**
+     * Returns profiles of every fitness level, with names of different lengths
+     * and a weight with a fraction.
+     *
+     * @return The profiles.
+     */
+    private static List<UserProfile> profiles() {
+        List<UserProfile> profiles = new ArrayList<>();
+        profiles.add(new UserProfile("Ann", "Lee", "30", "120", "Beginner"));
+        profiles.add(new UserProfile("Bartholomew", "Fitzgerald-Smythe", "64", "210.5", "Novice"));
+        profiles.add(new UserProfile("Chloé", "Dubois", "22", "135", "Intermediate"));
+        profiles.add(new UserProfile("Dev", "Patel", "41", "175", "Advanced"));
+        profiles.add(new UserProfile("Eve", "O", "1", "98.25", "Expert"));
+        return profiles;
+    }
+
+
+    /**
+     * Checks that a profile read back has the fields of the saved one.
+     *
+     * @param expected The saved profile.
+     * @param actual   The profile read back.
+     */
+    private static void assertSameProfile(UserProfile expected, UserProfile actual) {
+        assertEquals(expected.getFirstName(), actual.getFirstName());
+        assertEquals(expected.getLastName(), actual.getLastName());
+        assertEquals(expected.getAge(), actual.getAge());
+        assertEquals(expected.getWeight(), actual.getWeight());
+        assertEquals(expected.getFitnessLevel(), actual.getFitnessLevel());
+    }
+}
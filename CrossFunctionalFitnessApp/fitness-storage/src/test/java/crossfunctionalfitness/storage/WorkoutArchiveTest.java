@@ -0,0 +1,213 @@
+package crossfunctionalfitness.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import crossfunctionalfitness.core.WorkoutColumns;
+import crossfunctionalfitness.core.WorkoutData;
+import crossfunctionalfitness.core.WorkoutProgram;
+
+/**
+ * Tests the segment files of WorkoutArchive: cycles read back as appended, a
+ * block cut short by a crash at any byte, the archive of the day files and
+ * the segment file of each member.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class WorkoutArchiveTest {
+
+    // Members that shared a segment file under the key of earlier versions, and a name with no ASCII letters
+    private static final String[] NAMES = {"Pat Smith", "Mary Ann Smith", "Mary-Ann Smith", "\u738b \u4f1f"};
+
+    private File file; // The segment file of the test
+
+    /**
+     * Starts each test with no segment file and no day files.
+     */
+    @BeforeEach
+    public void setUp() {
+        file = new File("archive-test.seg");
+        deleteFiles();
+    }
+
+
+    /**
+     * Deletes the files of the test.
+     */
+    @AfterEach
+    public void deleteFiles() {
+        file.delete();
+        for (String name : NAMES) {
+            WorkoutArchive.segmentFile(name).delete();
+        }
+        for (int day = 1; day <= WorkoutProgram.getDayCount(); day++) {
+            new File(WorkoutStore.filename(day)).delete();
+        }
+    }
+
+
+    /**
+     * Appended cycles read back day by day and as a whole.
+     *
+     * @throws IOException if the file cannot be read or written.
+     */
+    @Test
+    public void appendedCyclesReadBack() throws IOException {
+        Random random = new Random(7);
+        WorkoutRange[] cycles = new WorkoutRange[4];
+        for (int cycle = 1; cycle < cycles.length; cycle++) {
+            cycles[cycle] = randomCycle(random);
+            WorkoutArchive.append(file, cycle, cycles[cycle]);
+        }
+
+        assertEquals(List.of(1, 2, 3), WorkoutArchive.getCycles(file));
+        for (int cycle = 1; cycle < cycles.length; cycle++) {
+            assertSameDays(cycles[cycle], WorkoutArchive.loadCycle(file, cycle));
+            for (int day = 1; day <= WorkoutProgram.getDayCount(); day++) {
+                WorkoutData expected = cycles[cycle].isSaved(day) ? cycles[cycle].get(day)
+                        : new WorkoutData("Day " + day, false, "0");
+                assertEquals(expected.toString(), WorkoutArchive.load(file, cycle, day).toString());
+            }
+        }
+        assertNull(WorkoutArchive.loadCycle(file, 4));
+        assertNull(WorkoutArchive.load(file, 4, 1));
+
+        try {
+            WorkoutArchive.append(file, 2, cycles[2]);
+            fail("A cycle was archived twice");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+    }
+
+
+    /**
+     * A segment cut at any byte of its last block keeps the earlier cycles,
+     * and the next append replaces the cut block.
+     *
+     * @throws IOException if the file cannot be read or written.
+     */
+    @Test
+    public void truncatedSegmentKeepsCompleteBlocks() throws IOException {
+        Random random = new Random(11);
+        WorkoutRange first = randomCycle(random);
+        WorkoutRange second = randomCycle(random);
+        WorkoutArchive.append(file, 1, first);
+        long firstLength = file.length();
+        WorkoutArchive.append(file, 2, second);
+        long fullLength = file.length();
+
+        for (long length = firstLength; length < fullLength; length++) {
+            file.delete();
+            WorkoutArchive.append(file, 1, first);
+            WorkoutArchive.append(file, 2, second);
+            try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+                raf.setLength(length);
+            }
+
+            assertEquals(List.of(1), WorkoutArchive.getCycles(file));
+            assertSameDays(first, WorkoutArchive.loadCycle(file, 1));
+            assertNull(WorkoutArchive.loadCycle(file, 2));
+
+            WorkoutArchive.append(file, 2, second);
+            assertEquals(fullLength, file.length());
+            assertSameDays(second, WorkoutArchive.loadCycle(file, 2));
+        }
+    }
+
+
+    /**
+     * The day files are archived and deleted; with no day files, no cycle is
+     * archived.
+     *
+     * @throws IOException if a file cannot be read or written.
+     */
+    @Test
+    public void emptyCycleIsNotArchived() throws IOException {
+        assertEquals(0, WorkoutArchive.archiveDayFiles("Pat Smith", 1));
+        assertFalse(WorkoutArchive.segmentFile("Pat Smith").exists());
+        assertEquals(1, WorkoutArchive.getCurrentCycle("Pat Smith"));
+
+        WorkoutStore.write(new WorkoutData("Day 2", true, "30"), 2);
+        WorkoutStore.write(new WorkoutData("Day 3", false, "n/a"), 3);
+        assertEquals(2, WorkoutArchive.archiveDayFiles("Pat Smith", 1));
+        assertFalse(new File(WorkoutStore.filename(2)).exists());
+        assertFalse(new File(WorkoutStore.filename(3)).exists());
+        assertEquals(2, WorkoutArchive.getCurrentCycle("Pat Smith"));
+        assertEquals("Day: Day 2, Completed: true, Time Taken: 30", WorkoutArchive.load("Pat Smith", 1, 2).toString());
+        assertEquals("Day: Day 3, Completed: false, Time Taken: ", WorkoutArchive.load("Pat Smith", 1, 3).toString());
+
+        assertEquals(0, WorkoutArchive.archiveDayFiles("Pat Smith", 2));
+        assertEquals(List.of(1), WorkoutArchive.getCycles("Pat Smith"));
+        assertEquals(2, WorkoutArchive.getCurrentCycle("Pat Smith"));
+    }
+
+
+    /**
+     * Members whose names shared a segment file under the key of earlier
+     * versions archive the same cycle each in their own file, and a member
+     * whose name has no ASCII letters archives as any other.
+     *
+     * @throws IOException if a file cannot be read or written.
+     */
+    @Test
+    public void everyMemberHasOwnSegmentFile() throws IOException {
+        for (int i = 1; i < NAMES.length; i++) {
+            assertEquals(1, WorkoutArchive.getCurrentCycle(NAMES[i]));
+            WorkoutStore.write(new WorkoutData("Day " + i, true, String.valueOf(20 + i)), i);
+            assertEquals(1, WorkoutArchive.archiveDayFiles(NAMES[i], 1)); // Not already archived by another member
+            assertEquals(2, WorkoutArchive.getCurrentCycle(NAMES[i]));
+        }
+        for (int i = 1; i < NAMES.length; i++) {
+            WorkoutRange cycle = WorkoutArchive.loadCycle(NAMES[i], 1);
+            assertEquals(1, cycle.countCompleted(), NAMES[i]);
+            assertEquals(20 + i, cycle.getMinutes(i), NAMES[i]);
+        }
+    }
+
+
+    /**
+     * Creates a cycle with about two thirds of the days saved, some of them
+     * with a missing time.
+     *
+     * @param random The source of the days.
+     * @return The days of the program.
+     */
+    private static WorkoutRange randomCycle(Random random) {
+        WorkoutRange range = new WorkoutRange(1, WorkoutProgram.getDayCount());
+        for (int day = 1; day <= WorkoutProgram.getDayCount(); day++) {
+            if (random.nextInt(3) != 0) {
+                int minutes = random.nextInt(8) == 0 ? WorkoutColumns.MISSING_MINUTES : random.nextInt(200);
+                range.set(day, random.nextBoolean() ? WorkoutRange.COMPLETED : WorkoutRange.SAVED, minutes);
+            }
+        }
+        return range;
+    }
+
+
+    /**
+     * Checks that a loaded cycle has the same days as the appended one.
+     *
+     * @param expected The appended days.
+     * @param actual   The loaded days.
+     */
+    private static void assertSameDays(WorkoutRange expected, WorkoutRange actual) {
+        for (int day = 1; day <= expected.getToDay(); day++) {
+            assertEquals(expected.isSaved(day), actual.isSaved(day), "Day " + day);
+            assertEquals(expected.get(day).toString(), actual.get(day).toString());
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package crossfunctionalfitness.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import crossfunctionalfitness.core.WorkoutColumns;
+import crossfunctionalfitness.core.WorkoutData;
+import crossfunctionalfitness.core.WorkoutProgram;
+
+/**
+ * Tests the plan files of WorkoutStore: saving and loading them in bulk, a
+ * file cut short by a crash, the program load of the Fitness Summary and the
+ * naming of each member's plan file.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class WorkoutStoreTest {
+
+    // Member names that shared a file under the key of earlier versions, a name with no ASCII letters and a long name
+    private static final String[] NAMES = {"Mary Ann Smith", "Mary-Ann Smith", "Zo\u00eb Li", "Zo\u00e9 Li",
+        "Pat Smith", "pat smith", "\u738b \u4f1f", "Long " + "N".repeat(300)};
+
+    private File file; // The plan file of the test
+
+    /**
+     * Starts each test with no plan file and no day files.
+     */
+    @BeforeEach
+    public void setUp() {
+        file = new File("plan-test.dat");
+        deleteFiles();
+    }
+
+
+    /**
+     * Deletes the files of the test.
+     */
+    @AfterEach
+    public void deleteFiles() {
+        file.delete();
+        for (String name : NAMES) {
+            WorkoutStore.planFile(name).delete();
+        }
+        new File("plan-mary_ann_smith.dat").delete();
+        for (int day = 1; day <= WorkoutProgram.getDayCount(); day++) {
+            new File(WorkoutStore.filename(day)).delete();
+        }
+    }
+
+
+    /**
+     * Every saved day reads back as saved, days not saved read as not saved.
+     *
+     * @throws IOException if the file cannot be read or written.
+     */
+    @Test
+    public void savedPlanReadsBack() throws IOException {
+        List<WorkoutData> workouts = new ArrayList<>();
+        for (int day = 2; day <= 40; day += 2) {
+            workouts.add(new WorkoutData("Day " + day, day % 4 == 0, String.valueOf(day + 10)));
+        }
+        workouts.add(new WorkoutData("Day 41", true, "not a number"));
+        WorkoutStore.saveAll(file, workouts);
+
+        WorkoutRange range = WorkoutStore.loadRange(file, 1, 45);
+        for (WorkoutData workout : workouts) {
+            int day = WorkoutColumns.parseDay(workout.getDay());
+            assertTrue(range.isSaved(day));
+            assertEquals(workout.isCompleted(), range.isCompleted(day));
+            assertEquals(WorkoutColumns.parseMinutes(workout.getTimeTaken()), range.getMinutes(day));
+        }
+        assertFalse(range.isSaved(1));
+        assertFalse(range.isSaved(45)); // Past the end of the file
+        assertEquals(WorkoutColumns.MISSING_MINUTES, range.getMinutes(41));
+
+        // Files written before MISSING_MINUTES was Integer.MIN_VALUE store a missing time as -1
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.seek(WorkoutStore.recordOffset(2) + 4);
+            raf.writeInt(-1);
+        }
+        assertEquals(WorkoutColumns.MISSING_MINUTES, WorkoutStore.loadRange(file, 2, 2).getMinutes(2));
+        assertEquals(WorkoutColumns.MISSING_MINUTES, WorkoutStore.mapPlan(file).getMinutes(2));
+        assertEquals("Day: Day 2, Completed: false, Time Taken: ", WorkoutStore.mapPlan(file).get(2).toString());
+    }
+
+
+    /**
+     * Saving some days again replaces them and keeps the others.
+     *
+     * @throws IOException if the file cannot be read or written.
+     */
+    @Test
+    public void saveReplacesOnlyItsDays() throws IOException {
+        WorkoutStore.saveAll(file, List.of(new WorkoutData("Day 1", true, "30"), new WorkoutData("Day 2", true, "31")));
+        WorkoutStore.saveAll(file, List.of(new WorkoutData("Day 2", false, "5"), new WorkoutData("Day 9", true, "7")));
+
+        WorkoutRange range = WorkoutStore.loadRange(file, 1, 9);
+        assertEquals("Day: Day 1, Completed: true, Time Taken: 30", range.get(1).toString());
+        assertEquals("Day: Day 2, Completed: false, Time Taken: 5", range.get(2).toString());
+        assertFalse(range.isSaved(5));
+        assertEquals(7, range.getMinutes(9));
+    }
+
+
+    /**
+     * A file cut short in the middle of a record keeps the complete records,
+     * and a later save of the cut day repairs it.
+     *
+     * @throws IOException if the file cannot be read or written.
+     */
+    @Test
+    public void truncatedPlanKeepsCompleteRecords() throws IOException {
+        List<WorkoutData> workouts = new ArrayList<>();
+        for (int day = 1; day <= 10; day++) {
+            workouts.add(new WorkoutData("Day " + day, true, "20"));
+        }
+        WorkoutStore.saveAll(file, workouts);
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(raf.length() - 3); // Day 10 cut short
+        }
+
+        WorkoutRange range = WorkoutStore.loadRange(file, 1, 10);
+        assertEquals(9, range.countCompleted());
+        assertFalse(range.isSaved(10));
+
+        WorkoutStore.saveAll(file, List.of(new WorkoutData("Day 10", true, "25")));
+        assertEquals(25, WorkoutStore.loadRange(file, 10, 10).getMinutes(10));
+    }
+
+
+    /**
+     * A file too short for its header, or with another header, is not a plan file.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    @Test
+    public void damagedHeaderIsReported() throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.writeInt(0x43464650); // The magic number without the version
+        }
+        try {
+            WorkoutStore.loadRange(file, 1, 30);
+            fail("A short header was read");
+        } catch (IOException e) {
+            // Expected
+        }
+        try {
+            WorkoutStore.saveAll(file, List.of(new WorkoutData("Day 1", true, "1")));
+            fail("A short header was written over");
+        } catch (IOException e) {
+            // Expected
+        }
+    }
+
+
+    /**
+     * The program of a member is created from the day files, then kept up to
+     * date by write, and reads the same as the day files.
+     *
+     * @throws IOException if a file cannot be read or written.
+     */
+    @Test
+    public void programMatchesDayFiles() throws IOException {
+        WorkoutStore.write(new WorkoutData("Day 1", true, "30"), 1);
+        WorkoutStore.write(new WorkoutData("Day 4", false, "12"), 4);
+
+        WorkoutRange program = WorkoutStore.loadProgram("Pat Smith"); // Creates the plan file
+        assertTrue(WorkoutStore.planFile("Pat Smith").exists());
+        assertEquals(WorkoutStore.loadDayFiles().toList().toString(), program.toList().toString());
+
+        WorkoutStore.write("Pat Smith", new WorkoutData("Day 5", true, "44"), 5);
+        program = WorkoutStore.loadProgram("Pat Smith");
+        assertEquals(WorkoutStore.loadDayFiles().toList().toString(), program.toList().toString());
+        assertEquals(2, program.countCompleted());
+        for (int day = 1; day <= WorkoutProgram.getDayCount(); day++) {
+            assertEquals(WorkoutStore.load(day).toString(), program.get(day).toString());
+        }
+    }
+
+
+    /**
+     * Every member name has a plan file of its own, including names that
+     * shared one under the key of earlier versions and names with no ASCII
+     * letters, and a plan file named by that key is taken over by the first
+     * member to use it.
+     *
+     * @throws IOException if a file cannot be read or written.
+     */
+    @Test
+    public void everyMemberHasOwnPlanFile() throws IOException {
+        WorkoutStore.saveAll(new File("plan-mary_ann_smith.dat"), List.of(new WorkoutData("Day 3", true, "25")));
+        assertTrue(WorkoutStore.loadRange("Mary Ann Smith", 1, 5).isCompleted(3)); // Renamed to the new key
+        assertFalse(new File("plan-mary_ann_smith.dat").exists());
+        assertFalse(WorkoutStore.loadRange("Mary-Ann Smith", 1, 5).isSaved(3));
+
+        Set<String> fileNames = new HashSet<>();
+        for (int i = 0; i < NAMES.length; i++) {
+            File plan = WorkoutStore.planFile(NAMES[i]);
+            assertTrue(fileNames.add(plan.getName().toLowerCase()), plan.getName()); // Distinct if case is ignored
+            assertTrue(plan.getName().length() <= 255, plan.getName());
+            WorkoutStore.saveAll(NAMES[i], List.of(new WorkoutData("Day " + (i + 10), true, "40")));
+        }
+        for (int i = 0; i < NAMES.length; i++) {
+            WorkoutRange range = WorkoutStore.loadRange(NAMES[i], 10, 10 + NAMES.length);
+            assertEquals(1, range.countCompleted(), NAMES[i]); // No other member's save
+            assertTrue(range.isCompleted(i + 10), NAMES[i]);
+        }
+    }
+}
@@ -1,10 +1,26 @@
+package crossfunctionalfitness.ui;
+
 import javax.swing.*;
 import javax.swing.text.*;
 import java.awt.*;
 import java.awt.event.*;
+import java.io.IOException;
 import java.util.*;
 import java.util.List;
 
+import crossfunctionalfitness.core.BenchmarkComparison;
+import crossfunctionalfitness.core.MetricRegistry;
+import crossfunctionalfitness.core.MetricResults;
+import crossfunctionalfitness.core.StreakTracker;
+import crossfunctionalfitness.core.UserProfile;
+import crossfunctionalfitness.core.WorkoutData;
+import crossfunctionalfitness.instrumentation.FlightEvents;
+import crossfunctionalfitness.instrumentation.UserActionEvent;
+import crossfunctionalfitness.storage.BenchmarkIndex;
+import crossfunctionalfitness.storage.ProfileStore;
+import crossfunctionalfitness.storage.WorkoutRange;
+import crossfunctionalfitness.storage.WorkoutStore;
+
 /**
  * The CrossFunctionalFitness class is the main class of the application that
  * sets up the user interface. It initializes the primary window (MainGUIFrame) 
@@ -21,11 +37,25 @@ public class CrossFunctionalFitness {
      * @param args Command line arguments (not used).
      */
     public static void main(String[] args) {
-        // Create and display the main GUI frame
-        MainGUIFrame mainGUIFrame = new MainGUIFrame();
+        SwingUtilities.invokeLater(new Runnable() {
+            /**
+             * Shows the main frame first, then starts the watchdog and the
+             * deferred initialization (JMX and the secondary frames).
+             */
+            public void run() {
+                // Create and display the main GUI frame
+                MainGUIFrame mainGUIFrame = new MainGUIFrame();
 
-        // Make the main GUI frame visible
-        mainGUIFrame.setVisible(true);
+                // Make the main GUI frame visible
+                mainGUIFrame.setVisible(true);
+
+                // Watch the Event Dispatch Thread for stalls, with the optional debug overlay
+                EdtWatchdog.start();
+                EdtStallOverlay.showIfEnabled();
+
+                DeferredFrames.start();
+            }
+        });
     }
 }
 
@@ -175,7 +205,6 @@ class MainGUIFrame extends JFrame {
         this.pack(); // Optimize the frame's size
         this.setSize(600, 700); 
         this.setLocationRelativeTo(null); // Center the window
-        this.setVisible(true);
     }
 
 
@@ -241,31 +270,48 @@ class MainGUIFrame extends JFrame {
              * @param e The ActionEvent object generated by the button click.
              */
             public void actionPerformed(ActionEvent e) {
-                // Create a new fitness summary window
-                FitnessSummary fitnessSummary = new FitnessSummary();
-                fitnessSummary.setVisible(true); // Make the fitness summary window visible
-
-                // Create a list to store workout data
-                List<WorkoutData> workoutDataList = new ArrayList<>();
-
-                // Load workout data for each day and add it to the list
-                for (int i = 1; i <= 30; i++) {
-                    WorkoutData data = WorkoutData.loadWorkouts(i);
-                    if (data != null) {
-                        workoutDataList.add(data);
+                UserActionEvent event = FlightEvents.startUserAction(UserActionEvent.SUMMARY_LOAD, 0);
+                try {
+                    // Create a new fitness summary window
+                    FitnessSummary fitnessSummary = DeferredFrames.takeFitnessSummary();
+                    fitnessSummary.setVisible(true); // Make the fitness summary window visible
+
+                    // Load every day of the program in one read of the member's plan, and the streaks of the saved days
+                    UserProfile profile = loadProfile();
+                    WorkoutRange days = loadProgram(profile);
+                    List<WorkoutData> workoutDataList = days.toList();
+                    StreakTracker streaks = new StreakTracker();
+                    for (int i = days.getFromDay(); i <= days.getToDay(); i++) {
+                        if (days.isSaved(i)) {
+                            streaks.set(i, days.isCompleted(i));
+                        }
                     }
-                }
 
-                // Calculate the metrics and update the fitness summary window
-                String averageTime = String.format("%.2f",
-                        FitnessMetricsCalculator.calculateAverageTime(workoutDataList));
-                String totalTime = String.valueOf(FitnessMetricsCalculator.calculateTotalTime(workoutDataList));
-                String consistencyScore = String.format("%.2f", FitnessMetricsCalculator
-                        .calculateConsistencyScore(workoutDataList, FitnessMetricsCalculator.TOTAL_PLANNED_WORKOUTS));
-                String personalBests = FitnessMetricsCalculator.calculatePersonalBests(workoutDataList);
+                    // Calculate every registered metric in one pass and update the fitness summary window
+                    MetricResults results = MetricRegistry.getDefault().evaluate(workoutDataList);
+                    fitnessSummary.updateMetrics(results);
+                    fitnessSummary.updateStreaks(streaks.getCurrentStreak(), streaks.getLongestStreak(),
+                            streaks.getMissedDays());
+
+                    // Compare the latest benchmark test of the user, if any
+                    try {
+                        BenchmarkComparison comparison = profile == null ? null
+                                : BenchmarkIndex.load().compareLatest(profile.getMemberName());
+                        fitnessSummary.updateBenchmarkProgress(comparison == null ? null : comparison.describe());
+                    } catch (IOException ex) {
+                        ex.printStackTrace(); // Log the exception for debugging purposes
+                        fitnessSummary.updateBenchmarkProgress(null);
+                    }
 
-                // Update the fitness summary window with the calculated metrics
-                fitnessSummary.updateMetrics(averageTime, totalTime, consistencyScore, personalBests);
+                    // Display an error message if a time taken could not be parsed
+                    if (results.getUnreadableTimes() > 0) {
+                        FlightEvents.end(event); // The time spent reading the message is not part of the summary load
+                        JOptionPane.showMessageDialog(null, "Error parsing time taken for workout", "Error",
+                                JOptionPane.ERROR_MESSAGE);
+                    }
+                } finally {
+                    FlightEvents.finish(event); // Record the summary load for Flight Recorder
+                }
             }
         });
 
@@ -281,7 +327,7 @@ class MainGUIFrame extends JFrame {
              */
             public void actionPerformed(ActionEvent e) {
                 // Create a new workout plan window
-                WorkoutPlanGenerator newWorkoutPlan = new WorkoutPlanGenerator();
+                WorkoutPlanGenerator newWorkoutPlan = DeferredFrames.takeWorkoutPlanGenerator();
                 newWorkoutPlan.setVisible(true); // Make the workout plan window visible
                 newWorkoutPlan.loadDayOneWorkout(); // Load the workout plan for Day 1
             }
@@ -297,7 +343,7 @@ class MainGUIFrame extends JFrame {
      */
     private void newUserForm() {
         // Creation of the new user profile form.
-        NewUserProfile newUserProfile = new NewUserProfile();
+        NewUserProfile newUserProfile = DeferredFrames.takeNewUserProfile();
 
         // Making the new user profile form visible to the user.
         newUserProfile.setVisible(true);
@@ -310,12 +356,60 @@ class MainGUIFrame extends JFrame {
      * of the NewUserProfile class, similar to the newUserForm method, but instead of creating a new profile,
      * it initiates the process of loading existing user data. This functionality is essential for users
      * who want to return to the application and access their previously saved profile and fitness data.
+     * When the member directory holds more than one member, the Find Member window is shown instead, so
+     * the front desk can find the member to load.
      */    
     private void loadUserForm() {
+        // Find the member first when there is more than one
+        try {
+            if (ProfileStore.getMemberIndex().size() > 1) {
+                new MemberSearch().setVisible(true);
+                return;
+            }
+        } catch (IOException ex) {
+            ex.printStackTrace(); // Log the exception and load the saved profile as before
+        }
+
         // Creation of a user profile form, identical in appearance to the new user form.
-        NewUserProfile existingUserProfile = new NewUserProfile();
+        NewUserProfile existingUserProfile = DeferredFrames.takeNewUserProfile();
+        existingUserProfile.setVisible(true);
 
         // Calling the method to load existing user data.
         existingUserProfile.loadUserData();
     }
-}
\ No newline at end of file
+
+
+    /**
+     * Loads the saved user profile for the Fitness Summary.
+     *
+     * @return The profile, or null if none is saved or it cannot be read.
+     */
+    private static UserProfile loadProfile() {
+        try {
+            return ProfileStore.load();
+        } catch (IOException ex) {
+            ex.printStackTrace(); // Log the exception and show the summary of the day files
+            return null;
+        }
+    }
+
+
+    /**
+     * Loads every day of the program for the Fitness Summary: from the
+     * member's plan file in one read if a profile is saved, or from the day
+     * files otherwise and when the plan file cannot be read or created.
+     *
+     * @param profile The saved profile, or null.
+     * @return The days of the program.
+     */
+    private static WorkoutRange loadProgram(UserProfile profile) {
+        if (profile != null) {
+            try {
+                return WorkoutStore.loadProgram(profile.getMemberName());
+            } catch (IOException | RuntimeException ex) {
+                ex.printStackTrace(); // Log the exception and read the day files as before
+            }
+        }
+        return WorkoutStore.loadDayFiles();
+    }
+}
@@ -0,0 +1,222 @@
+package crossfunctionalfitness.ui;
+
+import java.io.IOException;
+
+import javax.swing.SwingUtilities;
+
+import crossfunctionalfitness.core.WorkoutProgram;
+import crossfunctionalfitness.instrumentation.Instrumentation;
+import crossfunctionalfitness.storage.ProfileStore;
+
+/**
+ * DeferredFrames keeps the program's cold start short. Only the main frame is
+ * built before the program becomes interactive. Once it is shown, a
+ * background thread does the work that does not touch Swing (starting JMX,
+ * parsing the workout program, reading the profile whose member name is
+ * recorded in Flight Recorder events, building the member index), and the
+ * secondary frames (WorkoutPlanGenerator
+ * with its 30 day panels, NewUserProfile and FitnessSummary) are then built
+ * hidden on the Event Dispatch Thread, one frame per event so that clicks are
+ * never kept waiting for long.
+ *
+ * The buttons of the main frame take the prebuilt frames with the take
+ * methods, which fall back to building a frame when none is ready, and a
+ * replacement is built in the background for the next click. Prebuilding can
+ * be turned off with -Dfitness.startup.prebuild=false.
+ *
+ * With -Dfitness.startup.harness=true the program prints a line when the main
+ * frame is shown and another when the secondary frames are ready, and then
+ * exits. StartupHarness uses these lines to measure startup time and to
+ * create the class data sharing archive.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public final class DeferredFrames {
+
+    // Line printed when the main frame has been shown
+    public static final String FIRST_FRAME_MARK = "fitness.startup.firstFrame";
+
+    // Line printed when the secondary frames have been built
+    public static final String READY_MARK = "fitness.startup.ready";
+
+    // Whether secondary frames are built before they are needed
+    private static final boolean PREBUILD = !"false".equals(System.getProperty("fitness.startup.prebuild"));
+
+    // Whether the program reports its startup and exits (set by StartupHarness)
+    private static final boolean HARNESS = Boolean.getBoolean("fitness.startup.harness");
+
+    // Prebuilt hidden frames, or null if none is ready (accessed on the Event Dispatch Thread only)
+    private static WorkoutPlanGenerator workoutPlanGenerator;
+    private static NewUserProfile newUserProfile;
+    private static FitnessSummary fitnessSummary;
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private DeferredFrames() {
+    }
+
+
+    /**
+     * Starts the deferred initialization. It is called on the Event Dispatch
+     * Thread right after the main frame has been made visible.
+     */
+    public static void start() {
+        if (HARNESS) {
+            SwingUtilities.invokeLater(new Runnable() {
+                /**
+                 * Reports that the events showing the main frame have been handled.
+                 */
+                public void run() {
+                    System.out.println(FIRST_FRAME_MARK);
+                }
+            });
+        }
+
+        Thread warmup = new Thread(new Runnable() {
+            /**
+             * Does the startup work that does not touch Swing, then has the
+             * secondary frames built on the Event Dispatch Thread.
+             */
+            public void run() {
+                Instrumentation.registerMBeans(); // Expose the timers and counters through JMX
+                WorkoutProgram.getDayCount();     // Parse the workout program used by the day panels
+                try {
+                    ProfileStore.load();          // Sets the member name recorded in events
+                } catch (IOException e) {
+                    // Events are recorded without a member name until the profile is saved
+                }
+                try {
+                    ProfileStore.getMemberIndex(); // Build the index searched by Find Member
+                } catch (IOException e) {
+                    e.printStackTrace(); // Log the exception; the search reports it again when used
+                }
+                SwingUtilities.invokeLater(new Runnable() {
+                    /**
+                     * Builds the first secondary frame.
+                     */
+                    public void run() {
+                        prebuild(0);
+                    }
+                });
+            }
+        }, "startup-warmup");
+        warmup.setDaemon(true);
+        warmup.start();
+    }
+
+
+    /**
+     * Builds one secondary frame, then posts an event to build the next, and
+     * reports readiness after the last one. The workout plan comes first
+     * since it takes the longest to build and is opened most often.
+     *
+     * @param step The frame to build, as in build.
+     */
+    private static void prebuild(final int step) {
+        build(step);
+
+        if (step < 2) {
+            SwingUtilities.invokeLater(new Runnable() {
+                /**
+                 * Builds the next secondary frame.
+                 */
+                public void run() {
+                    prebuild(step + 1);
+                }
+            });
+        } else if (HARNESS) {
+            System.out.println(READY_MARK);
+            System.exit(0);
+        }
+    }
+
+
+    /**
+     * Returns a hidden workout plan window, prebuilt if one is ready.
+     *
+     * @return The window, not yet visible.
+     */
+    public static WorkoutPlanGenerator takeWorkoutPlanGenerator() {
+        WorkoutPlanGenerator frame = workoutPlanGenerator;
+        workoutPlanGenerator = null;
+        if (frame == null) {
+            return new WorkoutPlanGenerator();
+        }
+        rebuildLater(0);
+        return frame;
+    }
+
+
+    /**
+     * Returns a hidden, empty profile form, prebuilt if one is ready.
+     *
+     * @return The form, not yet visible.
+     */
+    public static NewUserProfile takeNewUserProfile() {
+        NewUserProfile frame = newUserProfile;
+        newUserProfile = null;
+        if (frame == null) {
+            return new NewUserProfile();
+        }
+        rebuildLater(1);
+        return frame;
+    }
+
+
+    /**
+     * Returns a hidden, empty fitness summary window, prebuilt if one is
+     * ready.
+     *
+     * @return The window, not yet visible.
+     */
+    public static FitnessSummary takeFitnessSummary() {
+        FitnessSummary frame = fitnessSummary;
+        fitnessSummary = null;
+        if (frame == null) {
+            return new FitnessSummary();
+        }
+        rebuildLater(2);
+        return frame;
+    }
+
+
+    /**
+     * Builds a replacement for a taken frame after the current event, so the
+     * next click finds one ready.
+     *
+     * @param step The frame to build, as in build.
+     */
+    private static void rebuildLater(final int step) {
+        SwingUtilities.invokeLater(new Runnable() {
+            /**
+             * Builds the replacement frame.
+             */
+            public void run() {
+                build(step);
+            }
+        });
+    }
+
+
+    /**
+     * Builds a hidden secondary frame unless one is already waiting, or
+     * prebuilding is turned off.
+     *
+     * @param step The frame to build: 0 for the workout plan, 1 for the
+     *             profile form, 2 for the fitness summary.
+     */
+    private static void build(int step) {
+        if (!PREBUILD) {
+            return;
+        }
+        if (step == 0 && workoutPlanGenerator == null) {
+            workoutPlanGenerator = new WorkoutPlanGenerator();
+        } else if (step == 1 && newUserProfile == null) {
+            newUserProfile = new NewUserProfile();
+        } else if (step == 2 && fitnessSummary == null) {
+            fitnessSummary = new FitnessSummary();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package crossfunctionalfitness.ui;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.GraphicsEnvironment;
+import java.awt.Rectangle;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+
+import javax.swing.BorderFactory;
+import javax.swing.JLabel;
+import javax.swing.JWindow;
+import javax.swing.Timer;
+
+/**
+ * EdtStallOverlay is a small debugging window, kept on top of the program in
+ * the bottom right corner of the screen, that shows the responsiveness of the
+ * user interface as measured by the EdtWatchdog: the delay of the last event,
+ * the number of stalls and the longest stall. It turns red for a few seconds
+ * after a stall, and its tooltip shows the stack that blocked the Event
+ * Dispatch Thread. It is shown when the program is run with
+ * -Dfitness.edt.overlay=true, e.g., on a kiosk where freezes are reported.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class EdtStallOverlay extends JWindow {
+
+    // Interval between refreshes in milliseconds
+    private static final int REFRESH_MILLIS = 500;
+
+    // How long the overlay stays red after a stall, in refreshes
+    private static final int ALERT_REFRESHES = 6;
+
+    // Colors of the overlay
+    private static final Color NORMAL_COLOR = new Color(40, 40, 40);
+    private static final Color ALERT_COLOR = new Color(180, 30, 30);
+
+    private final EdtWatchdog watchdog;  // Source of the measurements
+    private final JLabel label;          // Text of the overlay
+    private long shownStalls;            // Stall count at the last refresh
+    private int alertRefreshes;          // Refreshes left before the overlay turns back to normal
+
+    /**
+     * Constructor to initialize an EdtStallOverlay. It must be called on the
+     * Event Dispatch Thread.
+     *
+     * @param watchdog The running watchdog.
+     */
+    public EdtStallOverlay(EdtWatchdog watchdog) {
+        this.watchdog = watchdog;
+
+        label = new JLabel();
+        label.setOpaque(true);
+        label.setBackground(NORMAL_COLOR);
+        label.setForeground(Color.WHITE);
+        label.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 11));
+        label.setBorder(BorderFactory.createEmptyBorder(3, 6, 3, 6));
+        this.add(label);
+        this.setAlwaysOnTop(true);
+        this.setFocusableWindowState(false); // Never take the keyboard focus from the program
+
+        refresh();
+
+        new Timer(REFRESH_MILLIS, new ActionListener() {
+            /**
+             * Refreshes the overlay.
+             *
+             * @param e The timer event.
+             */
+            public void actionPerformed(ActionEvent e) {
+                refresh();
+            }
+        }).start();
+    }
+
+
+    /**
+     * Shows the overlay if -Dfitness.edt.overlay=true and the EDT is being
+     * watched. It must be called on the Event Dispatch Thread.
+     */
+    public static void showIfEnabled() {
+        EdtWatchdog watchdog = EdtWatchdog.getInstance();
+        if (watchdog != null && Boolean.getBoolean("fitness.edt.overlay")) {
+            new EdtStallOverlay(watchdog).setVisible(true);
+        }
+    }
+
+
+    /**
+     * Updates the text, color, tooltip and position of the overlay.
+     */
+    private void refresh() {
+        long stalls = watchdog.getStallCount();
+        if (stalls != shownStalls) {
+            shownStalls = stalls;
+            alertRefreshes = ALERT_REFRESHES;
+            label.setToolTipText("<html><pre>" + escape(watchdog.getLastStallStack()) + "</pre></html>");
+        } else if (alertRefreshes > 0) {
+            alertRefreshes--;
+        }
+
+        label.setBackground(alertRefreshes > 0 ? ALERT_COLOR : NORMAL_COLOR);
+        label.setText(String.format("EDT lag %d ms | stalls %d | longest %d ms", watchdog.getLastLagMillis(),
+                stalls, watchdog.getLongestStallMillis()));
+        pack();
+
+        // Keep the overlay in the bottom right corner of the screen
+        Rectangle screen = GraphicsEnvironment.getLocalGraphicsEnvironment().getMaximumWindowBounds();
+        setLocation(screen.x + screen.width - getWidth(), screen.y + screen.height - getHeight());
+    }
+
+
+    /**
+     * Escapes text for display in an HTML tooltip.
+     *
+     * @param text The text.
+     * @return The escaped text.
+     */
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+}
@@ -0,0 +1,258 @@
+package crossfunctionalfitness.ui;
+
+import java.awt.EventQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import crossfunctionalfitness.instrumentation.Instrumentation;
+import crossfunctionalfitness.instrumentation.OperationTimer;
+
+/**
+ * EdtWatchdog detects stalls of the Swing Event Dispatch Thread (EDT), i.e.
+ * event handlers that block the user interface by reading files or computing
+ * on the EDT. A daemon thread posts a small probe to the event queue every
+ * SAMPLE_MILLIS and measures how long it waits before the EDT runs it. If the
+ * probe is still waiting after the threshold (200 ms by default, or
+ * -Dfitness.edt.stallMillis), the EDT is stalled: the watchdog captures the
+ * stack of the EDT, which shows the handler that is blocking it, and prints it
+ * to the error stream. When the probe finally runs, the stall's duration is
+ * recorded.
+ *
+ * Every probe delay is recorded in the "EDT.lag" timer and every stall in the
+ * "EDT.stall" timer, so they appear in Instrumentation.dump() and in JMX with
+ * the other timers. The stall count, the longest stall and the last blocking
+ * stack are also exposed as "CrossFunctionalFitness:type=EdtWatchdog".
+ * Modal dialogs keep dispatching events, so time spent reading a dialog is
+ * not counted as a stall. Since the probes keep the event queue busy, AWT
+ * never shuts itself down once the watchdog runs; the program exits through
+ * System.exit when its main window is closed.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class EdtWatchdog implements EdtWatchdogMXBean {
+
+    // Default stall threshold in milliseconds
+    public static final long DEFAULT_THRESHOLD_MILLIS = 200;
+
+    // Interval between probes in milliseconds
+    private static final long SAMPLE_MILLIS = 50;
+
+    // Most frames of the EDT stack kept for a stall
+    private static final int STACK_DEPTH = 40;
+
+    // Delay of every probe and duration of every stall
+    private static final OperationTimer LAG_TIMER = Instrumentation.timer("EDT.lag");
+    private static final OperationTimer STALL_TIMER = Instrumentation.timer("EDT.stall");
+
+    private static EdtWatchdog instance; // The running watchdog (null until start is called)
+
+    private final long thresholdNanos;                       // Stall threshold
+    private final ScheduledExecutorService sampler;          // Posts the probes
+    private final AtomicLong stallCount = new AtomicLong();  // Number of stalls detected
+    private final Object lock = new Object();                // Guards the probe state below
+
+    private boolean probePending;   // Whether a probe is waiting for the EDT
+    private long probePostedAt;     // When the pending probe was posted
+    private boolean stackCaptured;  // Whether the pending probe's stall has been reported
+
+    private volatile Thread edt;                   // The EDT, as seen by the last probe
+    private volatile long lastLagNanos;            // Delay of the last probe
+    private volatile long longestStallNanos;       // Duration of the longest stall
+    private volatile String lastStallStack = "";   // EDT stack captured during the last stall
+
+    // Runs on the EDT and measures how long it waited
+    private final Runnable probe = new Runnable() {
+        /**
+         * Records the delay of the probe.
+         */
+        public void run() {
+            edt = Thread.currentThread();
+            long lag;
+            synchronized (lock) {
+                lag = System.nanoTime() - probePostedAt;
+                probePending = false;
+            }
+            recordLag(lag);
+        }
+    };
+
+    /**
+     * Constructor to initialize an EdtWatchdog. The watchdog is created by
+     * start(), which makes it sample the EDT.
+     *
+     * @param thresholdMillis How long the EDT must be blocked to count as a stall.
+     */
+    private EdtWatchdog(long thresholdMillis) {
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        this.sampler = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            /**
+             * Creates the sampling thread, which does not keep the program running.
+             *
+             * @param runnable The sampling task.
+             * @return The thread.
+             */
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "edt-watchdog");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+
+    /**
+     * Starts watching the EDT, if it is not watched yet. The threshold is read
+     * from -Dfitness.edt.stallMillis. Nothing is started when instrumentation
+     * is turned off.
+     *
+     * @return The watchdog, or null if instrumentation is turned off.
+     */
+    public static synchronized EdtWatchdog start() {
+        if (instance == null && Instrumentation.ENABLED) {
+            long threshold = Long.getLong("fitness.edt.stallMillis", DEFAULT_THRESHOLD_MILLIS);
+            instance = new EdtWatchdog(Math.max(1, threshold));
+            instance.sampler.scheduleWithFixedDelay(new Runnable() {
+                /**
+                 * Posts a probe or checks the pending one.
+                 */
+                public void run() {
+                    instance.sample();
+                }
+            }, SAMPLE_MILLIS, SAMPLE_MILLIS, TimeUnit.MILLISECONDS);
+            Instrumentation.registerMBean("EdtWatchdog", instance);
+        }
+        return instance;
+    }
+
+
+    /**
+     * Returns the running watchdog.
+     *
+     * @return The watchdog, or null if start has not been called.
+     */
+    public static synchronized EdtWatchdog getInstance() {
+        return instance;
+    }
+
+
+    /**
+     * Posts a probe to the EDT if none is pending. If the pending probe has
+     * waited longer than the threshold, captures the EDT stack once.
+     */
+    private void sample() {
+        long waited;
+        synchronized (lock) {
+            long now = System.nanoTime();
+            if (!probePending) {
+                probePending = true;
+                probePostedAt = now;
+                stackCaptured = false;
+                EventQueue.invokeLater(probe);
+                return;
+            }
+            waited = now - probePostedAt;
+            if (stackCaptured || waited < thresholdNanos) {
+                return;
+            }
+            stackCaptured = true;
+        }
+
+        // The EDT is stalled: capture what it is doing
+        Thread thread = edt;
+        String stack = thread == null ? "\t(Event Dispatch Thread not seen yet)\n" : format(thread.getStackTrace());
+        lastStallStack = stack;
+        System.err.print("EDT blocked for over " + TimeUnit.NANOSECONDS.toMillis(waited) + " ms at:\n" + stack);
+    }
+
+
+    /**
+     * Records the delay of a probe, and the stall if it exceeded the
+     * threshold.
+     *
+     * @param lag How long the probe waited for the EDT, in nanoseconds.
+     */
+    private void recordLag(long lag) {
+        lastLagNanos = lag;
+        LAG_TIMER.record(lag);
+        if (lag >= thresholdNanos) {
+            stallCount.incrementAndGet();
+            STALL_TIMER.record(lag);
+            if (lag > longestStallNanos) {
+                longestStallNanos = lag;
+            }
+            System.err.println("EDT stall ended after " + TimeUnit.NANOSECONDS.toMillis(lag) + " ms");
+        }
+    }
+
+
+    /**
+     * Formats stack frames like a printed exception, one frame per line.
+     *
+     * @param frames The frames, innermost first.
+     * @return The formatted frames.
+     */
+    private static String format(StackTraceElement[] frames) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < Math.min(STACK_DEPTH, frames.length); i++) {
+            sb.append("\tat ").append(frames[i]).append('\n');
+        }
+        if (frames.length > STACK_DEPTH) {
+            sb.append("\t... ").append(frames.length - STACK_DEPTH).append(" more\n");
+        }
+        return sb.toString();
+    }
+
+
+    /**
+     * Returns how long the EDT must be blocked to count as a stall.
+     *
+     * @return The threshold in milliseconds.
+     */
+    public long getThresholdMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(thresholdNanos);
+    }
+
+
+    /**
+     * Returns the number of stalls detected.
+     *
+     * @return The count.
+     */
+    public long getStallCount() {
+        return stallCount.get();
+    }
+
+
+    /**
+     * Returns the duration of the longest stall.
+     *
+     * @return The duration in milliseconds, or 0 if there was no stall.
+     */
+    public long getLongestStallMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(longestStallNanos);
+    }
+
+
+    /**
+     * Returns how long the last probe waited for the EDT.
+     *
+     * @return The delay in milliseconds.
+     */
+    public long getLastLagMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(lastLagNanos);
+    }
+
+
+    /**
+     * Returns the EDT stack captured during the last stall.
+     *
+     * @return The stack, one frame per line, or "" if there was no stall.
+     */
+    public String getLastStallStack() {
+        return lastStallStack;
+    }
+}
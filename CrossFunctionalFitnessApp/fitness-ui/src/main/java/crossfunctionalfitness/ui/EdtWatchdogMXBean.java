@@ -0,0 +1,54 @@
+package crossfunctionalfitness.ui;
+
+/**
+ * EdtWatchdogMXBean is the JMX view of the EdtWatchdog, registered as
+ * "CrossFunctionalFitness:type=EdtWatchdog". The stall durations themselves
+ * are in the "EDT.stall" OperationTimer.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public interface EdtWatchdogMXBean {
+
+    /**
+     * Returns how long the Event Dispatch Thread must be blocked to count as
+     * a stall.
+     *
+     * @return The threshold in milliseconds.
+     */
+    long getThresholdMillis();
+
+
+    /**
+     * Returns the number of stalls detected.
+     *
+     * @return The count.
+     */
+    long getStallCount();
+
+
+    /**
+     * Returns the duration of the longest stall.
+     *
+     * @return The duration in milliseconds, or 0 if there was no stall.
+     */
+    long getLongestStallMillis();
+
+
+    /**
+     * Returns how long the last event posted to the Event Dispatch Thread
+     * waited before it ran.
+     *
+     * @return The delay in milliseconds.
+     */
+    long getLastLagMillis();
+
+
+    /**
+     * Returns the stack of the Event Dispatch Thread captured during the last
+     * stall.
+     *
+     * @return The stack, one frame per line, or "" if there was no stall.
+     */
+    String getLastStallStack();
+}
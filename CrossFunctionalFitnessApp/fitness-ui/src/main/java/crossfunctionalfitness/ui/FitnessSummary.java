@@ -0,0 +1,174 @@
+package crossfunctionalfitness.ui;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.*;
+import java.util.List;
+
+import crossfunctionalfitness.core.Metric;
+import crossfunctionalfitness.core.MetricRegistry;
+import crossfunctionalfitness.core.MetricResults;
+
+/**
+ * FitnessSummary is a JFrame subclass that provides a graphical user interface
+ * to display various fitness-related metrics. It shows one row for each metric
+ * of the default MetricRegistry (average time per workout, total time spent
+ * exercising, consistency score and personal bests in terms of Longest Workout,
+ * and any metric registered since), followed by the benchmark progress and the
+ * streaks of completed days. The class is designed to be user-friendly,
+ * providing tooltips and a help button for additional information.
+ * 
+ * @author Nag Rajendran 
+ * @version Dec 11 2023
+ */
+public class FitnessSummary extends JFrame {
+
+    // The metrics shown, registered when the window is built
+    private final List<Metric<?, ?>> metrics = MetricRegistry.getDefault().getMetrics();
+
+    // Widgets for displaying fitness metrics, one text field per metric
+    private JTextField[] txtMetrics = new JTextField[metrics.size()];
+    private JLabel lblBenchmarkProgress = new JLabel("Benchmark Progress: ");
+    private JLabel lblStreaks = new JLabel("Streaks (days): ");
+
+    private JTextField txtBenchmarkProgress = new JTextField(10);
+    private JTextField txtStreaks = new JTextField(10);
+
+    private JButton btnHelp = new JButton("Help");
+    
+    /**
+     * Constructor for FitnessSummary.
+     * Initializes the layout of the components and adds listeners to widgets.
+     */
+    public FitnessSummary() {
+        layoutComponents();
+        addListeners();
+    }
+
+
+    /**
+     * Sets up the layout of the program's graphical user interface.
+     * It defines the placement of labels, text fields, and the help button.
+     * The layout is organized for clear readability and ease of use.
+     */
+    private void layoutComponents() {
+        this.setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
+        this.setTitle("Fitness Summary");
+
+        JPanel topPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT)); // Right-aligned
+        this.add(topPanel, BorderLayout.NORTH); // Add to the top of the JFrame
+        topPanel.add(btnHelp); // Add the help button to the top panel
+
+        int rows = metrics.size() + 2; // One row per metric, the benchmark progress and the streaks
+        JPanel panel = new JPanel(new GridLayout(rows, 2, 10, 10)); // 2 columns, 10px hgap and vgap
+        panel.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10)); // 10px padding on all sides
+
+        // Add a label and a read-only text field for each metric; the tooltip says what it represents
+        for (int i = 0; i < metrics.size(); i++) {
+            JLabel lblMetric = new JLabel(metrics.get(i).getLabel() + ": ");
+            lblMetric.setToolTipText(metrics.get(i).getDescription());
+            txtMetrics[i] = new JTextField(10);
+            txtMetrics[i].setEditable(false);
+            panel.add(lblMetric);
+            panel.add(txtMetrics[i]);
+        }
+
+        // Tooltips provide additional information on what each row represents
+        lblBenchmarkProgress.setToolTipText("Latest benchmark test compared with earlier cycles and your level.");
+        lblStreaks.setToolTipText("Consecutive completed days up to your latest saved day, and the longest run.");
+
+        // Add the labels and text fields to the panel
+        panel.add(lblBenchmarkProgress);
+        panel.add(txtBenchmarkProgress);
+        panel.add(lblStreaks);
+        panel.add(txtStreaks);
+
+        this.add(panel, BorderLayout.CENTER); // Add the panel to the center of the JFrame
+
+        // Set the text fields to read-only
+        txtBenchmarkProgress.setEditable(false);
+        txtStreaks.setEditable(false);
+
+        // Optimize JFrame's size
+        this.setPreferredSize(new Dimension(600, 100 + 40 * rows));
+        this.pack();
+        this.setLocationRelativeTo(null); // Center the window
+    }
+    
+
+    /**
+     * Updates the text fields with the provided fitness metrics.
+     * This method is called to refresh the UI with new or updated data.
+     *
+     * @param results The results of the metrics; a metric without a result is shown empty.
+     */
+    public void updateMetrics(MetricResults results) {
+        for (int i = 0; i < metrics.size(); i++) {
+            String text = results.getText(metrics.get(i).getName());
+            txtMetrics[i].setText(text == null ? "" : text);
+            txtMetrics[i].setToolTipText(text);
+        }
+    }
+
+
+    /**
+     * Updates the benchmark progress text field with the latest benchmark comparison.
+     *
+     * @param benchmarkProgress The description of the latest benchmark comparison.
+     */
+    public void updateBenchmarkProgress(String benchmarkProgress) {
+        // Update benchmark progress if available, otherwise explain how to get one
+        if (benchmarkProgress == null) {
+            txtBenchmarkProgress.setText("No benchmark completed yet");
+        } else {
+            txtBenchmarkProgress.setText(benchmarkProgress);
+            txtBenchmarkProgress.setToolTipText(benchmarkProgress);
+        }
+    }
+
+
+    /**
+     * Updates the streaks text field with the current and longest streak of
+     * completed days.
+     *
+     * @param currentStreak The consecutive completed days up to the latest saved day.
+     * @param longestStreak The longest run of consecutive completed days.
+     * @param missedDays    The days up to the latest saved day that were not completed.
+     */
+    public void updateStreaks(int currentStreak, int longestStreak, int missedDays) {
+        txtStreaks.setText(String.format("Current %d, longest %d, missed %d", currentStreak, longestStreak,
+                missedDays));
+    }
+
+
+    /**
+     * Adds listeners to the widgets, particularly the help button.
+     * The help button provides additional information about the fitness metrics.
+     */
+    private void addListeners() {
+        btnHelp.addActionListener(new ActionListener() {
+            /**
+             * Invoked when the help button is clicked.
+             * Displays a message dialog with information about the fitness summary metrics.
+             *
+             * @param e The ActionEvent object generated by the button click.
+             */
+            public void actionPerformed(ActionEvent e) {
+                // Display help information for understanding fitness metrics, one line per metric shown
+                StringBuilder help = new StringBuilder("Get to know your fitness summary metrics:\n");
+                help.append("----------------------------------\n\n");
+                int number = 1; // The number of the row
+                for (Metric<?, ?> metric : metrics) {
+                    help.append('[').append(number++).append("] ").append(metric.getLabel())
+                            .append(": ").append(metric.getDescription()).append('\n');
+                }
+                help.append('[').append(number++).append("] Benchmark Progress: Latest benchmark test compared with")
+                        .append(" earlier cycles\n     and with members at the same fitness level.\n");
+                help.append('[').append(number).append("] Streaks: Consecutive completed days up to your latest")
+                        .append(" saved day, the longest\n     run of completed days, and the days missed so far.\n\n");
+                help.append("Note: The metrics are calculated based on the workouts that have been marked as completed.");
+                JOptionPane.showMessageDialog(null, help.toString());
+            }
+        });
+    }
+}
\ No newline at end of file
@@ -0,0 +1,297 @@
+package crossfunctionalfitness.ui;
+
+import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import java.awt.*;
+import java.awt.event.*;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import crossfunctionalfitness.core.ProfileQuery;
+import crossfunctionalfitness.core.ProfileValidator;
+import crossfunctionalfitness.core.UserProfile;
+import crossfunctionalfitness.storage.ProfileStore;
+
+/**
+ * MemberSearch is a JFrame subclass that lets the front desk find a member
+ * in the member directory by the start of their first or last name, an age
+ * band and a fitness level, and open the member's profile in the profile
+ * form. The results are updated shortly after the user stops typing, from
+ * the in-memory member index, so they appear at once even with many
+ * thousands of members.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class MemberSearch extends JFrame {
+
+    // Milliseconds after the last keystroke before the search runs
+    private static final int SEARCH_DELAY_MS = 200;
+
+    // Largest number of members listed
+    private static final int MAX_RESULTS = 200;
+
+    // Choice of the level box that matches every level
+    private static final String ANY_LEVEL = "Any";
+
+    private JTextField firstNameField, lastNameField, minAgeField, maxAgeField;
+    private JComboBox<String> levelBox;
+    private DefaultListModel<String> resultModel;
+    private JList<String> resultList;
+    private JLabel statusLabel;
+    private JButton openButton, closeButton;
+    private javax.swing.Timer searchTimer;                       // Pending search, restarted on every change
+    private final List<UserProfile> results = new ArrayList<>(); // Members listed, in list order
+
+    /**
+     * Constructor for MemberSearch.
+     * Initializes the layout of the components, adds listeners to widgets and
+     * lists the first members.
+     */
+    public MemberSearch() {
+        layoutComponents();
+        addListeners();
+        search();
+    }
+
+
+    /**
+     * Sets up the layout of the search fields, the list of members and the
+     * buttons.
+     */
+    private void layoutComponents() {
+        this.setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
+        this.setTitle("Find Member");
+        this.setLayout(new BorderLayout(5, 5));
+
+        // Create the search fields
+        firstNameField = new JTextField(12);
+        lastNameField = new JTextField(12);
+        minAgeField = new JTextField(3);
+        maxAgeField = new JTextField(3);
+        levelBox = new JComboBox<>();
+        levelBox.addItem(ANY_LEVEL);
+        for (String level : ProfileValidator.FITNESS_LEVELS) {
+            levelBox.addItem(level);
+        }
+
+        // Search fields in one row
+        JPanel searchPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 5, 5));
+        searchPanel.add(new JLabel("First Name: "));
+        searchPanel.add(firstNameField);
+        searchPanel.add(new JLabel("Last Name: "));
+        searchPanel.add(lastNameField);
+        searchPanel.add(new JLabel("Age: "));
+        searchPanel.add(minAgeField);
+        searchPanel.add(new JLabel("to"));
+        searchPanel.add(maxAgeField);
+        searchPanel.add(new JLabel("Fitness Level: "));
+        searchPanel.add(levelBox);
+        this.add(searchPanel, BorderLayout.NORTH);
+
+        // List of the members found
+        resultModel = new DefaultListModel<>();
+        resultList = new JList<>(resultModel);
+        resultList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        resultList.setVisibleRowCount(15);
+        this.add(new JScrollPane(resultList), BorderLayout.CENTER);
+
+        // Status and buttons
+        statusLabel = new JLabel(" ");
+        openButton = new JButton("Open");
+        closeButton = new JButton("Close");
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 5, 5));
+        buttonPanel.add(openButton);
+        buttonPanel.add(closeButton);
+        JPanel southPanel = new JPanel(new BorderLayout());
+        southPanel.add(statusLabel, BorderLayout.WEST);
+        southPanel.add(buttonPanel, BorderLayout.EAST);
+        this.add(southPanel, BorderLayout.SOUTH);
+
+        this.pack();
+        this.setLocationRelativeTo(null); // Center the window
+    }
+
+
+    /**
+     * Adds listeners that search again when a search field changes, and to
+     * the buttons and the list.
+     */
+    private void addListeners() {
+        // Search once the user stops typing; every keystroke restarts the delay
+        searchTimer = new javax.swing.Timer(SEARCH_DELAY_MS, new ActionListener() {
+            /**
+             * Invoked when the user has stopped typing.
+             *
+             * @param e the action event
+             */
+            public void actionPerformed(ActionEvent e) {
+                search();
+            }
+        });
+        searchTimer.setRepeats(false);
+
+        DocumentListener fieldListener = new DocumentListener() {
+            /**
+             * Invoked when text is typed or pasted into a search field.
+             *
+             * @param e the document event
+             */
+            public void insertUpdate(DocumentEvent e) {
+                searchTimer.restart();
+            }
+
+
+            /**
+             * Invoked when text is deleted from a search field.
+             *
+             * @param e the document event
+             */
+            public void removeUpdate(DocumentEvent e) {
+                searchTimer.restart();
+            }
+
+
+            /**
+             * Invoked when an attribute of the text changes, which does not
+             * change the text of a plain text field.
+             *
+             * @param e the document event
+             */
+            public void changedUpdate(DocumentEvent e) {
+                // Nothing to search
+            }
+        };
+        firstNameField.getDocument().addDocumentListener(fieldListener);
+        lastNameField.getDocument().addDocumentListener(fieldListener);
+        minAgeField.getDocument().addDocumentListener(fieldListener);
+        maxAgeField.getDocument().addDocumentListener(fieldListener);
+
+        levelBox.addActionListener(new ActionListener() {
+            /**
+             * Invoked when a fitness level is chosen. Searches at once.
+             *
+             * @param e the action event
+             */
+            public void actionPerformed(ActionEvent e) {
+                search();
+            }
+        });
+
+        openButton.addActionListener(new ActionListener() {
+            /**
+             * Invoked when the open button is clicked.
+             * Opens the selected member's profile.
+             *
+             * @param e the action event
+             */
+            public void actionPerformed(ActionEvent e) {
+                openSelectedMember();
+            }
+        });
+
+        resultList.addMouseListener(new MouseAdapter() {
+            /**
+             * Invoked when a member is clicked; a double click opens the
+             * member's profile.
+             *
+             * @param e the mouse event
+             */
+            public void mouseClicked(MouseEvent e) {
+                if (e.getClickCount() == 2) {
+                    openSelectedMember();
+                }
+            }
+        });
+
+        closeButton.addActionListener(new ActionListener() {
+            /**
+             * Invoked when the close button is clicked.
+             * Disposes the search window.
+             *
+             * @param e the action event
+             */
+            public void actionPerformed(ActionEvent e) {
+                searchTimer.stop();
+                dispose();
+            }
+        });
+    }
+
+
+    /**
+     * Searches the member index with the search fields and lists the members
+     * found. Ages that are not whole numbers are shown in the status line
+     * instead of a dialog, as they are usually still being typed.
+     */
+    private void search() {
+        searchTimer.stop(); // A pending search would give the same result
+        ProfileQuery query = new ProfileQuery();
+        try {
+            query.setFirstNamePrefix(firstNameField.getText());
+            query.setLastNamePrefix(lastNameField.getText());
+            query.setAgeBand(parseAge(minAgeField, 0), parseAge(maxAgeField, Integer.MAX_VALUE));
+            if (!ANY_LEVEL.equals(levelBox.getSelectedItem())) {
+                query.setFitnessLevels(List.of((String) levelBox.getSelectedItem()));
+            }
+            query.setLimit(MAX_RESULTS);
+        } catch (IllegalArgumentException e) {
+            statusLabel.setText(e.getMessage());
+            return;
+        }
+
+        results.clear();
+        resultModel.clear();
+        try {
+            results.addAll(ProfileStore.getMemberIndex().search(query));
+        } catch (IOException e) {
+            e.printStackTrace(); // Log the exception for debugging purposes
+            statusLabel.setText("An error occurred while loading the members");
+            return;
+        }
+        for (UserProfile member : results) {
+            resultModel.addElement(member.getLastName() + ", " + member.getFirstName() + "  (" + member.getAge()
+                    + ", " + member.getFitnessLevel() + ")");
+        }
+        statusLabel.setText(results.size() == MAX_RESULTS ? "First " + MAX_RESULTS + " members shown"
+                : results.size() + " members found");
+    }
+
+
+    /**
+     * Reads an age search field.
+     *
+     * @param field        the field
+     * @param defaultValue the age if the field is empty
+     * @return the age
+     * @throws IllegalArgumentException if the field is not a whole number
+     */
+    private int parseAge(JTextField field, int defaultValue) {
+        String text = field.getText().trim();
+        if (text.isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(text);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Age must be a whole number");
+        }
+    }
+
+
+    /**
+     * Opens the profile of the selected member in the profile form.
+     */
+    private void openSelectedMember() {
+        int index = resultList.getSelectedIndex();
+        if (index < 0) {
+            JOptionPane.showMessageDialog(null, "Please select a member", "Error", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+        NewUserProfile profileForm = DeferredFrames.takeNewUserProfile();
+        profileForm.setVisible(true);
+        profileForm.loadUserData(results.get(index));
+    }
+}
@@ -1,10 +1,17 @@
+package crossfunctionalfitness.ui;
+
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
-import java.io.File;
 import java.io.IOException;
-import java.io.PrintWriter;
 import java.util.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+
+import crossfunctionalfitness.core.ProfileErrors;
+import crossfunctionalfitness.core.ProfileValidator;
+import crossfunctionalfitness.core.UserProfile;
+import crossfunctionalfitness.storage.ProfileStore;
 
 /**
  * NewUserProfile is a JFrame subclass that creates a user interface for
@@ -12,6 +19,11 @@ import java.util.*;
  * personal information and fitness level, along with buttons to save, reset,
  * and exit the form. The class also provides functionality to load existing
  * user data from a file.
+ *
+ * Each field is checked with ProfileValidator shortly after the user stops
+ * typing, and its error is shown next to it; a new keystroke cancels the
+ * pending check. Save checks every field at once and lists all errors in one
+ * message.
  * 
  * @author Nag Rajendran 
  * @version Dec 11 2023
@@ -23,6 +35,10 @@ public class NewUserProfile extends JFrame {
     private JRadioButton beginnerButton, noviceButton, intermediateButton, advancedButton, expertButton;
     private ButtonGroup fitnessLevelGroup;        
     private JButton saveButton, resetButton, exitButton;
+    private JLabel firstNameError, lastNameError, ageError, weightError, fitnessLevelError;
+
+    // Pending checks of the text fields, restarted on every change
+    private final ArrayList<javax.swing.Timer> validationTimers = new ArrayList<>();
 
     // Constants for layout insets
     private static final int LABEL_INSET_LEFT = 20; 
@@ -30,6 +46,12 @@ public class NewUserProfile extends JFrame {
     private static final int INSET_TOP_BOTTOM = 10;
     private static final int INSET_RIGHT = 10;
 
+    // Milliseconds after the last keystroke before a field is checked
+    private static final int VALIDATION_DELAY_MS = 300;
+
+    // Width of the error labels, so the form does not resize when an error is shown
+    private static final int ERROR_LABEL_WIDTH = 300;
+
     /**
      * Constructor for NewUserProfile.
      * Initializes the layout of the components and adds listeners to widgets.
@@ -65,6 +87,13 @@ public class NewUserProfile extends JFrame {
         ageField = new JTextField(3);
         weightField = new JTextField(6);
 
+        // Create error labels, empty until a field is checked
+        firstNameError = createErrorLabel();
+        lastNameError = createErrorLabel();
+        ageError = createErrorLabel();
+        weightError = createErrorLabel();
+        fitnessLevelError = createErrorLabel();
+
         // Create radio buttons
         beginnerButton = new JRadioButton("Beginner");
         noviceButton = new JRadioButton("Novice");
@@ -89,16 +118,16 @@ public class NewUserProfile extends JFrame {
         Insets fieldInsets = new Insets(10, 10, 10, 10); // Regular insets for text fields
 
         // Add labels and text fields to the main layout
-        addLabelAndField(firstName, firstNameField, 0,
+        addLabelAndField(firstName, firstNameField, firstNameError, 0,
                 new Insets(INSET_TOP_BOTTOM, LABEL_INSET_LEFT, INSET_TOP_BOTTOM, INSET_RIGHT),
                 new Insets(INSET_TOP_BOTTOM, FIELD_INSET_LEFT, INSET_TOP_BOTTOM, INSET_RIGHT));
-        addLabelAndField(lastName, lastNameField, 1,
+        addLabelAndField(lastName, lastNameField, lastNameError, 1,
                 new Insets(INSET_TOP_BOTTOM, LABEL_INSET_LEFT, INSET_TOP_BOTTOM, INSET_RIGHT),
                 new Insets(INSET_TOP_BOTTOM, FIELD_INSET_LEFT, INSET_TOP_BOTTOM, INSET_RIGHT));
-        addLabelAndField(age, ageField, 2,
+        addLabelAndField(age, ageField, ageError, 2,
                 new Insets(INSET_TOP_BOTTOM, LABEL_INSET_LEFT, INSET_TOP_BOTTOM, INSET_RIGHT),
                 new Insets(INSET_TOP_BOTTOM, FIELD_INSET_LEFT, INSET_TOP_BOTTOM, INSET_RIGHT));
-        addLabelAndField(weight, weightField, 3,
+        addLabelAndField(weight, weightField, weightError, 3,
                 new Insets(INSET_TOP_BOTTOM, LABEL_INSET_LEFT, INSET_TOP_BOTTOM, INSET_RIGHT),
                 new Insets(INSET_TOP_BOTTOM, FIELD_INSET_LEFT, INSET_TOP_BOTTOM, INSET_RIGHT));
 
@@ -125,6 +154,11 @@ public class NewUserProfile extends JFrame {
         gbc.gridwidth = 2; // Span 2 columns
         this.add(fitnessLevelPanel, gbc); // Add the panel to the main layout
 
+        // Add the fitness level error below the radio buttons
+        gbc.gridy = 6; // Row 6
+        gbc.insets = fieldInsets; // Use regular insets for the error
+        this.add(fitnessLevelError, gbc); // Add the error label to the main layout
+
         // Button panel with FlowLayout 5px horizontal and vertical gaps
         JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 5, 5));
 
@@ -142,20 +176,34 @@ public class NewUserProfile extends JFrame {
 
         this.pack();
         this.setLocationRelativeTo(null); // Center the window
-        this.setVisible(true);
     }
 
     
     /**
-     * Adds a label and text field to the main layout.
+     * Creates an empty label for the error message of a field.
+     *
+     * @return the error label
+     */
+    private JLabel createErrorLabel() {
+        JLabel label = new JLabel(" "); // A space, so the label has the height of a line
+        label.setForeground(Color.RED);
+        label.setPreferredSize(new Dimension(ERROR_LABEL_WIDTH, label.getPreferredSize().height));
+        return label;
+    }
+
+
+    /**
+     * Adds a label, text field and error label to the main layout.
      * 
      * @param label the label to be added
      * @param field the text field to be added
+     * @param error the error label of the field
      * @param gridy the row number of the main layout
      * @param labelInsets the insets for the label
      * @param fieldInsets the insets for the text field
      */    
-    private void addLabelAndField(JLabel label, JTextField field, int gridy, Insets labelInsets, Insets fieldInsets) {
+    private void addLabelAndField(JLabel label, JTextField field, JLabel error, int gridy, Insets labelInsets,
+            Insets fieldInsets) {
         GridBagConstraints gbc = new GridBagConstraints(); // Create a GridBagConstraints object
         gbc.anchor = GridBagConstraints.WEST; // Align the label and text field to the left
 
@@ -167,6 +215,9 @@ public class NewUserProfile extends JFrame {
         gbc.gridx = 1; // Column 1
         gbc.insets = fieldInsets; // Use the provided insets for the text field
         this.add(field, gbc); // Add the text field to the main layout
+
+        gbc.gridx = 2; // Column 2
+        this.add(error, gbc); // Add the error label to the main layout
     }
 
 
@@ -375,6 +426,31 @@ public class NewUserProfile extends JFrame {
      * interactions. Includes listeners for saving data, resetting fields, and exiting the form.
      */
     private void addListeners() {
+        // Check each text field shortly after the user stops typing
+        addFieldValidation(firstNameField, ProfileValidator.FIRST_NAME, firstNameError);
+        addFieldValidation(lastNameField, ProfileValidator.LAST_NAME, lastNameError);
+        addFieldValidation(ageField, ProfileValidator.AGE, ageError);
+        addFieldValidation(weightField, ProfileValidator.WEIGHT, weightError);
+
+        // Clear the fitness level error as soon as a level is selected
+        ActionListener levelListener = new ActionListener() {
+            /**
+             * Invoked when a fitness level is selected.
+             * Checks the fitness level.
+             *
+             * @param e the action event
+             */
+            public void actionPerformed(ActionEvent e) {
+                showError(fitnessLevelError,
+                        ProfileValidator.checkField(ProfileValidator.FITNESS_LEVEL, getSelectedFitnessLevel()));
+            }
+        };
+        beginnerButton.addActionListener(levelListener);
+        noviceButton.addActionListener(levelListener);
+        intermediateButton.addActionListener(levelListener);
+        advancedButton.addActionListener(levelListener);
+        expertButton.addActionListener(levelListener);
+
         // Save button listener
         saveButton.addActionListener(new ActionListener() {
             /**
@@ -419,82 +495,135 @@ public class NewUserProfile extends JFrame {
     
     
     /**
-     * Validates the user inputs and displays an error message if any of the
-     * inputs are invalid.
-     * 
-     * @return true if the inputs are valid, false otherwise
+     * Checks a text field with a delay: every change restarts the delay, so
+     * the field is checked once the user stops typing, and a check still
+     * pending is cancelled by the next keystroke.
+     *
+     * @param field        the text field
+     * @param profileField the profile field of the text field, e.g., ProfileValidator.AGE
+     * @param error        the error label of the field
      */
-    private boolean validateUserInputs() {
-        // Validate if the first name is empty
-        if (getFirstNameField().getText().trim().isEmpty()) {
-            // Display an error message if the first name is empty
-            JOptionPane.showMessageDialog(null, "First name must not be empty", "Error",
-                    JOptionPane.ERROR_MESSAGE);
-            return false;
-        }
+    private void addFieldValidation(final JTextField field, final int profileField, final JLabel error) {
+        final javax.swing.Timer timer = new javax.swing.Timer(VALIDATION_DELAY_MS, new ActionListener() {
+            /**
+             * Invoked when the user has stopped typing in the field.
+             * Checks the field and shows its error.
+             *
+             * @param e the action event
+             */
+            public void actionPerformed(ActionEvent e) {
+                showError(error, ProfileValidator.checkField(profileField, field.getText()));
+            }
+        });
+        timer.setRepeats(false); // Check once per pause in typing
+        validationTimers.add(timer);
 
-        // Validate if the last name is empty
-        if (getLastNameField().getText().trim().isEmpty()) {
-            // Display an error message if the last name is empty
-            JOptionPane.showMessageDialog(null, "Last name must not be empty", "Error",
-                    JOptionPane.ERROR_MESSAGE);
-            return false;
-        }
+        field.getDocument().addDocumentListener(new DocumentListener() {
+            /**
+             * Invoked when text is typed or pasted into the field.
+             *
+             * @param e the document event
+             */
+            public void insertUpdate(DocumentEvent e) {
+                timer.restart();
+            }
 
-        // Validate age input
-        try {
-            // Parse the age input as an integer
-            int age = Integer.parseInt(getAgeField().getText().trim());
-
-            // Check if the age is between 1 and 100
-            if (age < 1 || age > 100) {
-                // Display an error message if the age is not between 1 and 100
-                JOptionPane.showMessageDialog(null, "Age must be a valid integer between 1 and 100", "Error",
-                        JOptionPane.ERROR_MESSAGE);
-                return false;
+
+            /**
+             * Invoked when text is deleted from the field.
+             *
+             * @param e the document event
+             */
+            public void removeUpdate(DocumentEvent e) {
+                timer.restart();
             }
-        } catch (NumberFormatException ex) {
-            // Display an error message if the age is not a valid integer
-            JOptionPane.showMessageDialog(null, "Age must be a valid integer", "Error",
-                    JOptionPane.ERROR_MESSAGE);
-            return false;
+
+
+            /**
+             * Invoked when an attribute of the text changes, which does not
+             * change the text of a plain text field.
+             *
+             * @param e the document event
+             */
+            public void changedUpdate(DocumentEvent e) {
+                // Nothing to check
+            }
+        });
+    }
+
+
+    /**
+     * Shows the error of a field, or clears it.
+     *
+     * @param error   the error label of the field
+     * @param message the error message, or null if the field is valid
+     */
+    private void showError(JLabel error, String message) {
+        error.setText(message == null ? " " : message);
+    }
+
+
+    /**
+     * Cancels the pending checks of the text fields.
+     */
+    private void cancelValidation() {
+        for (javax.swing.Timer timer : validationTimers) {
+            timer.stop();
         }
+    }
 
-        // Validate weight input
-        try {
-            // Parse the weight input as a double
-            double weight = Double.parseDouble(getWeightField().getText().trim());
-
-            // Check if the weight is greater than 0
-            if (weight <= 0) {
-                // Display an error message if the weight is not greater than 0
-                JOptionPane.showMessageDialog(null, "Weight must be a positive number", "Error",
-                        JOptionPane.ERROR_MESSAGE);
-                return false;
+
+    /**
+     * Returns the selected fitness level.
+     *
+     * @return the text of the selected radio button, or null if none is selected
+     */
+    private String getSelectedFitnessLevel() {
+        Enumeration<AbstractButton> buttons = getFitnessLevelGroup().getElements();
+        while (buttons.hasMoreElements()) {
+            AbstractButton button = buttons.nextElement();
+            if (button.isSelected()) {
+                return button.getText();
             }
-        } catch (NumberFormatException ex) {
-            // Display an error message if the weight is not a valid number
-            JOptionPane.showMessageDialog(null, "Weight must be a valid number", "Error",
-                    JOptionPane.ERROR_MESSAGE);
-            return false;
         }
+        return null;
+    }
+
 
-        // Validate if a fitness level is selected
-        if (getFitnessLevelGroup().getSelection() == null) {
-            // Display an error message if a fitness level is not selected
-            JOptionPane.showMessageDialog(null, "Please select a fitness level", "Error",
+    /**
+     * Validates every user input at once, shows the error of each invalid
+     * field next to it and displays one message listing all errors.
+     * 
+     * @return true if the inputs are valid, false otherwise
+     */
+    private boolean validateUserInputs() {
+        cancelValidation(); // Every field is checked now
+
+        ProfileErrors errors = ProfileValidator.validate(getFirstNameField().getText(),
+                getLastNameField().getText(), getAgeField().getText(), getWeightField().getText(),
+                getSelectedFitnessLevel());
+
+        // Show the error of each field, clearing the errors of valid fields
+        showError(firstNameError, errors.getMessage(ProfileValidator.FIRST_NAME));
+        showError(lastNameError, errors.getMessage(ProfileValidator.LAST_NAME));
+        showError(ageError, errors.getMessage(ProfileValidator.AGE));
+        showError(weightError, errors.getMessage(ProfileValidator.WEIGHT));
+        showError(fitnessLevelError, errors.getMessage(ProfileValidator.FITNESS_LEVEL));
+
+        if (!errors.isValid()) {
+            // Display all errors in one message
+            JOptionPane.showMessageDialog(null, String.join("\n", errors.getMessages()), "Error",
                     JOptionPane.ERROR_MESSAGE);
             return false;
         }
-
         return true; // Return true if all inputs are valid
     }
 
     
     /**
      * Saves the user profile data to a file.
-     * The method collects data from form fields and writes it to a text file,
-     * handling any I/O exceptions.
+     * The method collects data from form fields and saves it through the
+     * profile store, handling any I/O exceptions.
      */
     private void saveUserProfile() {
         // Create an ArrayList to hold the data
@@ -505,32 +634,12 @@ public class NewUserProfile extends JFrame {
             userData.add(getLastNameField().getText().trim()); // Add the last name
             userData.add(getAgeField().getText().trim()); // Add the age
             userData.add(getWeightField().getText().trim()); // Add the weight
+            userData.add(getSelectedFitnessLevel()); // Add the selected fitness level
 
-            // Get the selected radio button
-            Enumeration<AbstractButton> buttons = getFitnessLevelGroup().getElements();
-
-            // Add the selected radio button to the ArrayList
-            while (buttons.hasMoreElements()) {
-
-                // Get the next radio button
-                AbstractButton button = buttons.nextElement();
-
-                // Check if the button is selected
-                if (button.isSelected()) {
-                    userData.add(button.getText()); // Add the selected radio button
-                    break;
-                }
-            }
-
-            // Write the data to a file
-            File f = new File("userProfile.txt"); // Create a new file
-            PrintWriter writer = new PrintWriter(f); // Create a PrintWriter object
-
-            // Write each line of data to the file
-            for (String line : userData) {
-                writer.println(line); // Write the line to the file
-            }
-            writer.close(); // Close the PrintWriter
+            // Write the data to the shared profile store
+            UserProfile profile = new UserProfile(userData.get(0), userData.get(1), userData.get(2),
+                    userData.get(3), userData.get(4));
+            ProfileStore.save(profile);
 
             // Display a success message
             JOptionPane.showMessageDialog(null, "Data saved successfully", "Success",
@@ -555,6 +664,14 @@ public class NewUserProfile extends JFrame {
 
         // Clear the radio button selection
         getFitnessLevelGroup().clearSelection();
+
+        // Cancel the checks started by clearing the fields and clear the errors
+        cancelValidation();
+        showError(firstNameError, null);
+        showError(lastNameError, null);
+        showError(ageError, null);
+        showError(weightError, null);
+        showError(fitnessLevelError, null);
     }
 
 
@@ -572,62 +689,63 @@ public class NewUserProfile extends JFrame {
 
 
     /**
-     * Loads user data from a text file and updates the form fields with this data.
+     * Loads the saved user data and updates the form fields with this data.
      * This method is used to populate the user profile form with previously saved
-     * data, facilitating the viewing or editing of existing user profiles. It reads data
-     * from 'userProfile.txt', expecting each line to correspond to a different piece 
-     * of user information (first name, last name, etc.). 
+     * data, facilitating the viewing or editing of existing user profiles. It reads the
+     * profile saved by the profile store, in the current or an earlier file format.
      * 
      * The method handles I/O exceptions and provides user feedback if data loading
      * fails.
      */
     public void loadUserData() {
         try {
-            File f = new File("userProfile.txt"); // Create a new file
-            Scanner scanner = new Scanner(f); // Create a Scanner object
-
-            // Create an ArrayList to hold the data
-            ArrayList<String> userData = new ArrayList<>();
-
-            // Read each line of data from the file
-            while (scanner.hasNextLine()) {
-                userData.add(scanner.nextLine()); // Add the line to the ArrayList
-            }
-
-            scanner.close(); // Close the Scanner
-
-            // Set the text fields with the data
-            getFirstNameField().setText(userData.get(0));   // set the first name
-            getLastNameField().setText(userData.get(1));    // set the last name
-            getAgeField().setText(userData.get(2));         // set the age
-            getWeightField().setText(userData.get(3));      // set the weight
-
-            // Update the selection of the fitness level radio buttons
-            String fitnessLevel = userData.get(4); // Get the fitness level
-
-            // Check the fitness level and select the corresponding radio button
-            switch (fitnessLevel) {
-                case "Beginner":
-                    getBeginnerButton().setSelected(true);
-                    break;
-                case "Novice":
-                    getNoviceButton().setSelected(true);
-                    break;
-                case "Intermediate":
-                    getIntermediateButton().setSelected(true);
-                    break;
-                case "Advanced":
-                    getAdvancedButton().setSelected(true);
-                    break;
-                case "Expert":
-                    getExpertButton().setSelected(true);
-                    break;
+            // Read the profile from the shared profile store
+            UserProfile profile = ProfileStore.load();
+            if (profile == null) {
+                throw new IOException("No profile saved");
             }
-
+            loadUserData(profile);
         } catch (IOException ex) {
             // Display an error message if an issue occurs during file reading
             JOptionPane.showMessageDialog(null, "An error occurred while loading the data", "Error",
                     JOptionPane.ERROR_MESSAGE);
         }
     }
+
+
+    /**
+     * Updates the form fields with a user profile, e.g., a member found with
+     * Find Member.
+     *
+     * @param profile the profile to show
+     */
+    public void loadUserData(UserProfile profile) {
+        // Set the text fields with the data
+        getFirstNameField().setText(profile.getFirstName());   // set the first name
+        getLastNameField().setText(profile.getLastName());     // set the last name
+        getAgeField().setText(profile.getAge());               // set the age
+        getWeightField().setText(profile.getWeight());         // set the weight
+
+        // Update the selection of the fitness level radio buttons
+        String fitnessLevel = profile.getFitnessLevel(); // Get the fitness level
+
+        // Check the fitness level and select the corresponding radio button
+        switch (fitnessLevel) {
+            case "Beginner":
+                getBeginnerButton().setSelected(true);
+                break;
+            case "Novice":
+                getNoviceButton().setSelected(true);
+                break;
+            case "Intermediate":
+                getIntermediateButton().setSelected(true);
+                break;
+            case "Advanced":
+                getAdvancedButton().setSelected(true);
+                break;
+            case "Expert":
+                getExpertButton().setSelected(true);
+                break;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,235 @@
+package crossfunctionalfitness.ui;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StartupHarness measures the cold start of the program and creates its
+ * class data sharing (AppCDS) archive. The archive holds the program's classes
+ * and the JDK and Swing classes it uses, already parsed and verified, so that
+ * the JVM maps them from the file instead of loading them one by one.
+ *
+ * Usage, with the runnable JAR built by mvn package:
+ *
+ *     java -cp fitness-ui-1.0.jar crossfunctionalfitness.ui.StartupHarness archive
+ *     java -cp fitness-ui-1.0.jar crossfunctionalfitness.ui.StartupHarness measure [runs]
+ *
+ * The first creates CrossFunctionalFitness.jsa; the second compares startup
+ * without and with it.
+ *
+ * The JVM only archives classes loaded from JAR files, so the harness runs the
+ * program from the JAR it was started from. Each run starts the program in a
+ * new JVM with -Dfitness.startup.harness=true, so it reports when its main
+ * frame is shown and when its secondary frames are ready (see DeferredFrames),
+ * and exits. The archive is created by such a run with
+ * -XX:ArchiveClassesAtExit, and used by starting the program with:
+ *
+ *     java -XX:SharedArchiveFile=CrossFunctionalFitness.jsa -jar fitness-ui-1.0.jar
+ *
+ * The archive is only used by the same JDK with the same class path, so it must
+ * be created again after the program is rebuilt or the JDK is updated; the
+ * JVM silently ignores an archive that does not match.
+ *
+ * @author Nag Rajendran
+ * @version Oct 19 2026
+ */
+public class StartupHarness {
+
+    // Archive file created and used by the harness
+    public static final String ARCHIVE_FILE = "CrossFunctionalFitness.jsa";
+
+    // Default number of measured runs per configuration
+    private static final int DEFAULT_RUNS = 10;
+
+    // Longest time a run may take before it is stopped
+    private static final long RUN_TIMEOUT_SECONDS = 60;
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private StartupHarness() {
+    }
+
+
+    /**
+     * Creates the archive or measures startup.
+     *
+     * @param args "archive", or "measure" and optionally the number of runs.
+     * @throws IOException          if the program cannot be started.
+     * @throws InterruptedException if interrupted while waiting for a run.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String mode = args.length > 0 ? args[0] : "";
+        if (mode.equals("archive")) {
+            createArchive();
+        } else if (mode.equals("measure")) {
+            measure(args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_RUNS);
+        } else {
+            System.err.println("Usage: StartupHarness archive | measure [runs]");
+            System.exit(1);
+        }
+    }
+
+
+    /**
+     * Creates the archive with a training run of the program, which builds
+     * the main frame and the secondary frames before exiting.
+     *
+     * @throws IOException          if the program cannot be started.
+     * @throws InterruptedException if interrupted while waiting for the run.
+     */
+    private static void createArchive() throws IOException, InterruptedException {
+        new File(ARCHIVE_FILE).delete(); // Never train with an outdated archive mapped
+        long[] times = run("-XX:ArchiveClassesAtExit=" + ARCHIVE_FILE);
+        if (times == null || !new File(ARCHIVE_FILE).isFile()) {
+            System.err.println("The training run failed; no archive was created.");
+            System.exit(1);
+        }
+        System.out.println("Created " + ARCHIVE_FILE + " (" + new File(ARCHIVE_FILE).length() / 1024 + " KB)");
+    }
+
+
+    /**
+     * Starts the program several times without and with the archive, and
+     * prints the time to the first frame and to the secondary frames being
+     * ready, in milliseconds from starting the JVM.
+     *
+     * @param runs The number of runs per configuration.
+     * @throws IOException          if the program cannot be started.
+     * @throws InterruptedException if interrupted while waiting for a run.
+     */
+    private static void measure(int runs) throws IOException, InterruptedException {
+        System.out.println(String.format("%-16s %5s %12s %12s %12s %12s", "configuration", "runs",
+                "first_min", "first_p50", "first_max", "ready_p50"));
+        measure("default CDS", runs, "-Xshare:auto");
+        if (new File(ARCHIVE_FILE).isFile()) {
+            measure("AppCDS", runs, "-XX:SharedArchiveFile=" + ARCHIVE_FILE);
+        } else {
+            System.out.println("(no " + ARCHIVE_FILE + "; create it with: StartupHarness archive)");
+        }
+    }
+
+
+    /**
+     * Returns the JAR file the harness was started from, which holds the
+     * program's classes.
+     *
+     * @return The path of the JAR file.
+     * @throws IOException if the harness was not started from a JAR file.
+     */
+    private static String programJar() throws IOException {
+        File jar;
+        try {
+            jar = new File(StartupHarness.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        } catch (URISyntaxException e) {
+            throw new IOException("Cannot locate the program's JAR file", e);
+        }
+        if (!jar.isFile()) {
+            throw new IOException("Run the harness from the JAR built by mvn package, not from " + jar);
+        }
+        return jar.getPath();
+    }
+
+
+    /**
+     * Measures one configuration and prints its line of the report.
+     *
+     * @param name      Name of the configuration.
+     * @param runs      The number of runs.
+     * @param jvmOption JVM option of the configuration.
+     * @throws IOException          if the program cannot be started.
+     * @throws InterruptedException if interrupted while waiting for a run.
+     */
+    private static void measure(String name, int runs, String jvmOption) throws IOException, InterruptedException {
+        run(jvmOption); // Warm the file system cache, which a kiosk has after its first start
+
+        List<Long> firstFrame = new ArrayList<>();
+        List<Long> ready = new ArrayList<>();
+        for (int i = 0; i < runs; i++) {
+            long[] times = run(jvmOption);
+            if (times == null) {
+                System.err.println(name + ": run " + (i + 1) + " failed");
+                return;
+            }
+            firstFrame.add(times[0]);
+            ready.add(times[1]);
+        }
+        Collections.sort(firstFrame);
+        Collections.sort(ready);
+
+        System.out.println(String.format("%-16s %5d %12.1f %12.1f %12.1f %12.1f", name, runs,
+                firstFrame.get(0) / 1e6, firstFrame.get(runs / 2) / 1e6, firstFrame.get(runs - 1) / 1e6,
+                ready.get(runs / 2) / 1e6));
+    }
+
+
+    /**
+     * Starts the program in a new JVM and waits until it exits.
+     *
+     * @param jvmOption A JVM option for the run.
+     * @return The nanoseconds from starting the JVM to the first frame and to
+     *         the secondary frames being ready, or null if the run failed; its
+     *         output is then printed.
+     * @throws IOException          if the program cannot be started.
+     * @throws InterruptedException if interrupted while waiting for the run.
+     */
+    private static long[] run(String jvmOption) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        command.add(jvmOption);
+        command.add("-Dfitness.startup.harness=true");
+        command.add("-cp");
+        command.add(programJar());
+        command.add(CrossFunctionalFitness.class.getName());
+
+        long start = System.nanoTime();
+        final Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+
+        // Stop a run that hangs, which ends its output
+        Thread timeout = new Thread(new Runnable() {
+            /**
+             * Waits for the run and stops it if it takes too long.
+             */
+            public void run() {
+                try {
+                    if (!process.waitFor(RUN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                        process.destroyForcibly();
+                    }
+                } catch (InterruptedException e) {
+                    process.destroyForcibly();
+                }
+            }
+        }, "startup-timeout");
+        timeout.setDaemon(true);
+        timeout.start();
+
+        long[] times = new long[2];
+        StringBuilder output = new StringBuilder(); // Output other than the marks, shown if the run fails
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.equals(DeferredFrames.FIRST_FRAME_MARK)) {
+                    times[0] = System.nanoTime() - start;
+                } else if (line.equals(DeferredFrames.READY_MARK)) {
+                    times[1] = System.nanoTime() - start;
+                } else {
+                    output.append(line).append('\n');
+                }
+            }
+        }
+
+        process.waitFor();
+        if (times[0] == 0 || times[1] == 0) {
+            System.err.print(output);
+            return null;
+        }
+        return times;
+    }
+}
@@ -1,7 +1,29 @@
+package crossfunctionalfitness.ui;
+
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
+import java.io.IOException;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import crossfunctionalfitness.core.BenchmarkResult;
+import crossfunctionalfitness.core.Exercise;
+import crossfunctionalfitness.core.FitnessMetricsCalculator;
+import crossfunctionalfitness.core.UserProfile;
+import crossfunctionalfitness.core.WorkoutBlock;
+import crossfunctionalfitness.core.WorkoutData;
+import crossfunctionalfitness.core.WorkoutProgram;
+import crossfunctionalfitness.instrumentation.FlightEvents;
+import crossfunctionalfitness.instrumentation.UserActionEvent;
+import crossfunctionalfitness.storage.BenchmarkIndex;
+import crossfunctionalfitness.storage.ExerciseLog;
+import crossfunctionalfitness.storage.ProfileStore;
+import crossfunctionalfitness.storage.WorkoutArchive;
+import crossfunctionalfitness.storage.WorkoutStore;
 
 /**
  * WorkoutPlanGenerator is a JFrame subclass that creates a user interface for
@@ -19,18 +41,18 @@ public class WorkoutPlanGenerator extends JFrame {
     private JPanel daysPanel, detailsPanel; // Panels for displaying workout days and details
     private CardLayout cardLayout; // Layout to switch between workout details
     private ArrayList<JButton> dayButtons; // Buttons for each day of the workout plan
-    private ArrayList<String> workoutDescriptions; // Workout descriptions for each day
     private WorkoutDetails[] workoutDetailsArray; // Array to store workout details for each day
+    private ExerciseLog exerciseLog; // Per-exercise results, loaded on first use
+    private BenchmarkIndex benchmarkIndex; // Benchmark results, loaded on first use
 
 
     /**
      * Constructor for WorkoutPlanGenerator.
-     * Initializes the workout details array, sets up workout descriptions, and
-     * configures the layout and listeners.
+     * Initializes the workout details array and configures the layout and listeners.
+     * Workout descriptions are provided by WorkoutProgram.
      */
     public WorkoutPlanGenerator() {
         workoutDetailsArray = new WorkoutDetails[FitnessMetricsCalculator.TOTAL_PLANNED_WORKOUTS]; // Initialize array for 30 days
-        initializeWorkoutDescriptions(); // Setup workout descriptions
         layoutComponents(); // Setup layout
         addListeners(); // Setup listeners
     }
@@ -76,7 +98,6 @@ public class WorkoutPlanGenerator extends JFrame {
         pack();
         setSize(800, 600);
         setLocationRelativeTo(null); // Center the window
-        setVisible(true);
     }
     
 
@@ -136,15 +157,15 @@ public class WorkoutPlanGenerator extends JFrame {
         gbc.weightx = 1; // Allocate any extra horizontal space to this component.
         gbc.weighty = 1; // Allocate any extra vertical space to this component.
 
-        // Determine the workout program description for the specified day.
+        // Render the workout program description for the specified day from its structured model.
         String workoutDescription;
 
-        // Check if the day number is within the range of the workout descriptions.
-        if (workoutDescriptions.size() > dayNumber - 1) {
-            workoutDescription = workoutDescriptions.get(dayNumber - 1); // Get the workout description for the day.
+        // Check if the day number is within the range of the workout program.
+        if (dayNumber <= WorkoutProgram.getDayCount()) {
+            workoutDescription = WorkoutProgram.getWorkout(dayNumber).render(); // Render the workout for the day.
         } else {
             // Default description if none available.
-            workoutDescription = "No workout description available.";
+            workoutDescription = WorkoutProgram.getDescription(dayNumber);
         }
 
         // Create a text area for displaying the workout description.
@@ -164,9 +185,10 @@ public class WorkoutPlanGenerator extends JFrame {
         JTextField hours = new JTextField(3);
         JTextField minutes = new JTextField(3);
         JButton saveButton = createSaveButton(dayNumber, day, markAsComplete, hours, minutes); // Create a save button.
+        JButton logResultsButton = createLogResultsButton(dayNumber, day); // Create a log results button.
 
         // Setup the bottom panel with the created components.
-        setupBottomPanel(bottomPanel, markAsComplete, hours, minutes, saveButton);
+        setupBottomPanel(bottomPanel, markAsComplete, hours, minutes, saveButton, logResultsButton);
 
         // Store workout details in an array for later retrieval or manipulation.
         workoutDetailsArray[dayNumber - 1] = new WorkoutDetails(markAsComplete, hours, minutes);
@@ -207,6 +229,7 @@ public class WorkoutPlanGenerator extends JFrame {
         // Add an ActionListener to the button
         saveButton.addActionListener(new ActionListener() {
             public void actionPerformed(ActionEvent e) {
+                UserActionEvent event = FlightEvents.startUserAction(UserActionEvent.SAVE, dayNumber);
                 try {
                     // Extract and validate workout completion status
                     boolean completed = markAsComplete.isSelected();
@@ -230,20 +253,39 @@ public class WorkoutPlanGenerator extends JFrame {
                     int totalMinutes = timeHour * 60 + timeMins;
                     String timeTaken = String.valueOf(totalMinutes);
 
-                    // Create a new WorkoutData object and save it using static method saveWorkout
+                    // Create a new WorkoutData object and save it using WorkoutStore, then in the member's plan too
                     WorkoutData workoutData = new WorkoutData(day, completed, timeTaken);
-                    WorkoutData.saveWorkout(workoutData, dayNumber);
+                    UserProfile profile = ProfileStore.load();
+                    WorkoutStore.write(workoutData, dayNumber);
+                    if (profile != null) {
+                        savePlanDay(profile, workoutData, dayNumber);
+                    }
 
                     if (completed) {
+                        // Record benchmark days and compare them with earlier cycles
+                        String benchmarkProgress = recordBenchmark(dayNumber, totalMinutes);
+                        FlightEvents.end(event); // The time spent reading the message is not part of the save
+
                         // Show a confirmation message if the workout is marked as completed
                         JOptionPane.showMessageDialog(null,
-                                "Awesome job! You've completed the workout for " + day + ". Keep up the great work!");
+                                "Awesome job! You've completed the workout for " + day + ". Keep up the great work!"
+                                        + (benchmarkProgress == null ? "" : "\n\n" + benchmarkProgress));
                     }
                 } catch (NumberFormatException ex) {
+                    FlightEvents.end(event); // The time spent reading the message is not part of the save
+
                     // Show an error message if the time inputs are not valid numbers
                     JOptionPane.showMessageDialog(null,
                             "Invalid number format. Please enter a valid number for hours and minutes.", "Error",
                             JOptionPane.ERROR_MESSAGE);
+                } catch (IOException ex) {
+                    FlightEvents.end(event); // The time spent reading the message is not part of the save
+
+                    // Show error dialog if an error occurred while saving the data
+                    JOptionPane.showMessageDialog(null, "An error occurred while saving the data", "Error",
+                            JOptionPane.ERROR_MESSAGE);
+                } finally {
+                    FlightEvents.finish(event); // Record the save for Flight Recorder
                 }
             }
         });
@@ -252,10 +294,212 @@ public class WorkoutPlanGenerator extends JFrame {
     }
     
 
+    /**
+     * Records a workout, already saved to its day file, in the member's plan
+     * file. A failure is reported to the user rather than as a failed save,
+     * since the workout itself stays saved in its day file.
+     *
+     * @param profile   The saved profile of the member.
+     * @param workout   The saved workout.
+     * @param dayNumber The day number of the workout.
+     */
+    private static void savePlanDay(UserProfile profile, WorkoutData workout, int dayNumber) {
+        try {
+            WorkoutStore.writePlan(profile.getMemberName(), workout, dayNumber);
+        } catch (IOException | RuntimeException ex) {
+            ex.printStackTrace(); // Log the exception for debugging purposes
+
+            // Show an error message; the workout itself was saved
+            JOptionPane.showMessageDialog(null,
+                    "Your workout was saved, but it could not be added to your plan, so the summary may not show it",
+                    "Error", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+
+    /**
+     * Records the result of a completed benchmark day (e.g., the Day 30 Benchmark Test)
+     * for the current user and compares it with earlier cycles and with members at
+     * the same fitness level. Days without a benchmark test are ignored.
+     *
+     * @param dayNumber    The day number of the completed workout.
+     * @param totalMinutes The total time taken in minutes.
+     * @return A description of the comparison, or null if nothing was recorded.
+     */
+    private String recordBenchmark(int dayNumber, int totalMinutes) {
+        // Only benchmark days are recorded
+        if (!WorkoutProgram.getWorkout(dayNumber).isBenchmark()) {
+            return null;
+        }
+
+        try {
+            // A profile is needed to know the member and their fitness level
+            UserProfile profile = ProfileStore.load();
+            if (profile == null) {
+                return null;
+            }
+
+            // Load the benchmark index on first use
+            if (benchmarkIndex == null) {
+                benchmarkIndex = BenchmarkIndex.load();
+            }
+
+            // Record the result under the current cycle of the program, with the station times logged today
+            int today = (int) LocalDate.now().toEpochDay();
+            String member = profile.getMemberName();
+            BenchmarkResult result = new BenchmarkResult(member, profile.getFitnessLevel(),
+                    WorkoutArchive.getCurrentCycle(member), dayNumber, today, totalMinutes * 60,
+                    loadStationSeconds(dayNumber, today));
+            return benchmarkIndex.record(result).describe();
+        } catch (IOException | RuntimeException ex) {
+            ex.printStackTrace(); // Log the exception for debugging purposes
+
+            // Show an error message if the benchmark could not be saved
+            JOptionPane.showMessageDialog(null, "An error occurred while saving the benchmark result", "Error",
+                    JOptionPane.ERROR_MESSAGE);
+            return null;
+        }
+    }
+
+
+    /**
+     * Returns the station times of a benchmark day that the user logged with
+     * 'Log Results' on a date: the latest split of each exercise of the
+     * benchmark test, in program order. The stations are compared by position
+     * across cycles, so unless every station has a time none is returned.
+     *
+     * @param dayNumber The benchmark day.
+     * @param epochDay  The date of the test.
+     * @return The time of each station in seconds, or an empty array.
+     * @throws IOException if the exercise log cannot be read.
+     */
+    private int[] loadStationSeconds(int dayNumber, int epochDay) throws IOException {
+        // Load the exercise log on first use
+        if (exerciseLog == null) {
+            exerciseLog = ExerciseLog.load();
+        }
+
+        WorkoutBlock test = WorkoutProgram.getWorkout(dayNumber).findBlock(WorkoutBlock.Type.BENCHMARK);
+        int[] stations = new int[test.getExercises().size()];
+        int count = 0; // Number of stations, alternatives left out
+        for (Exercise exercise : test.getExercises()) {
+            if (!exercise.isAlternative()) {
+                stations[count] = exerciseLog.getLatestSeconds(exercise.getName(), dayNumber, epochDay);
+                if (stations[count] == 0) {
+                    return new int[0]; // A station without a time
+                }
+                count++;
+            }
+        }
+        return Arrays.copyOf(stations, count);
+    }
+
+
+    /**
+     * Creates and returns a 'Log Results' button with an attached ActionListener.
+     * This button, when clicked, asks for the result of one exercise of the day's
+     * workout (reps, rounds completed in an AMRAP, or a run split) and appends it
+     * to the exercise log.
+     *
+     * @param dayNumber The specific day number for which the button is being created.
+     * @param day       The string representation of the day (e.g., "Day 1").
+     * @return A JButton configured with an ActionListener for logging exercise results.
+     */
+    private JButton createLogResultsButton(int dayNumber, String day) {
+
+        JButton logResultsButton = new JButton("Log Results"); // Create a new 'Log Results' button
+
+        // Add an ActionListener to the button
+        logResultsButton.addActionListener(new ActionListener() {
+            public void actionPerformed(ActionEvent e) {
+                // Offer the exercises of the day's workout, while still allowing any name to be typed
+                Set<String> exerciseNames = new LinkedHashSet<>();
+                for (WorkoutBlock block : WorkoutProgram.getWorkout(dayNumber).getBlocks()) {
+                    for (Exercise exercise : block.getExercises()) {
+                        exerciseNames.add(exercise.getName());
+                    }
+                }
+                JComboBox<String> exerciseBox = new JComboBox<>(exerciseNames.toArray(new String[0]));
+                exerciseBox.setEditable(true);
+
+                JTextField repsField = new JTextField(5);
+                JTextField roundsField = new JTextField(5);
+                JTextField metersField = new JTextField(5);
+                JTextField splitMinutesField = new JTextField(3);
+                JTextField splitSecondsField = new JTextField(3);
+
+                // Lay out the result fields as label/field pairs
+                JPanel resultPanel = new JPanel(new GridLayout(6, 2, 5, 5)); // 6 rows, 2 columns, 5px gaps
+                resultPanel.add(new JLabel("Exercise: "));
+                resultPanel.add(exerciseBox);
+                resultPanel.add(new JLabel("Reps: "));
+                resultPanel.add(repsField);
+                resultPanel.add(new JLabel("Rounds (AMRAP): "));
+                resultPanel.add(roundsField);
+                resultPanel.add(new JLabel("Distance (m): "));
+                resultPanel.add(metersField);
+                resultPanel.add(new JLabel("Split (minutes): "));
+                resultPanel.add(splitMinutesField);
+                resultPanel.add(new JLabel("Split (seconds): "));
+                resultPanel.add(splitSecondsField);
+
+                int option = JOptionPane.showConfirmDialog(null, resultPanel, "Log Results for " + day,
+                        JOptionPane.OK_CANCEL_OPTION, JOptionPane.PLAIN_MESSAGE);
+                if (option != JOptionPane.OK_OPTION || exerciseBox.getSelectedItem() == null) {
+                    return; // Nothing to log
+                }
+
+                try {
+                    // Parse the result fields, treating empty fields as 0
+                    int reps = parseOptionalInt(repsField.getText());
+                    int rounds = parseOptionalInt(roundsField.getText());
+                    int meters = parseOptionalInt(metersField.getText());
+                    int splitSeconds = parseOptionalInt(splitMinutesField.getText()) * 60
+                            + parseOptionalInt(splitSecondsField.getText());
+
+                    // Load the exercise log on first use and append the result
+                    if (exerciseLog == null) {
+                        exerciseLog = ExerciseLog.load();
+                    }
+                    exerciseLog.log(dayNumber, exerciseBox.getSelectedItem().toString().trim(), reps, rounds,
+                            meters, splitSeconds);
+                } catch (NumberFormatException ex) {
+                    // Show an error message if the inputs are not valid numbers
+                    JOptionPane.showMessageDialog(null,
+                            "Invalid number format. Please enter valid numbers for the results.", "Error",
+                            JOptionPane.ERROR_MESSAGE);
+                } catch (IOException ex) {
+                    // Show an error message if the result could not be saved
+                    JOptionPane.showMessageDialog(null, "An error occurred while saving the results", "Error",
+                            JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        });
+
+        return logResultsButton; // Return the configured 'Log Results' button
+    }
+
+
+    /**
+     * Parses an optional whole number from a text field value.
+     *
+     * @param text The text to parse.
+     * @return The parsed number, or 0 if the text is empty.
+     * @throws NumberFormatException if the text is not a valid number.
+     */
+    private static int parseOptionalInt(String text) {
+        if (text.trim().isEmpty()) {
+            return 0;
+        }
+        return Integer.parseInt(text.trim());
+    }
+
+
     /**
      * Sets up the bottom panel of the workout details section.
      * This method configures the layout and adds components such as a checkbox for
-     * marking completion, text fields for hours and minutes, and a save button to the given panel.
+     * marking completion, text fields for hours and minutes, a save button and a
+     * button for logging per-exercise results to the given panel.
      * 
      * @param bottomPanel    The JPanel to which the components are added.
      * @param markAsComplete A JCheckBox for the user to mark the workout as
@@ -265,9 +509,10 @@ public class WorkoutPlanGenerator extends JFrame {
      * @param minutes        A JTextField for entering the number of minutes spent
      *                       on the workout.
      * @param saveButton     A JButton that, when clicked, saves the workout data.
+     * @param logResultsButton A JButton that, when clicked, logs a per-exercise result.
      */
     private void setupBottomPanel(JPanel bottomPanel, JCheckBox markAsComplete, JTextField hours, JTextField minutes,
-            JButton saveButton) {
+            JButton saveButton, JButton logResultsButton) {
         
         GridBagConstraints gbc = new GridBagConstraints(); // Create GridBagConstraints for layout management
         gbc.gridx = 0; // Column 0
@@ -299,6 +544,11 @@ public class WorkoutPlanGenerator extends JFrame {
         gbc.insets = new Insets(10, 20, 10, 0); // Add padding
         gbc.gridx = 5; // Column 5
         bottomPanel.add(saveButton, gbc); // Add the save button to the bottom panel
+
+        // Configure and add the log results button
+        gbc.insets = new Insets(10, 10, 10, 0); // Add padding
+        gbc.gridx = 6; // Column 6
+        bottomPanel.add(logResultsButton, gbc); // Add the log results button to the bottom panel
     }
 
 
@@ -323,15 +573,20 @@ public class WorkoutPlanGenerator extends JFrame {
             // Add an ActionListener to the day button
             dayButton.addActionListener(new ActionListener() {
                 public void actionPerformed(ActionEvent e) {
-                    resetButtonColors(); // Reset the color of all day buttons to default
-                    dayButton.setFont(new Font("Arial", Font.BOLD, 14)); // Make the font bold
-                    dayButton.setForeground(Color.BLUE); // Change the font color to blue
-
-                    // Switch the card layout to show the panel corresponding to the selected day
-                    cardLayout.show(detailsPanel, dayButton.getText());
-
-                    // Load workout details for the selected day
-                    loadWorkoutDetails(dayNumber);
+                    UserActionEvent event = FlightEvents.startUserAction(UserActionEvent.DAY_NAVIGATION, dayNumber);
+                    try {
+                        resetButtonColors(); // Reset the color of all day buttons to default
+                        dayButton.setFont(new Font("Arial", Font.BOLD, 14)); // Make the font bold
+                        dayButton.setForeground(Color.BLUE); // Change the font color to blue
+
+                        // Switch the card layout to show the panel corresponding to the selected day
+                        cardLayout.show(detailsPanel, dayButton.getText());
+
+                        // Load workout details for the selected day
+                        loadWorkoutDetails(dayNumber);
+                    } finally {
+                        FlightEvents.finish(event); // Record the navigation for Flight Recorder
+                    }
                 }
             });
         }
@@ -355,7 +610,7 @@ public class WorkoutPlanGenerator extends JFrame {
             WorkoutDetails details = workoutDetailsArray[dayNumber - 1];
 
             // Load the workout details for the specified day
-            updateWorkoutDetails(details, WorkoutData.loadWorkouts(dayNumber));
+            updateWorkoutDetails(details, WorkoutStore.load(dayNumber));
         }
     }
 
@@ -517,314 +772,4 @@ public class WorkoutPlanGenerator extends JFrame {
             button.setBackground(null);
         }
     }
-
-
-    /**
-     * Initializes the list of workout descriptions for each day of the workout
-     * plan. This method populates an ArrayList with detailed descriptions of the 
-     * workouts for each day. The descriptions include various components of the workouts, 
-     * such as warm-up routines, specific exercises, the number of repetitions or duration 
-     * for each exercise, and post-workout stretching instructions.
-     * 
-     * These descriptions are used to provide users with clear guidance on what each
-     * day's workout entails.
-     */
-    private void initializeWorkoutDescriptions() {
-
-        // Initialize the ArrayList to hold workout descriptions
-        workoutDescriptions = new ArrayList<>();
-
-        // Add workout descriptions for each day of the workout plan
-        // Day 1
-        workoutDescriptions.add("Warm Up: 10 mins\n\n" +
-                "Workout of the Day (WOD):" +
-                "(Repeat 2 times)\n\n" +
-                "   Exercise 1: 200m Jumping Jacks\n" +
-                "   Exercise 2: 40 air squats\n" +
-                "   Exercise 3: 200m Jumping Jacks\n" +
-                "   Exercise 4: 30 sit-ups\n" +
-                "   Exercise 5: 200m Jumping Jacks\n" +
-                "   Exercise 6: 20 jump squats\n" +
-                "   Exercise 7: 200m Jumping Jacks\n" +
-                "   Exercise 8: 10 burpees\n\n" +
-                "Post-workout stretching: 10 mins.");
-        
-        // Day 2
-        workoutDescriptions.add("Warm Up: 10 mins\n\n" +
-                "EMOM (Every minute on the minute) 35 mins (Workout for 45 sec, 15 sec rest).\n\n" +
-                "   Exercise 1: Air Squat: 20 to 35 reps\n" +
-                "   Exercise 2: Push Up: 10 to 20 reps\n" +
-                "   Exercise 3: Reverse lunge: 20 reps (10 reps per side)\n" +
-                "   Exercise 4: Burpee: 10 to 20 reps\n" +
-                "   Exercise 5: Russian Twist: 10 to 20 reps\n" +
-                "   Exercise 6: Jump rope\n" +
-                "   Exercise 7: V-up: 10 to 20 reps\n\n" +
-                "Stretching: 10 mins.");
-        
-        // Day 3
-        workoutDescriptions.add("Warm Up: 10 mins\n\n" +
-                "Workout Of the Day (WOD):\n" +
-                "Sixteen 2-minute AMRAP(AS MANY ROUNDS AS POSSIBLE) in 32 minutes\n\n" +
-                "   AMRAP(AS MANY ROUNDS AS POSSIBLE) from 0:00-4:00\n" +
-                "       20 Jumping Jacks, 16 Burpees\n\n" +
-                "   AMRAP(AS MANY ROUNDS AS POSSIBLE) from 4:00-8:00:\n" +
-                "       20 Jumping Jacks, 16 Push-Ups\n\n" +
-                "   AMRAP(AS MANY ROUNDS AS POSSIBLE) from 8:00-12:00:\n" +
-                "       20 Jumping Jacks, 16 Air Squats\n\n" +
-                "   AMRAP(AS MANY ROUNDS AS POSSIBLE) from 12:00-16:00:\n" +
-                "       20 Jumping Jacks, 16 Mountain Climbers\n\n" +
-                "   AMRAP(AS MANY ROUNDS AS POSSIBLE) from 16:00-20:00:\n" +
-                "       20 Jumping Jacks. 16 Jumping Jacks\n\n" +
-                "   AMRAP(AS MANY ROUNDS AS POSSIBLE) from 20:00-24:00:\n" +
-                "       20 Jumping Jacks, 16 Jumping Lunges\n\n" +
-                "   AMRAP(AS MANY ROUNDS AS POSSIBLE) from 24:00-28:00:\n" +
-                "       20 Jumping Jacks, 16 High Knees\n\n" +
-                "   AMRAP(AS MANY ROUNDS AS POSSIBLE) from 28:00-32:00:\n" +
-                "       20 Jumping Jacks, 16 Tuck Jumps\n\n" +
-                "Stretching: 10 mins.");
-
-        // Day 4
-        workoutDescriptions.add("Rest or yoga 30 mins. Thats it. You deserved it!");
-
-        // Day 5
-        workoutDescriptions.add("Warm Up: 10 mins\n\n\n" +
-                "Workout Of the Day (WOD):\n\n" +
-                "   1X: 1mile run, 50 burpees.\n\n" +
-                "   2X: 800 m run, 25 air squats.\n\n" +
-                "   3X: 400m run, 15 pushups.\n\n\n" +
-                "Stretching: 10 mins.");
-
-        // Day 6
-        workoutDescriptions.add("Warm Up: 10 mins\n\n" +
-                "Practice Wall Walks for 15 mins\n\n" +
-                "Workout Of the Day:\n\n" +
-                "   AMRAP(AS MANY ROUNDS AS POSSIBLE) in 30 mins: Burpees\n\n" +
-                "Stretching: 10 mins.");
-
-        // Day 7
-        workoutDescriptions.add("Warm Up: 10 mins\n\n" +
-                "Yoga: 20 mins\n\n" +
-                "Benchmark Test:\n" +
-                "   400m Run\n" +
-                "   25 Pushups\n" +
-                "   50 Air Squat\n" +
-                "   75 Sit-Ups\n" +
-                "   400m Run\n\n" +
-                "Stretching: 10 mins.");
-
-        // Day 8
-        workoutDescriptions.add("Rest or Yoga 30 mins");
-
-        // Day 9
-        workoutDescriptions.add("Warm Up: Yoga 10 mins\n\n" +
-                "5K Run Goal: 40 mins or less\n\n" +
-                "Stretching: 10 mins.");
-
-        // Day 10
-        workoutDescriptions.add("Warm Up: 10 mins\n\n" +
-                "Workout Of the Day:\n\n" +
-                "Buy In: \n" +
-                "   Quarter mile run\n" +
-                "   40 air squats\n" +
-                "   30 sit-ups\n" +
-                "   20 burpees\n" +
-                "   10 pull-ups\n\n" +
-                "Cash Out: \n" +
-                "   Another quarter-mile run\n\n" +
-                "Stretching: 10 mins.");
-
-        // Day 11
-        workoutDescriptions.add("Warm Up: 10 mins\n\n\n" +
-                "Practice Wall Walks for 15 mins\n\n" +
-                "Workout Of the Day:\n\n" +
-                "   100 lunges\n" +
-                "   100 jumping squats\n" +
-                "   150 sit-ups\n" +
-                "   50 air-squats\n" +
-                "   50 lunges\n\n\n" +
-                "Stretching: 10 mins.");
-
-        // Day 12
-        workoutDescriptions.add("Warm Up: 10 mins\n\n" +
-                "Workout Of the Day:\n" +
-                "2 rounds:\n\n" +
-                "   10 push-ups\n" +
-                "   1 mile run\n" +
-                "   17 air squats\n\n" +
-                "Buy out : 58 burpees\n\n" +
-                "Stretching: 10 mins.");
-
-        // Day 13
-        workoutDescriptions.add("Warm Up: 10 mins\n\n" +
-                "Workout Of the Day:\n\n" +
-                "   100 Double-Under\n" +
-                "       or\n" +
-                "   300 Single-Under\n" +
-                "       or\n" +
-                "   300 Jumping Jacks, 60 squats (with or without weights)\n\n" +
-                "   100 Double-Under\n" +
-                "       or\n" +
-                "   300 Single-Under\n" +
-                "       or\n" +
-                "   300 jumping jacks, 60 Push-Ups\n" +
-                "       or\n" +
-                "   Hand Release Push-Ups\n\n" +
-                "Goal: Hard effort\n\n" +
-                "Stretching: 10 mins.");
-
-        // Day 14
-        workoutDescriptions.add("Warm Up: 10 mins\n\n" +
-                "Yoga: 15 mins\n\n" +
-                "Benchmark Test:\n" +
-                "   800m Run\n" +
-                "   50 Pushups\n" +
-                "   75 Air Squat\n" +
-                "   100 Sit-Ups\n" +
-                "   800m Run\n\n" +
-                "Stretching: 10 mins.");
-
-        // Day 15
-        workoutDescriptions.add("Rest or Yoga 30 mins");
-
-        // Day 16
-        workoutDescriptions.add(
-                "Warm Up: 10 mins\n\n" +
-                        "Practice wall walks: 15 mins\n\n" +
-                        "Workout Of the Day:\n\n" +
-                        "Buy-in: 400m run\n" +
-                        "Then (88-66-44)\n\n" +
-                        "   88 Push-ups or hand release push-ups\n" +
-                        "   88 Sit-Ups\n" +
-                        "   66 Push-ups or hand release push-ups\n" +
-                        "   66 Sit-Ups\n" +
-                        "   44 Push-ups or hand release push-ups\n" +
-                        "   44 Sit-Ups\n\n" +
-                        "Cash Out: 400m run\n\n" +
-                        "Stretching: 10 mins");
-
-        // Day 17
-        workoutDescriptions.add(
-                "Warm Up: 10 mins\n\n" +
-                        "Workout Of the Day:\n\n" +
-                        "   150 push-ups\n" +
-                        "       Or\n" +
-                        "   75 handstand push-ups\n\n" +
-                        "Every time you break, perform 5 burpees.\n\n" +
-                        "Stretching: 10 mins");
-
-        // Day 18
-        workoutDescriptions.add(
-                "Repeat Day 2 and try to increase counts.\n\n" +
-                        "Warm Up: 10 mins\n\n" +
-                        "EMOM (Every minute on the minute) 35 mins (Workout for 45 sec, 15 sec rest)\n" +
-                        "   Exercise 1: Air Squat: 20 to 35 reps\n" +
-                        "   Exercise 2: Push Up: 10 to 20 reps\n" +
-                        "   Exercise 3: Reverse lunge: 20 reps (10 reps per side)\n" +
-                        "   Exercise 4: Burpee: 10 to 20 reps\n" +
-                        "   Exercise 5: Russian Twist: 10 to 20 reps\n" +
-                        "   Exercise 6: Jump rope\n" +
-                        "   Exercise 7: V-up: 10 to 20 reps\n\n" +
-                        "Stretching: 10 mins");
-
-        // Day 19
-        workoutDescriptions.add("60 min jogging or running");
-
-        // Day 20
-        workoutDescriptions.add("Rest or Yoga 30 mins");
-
-        // Day 21
-        workoutDescriptions.add(
-                "Warm Up: 10 Min Yoga\n\n" +
-                        "Benchmark Test:\n" +
-                        "   1200m Run\n" +
-                        "   75 Pushups\n" +
-                        "   150 Air Squat\n" +
-                        "   200 Sit-Ups\n" +
-                        "   1200m Run\n\n" +
-                        "Stretching: 10 mins");
-
-        // Day 22
-        workoutDescriptions.add(
-                "Warm Up: 10 mins\n\n" +
-                        "Workout Of the Day:\n\n" +
-                        "AMRAP(AS MANY ROUNDS AS POSSIBLE) in 40 mins\n" +
-                        "   4 Wall Walks\n" +
-                        "   14 jumping air squats\n" +
-                        "   24 mountain climbers (each side)\n" +
-                        "   34 jumping jacks\n\n" +
-                        "Stretching: 10 mins");
-
-        // Day 23
-        workoutDescriptions.add(
-                "Warm Up: 10 mins\n\n" +
-                        "Workout Of the Day:\n\n" +
-                        "   10 rounds for time\n" +
-                        "   25 air squats\n" +
-                        "   50 jumping jacks\n" +
-                        "   25 V-ups\n\n" +
-                        "Stretching: 10 mins");
-
-        // Day 24
-        workoutDescriptions.add(
-                "Warm Up: 10 mins\n\n" +
-                        "Practice wall walks: 15 min\n\n" +
-                        "Workout Of the Day:\n\n" +
-                        "   7 rounds for time:\n" +
-                        "   7 push-ups\n" +
-                        "   7 V-ups\n" +
-                        "   7 mountain climbers (each side)\n" +
-                        "   7 burpees\n" +
-                        "   7 squats\n" +
-                        "   7 Sit-ups\n" +
-                        "   7 jumping jacks\n\n" +
-                        "Stretching: 10 mins");
-
-        // Day 25
-        workoutDescriptions.add("Run 5 miles- (Goal within 60 mins)");
-
-        // Day 26
-        workoutDescriptions.add(
-                "Warm Up: 10 mins\n\n" +
-                        "Workout Of the Day:\n\n" +
-                        "AMRAP(AS MANY ROUNDS AS POSSIBLE) in 30 mins\n" +
-                        "   150 jumping jacks\n" +
-                        "   60 plank shoulder taps\n" +
-                        "   15 V-ups\n" +
-                        "   40 plank shoulder taps\n" +
-                        "   15 V-ups\n" +
-                        "   20 plank shoulder taps\n" +
-                        "   15 V-ups\n\n" +
-                        "Stretching: 10 mins");
-
-        // Day 27
-        workoutDescriptions.add(
-                "Repeat Day 2 and try to increase counts.\n\n" +
-                        "Warm Up: 10 mins\n\n" +
-                        "EMOM (Every minute on the minute) 35 mins (Workout for 45 sec, 15 sec rest)\n" +
-                        "   Exercise 1: Air Squat: 20 to 35 reps\n" +
-                        "   Exercise 2: Push Up: 10 to 20 reps\n" +
-                        "   Exercise 3: Reverse lunge: 20 reps (10 reps per side)\n" +
-                        "   Exercise 4: Burpee: 10 to 20 reps\n" +
-                        "   Exercise 5: Russian Twist: 10 to 20 reps\n" +
-                        "   Exercise 6: Jump rope\n" +
-                        "   Exercise 7: V-up: 10 to 20 reps\n\n" +
-                        "Stretching: 10 mins");
-
-        // Day 28
-        workoutDescriptions.add("Jogging or running for 60 mins");
-
-        // Day 29
-        workoutDescriptions.add("Rest or Yoga for 30 mins");
-
-        // Day 30
-        workoutDescriptions.add(
-                "Warm Up: 10 Min Yoga\n\n" +
-                        "Benchmark Test:\n" +
-                        "   1 mile Run\n" +
-                        "   100 Pushups\n" +
-                        "   200 Air Squat\n" +
-                        "   300 Sit-Ups\n" +
-                        "   1 mile run\n\n" +
-                        "Stretching: 10 mins");
-    }
 }
\ No newline at end of file
@@ -0,0 +1,6 @@
+/**
+ * The Swing kiosk program, started by CrossFunctionalFitness, with its
+ * startup and responsiveness tools (DeferredFrames, EdtWatchdog and
+ * StartupHarness). No other module depends on this package.
+ */
+package crossfunctionalfitness.ui;